@@ -0,0 +1,147 @@
+package com.agencia.jmh;
+
+import com.agencia.adapter.input.controller.CamposResposta;
+import com.agencia.adapter.input.dto.mapper.ClienteDTOMapper;
+import com.agencia.adapter.input.dto.mapper.VeiculoDTOMapper;
+import com.agencia.adapter.input.dto.mapper.VendaDTOMapper;
+import com.agencia.domain.model.Cliente;
+import com.agencia.domain.model.Veiculo;
+import com.agencia.domain.model.Venda;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * BENCHMARK JMH - Formatos de resposta da listagem de vendas
+ * Uma página de 50 vendas, do domínio até os bytes que vão para a rede:
+ * conversão para DTO + serialização (+ gzip, com o nível padrão do Tomcat).
+ * O tamanho de cada formato sai impresso na preparação ("bytes por página");
+ * com -prof gc, gc.alloc.rate.norm mostra os bytes alocados por página.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FormatosRespostaBenchmark {
+
+    private static final int VENDAS = 50;
+
+    /**
+     * Campos de uma listagem enxuta: sem veículo e cliente aninhados
+     */
+    private static final Set<String> CAMPOS = Set.of("id", "valorVenda", "dataVenda");
+
+    private VendaDTOMapper mapper;
+    private ObjectWriter json;
+    private ObjectWriter cbor;
+    private ObjectWriter jsonCampos;
+    private List<Venda> vendas;
+
+    @Setup
+    public void preparar() throws IOException {
+        mapper = new VendaDTOMapper(new VeiculoDTOMapper(), new ClienteDTOMapper());
+
+        // Mesma configuração do ObjectMapper da aplicação (Spring Boot + FormatosRespostaConfiguration)
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        CamposResposta.registrar(builder);
+        json = builder.build().writer();
+        jsonCampos = json.with(CamposResposta.filtro(CAMPOS));
+        cbor = builder.factory(new CBORFactory()).build().writer();
+
+        LocalDateTime agora = LocalDateTime.now();
+        vendas = IntStream.rangeClosed(1, VENDAS)
+                .mapToObj(i -> Venda.builder()
+                        .id((long) i)
+                        .veiculo(Veiculo.builder()
+                                .id((long) i)
+                                .marca("Toyota")
+                                .modelo("Corolla")
+                                .ano(2022)
+                                .placa(String.format("ABC%04d", i))
+                                .cor("Prata")
+                                .preco(new BigDecimal("120000.00"))
+                                .disponivel(false)
+                                .dataCadastro(agora)
+                                .build())
+                        .cliente(Cliente.builder()
+                                .id((long) i)
+                                .nome("Cliente " + i)
+                                .cpf(String.format("%011d", i))
+                                .telefone("11999999999")
+                                .email("cliente" + i + "@email.com")
+                                .build())
+                        .valorVenda(new BigDecimal("115000.00"))
+                        .dataVenda(agora)
+                        .build())
+                .toList();
+
+        System.out.printf("%nbytes por página: json=%d jsonGzip=%d cbor=%d cborGzip=%d jsonCampos=%d jsonCamposGzip=%d%n",
+                json().length, jsonGzip().length, cbor().length, cborGzip().length,
+                jsonCampos().length, gzip(jsonCampos()).length);
+    }
+
+    @Benchmark
+    public byte[] json() throws IOException {
+        return json.writeValueAsBytes(vendas.stream().map(mapper::toResponseDTO).toList());
+    }
+
+    @Benchmark
+    public byte[] jsonGzip() throws IOException {
+        return gzip(json());
+    }
+
+    @Benchmark
+    public byte[] cbor() throws IOException {
+        return cbor.writeValueAsBytes(vendas.stream().map(mapper::toResponseDTO).toList());
+    }
+
+    @Benchmark
+    public byte[] cborGzip() throws IOException {
+        return gzip(cbor());
+    }
+
+    /**
+     * ?fields=id,valorVenda,dataVenda: veículo e cliente nem são convertidos
+     */
+    @Benchmark
+    public byte[] jsonCampos() throws IOException {
+        return jsonCampos.writeValueAsBytes(vendas.stream()
+                .map(venda -> mapper.toResponseDTO(venda, CAMPOS))
+                .toList());
+    }
+
+    private static byte[] gzip(byte[] dados) {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(dados.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(saida)) {
+            gzip.write(dados);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return saida.toByteArray();
+    }
+}
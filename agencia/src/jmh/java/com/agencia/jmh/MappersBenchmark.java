@@ -0,0 +1,112 @@
+package com.agencia.jmh;
+
+import com.agencia.adapter.input.dto.mapper.ClienteDTOMapper;
+import com.agencia.adapter.input.dto.mapper.VeiculoDTOMapper;
+import com.agencia.adapter.input.dto.mapper.VendaDTOMapper;
+import com.agencia.adapter.input.dto.response.VendaResponseDTO;
+import com.agencia.adapter.output.persistence.entity.VeiculoEntity;
+import com.agencia.adapter.output.persistence.entity.VendaEntity;
+import com.agencia.adapter.output.persistence.mapper.ClienteEntityMapper;
+import com.agencia.adapter.output.persistence.mapper.VeiculoEntityMapper;
+import com.agencia.adapter.output.persistence.mapper.VendaEntityMapper;
+import com.agencia.adapter.output.persistence.projection.VendaProjecao;
+import com.agencia.domain.model.Cliente;
+import com.agencia.domain.model.Veiculo;
+import com.agencia.domain.model.Venda;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BENCHMARK JMH - Mappers
+ * Ida e volta domínio <-> entidade JPA e domínio -> DTO de resposta,
+ * o trabalho feito em cada linha de listagens e buscas.
+ * Com -prof gc, gc.alloc.rate.norm mostra os bytes alocados por conversão.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappersBenchmark {
+
+    private VeiculoEntityMapper veiculoEntityMapper;
+    private VendaEntityMapper vendaEntityMapper;
+    private VendaDTOMapper vendaDTOMapper;
+    private Veiculo veiculo;
+    private Venda venda;
+    private VendaProjecao vendaProjecao;
+
+    @Setup
+    public void preparar() {
+        veiculoEntityMapper = new VeiculoEntityMapper();
+        vendaEntityMapper = new VendaEntityMapper(veiculoEntityMapper, new ClienteEntityMapper());
+        vendaDTOMapper = new VendaDTOMapper(new VeiculoDTOMapper(), new ClienteDTOMapper());
+
+        veiculo = Veiculo.builder()
+                .id(1L)
+                .marca("Toyota")
+                .modelo("Corolla")
+                .ano(2022)
+                .placa("ABC1234")
+                .cor("Prata")
+                .preco(new BigDecimal("120000.00"))
+                .disponivel(false)
+                .dataCadastro(LocalDateTime.now())
+                .build();
+        venda = Venda.builder()
+                .id(1L)
+                .veiculo(veiculo)
+                .cliente(Cliente.builder()
+                        .id(1L)
+                        .nome("Cliente")
+                        .cpf("12345678901")
+                        .telefone("11999999999")
+                        .email("cliente@email.com")
+                        .build())
+                .valorVenda(new BigDecimal("115000.00"))
+                .dataVenda(LocalDateTime.now())
+                .build();
+        vendaProjecao = new VendaProjecao(venda.getId(), venda.getValorVenda(), venda.getDataVenda(),
+                veiculo.getId(), veiculo.getMarca(), veiculo.getModelo(), veiculo.getAno(), veiculo.getPlaca(),
+                veiculo.getCor(), veiculo.getPreco(), veiculo.getDisponivel(), veiculo.getDataCadastro(), 0L,
+                1L, "Cliente", "12345678901", "11999999999", "cliente@email.com", 0L);
+    }
+
+    @Benchmark
+    public Veiculo veiculoEntityIdaEVolta() {
+        VeiculoEntity entity = veiculoEntityMapper.toEntity(veiculo);
+        return veiculoEntityMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public Venda vendaEntityIdaEVolta() {
+        VendaEntity entity = vendaEntityMapper.toEntity(venda);
+        return vendaEntityMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public VendaResponseDTO vendaParaResponseDTO() {
+        return vendaDTOMapper.toResponseDTO(venda);
+    }
+
+    /**
+     * Caminho de uma linha da listagem de vendas: projeção -> domínio -> DTO
+     */
+    @Benchmark
+    public VendaResponseDTO vendaProjecaoParaResponseDTO() {
+        return vendaDTOMapper.toResponseDTO(vendaEntityMapper.toDomain(vendaProjecao));
+    }
+}
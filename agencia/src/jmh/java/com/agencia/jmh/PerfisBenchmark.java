@@ -0,0 +1,151 @@
+package com.agencia.jmh;
+
+import com.agencia.AgenciaApplication;
+import com.agencia.benchmark.GeradorDataset;
+import com.agencia.domain.model.Cliente;
+import com.agencia.domain.model.Pagina;
+import com.agencia.domain.model.ResultadoCadastroLote;
+import com.agencia.domain.model.Veiculo;
+import com.agencia.domain.model.Venda;
+import com.agencia.ports.input.VeiculoInputPort;
+import com.agencia.ports.input.VendaInputPort;
+import com.agencia.ports.output.ClienteOutputPort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BENCHMARK JMH - Perfil padrão x perfil "performance"
+ * Sobe a aplicação (sem servidor web) com cada perfil e mede as portas de
+ * entrada, com cache de leitura desligado para que toda chamada vá ao banco.
+ * O perfil padrão imprime o SQL formatado; a saída padrão é descartada durante
+ * a medição, então entra o custo de formatar e registrar, não o do terminal.
+ * O despacho da outbox fica desligado: indexar os eventos na busca disputaria
+ * a CPU com a medição nos dois perfis. O aquecimento é longo porque a
+ * compilação JIT da aplicação inteira (Spring, Hibernate) leva dezenas de segundos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class PerfisBenchmark {
+
+    private static final int VEICULOS = 10_000;
+    private static final int LOTE = 50;
+
+    /**
+     * "padrao" sobe sem perfil ativo
+     */
+    @Param({"padrao", "performance"})
+    private String perfil;
+
+    private PrintStream saidaOriginal;
+    private ConfigurableApplicationContext contexto;
+    private VeiculoInputPort veiculoInputPort;
+    private VendaInputPort vendaInputPort;
+    private Cliente cliente;
+    private SplittableRandom random;
+    private long placaSequencia;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        saidaOriginal = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(AgenciaApplication.class)
+                .web(WebApplicationType.NONE);
+        if (!perfil.equals("padrao")) {
+            builder.profiles(perfil);
+        }
+        contexto = builder.run("--spring.devtools.restart.enabled=false",
+                "--agencia.outbox.despacho-automatico=false",
+                "--agencia.cache.veiculos.tamanho-maximo=0",
+                "--agencia.cache.clientes.tamanho-maximo=0");
+        veiculoInputPort = contexto.getBean(VeiculoInputPort.class);
+        vendaInputPort = contexto.getBean(VendaInputPort.class);
+
+        GeradorDataset gerador = new GeradorDataset(contexto.getBean(JdbcTemplate.class));
+        gerador.limpar();
+        gerador.gerarVeiculos(VEICULOS);
+        gerador.gerarCliente(1L);
+        cliente = contexto.getBean(ClienteOutputPort.class).buscarPorId(1L).orElseThrow();
+
+        random = new SplittableRandom(42);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+        System.setOut(saidaOriginal);
+    }
+
+    @Benchmark
+    public Veiculo veiculoBuscarPorId() {
+        return veiculoInputPort.buscarPorId(1L + random.nextInt(VEICULOS));
+    }
+
+    @Benchmark
+    public Pagina<Veiculo> veiculoListarDisponiveisPagina() {
+        return veiculoInputPort.listarDisponiveis((long) random.nextInt(VEICULOS), 50);
+    }
+
+    /**
+     * Fluxo de escrita completo: cadastro (com evento na outbox) e venda
+     * (reserva, registro, agregados do painel e evento)
+     */
+    @Benchmark
+    public Venda veiculoCadastrarEVender() {
+        Veiculo veiculo = veiculoInputPort.cadastrar(novoVeiculo());
+        return vendaInputPort.realizar(Venda.builder()
+                .veiculo(veiculo)
+                .cliente(cliente)
+                .valorVenda(new BigDecimal("95000"))
+                .build());
+    }
+
+    @Benchmark
+    public List<ResultadoCadastroLote> veiculoCadastrarLote() {
+        List<Veiculo> lote = new ArrayList<>(LOTE);
+        for (int i = 0; i < LOTE; i++) {
+            lote.add(novoVeiculo());
+        }
+        return veiculoInputPort.cadastrarEmLote(lote);
+    }
+
+    private Veiculo novoVeiculo() {
+        return Veiculo.builder()
+                .marca("Toyota")
+                .modelo("Corolla")
+                .ano(2022)
+                .placa(String.format("P%07d", placaSequencia++))
+                .cor("Prata")
+                .preco(new BigDecimal("100000"))
+                .dataCadastro(LocalDateTime.now())
+                .build();
+    }
+}
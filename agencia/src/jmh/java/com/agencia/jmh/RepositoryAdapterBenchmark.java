@@ -0,0 +1,145 @@
+package com.agencia.jmh;
+
+import com.agencia.AgenciaApplication;
+import com.agencia.adapter.output.persistence.VeiculoRepositoryAdapter;
+import com.agencia.adapter.output.persistence.VendaRepositoryAdapter;
+import com.agencia.benchmark.GeradorDataset;
+import com.agencia.domain.model.FiltroVeiculo;
+import com.agencia.domain.model.ResultadoBusca;
+import com.agencia.domain.model.Veiculo;
+import com.agencia.domain.model.Venda;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BENCHMARK JMH - Adapters de persistência
+ * Sobe o contexto Spring sem servidor web, com H2 em memória, e popula
+ * o banco com o GeradorDataset. Mede os adapters JPA diretamente,
+ * sem o cache que fica na frente deles.
+ * O tamanho do dataset é configurável: -p quantidade=1000,100000
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class RepositoryAdapterBenchmark {
+
+    private static final long CLIENTE_ID = 1L;
+
+    @Param({"10000", "100000"})
+    private int quantidade;
+
+    private ConfigurableApplicationContext contexto;
+    private VeiculoRepositoryAdapter veiculoAdapter;
+    private VendaRepositoryAdapter vendaAdapter;
+    private SplittableRandom random;
+    private long placaSequencia;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        contexto = new SpringApplicationBuilder(AgenciaApplication.class)
+                .web(WebApplicationType.NONE)
+                // Argumentos de linha de comando sobrepõem o application.properties
+                .run("--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--spring.devtools.restart.enabled=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN");
+        veiculoAdapter = contexto.getBean(VeiculoRepositoryAdapter.class);
+        vendaAdapter = contexto.getBean(VendaRepositoryAdapter.class);
+
+        // Metade dos veículos tem venda registrada
+        GeradorDataset gerador = new GeradorDataset(contexto.getBean(JdbcTemplate.class));
+        gerador.limpar();
+        gerador.gerarVeiculos(quantidade);
+        gerador.gerarCliente(CLIENTE_ID);
+        gerador.gerarVendas(quantidade / 2, CLIENTE_ID);
+
+        random = new SplittableRandom(42);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public Optional<Veiculo> veiculoBuscarPorId() {
+        return veiculoAdapter.buscarPorId(idAleatorio(quantidade));
+    }
+
+    @Benchmark
+    public List<Veiculo> veiculoListarDisponiveisPagina() {
+        return veiculoAdapter.listarDisponiveis(idAleatorio(quantidade), 50);
+    }
+
+    @Benchmark
+    public ResultadoBusca<Veiculo> veiculoBuscarPorMarcaEPreco() {
+        String marca = GeradorDataset.MARCAS_MODELOS[random.nextInt(GeradorDataset.MARCAS_MODELOS.length)][0];
+        return veiculoAdapter.buscar(FiltroVeiculo.builder()
+                .marca(marca)
+                .precoMaximo(new BigDecimal("80000"))
+                .disponivel(true)
+                .build());
+    }
+
+    @Benchmark
+    public boolean veiculoExistePorPlaca() {
+        return veiculoAdapter.existePorPlaca(String.format("B%07d", idAleatorio(quantidade)));
+    }
+
+    /**
+     * Cada chamada insere uma linha nova: o dataset cresce durante a medição
+     */
+    @Benchmark
+    public Veiculo veiculoSalvar() {
+        return veiculoAdapter.salvar(Veiculo.builder()
+                .marca("Toyota")
+                .modelo("Corolla")
+                .ano(2022)
+                .placa(String.format("J%07d", placaSequencia++))
+                .cor("Prata")
+                .preco(new BigDecimal("120000"))
+                .disponivel(true)
+                .dataCadastro(LocalDateTime.now())
+                .build());
+    }
+
+    @Benchmark
+    public Optional<Venda> vendaBuscarPorVeiculo() {
+        return vendaAdapter.buscarPorVeiculo(idAleatorio(quantidade / 2));
+    }
+
+    @Benchmark
+    public List<Venda> vendaListarPagina() {
+        return vendaAdapter.listarTodas(idAleatorio(quantidade / 2), 50);
+    }
+
+    private long idAleatorio(int limite) {
+        return 1 + random.nextInt(limite);
+    }
+}
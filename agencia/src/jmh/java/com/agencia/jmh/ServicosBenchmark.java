@@ -0,0 +1,100 @@
+package com.agencia.jmh;
+
+import com.agencia.adapter.output.memoria.BancoMemoria;
+import com.agencia.adapter.output.memoria.ClienteMemoriaAdapter;
+import com.agencia.adapter.output.memoria.VeiculoMemoriaAdapter;
+import com.agencia.adapter.output.memoria.VendaMemoriaAdapter;
+import com.agencia.domain.model.Cliente;
+import com.agencia.domain.model.Veiculo;
+import com.agencia.domain.model.Venda;
+import com.agencia.domain.service.VeiculoService;
+import com.agencia.domain.service.VendaService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BENCHMARK JMH - Serviços de domínio
+ * Mede VeiculoService.cadastrar e VendaService.realizar com os adapters
+ * do perfil "memoria" (adapter/output/memoria), sem banco: o custo das
+ * regras de negócio mais o das tabelas em memória.
+ * O banco em memória é recriado a cada iteração, para não crescer sem limite.
+ * O custo do banco relacional fica em RepositoryAdapterBenchmark.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServicosBenchmark {
+
+    /**
+     * Quantidade de placas já cadastradas consultadas por existePorPlaca
+     */
+    @Param({"10000"})
+    private int placasExistentes;
+
+    private VeiculoMemoriaAdapter veiculoOutputPort;
+    private VeiculoService veiculoService;
+    private VendaService vendaService;
+    private Cliente cliente;
+    private long sequencia;
+
+    @Setup(Level.Iteration)
+    public void preparar() {
+        BancoMemoria banco = new BancoMemoria();
+        veiculoOutputPort = new VeiculoMemoriaAdapter(banco);
+        for (int i = 0; i < placasExistentes; i++) {
+            veiculoOutputPort.salvar(veiculo(String.format("E%07d", i)));
+        }
+        veiculoService = new VeiculoService(veiculoOutputPort, evento -> { });
+        vendaService = new VendaService(new VendaMemoriaAdapter(banco), veiculoOutputPort, evento -> { });
+        cliente = new ClienteMemoriaAdapter(banco).salvar(
+                Cliente.builder().nome("Cliente").cpf("12345678901").build());
+    }
+
+    @Benchmark
+    public Veiculo veiculoCadastrar() {
+        return veiculoService.cadastrar(veiculo("N" + sequencia++));
+    }
+
+    /**
+     * Inclui gravar o veículo: realizar reserva o veículo,
+     * então cada chamada precisa de um veículo novo
+     */
+    @Benchmark
+    public Venda vendaRealizar() {
+        return vendaService.realizar(Venda.builder()
+                .veiculo(veiculoOutputPort.salvar(veiculo("V" + sequencia++)))
+                .cliente(cliente)
+                .valorVenda(new BigDecimal("115000"))
+                .build());
+    }
+
+    private static Veiculo veiculo(String placa) {
+        return Veiculo.builder()
+                .marca("Toyota")
+                .modelo("Corolla")
+                .ano(2022)
+                .placa(placa)
+                .cor("Prata")
+                .preco(new BigDecimal("120000"))
+                .disponivel(true)
+                .dataCadastro(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.agencia.adapter.input.controller;
+
+import com.agencia.adapter.input.dto.mapper.VeiculoDTOMapper;
+import com.agencia.adapter.input.dto.response.BuscaVeiculosResponseDTO;
+import com.agencia.adapter.input.dto.response.ReindexacaoResponseDTO;
+import com.agencia.domain.model.ConsultaTextoVeiculo;
+import com.agencia.domain.model.Pagina;
+import com.agencia.domain.model.ResultadoBuscaTexto;
+import com.agencia.ports.input.BuscaVeiculosInputPort;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * ADAPTADOR DE ENTRADA - REST Controller da busca de texto livre
+ * Diferente de /api/veiculos/pesquisa (critérios exatos, no banco), a busca
+ * vai ao índice: aceita palavras soltas com erros de digitação e devolve as
+ * facetas de marca, ano e cor junto com a página.
+ */
+@RestController
+@RequestMapping("/api/veiculos/busca")
+public class BuscaVeiculosController {
+
+    private final BuscaVeiculosInputPort buscaVeiculosInputPort;
+    private final VeiculoDTOMapper mapper;
+
+    public BuscaVeiculosController(BuscaVeiculosInputPort buscaVeiculosInputPort, VeiculoDTOMapper mapper) {
+        this.buscaVeiculosInputPort = buscaVeiculosInputPort;
+        this.mapper = mapper;
+    }
+
+    /**
+     * GET /api/veiculos/busca - Buscar veículos por texto livre
+     * Ex: /api/veiculos/busca?texto=civc prata&disponivel=true&ano=2020&pagina=0&tamanho=20
+     * Todas as palavras precisam casar com marca, modelo, cor ou ano.
+     * marca, ano e cor filtram pelo valor exato (o das facetas).
+     * O número da próxima página volta no header X-Proxima-Pagina
+     */
+    @GetMapping
+    public ResponseEntity<BuscaVeiculosResponseDTO> buscar(
+            @RequestParam(required = false) String texto,
+            @RequestParam(required = false) Boolean disponivel,
+            @RequestParam(required = false) String marca,
+            @RequestParam(required = false) Integer ano,
+            @RequestParam(required = false) String cor,
+            @RequestParam(defaultValue = "0") int pagina,
+            @RequestParam(defaultValue = "" + Pagina.LIMITE_PADRAO) int tamanho) {
+
+        ConsultaTextoVeiculo consulta = ConsultaTextoVeiculo.builder()
+                .texto(texto)
+                .disponivel(disponivel)
+                .marca(marca)
+                .ano(ano)
+                .cor(cor)
+                .pagina(pagina)
+                .tamanho(tamanho)
+                .build();
+
+        ResultadoBuscaTexto resultado = buscaVeiculosInputPort.buscar(consulta);
+
+        ResponseEntity.BodyBuilder resposta = ResponseEntity.ok();
+        if (resultado.isTemProxima()) {
+            resposta.header("X-Proxima-Pagina", String.valueOf(resultado.getPagina() + 1));
+        }
+        return resposta.body(mapper.toBuscaResponseDTO(resultado));
+    }
+
+    /**
+     * POST /api/veiculos/busca/reindexacao - Reconstruir o índice a partir do estoque
+     * Percorre todos os veículos; as buscas continuam respondendo com o
+     * índice anterior até o novo ficar pronto.
+     */
+    @PostMapping("/reindexacao")
+    public ResponseEntity<ReindexacaoResponseDTO> reindexar() {
+        long inicio = System.nanoTime();
+        long indexados = buscaVeiculosInputPort.reindexar();
+        return ResponseEntity.ok(ReindexacaoResponseDTO.builder()
+                .indexados(indexados)
+                .duracaoMs((System.nanoTime() - inicio) / 1_000_000)
+                .build());
+    }
+}
@@ -0,0 +1,136 @@
+package com.agencia.adapter.input.controller;
+
+import com.agencia.adapter.input.dto.response.ClienteResponseDTO;
+import com.agencia.adapter.input.dto.response.ItemCatalogoResponseDTO;
+import com.agencia.adapter.input.dto.response.ResumoVendaResponseDTO;
+import com.agencia.adapter.input.dto.response.VeiculoResponseDTO;
+import com.agencia.adapter.input.dto.response.VendaResponseDTO;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Campos esparsos nas respostas: ?fields=id,marca,preco
+ * Vale para os DTOs de veículo, cliente, venda, resumo de venda e catálogo,
+ * em JSON e em CBOR. Só os campos pedidos do objeto de resposta (ou de cada
+ * item da lista) são escritos; um objeto aninhado pedido (ex: "veiculo" numa
+ * venda) vai inteiro. Nomes desconhecidos são ignorados.
+ * Aqui só se corta a escrita; quem monta objetos aninhados caros (a venda)
+ * recebe os campos no controller e nem os converte quando não foram pedidos.
+ */
+@RestControllerAdvice
+public class CamposResposta extends AbstractMappingJacksonResponseBodyAdvice {
+
+    /**
+     * Parâmetro da requisição com os campos, separados por vírgula
+     */
+    public static final String PARAMETRO = "fields";
+
+    private static final String FILTRO = "campos";
+
+    /**
+     * Sem ?fields, todos os campos (filtro padrão do ObjectMapper da aplicação)
+     */
+    private static final FilterProvider TODOS = new SimpleFilterProvider()
+            .addFilter(FILTRO, SimpleBeanPropertyFilter.serializeAll());
+
+    /**
+     * Liga o filtro aos DTOs (por mix-in, sem anotar os DTOs).
+     * Chamado na configuração do ObjectMapper da aplicação.
+     */
+    public static void registrar(Jackson2ObjectMapperBuilder builder) {
+        builder.filters(TODOS)
+                .mixIn(VeiculoResponseDTO.class, ComCampos.class)
+                .mixIn(ClienteResponseDTO.class, ComCampos.class)
+                .mixIn(VendaResponseDTO.class, ComCampos.class)
+                .mixIn(ResumoVendaResponseDTO.class, ComCampos.class)
+                .mixIn(ItemCatalogoResponseDTO.class, ComCampos.class);
+    }
+
+    /**
+     * Filtro que escreve só os campos informados (vazio = todos)
+     */
+    public static FilterProvider filtro(Set<String> campos) {
+        if (campos == null || campos.isEmpty()) {
+            return TODOS;
+        }
+        return new SimpleFilterProvider().addFilter(FILTRO, new SomenteCampos(campos));
+    }
+
+    /**
+     * Lê os campos do valor do parâmetro: "id, marca,preco" -> [id, marca, preco]
+     */
+    public static Set<String> campos(String... valores) {
+        if (valores == null) {
+            return Collections.emptySet();
+        }
+        return Arrays.stream(valores)
+                .flatMap(valor -> Arrays.stream(valor.split(",")))
+                .map(String::trim)
+                .filter(campo -> !campo.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            Set<String> campos = campos(servletRequest.getServletRequest().getParameterValues(PARAMETRO));
+            if (!campos.isEmpty()) {
+                bodyContainer.setFilters(filtro(campos));
+            }
+        }
+    }
+
+    @JsonFilter(FILTRO)
+    private interface ComCampos {
+    }
+
+    /**
+     * Corta só os campos do objeto de resposta ou dos itens da lista de resposta:
+     * os objetos aninhados usam o mesmo filtro, mas saem inteiros
+     */
+    private static final class SomenteCampos extends SimpleBeanPropertyFilter {
+
+        private final Set<String> campos;
+
+        private SomenteCampos(Set<String> campos) {
+            this.campos = campos;
+        }
+
+        @Override
+        public void serializeAsField(Object pojo, JsonGenerator gen, SerializerProvider provider,
+                                     PropertyWriter writer) throws Exception {
+            if (!noNivelDaResposta(gen) || campos.contains(writer.getName())) {
+                writer.serializeAsField(pojo, gen, provider);
+            } else if (!gen.canOmitFields()) {
+                writer.serializeAsOmittedField(pojo, gen, provider);
+            }
+        }
+
+        private static boolean noNivelDaResposta(JsonGenerator gen) {
+            JsonStreamContext pai = gen.getOutputContext().getParent();
+            return pai.inRoot() || (pai.inArray() && pai.getParent().inRoot());
+        }
+    }
+}
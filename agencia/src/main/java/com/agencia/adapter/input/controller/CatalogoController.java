@@ -0,0 +1,84 @@
+package com.agencia.adapter.input.controller;
+
+import com.agencia.adapter.input.dto.mapper.CatalogoDTOMapper;
+import com.agencia.adapter.input.dto.response.ItemCatalogoResponseDTO;
+import com.agencia.adapter.input.dto.response.ReindexacaoResponseDTO;
+import com.agencia.domain.model.ItemCatalogo;
+import com.agencia.domain.model.OrdenacaoVeiculo;
+import com.agencia.domain.model.Pagina;
+import com.agencia.domain.model.ResultadoBusca;
+import com.agencia.ports.input.CatalogoInputPort;
+import com.agencia.ports.input.CatalogoQueryPort;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * ADAPTADOR DE ENTRADA - REST Controller do catálogo público
+ * Diferente de /api/veiculos/disponiveis (tabela de veículos, sempre atual),
+ * o catálogo vem do modelo de leitura: não consulta o banco e não disputa
+ * com cadastros e vendas, mas mostra as gravações com um pequeno atraso.
+ */
+@RestController
+@RequestMapping("/api/catalogo")
+public class CatalogoController {
+
+    private final CatalogoQueryPort catalogoQueryPort;
+    private final CatalogoInputPort catalogoInputPort;
+    private final CatalogoDTOMapper mapper;
+
+    public CatalogoController(CatalogoQueryPort catalogoQueryPort,
+                              CatalogoInputPort catalogoInputPort,
+                              CatalogoDTOMapper mapper) {
+        this.catalogoQueryPort = catalogoQueryPort;
+        this.catalogoInputPort = catalogoInputPort;
+        this.mapper = mapper;
+    }
+
+    /**
+     * GET /api/catalogo?ordenacao=PRECO_ASC&pagina=0&tamanho=50 - Veículos disponíveis
+     * Ordenações: PRECO_ASC, PRECO_DESC, ANO_DESC, ANO_ASC, MAIS_RECENTES
+     * O número da próxima página volta no header X-Proxima-Pagina
+     */
+    @GetMapping
+    public ResponseEntity<List<ItemCatalogoResponseDTO>> listar(
+            @RequestParam(defaultValue = "PRECO_ASC") OrdenacaoVeiculo ordenacao,
+            @RequestParam(defaultValue = "0") int pagina,
+            @RequestParam(defaultValue = "" + Pagina.LIMITE_PADRAO) int tamanho) {
+        ResultadoBusca<ItemCatalogo> resultado = catalogoQueryPort.listar(ordenacao, pagina, tamanho);
+
+        ResponseEntity.BodyBuilder resposta = ResponseEntity.ok();
+        if (resultado.isTemProxima()) {
+            resposta.header("X-Proxima-Pagina", String.valueOf(resultado.getPagina() + 1));
+        }
+        return resposta.body(resultado.getItens().stream().map(mapper::toResponseDTO).toList());
+    }
+
+    /**
+     * GET /api/catalogo/{id} - Um veículo do catálogo (404 se vendido ou inexistente)
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ItemCatalogoResponseDTO> buscar(@PathVariable Long id) {
+        return ResponseEntity.ok(mapper.toResponseDTO(catalogoQueryPort.buscar(id)));
+    }
+
+    /**
+     * POST /api/catalogo/reconstrucao - Montar o catálogo de novo a partir do estoque
+     * As consultas continuam respondendo com o catálogo anterior até o novo ficar pronto.
+     */
+    @PostMapping("/reconstrucao")
+    public ResponseEntity<ReindexacaoResponseDTO> reconstruir() {
+        long inicio = System.nanoTime();
+        long itens = catalogoInputPort.reconstruir();
+        return ResponseEntity.ok(ReindexacaoResponseDTO.builder()
+                .indexados(itens)
+                .duracaoMs((System.nanoTime() - inicio) / 1_000_000)
+                .build());
+    }
+}
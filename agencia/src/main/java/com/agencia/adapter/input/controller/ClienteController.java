@@ -6,10 +6,14 @@ import com.agencia.adapter.input.dto.response.ClienteResponseDTO;
 import com.agencia.domain.model.Cliente;
 import com.agencia.ports.output.ClienteOutputPort;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Optional;
+
 /**
  * ADAPTADOR DE ENTRADA - REST Controller para Clientes
  * Controller simples para gerenciar clientes
@@ -20,11 +24,14 @@ public class ClienteController {
 
     private final ClienteOutputPort clienteOutputPort;
     private final ClienteDTOMapper mapper;
+    private final String cacheControl;
 
     public ClienteController(ClienteOutputPort clienteOutputPort,
-                             ClienteDTOMapper mapper) {
+                             ClienteDTOMapper mapper,
+                             @Value("${agencia.http.cache-control.cliente:private, no-cache}") String cacheControl) {
         this.clienteOutputPort = clienteOutputPort;
         this.mapper = mapper;
+        this.cacheControl = cacheControl;
     }
 
     /**
@@ -57,16 +64,29 @@ public class ClienteController {
 
     /**
      * GET /api/clientes/{id} - Buscar cliente por ID
+     * Com If-None-Match igual ao ETag atual: 304, consultando só a versão
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ClienteResponseDTO> buscarPorId(@PathVariable Long id) {
+    public ResponseEntity<ClienteResponseDTO> buscarPorId(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            Optional<String> etag = clienteOutputPort.buscarVersao(id)
+                    .map(versao -> RespostaCondicional.etag("cliente", id, versao));
+            if (etag.isPresent() && RespostaCondicional.corresponde(ifNoneMatch, etag.get())) {
+                return RespostaCondicional.naoModificado(etag.get(), cacheControl).build();
+            }
+        }
+
         Cliente cliente = clienteOutputPort.buscarPorId(id)
                 .orElseThrow(() -> new IllegalArgumentException(
                         "Cliente não encontrado com ID: " + id
                 ));
 
         ClienteResponseDTO responseDTO = mapper.toResponseDTO(cliente);
-        return ResponseEntity.ok(responseDTO);
+        return RespostaCondicional.ok(
+                RespostaCondicional.etag("cliente", cliente.getId(), cliente.getVersao()), cacheControl)
+                .body(responseDTO);
     }
 
     /**
@@ -0,0 +1,97 @@
+package com.agencia.adapter.input.controller;
+
+import com.agencia.adapter.input.dto.mapper.RelatorioDTOMapper;
+import com.agencia.adapter.input.dto.response.DesempenhoVeiculoResponseDTO;
+import com.agencia.adapter.input.dto.response.FaturamentoPeriodoResponseDTO;
+import com.agencia.adapter.input.dto.response.PainelVendasResponseDTO;
+import com.agencia.adapter.input.dto.response.ReconstrucaoAgregadosResponseDTO;
+import com.agencia.domain.model.AgrupamentoPeriodo;
+import com.agencia.domain.model.AgrupamentoVeiculo;
+import com.agencia.ports.input.AgregadosVendasInputPort;
+import com.agencia.ports.input.RelatorioVendasInputPort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * ADAPTADOR DE ENTRADA - REST Controller para Relatórios de vendas
+ * As agregações são calculadas pelo banco: a resposta tem uma linha
+ * por grupo, qualquer que seja a quantidade de vendas do período.
+ * Datas no formato ISO (yyyy-MM-dd); o período inclui os dias de início e fim.
+ */
+@RestController
+@RequestMapping("/api/relatorios")
+public class RelatorioController {
+
+    private final RelatorioVendasInputPort relatorioVendasInputPort;
+    private final AgregadosVendasInputPort agregadosVendasInputPort;
+    private final RelatorioDTOMapper mapper;
+
+    public RelatorioController(RelatorioVendasInputPort relatorioVendasInputPort,
+                               AgregadosVendasInputPort agregadosVendasInputPort,
+                               RelatorioDTOMapper mapper) {
+        this.relatorioVendasInputPort = relatorioVendasInputPort;
+        this.agregadosVendasInputPort = agregadosVendasInputPort;
+        this.mapper = mapper;
+    }
+
+    /**
+     * GET /api/relatorios/faturamento?agrupamento=DIA|MES&inicio=&fim=
+     * Quantidade de vendas, faturamento e ticket médio por dia ou por mês
+     */
+    @GetMapping("/faturamento")
+    public ResponseEntity<List<FaturamentoPeriodoResponseDTO>> faturamento(
+            @RequestParam(defaultValue = "DIA") AgrupamentoPeriodo agrupamento,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate inicio,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fim) {
+        return ResponseEntity.ok(relatorioVendasInputPort.faturamento(agrupamento, inicio, fim).stream()
+                .map(mapper::toResponseDTO)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * GET /api/relatorios/veiculos?agrupamento=MARCA|MODELO&inicio=&fim=
+     * Vendas, faturamento, desconto médio sobre o preço anunciado e dias médios
+     * entre o cadastro e a venda, por marca ou modelo, do maior faturamento para o menor
+     */
+    @GetMapping("/veiculos")
+    public ResponseEntity<List<DesempenhoVeiculoResponseDTO>> desempenhoPorVeiculo(
+            @RequestParam(defaultValue = "MARCA") AgrupamentoVeiculo agrupamento,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate inicio,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fim) {
+        return ResponseEntity.ok(relatorioVendasInputPort.desempenhoPorVeiculo(agrupamento, inicio, fim).stream()
+                .map(mapper::toResponseDTO)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * GET /api/relatorios/painel?dia= - Painel de vendas
+     * Total geral, total do dia (hoje, se não informado) e total por marca.
+     * Lê os agregados mantidos a cada venda: não consulta as vendas,
+     * então o custo não cresce com a tabela e pode ser consultado a cada poucos segundos.
+     */
+    @GetMapping("/painel")
+    public ResponseEntity<PainelVendasResponseDTO> painel(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dia) {
+        return ResponseEntity.ok(mapper.toResponseDTO(
+                agregadosVendasInputPort.painel(dia == null ? LocalDate.now() : dia)));
+    }
+
+    /**
+     * POST /api/relatorios/painel/reconstrucao - Reconstruir os agregados do painel
+     * Recalcula os agregados a partir das vendas, corrige os que divergem
+     * e informa as divergências encontradas. Percorre todas as vendas.
+     */
+    @PostMapping("/painel/reconstrucao")
+    public ResponseEntity<ReconstrucaoAgregadosResponseDTO> reconstruirPainel() {
+        return ResponseEntity.ok(mapper.toResponseDTO(agregadosVendasInputPort.reconstruir()));
+    }
+}
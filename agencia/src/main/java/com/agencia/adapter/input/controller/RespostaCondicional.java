@@ -0,0 +1,95 @@
+package com.agencia.adapter.input.controller;
+
+import com.agencia.domain.model.Pagina;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.function.Function;
+
+/**
+ * Requisições condicionais (ETag / If-None-Match) compartilhadas pelos controllers.
+ * O ETag de um registro vem da sua versão (@Version): muda a cada alteração
+ * gravada. O de uma página vem dos pares (ID, versão) dos itens e do próximo
+ * cursor, que o banco devolve sem montar as entidades. Um max(versao) não
+ * serviria: a versão é por registro, e a alteração de um item que não é o
+ * de maior versão não mudaria o máximo.
+ * Com If-None-Match, o controller consulta só a versão; se o ETag bate,
+ * responde 304 sem carregar nem converter o registro.
+ * O ETag é o mesmo em JSON e em CBOR: as respostas levam Vary: Accept,
+ * para que os caches guardem um formato por Accept.
+ */
+final class RespostaCondicional {
+
+    private RespostaCondicional() {
+    }
+
+    /**
+     * ETag forte de um registro: "recurso-id-versao"
+     */
+    static String etag(String recurso, Long id, Long versao) {
+        return "\"" + recurso + "-" + id + "-" + versao + "\"";
+    }
+
+    /**
+     * ETag forte de uma página: hash (FNV-1a de 64 bits) dos pares
+     * (ID, versão) e do próximo cursor
+     */
+    static <T> String etag(String recurso, Pagina<T> pagina,
+                           Function<T, Long> extrairId, Function<T, Long> extrairVersao) {
+        long hash = 0xcbf29ce484222325L;
+        for (T item : pagina.getItens()) {
+            hash = misturar(hash, extrairId.apply(item));
+            hash = misturar(hash, extrairVersao.apply(item));
+        }
+        hash = misturar(hash, pagina.getProximoCursor() != null ? pagina.getProximoCursor() : -1L);
+        return "\"" + recurso + "-" + pagina.getItens().size() + "-" + Long.toHexString(hash) + "\"";
+    }
+
+    private static long misturar(long hash, long valor) {
+        for (int i = 0; i < Long.BYTES; i++) {
+            hash ^= (valor >>> (i * 8)) & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * If-None-Match usa comparação fraca: "W/" é ignorado, e "*" casa com qualquer ETag
+     */
+    static boolean corresponde(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        for (String candidato : ifNoneMatch.split(",")) {
+            String valor = candidato.trim();
+            if (valor.startsWith("W/")) {
+                valor = valor.substring(2);
+            }
+            if (valor.equals("*") || valor.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 304 Not Modified: sem corpo, com o mesmo ETag, Cache-Control e Vary da resposta 200
+     */
+    static ResponseEntity.BodyBuilder naoModificado(String etag, String cacheControl) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT)
+                .header(HttpHeaders.CACHE_CONTROL, cacheControl);
+    }
+
+    /**
+     * 200 OK com ETag, Cache-Control e Vary
+     */
+    static ResponseEntity.BodyBuilder ok(String etag, String cacheControl) {
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT)
+                .header(HttpHeaders.CACHE_CONTROL, cacheControl);
+    }
+}
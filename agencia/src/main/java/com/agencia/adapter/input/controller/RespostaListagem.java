@@ -0,0 +1,104 @@
+package com.agencia.adapter.input.controller;
+
+import com.agencia.domain.model.Pagina;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Respostas HTTP das listagens (paginada ou em streaming NDJSON)
+ * compartilhadas pelos controllers.
+ * A paginação é opcional: sem cursor e sem limite a listagem JSON/CBOR traz
+ * todos os registros, como antes da paginação existir.
+ */
+final class RespostaListagem {
+
+    /**
+     * Header com o cursor da próxima página (ausente na última página)
+     */
+    static final String HEADER_PROXIMO_CURSOR = "X-Proximo-Cursor";
+
+    private RespostaListagem() {
+    }
+
+    /**
+     * Paginada quando o cliente informa cursor ou limite
+     */
+    static boolean paginada(Long cursor, Integer limite) {
+        return cursor != null || limite != null;
+    }
+
+    /**
+     * Tamanho da página: o informado ou, só com o cursor, o padrão
+     */
+    static int limite(Integer limite) {
+        return limite != null ? limite : Pagina.LIMITE_PADRAO;
+    }
+
+    /**
+     * Listagem completa numa única "página" (sem próximo cursor).
+     * Lê pela mesma fonte do streaming (projeções, sem entidades gerenciadas),
+     * mas a resposta inteira fica em memória: para volumes grandes, o cliente
+     * deve paginar ou pedir NDJSON.
+     */
+    static <T> Pagina<T> todos(Consumer<Consumer<T>> fonte) {
+        List<T> itens = new ArrayList<>();
+        fonte.accept(itens::add);
+        return new Pagina<>(itens, null);
+    }
+
+    /**
+     * Converte uma página do domínio em lista de DTOs,
+     * informando o próximo cursor no header
+     */
+    static <T, D> ResponseEntity<List<D>> pagina(Pagina<T> pagina, Function<T, D> mapper) {
+        return pagina(ResponseEntity.ok(), pagina, mapper);
+    }
+
+    /**
+     * Mesmo que o anterior, sobre uma resposta já iniciada (ex: com ETag)
+     */
+    static <T, D> ResponseEntity<List<D>> pagina(ResponseEntity.BodyBuilder resposta,
+                                                 Pagina<T> pagina, Function<T, D> mapper) {
+        List<D> itens = pagina.getItens().stream()
+                .map(mapper)
+                .collect(Collectors.toList());
+
+        if (pagina.temProxima()) {
+            resposta.header(HEADER_PROXIMO_CURSOR, String.valueOf(pagina.getProximoCursor()));
+        }
+        return resposta.body(itens);
+    }
+
+    /**
+     * Escreve um objeto JSON por linha conforme a fonte entrega os itens.
+     * Nada é acumulado: cada linha vai para o response assim que é lida do banco.
+     */
+    static <T> ResponseEntity<StreamingResponseBody> ndjson(ObjectMapper objectMapper,
+                                                           Consumer<Consumer<T>> fonte) {
+        StreamingResponseBody corpo = out -> {
+            fonte.accept(item -> {
+                try {
+                    out.write(objectMapper.writeValueAsBytes(item));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(corpo);
+    }
+}
@@ -1,15 +1,36 @@
 package com.agencia.adapter.input.controller;
 
+import com.agencia.adapter.input.dto.mapper.VeiculoCsvMapper;
 import com.agencia.adapter.input.dto.mapper.VeiculoDTOMapper;
 import com.agencia.adapter.input.dto.request.VeiculoRequestDTO;
+import com.agencia.adapter.input.dto.response.CadastroLoteResponseDTO;
+import com.agencia.adapter.input.dto.response.ItemLoteResponseDTO;
 import com.agencia.adapter.input.dto.response.VeiculoResponseDTO;
 import com.agencia.domain.model.Veiculo;
+import com.agencia.domain.model.FiltroVeiculo;
+import com.agencia.domain.model.OrdenacaoVeiculo;
+import com.agencia.domain.model.Pagina;
+import com.agencia.domain.model.ResultadoBusca;
+import com.agencia.domain.model.ResultadoCadastroLote;
+import com.agencia.domain.model.VersaoRegistro;
 import com.agencia.ports.input.VeiculoInputPort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -37,14 +58,33 @@ public class VeiculoController {
      */
     private final VeiculoInputPort veiculoInputPort;
     private final VeiculoDTOMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final VeiculoCsvMapper csvMapper;
+    private final Validator validator;
+
+    /**
+     * Cache-Control das respostas com ETag (agencia.http.cache-control.*)
+     */
+    private final String cacheControlVeiculo;
+    private final String cacheControlDisponiveis;
 
     /**
      * Injeção de dependência via construtor
      */
     public VeiculoController(VeiculoInputPort veiculoInputPort,
-                             VeiculoDTOMapper mapper) {
+                             VeiculoDTOMapper mapper,
+                             ObjectMapper objectMapper,
+                             VeiculoCsvMapper csvMapper,
+                             Validator validator,
+                             @Value("${agencia.http.cache-control.veiculo:no-cache}") String cacheControlVeiculo,
+                             @Value("${agencia.http.cache-control.veiculos-disponiveis:no-cache}") String cacheControlDisponiveis) {
         this.veiculoInputPort = veiculoInputPort;
         this.mapper = mapper;
+        this.objectMapper = objectMapper;
+        this.csvMapper = csvMapper;
+        this.validator = validator;
+        this.cacheControlVeiculo = cacheControlVeiculo;
+        this.cacheControlDisponiveis = cacheControlDisponiveis;
     }
 
     /**
@@ -69,40 +109,224 @@ public class VeiculoController {
         return ResponseEntity.status(HttpStatus.CREATED).body(responseDTO);
     }
 
+    /**
+     * POST /api/veiculos/lote - Cadastrar vários veículos (array JSON)
+     * Cada linha é validada e cadastrada individualmente: o relatório
+     * informa, por linha, o ID gerado ou o motivo da rejeição.
+     */
+    @PostMapping(value = "/lote", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<CadastroLoteResponseDTO> cadastrarEmLote(
+            @RequestBody List<VeiculoRequestDTO> requestDTOs) {
+        return ResponseEntity.ok(importar(requestDTOs.stream()
+                .map(dto -> new VeiculoCsvMapper.Linha(dto, null))
+                .toList()));
+    }
+
+    /**
+     * POST /api/veiculos/lote - Cadastrar vários veículos (text/csv)
+     * Formato: marca,modelo,ano,placa,cor,preco (cabeçalho opcional)
+     */
+    @PostMapping(value = "/lote", consumes = "text/csv")
+    public ResponseEntity<CadastroLoteResponseDTO> cadastrarEmLoteCsv(@RequestBody String csv) {
+        return ResponseEntity.ok(importar(csvMapper.toRequestDTOs(csv)));
+    }
+
+    private CadastroLoteResponseDTO importar(List<VeiculoCsvMapper.Linha> linhas) {
+        if (linhas.size() > VeiculoInputPort.TAMANHO_MAXIMO_LOTE) {
+            throw new IllegalArgumentException(
+                    "Lote deve ter no máximo " + VeiculoInputPort.TAMANHO_MAXIMO_LOTE + " veículos");
+        }
+
+        ItemLoteResponseDTO[] itens = new ItemLoteResponseDTO[linhas.size()];
+        List<Integer> posicoesValidas = new ArrayList<>();
+        List<Veiculo> veiculos = new ArrayList<>();
+
+        // 1. Validar cada linha (formato do CSV e Bean Validation do DTO)
+        for (int i = 0; i < linhas.size(); i++) {
+            VeiculoCsvMapper.Linha linha = linhas.get(i);
+            if (linha.getErro() != null) {
+                itens[i] = mapper.toItemLoteRejeitadoDTO(i + 1, null, linha.getErro());
+                continue;
+            }
+            Set<ConstraintViolation<VeiculoRequestDTO>> violacoes = validator.validate(linha.getDto());
+            if (!violacoes.isEmpty()) {
+                itens[i] = mapper.toItemLoteRejeitadoDTO(i + 1, linha.getDto().getPlaca(),
+                        violacoes.stream()
+                                .map(ConstraintViolation::getMessage)
+                                .sorted()
+                                .collect(Collectors.joining("; ")));
+                continue;
+            }
+            posicoesValidas.add(i);
+            veiculos.add(mapper.toDomain(linha.getDto()));
+        }
+
+        // 2. Cadastrar as linhas válidas de uma vez
+        if (!veiculos.isEmpty()) {
+            List<ResultadoCadastroLote> resultados = veiculoInputPort.cadastrarEmLote(veiculos);
+            for (int j = 0; j < resultados.size(); j++) {
+                int posicao = posicoesValidas.get(j);
+                itens[posicao] = mapper.toItemLoteDTO(posicao + 1, resultados.get(j));
+            }
+        }
+
+        long cadastrados = Arrays.stream(itens).filter(item -> "CADASTRADO".equals(item.getStatus())).count();
+        return CadastroLoteResponseDTO.builder()
+                .total(itens.length)
+                .cadastrados((int) cadastrados)
+                .rejeitados(itens.length - (int) cadastrados)
+                .itens(Arrays.asList(itens))
+                .build();
+    }
+
     /**
      * GET /api/veiculos/{id} - Buscar veículo por ID
+     * Com If-None-Match igual ao ETag atual: 304, consultando só a versão
      */
     @GetMapping("/{id}")
-    public ResponseEntity<VeiculoResponseDTO> buscarPorId(@PathVariable Long id) {
+    public ResponseEntity<VeiculoResponseDTO> buscarPorId(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            Optional<String> etag = veiculoInputPort.buscarVersao(id)
+                    .map(versao -> RespostaCondicional.etag("veiculo", id, versao));
+            if (etag.isPresent() && RespostaCondicional.corresponde(ifNoneMatch, etag.get())) {
+                return RespostaCondicional.naoModificado(etag.get(), cacheControlVeiculo).build();
+            }
+        }
+
         Veiculo veiculo = veiculoInputPort.buscarPorId(id);
         VeiculoResponseDTO responseDTO = mapper.toResponseDTO(veiculo);
-        return ResponseEntity.ok(responseDTO);
+        return RespostaCondicional.ok(
+                RespostaCondicional.etag("veiculo", veiculo.getId(), veiculo.getVersao()), cacheControlVeiculo)
+                .body(responseDTO);
     }
 
     /**
-     * GET /api/veiculos - Listar todos os veículos
+     * GET /api/veiculos?cursor=&limite= - Listar veículos
+     * Sem cursor e sem limite: todos. Com um deles: paginado por cursor, e o
+     * cursor da próxima página volta no header X-Proximo-Cursor
      */
-    @GetMapping
-    public ResponseEntity<List<VeiculoResponseDTO>> listarTodos() {
-        List<VeiculoResponseDTO> veiculos = veiculoInputPort.listarTodos()
-                .stream()
-                .map(mapper::toResponseDTO)
-                .collect(Collectors.toList());
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<List<VeiculoResponseDTO>> listarTodos(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limite) {
+        Pagina<Veiculo> pagina = RespostaListagem.paginada(cursor, limite)
+                ? veiculoInputPort.listarTodos(cursor, RespostaListagem.limite(limite))
+                : RespostaListagem.todos(veiculoInputPort::percorrerTodos);
+        return RespostaListagem.pagina(pagina, mapper::toResponseDTO);
+    }
+
+    /**
+     * GET /api/veiculos (Accept: application/x-ndjson) - Todos os veículos em streaming
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTodos() {
+        return RespostaListagem.<VeiculoResponseDTO>ndjson(objectMapper, linha ->
+                veiculoInputPort.percorrerTodos(veiculo -> linha.accept(mapper.toResponseDTO(veiculo))));
+    }
+
+    /**
+     * GET /api/veiculos/disponiveis?cursor=&limite= - Listar veículos disponíveis
+     * Sem cursor e sem limite: todos; com um deles, paginado por cursor.
+     * Com If-None-Match igual ao ETag atual da página: 304, consultando só IDs e versões
+     */
+    @GetMapping(value = "/disponiveis", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<List<VeiculoResponseDTO>> listarDisponiveis(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limite,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        boolean paginada = RespostaListagem.paginada(cursor, limite);
+        if (ifNoneMatch != null) {
+            Pagina<VersaoRegistro> versoes = paginada
+                    ? veiculoInputPort.listarVersoesDisponiveis(cursor, RespostaListagem.limite(limite))
+                    : todasVersoesDisponiveis();
+            String etag = RespostaCondicional.etag("disponiveis", versoes,
+                    VersaoRegistro::getId, VersaoRegistro::getVersao);
+            if (RespostaCondicional.corresponde(ifNoneMatch, etag)) {
+                ResponseEntity.BodyBuilder resposta = RespostaCondicional.naoModificado(etag, cacheControlDisponiveis);
+                if (versoes.temProxima()) {
+                    resposta.header(RespostaListagem.HEADER_PROXIMO_CURSOR, String.valueOf(versoes.getProximoCursor()));
+                }
+                return resposta.build();
+            }
+        }
+
+        Pagina<Veiculo> pagina = paginada
+                ? veiculoInputPort.listarDisponiveis(cursor, RespostaListagem.limite(limite))
+                : RespostaListagem.todos(veiculoInputPort::percorrerDisponiveis);
+        String etag = RespostaCondicional.etag("disponiveis", pagina, Veiculo::getId, Veiculo::getVersao);
+        return RespostaListagem.pagina(
+                RespostaCondicional.ok(etag, cacheControlDisponiveis), pagina, mapper::toResponseDTO);
+    }
+
+    /**
+     * IDs e versões de todos os disponíveis, em páginas do tamanho máximo
+     */
+    private Pagina<VersaoRegistro> todasVersoesDisponiveis() {
+        List<VersaoRegistro> versoes = new ArrayList<>();
+        Long cursor = null;
+        do {
+            Pagina<VersaoRegistro> pagina = veiculoInputPort.listarVersoesDisponiveis(cursor, Pagina.LIMITE_MAXIMO);
+            versoes.addAll(pagina.getItens());
+            cursor = pagina.getProximoCursor();
+        } while (cursor != null);
+        return new Pagina<>(versoes, null);
+    }
 
-        return ResponseEntity.ok(veiculos);
+    /**
+     * GET /api/veiculos/disponiveis (Accept: application/x-ndjson) - Disponíveis em streaming
+     */
+    @GetMapping(value = "/disponiveis", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamDisponiveis() {
+        return RespostaListagem.<VeiculoResponseDTO>ndjson(objectMapper, linha ->
+                veiculoInputPort.percorrerDisponiveis(veiculo -> linha.accept(mapper.toResponseDTO(veiculo))));
     }
 
     /**
-     * GET /api/veiculos/disponiveis - Listar veículos disponíveis
+     * GET /api/veiculos/pesquisa - Buscar veículos por critérios
+     * Ex: /api/veiculos/pesquisa?marca=Honda&anoMinimo=2018&precoMaximo=100000&ordenacao=PRECO_ASC&pagina=0&tamanho=20
+     * O número da próxima página volta no header X-Proxima-Pagina
      */
-    @GetMapping("/disponiveis")
-    public ResponseEntity<List<VeiculoResponseDTO>> listarDisponiveis() {
-        List<VeiculoResponseDTO> veiculos = veiculoInputPort.listarDisponiveis()
-                .stream()
+    @GetMapping("/pesquisa")
+    public ResponseEntity<List<VeiculoResponseDTO>> pesquisar(
+            @RequestParam(required = false) String marca,
+            @RequestParam(required = false) String modelo,
+            @RequestParam(required = false) Integer anoMinimo,
+            @RequestParam(required = false) Integer anoMaximo,
+            @RequestParam(required = false) BigDecimal precoMinimo,
+            @RequestParam(required = false) BigDecimal precoMaximo,
+            @RequestParam(required = false) String cor,
+            @RequestParam(required = false) Boolean disponivel,
+            @RequestParam(defaultValue = "PRECO_ASC") OrdenacaoVeiculo ordenacao,
+            @RequestParam(defaultValue = "0") int pagina,
+            @RequestParam(defaultValue = "" + Pagina.LIMITE_PADRAO) int tamanho) {
+
+        FiltroVeiculo filtro = FiltroVeiculo.builder()
+                .marca(marca)
+                .modelo(modelo)
+                .anoMinimo(anoMinimo)
+                .anoMaximo(anoMaximo)
+                .precoMinimo(precoMinimo)
+                .precoMaximo(precoMaximo)
+                .cor(cor)
+                .disponivel(disponivel)
+                .ordenacao(ordenacao)
+                .pagina(pagina)
+                .tamanho(tamanho)
+                .build();
+
+        ResultadoBusca<Veiculo> resultado = veiculoInputPort.buscar(filtro);
+
+        List<VeiculoResponseDTO> veiculos = resultado.getItens().stream()
                 .map(mapper::toResponseDTO)
                 .collect(Collectors.toList());
 
-        return ResponseEntity.ok(veiculos);
+        ResponseEntity.BodyBuilder resposta = ResponseEntity.ok();
+        if (resultado.isTemProxima()) {
+            resposta.header("X-Proxima-Pagina", String.valueOf(resultado.getPagina() + 1));
+        }
+        return resposta.body(veiculos);
     }
 
     /**
@@ -1,21 +1,31 @@
 package com.agencia.adapter.input.controller;
 
 import com.agencia.adapter.input.dto.mapper.VendaDTOMapper;
+import com.agencia.adapter.input.dto.request.VendaLoteRequestDTO;
 import com.agencia.adapter.input.dto.request.VendaRequestDTO;
+import com.agencia.adapter.input.dto.response.ResumoVendaResponseDTO;
+import com.agencia.adapter.input.dto.response.VendaLoteResponseDTO;
 import com.agencia.adapter.input.dto.response.VendaResponseDTO;
+import com.agencia.domain.exception.VendaLoteRecusadaException;
 import com.agencia.domain.model.Cliente;
+import com.agencia.domain.model.Pagina;
+import com.agencia.domain.model.ResultadoVendaLote;
+import com.agencia.domain.model.ResumoVenda;
 import com.agencia.domain.model.Veiculo;
 import com.agencia.domain.model.Venda;
 import com.agencia.ports.input.VeiculoInputPort;
 import com.agencia.ports.input.VendaInputPort;
 import com.agencia.ports.output.ClienteOutputPort;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 /**
  * ADAPTADOR DE ENTRADA - REST Controller para Vendas
@@ -38,6 +48,7 @@ public class VendaController {
     private final VeiculoInputPort veiculoInputPort;
     private final ClienteOutputPort clienteOutputPort;
     private final VendaDTOMapper mapper;
+    private final ObjectMapper objectMapper;
 
     /**
      * Injeção de dependências via construtor
@@ -45,11 +56,13 @@ public class VendaController {
     public VendaController(VendaInputPort vendaInputPort,
                            VeiculoInputPort veiculoInputPort,
                            ClienteOutputPort clienteOutputPort,
-                           VendaDTOMapper mapper) {
+                           VendaDTOMapper mapper,
+                           ObjectMapper objectMapper) {
         this.vendaInputPort = vendaInputPort;
         this.veiculoInputPort = veiculoInputPort;
         this.clienteOutputPort = clienteOutputPort;
         this.mapper = mapper;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -95,39 +108,101 @@ public class VendaController {
     }
 
     /**
-     * GET /api/vendas - Listar todas as vendas
+     * POST /api/vendas/lote - Vender vários veículos ao mesmo cliente (frotistas)
+     * Os veículos são carregados, reservados e registrados em conjunto,
+     * numa única transação. O relatório informa o resultado de cada veículo.
+     * Modo TUDO_OU_NADA (padrão): se algum veículo não pode ser vendido,
+     * nada é vendido e a resposta é 409 com o motivo de cada um.
+     * Modo PARCIAL: vende os que puder e responde 200 com o relatório.
+     */
+    @PostMapping("/lote")
+    public ResponseEntity<VendaLoteResponseDTO> realizarVendaEmLote(
+            @Valid @RequestBody VendaLoteRequestDTO requestDTO) {
+
+        Cliente cliente = clienteOutputPort.buscarPorId(requestDTO.getClienteId())
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Cliente não encontrado com ID: " + requestDTO.getClienteId()
+                ));
+
+        try {
+            List<ResultadoVendaLote> resultados =
+                    vendaInputPort.realizarEmLote(mapper.toDomain(requestDTO, cliente));
+            return ResponseEntity.ok(mapper.toVendaLoteResponseDTO(resultados));
+        } catch (VendaLoteRecusadaException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(mapper.toVendaLoteResponseDTO(e.getResultados()));
+        }
+    }
+
+    /**
+     * GET /api/vendas?cursor=&limite= - Listar vendas
      *
-     * @return Lista de todas as vendas realizadas
+     * @param cursor último ID da página anterior (vazio na primeira página)
+     * @param limite quantidade de vendas por página; sem cursor e sem limite, todas as vendas
+     * @param campos campos de cada venda (?fields=id,valorVenda); sem "veiculo" e "cliente",
+     *               os dados aninhados não são convertidos nem enviados
+     * @return Vendas; paginada, o próximo cursor volta no header X-Proximo-Cursor
      */
-    @GetMapping
-    public ResponseEntity<List<VendaResponseDTO>> listarTodas() {
-        List<VendaResponseDTO> vendas = vendaInputPort.listarTodas()
-                .stream()
-                .map(mapper::toResponseDTO)
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(vendas);
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<List<VendaResponseDTO>> listarTodas(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limite,
+            @RequestParam(name = CamposResposta.PARAMETRO, required = false) String[] campos) {
+        Set<String> pedidos = CamposResposta.campos(campos);
+        Pagina<Venda> pagina = RespostaListagem.paginada(cursor, limite)
+                ? vendaInputPort.listarTodas(cursor, RespostaListagem.limite(limite))
+                : RespostaListagem.todos(vendaInputPort::percorrerTodas);
+        return RespostaListagem.pagina(pagina, venda -> mapper.toResponseDTO(venda, pedidos));
+    }
+
+    /**
+     * GET /api/vendas (Accept: application/x-ndjson) - Todas as vendas em streaming
+     * Uma venda por linha, escrita conforme é lida do banco
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTodas() {
+        return RespostaListagem.<VendaResponseDTO>ndjson(objectMapper, linha ->
+                vendaInputPort.percorrerTodas(venda -> linha.accept(mapper.toResponseDTO(venda))));
+    }
+
+    /**
+     * GET /api/vendas/resumo?cursor=&limite= - Listar resumos de vendas
+     * Só placa, marca e modelo do veículo e nome do cliente: consulta por projeção,
+     * bem mais leve que a listagem completa. Sem cursor e sem limite: todos
+     */
+    @GetMapping(value = "/resumo", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<List<ResumoVendaResponseDTO>> listarResumos(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limite) {
+        Pagina<ResumoVenda> pagina = RespostaListagem.paginada(cursor, limite)
+                ? vendaInputPort.listarResumos(cursor, RespostaListagem.limite(limite))
+                : RespostaListagem.todos(vendaInputPort::percorrerResumos);
+        return RespostaListagem.pagina(pagina, mapper::toResumoResponseDTO);
+    }
+
+    /**
+     * GET /api/vendas/resumo (Accept: application/x-ndjson) - Resumos de todas as vendas em streaming
+     */
+    @GetMapping(value = "/resumo", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamResumos() {
+        return RespostaListagem.<ResumoVendaResponseDTO>ndjson(objectMapper, linha ->
+                vendaInputPort.percorrerResumos(resumo -> linha.accept(mapper.toResumoResponseDTO(resumo))));
     }
 
     /**
      * GET /api/vendas/veiculo/{veiculoId} - Buscar venda de um veículo específico
      * Endpoint útil para verificar se um veículo foi vendido
      * @param veiculoId ID do veículo
+     * @param campos campos da venda (?fields=); igual à listagem
      * @return Dados da venda se encontrada
      */
     @GetMapping("/veiculo/{veiculoId}")
     public ResponseEntity<VendaResponseDTO> buscarPorVeiculo(
-            @PathVariable Long veiculoId) {
+            @PathVariable Long veiculoId,
+            @RequestParam(name = CamposResposta.PARAMETRO, required = false) String[] campos) {
 
-        List<Venda> vendas = vendaInputPort.listarTodas();
-
-        Venda venda = vendas.stream()
-                .filter(v -> v.getVeiculo().getId().equals(veiculoId))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "Nenhuma venda encontrada para o veículo ID: " + veiculoId
-                ));
+        Venda venda = vendaInputPort.buscarPorVeiculo(veiculoId);
 
-        return ResponseEntity.ok(mapper.toResponseDTO(venda));
+        return ResponseEntity.ok(mapper.toResponseDTO(venda, CamposResposta.campos(campos)));
     }
 }
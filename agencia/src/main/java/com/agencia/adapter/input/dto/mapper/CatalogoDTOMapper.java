@@ -0,0 +1,28 @@
+package com.agencia.adapter.input.dto.mapper;
+
+import com.agencia.adapter.input.dto.response.ItemCatalogoResponseDTO;
+import com.agencia.domain.model.ItemCatalogo;
+import org.springframework.stereotype.Component;
+
+/**
+ * MAPPER DE DTOs DO CATÁLOGO PÚBLICO
+ */
+@Component
+public class CatalogoDTOMapper {
+
+    /**
+     * Chamado para cada item das páginas: construtor direto, sem builder
+     */
+    public ItemCatalogoResponseDTO toResponseDTO(ItemCatalogo item) {
+        return new ItemCatalogoResponseDTO(
+                item.getVeiculoId(),
+                item.getTitulo(),
+                item.getMarca(),
+                item.getModelo(),
+                item.getAno(),
+                item.getCor(),
+                item.getPreco(),
+                item.getPrecoFormatado(),
+                item.getDataCadastro());
+    }
+}
@@ -15,24 +15,24 @@ public class ClienteDTOMapper {
      * Converte Request DTO -> Domain
      */
     public Cliente toDomain(ClienteRequestDTO dto) {
-        return Cliente.builder()
-                .nome(dto.getNome())
-                .cpf(dto.getCpf())
-                .telefone(dto.getTelefone())
-                .email(dto.getEmail())
-                .build();
+        return new Cliente(
+                null,
+                dto.getNome(),
+                dto.getCpf(),
+                dto.getTelefone(),
+                dto.getEmail(),
+                null);
     }
 
     /**
      * Converte Domain -> Response DTO
      */
     public ClienteResponseDTO toResponseDTO(Cliente cliente) {
-        return ClienteResponseDTO.builder()
-                .id(cliente.getId())
-                .nome(cliente.getNome())
-                .cpf(cliente.getCpf())
-                .telefone(cliente.getTelefone())
-                .email(cliente.getEmail())
-                .build();
+        return new ClienteResponseDTO(
+                cliente.getId(),
+                cliente.getNome(),
+                cliente.getCpf(),
+                cliente.getTelefone(),
+                cliente.getEmail());
     }
 }
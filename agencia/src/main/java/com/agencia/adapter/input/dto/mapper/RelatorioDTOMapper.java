@@ -0,0 +1,91 @@
+package com.agencia.adapter.input.dto.mapper;
+
+import com.agencia.adapter.input.dto.response.AgregadoVendasResponseDTO;
+import com.agencia.adapter.input.dto.response.DesempenhoVeiculoResponseDTO;
+import com.agencia.adapter.input.dto.response.FaturamentoPeriodoResponseDTO;
+import com.agencia.adapter.input.dto.response.PainelVendasResponseDTO;
+import com.agencia.adapter.input.dto.response.ReconstrucaoAgregadosResponseDTO;
+import com.agencia.domain.model.AgregadoVendas;
+import com.agencia.domain.model.DesempenhoVeiculo;
+import com.agencia.domain.model.DivergenciaAgregado;
+import com.agencia.domain.model.FaturamentoPeriodo;
+import com.agencia.domain.model.GrupoAgregado;
+import com.agencia.domain.model.PainelVendas;
+import com.agencia.domain.model.ReconstrucaoAgregados;
+import com.agencia.domain.model.TipoAgregado;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.stream.Collectors;
+
+/**
+ * MAPPER DE DTOs - Relatórios de vendas
+ * Converte as linhas dos relatórios e o painel de vendas do domínio em DTOs da API REST
+ */
+@Component
+public class RelatorioDTOMapper {
+
+    public FaturamentoPeriodoResponseDTO toResponseDTO(FaturamentoPeriodo faturamento) {
+        return FaturamentoPeriodoResponseDTO.builder()
+                .periodo(faturamento.getPeriodo())
+                .vendas(faturamento.getQuantidadeVendas())
+                .faturamento(faturamento.getFaturamento())
+                .ticketMedio(faturamento.getTicketMedio())
+                .build();
+    }
+
+    public DesempenhoVeiculoResponseDTO toResponseDTO(DesempenhoVeiculo desempenho) {
+        return DesempenhoVeiculoResponseDTO.builder()
+                .marca(desempenho.getMarca())
+                .modelo(desempenho.getModelo())
+                .vendas(desempenho.getQuantidadeVendas())
+                .faturamento(desempenho.getFaturamento())
+                .descontoMedio(desempenho.getDescontoMedio())
+                .descontoPercentualMedio(desempenho.getDescontoPercentualMedio())
+                .diasMedioParaVender(desempenho.getDiasMedioParaVender())
+                .build();
+    }
+
+    public PainelVendasResponseDTO toResponseDTO(PainelVendas painel) {
+        return PainelVendasResponseDTO.builder()
+                .total(toResponseDTO(painel.getTotal()))
+                .dia(toResponseDTO(painel.getDia()))
+                .marcas(painel.getMarcas().stream()
+                        .map(this::toResponseDTO)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    public AgregadoVendasResponseDTO toResponseDTO(AgregadoVendas agregado) {
+        return AgregadoVendasResponseDTO.builder()
+                .chave(agregado.getGrupo().getTipo() == TipoAgregado.TOTAL ? null : agregado.getGrupo().getChave())
+                .vendas(agregado.getQuantidadeVendas())
+                .faturamento(agregado.getFaturamento())
+                .build();
+    }
+
+    public ReconstrucaoAgregadosResponseDTO toResponseDTO(ReconstrucaoAgregados reconstrucao) {
+        return ReconstrucaoAgregadosResponseDTO.builder()
+                .grupos(reconstrucao.getRecalculados().size())
+                .consistente(reconstrucao.isConsistente())
+                .divergencias(reconstrucao.divergencias().stream()
+                        .map(this::toResponseDTO)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private ReconstrucaoAgregadosResponseDTO.Divergencia toResponseDTO(DivergenciaAgregado divergencia) {
+        AgregadoVendas mantido = divergencia.getMantido();
+        AgregadoVendas recalculado = divergencia.getRecalculado();
+        GrupoAgregado grupo = (mantido != null ? mantido : recalculado).getGrupo();
+        return ReconstrucaoAgregadosResponseDTO.Divergencia.builder()
+                .origem(divergencia.getOrigem().name())
+                .tipo(grupo.getTipo().name())
+                .chave(grupo.getChave())
+                .vendasMantidas(mantido == null ? 0 : mantido.getQuantidadeVendas())
+                .faturamentoMantido(mantido == null ? BigDecimal.ZERO : mantido.getFaturamento())
+                .vendasRecalculadas(recalculado == null ? 0 : recalculado.getQuantidadeVendas())
+                .faturamentoRecalculado(recalculado == null ? BigDecimal.ZERO : recalculado.getFaturamento())
+                .build();
+    }
+}
@@ -0,0 +1,67 @@
+package com.agencia.adapter.input.dto.mapper;
+
+import com.agencia.adapter.input.dto.request.VeiculoRequestDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MAPPER DE CSV - Veículos
+ * Converte o corpo text/csv do cadastro em lote em DTOs de request.
+ * Formato (uma linha por veículo, cabeçalho opcional):
+ * marca,modelo,ano,placa,cor,preco
+ * Uma linha mal formada não interrompe a leitura: ela vira uma linha com erro.
+ */
+@Component
+public class VeiculoCsvMapper {
+
+    private static final int COLUNAS = 6;
+
+    public List<Linha> toRequestDTOs(String csv) {
+        List<Linha> linhas = new ArrayList<>();
+        String[] registros = csv.split("\\r?\\n");
+
+        for (int i = 0; i < registros.length; i++) {
+            String registro = registros[i].trim();
+            if (registro.isEmpty() || (i == 0 && registro.toLowerCase().startsWith("marca"))) {
+                continue;
+            }
+            linhas.add(converter(registro));
+        }
+        return linhas;
+    }
+
+    private Linha converter(String registro) {
+        String[] campos = registro.split(",", -1);
+        if (campos.length != COLUNAS) {
+            return new Linha(null, "Linha deve ter " + COLUNAS + " colunas: marca,modelo,ano,placa,cor,preco");
+        }
+        try {
+            VeiculoRequestDTO dto = VeiculoRequestDTO.builder()
+                    .marca(campos[0].trim())
+                    .modelo(campos[1].trim())
+                    .ano(Integer.valueOf(campos[2].trim()))
+                    .placa(campos[3].trim())
+                    .cor(campos[4].trim().isEmpty() ? null : campos[4].trim())
+                    .preco(new BigDecimal(campos[5].trim()))
+                    .build();
+            return new Linha(dto, null);
+        } catch (NumberFormatException e) {
+            return new Linha(null, "Ano ou preço em formato inválido");
+        }
+    }
+
+    /**
+     * Uma linha do CSV: o DTO lido ou o motivo de não ter sido possível lê-lo
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Linha {
+        private final VeiculoRequestDTO dto;
+        private final String erro;
+    }
+}
@@ -1,7 +1,11 @@
 package com.agencia.adapter.input.dto.mapper;
 
 import com.agencia.adapter.input.dto.request.VeiculoRequestDTO;
+import com.agencia.adapter.input.dto.response.BuscaVeiculosResponseDTO;
+import com.agencia.adapter.input.dto.response.ItemLoteResponseDTO;
 import com.agencia.adapter.input.dto.response.VeiculoResponseDTO;
+import com.agencia.domain.model.ResultadoBuscaTexto;
+import com.agencia.domain.model.ResultadoCadastroLote;
 import com.agencia.domain.model.Veiculo;
 import org.springframework.stereotype.Component;
 
@@ -15,32 +19,74 @@ public class VeiculoDTOMapper {
 
     /**
      * Converte Request DTO -> Domain
+     * ID, disponibilidade, data de cadastro e versão ficam nulos: quem define é o serviço
      */
     public Veiculo toDomain(VeiculoRequestDTO dto) {
-        return Veiculo.builder()
-                .marca(dto.getMarca())
-                .modelo(dto.getModelo())
-                .ano(dto.getAno())
-                .placa(dto.getPlaca())
-                .cor(dto.getCor())
-                .preco(dto.getPreco())
-                .build();
+        return new Veiculo(
+                null,
+                dto.getMarca(),
+                dto.getModelo(),
+                dto.getAno(),
+                dto.getPlaca(),
+                dto.getCor(),
+                dto.getPreco(),
+                null,
+                null,
+                null);
     }
 
     /**
      * Converte Domain -> Response DTO
+     * Chamado para cada item das listagens: construtor direto, sem builder
      */
     public VeiculoResponseDTO toResponseDTO(Veiculo veiculo) {
-        return VeiculoResponseDTO.builder()
-                .id(veiculo.getId())
-                .marca(veiculo.getMarca())
-                .modelo(veiculo.getModelo())
-                .ano(veiculo.getAno())
-                .placa(veiculo.getPlaca())
-                .cor(veiculo.getCor())
-                .preco(veiculo.getPreco())
-                .disponivel(veiculo.getDisponivel())
-                .dataCadastro(veiculo.getDataCadastro())
+        return new VeiculoResponseDTO(
+                veiculo.getId(),
+                veiculo.getMarca(),
+                veiculo.getModelo(),
+                veiculo.getAno(),
+                veiculo.getPlaca(),
+                veiculo.getCor(),
+                veiculo.getPreco(),
+                veiculo.getDisponivel(),
+                veiculo.getDataCadastro());
+    }
+
+    /**
+     * Converte uma página da busca de texto livre -> Response DTO
+     */
+    public BuscaVeiculosResponseDTO toBuscaResponseDTO(ResultadoBuscaTexto resultado) {
+        return BuscaVeiculosResponseDTO.builder()
+                .itens(resultado.getItens().stream().map(this::toResponseDTO).toList())
+                .total(resultado.getTotal())
+                .pagina(resultado.getPagina())
+                .tamanho(resultado.getTamanho())
+                .facetas(resultado.getFacetas())
+                .build();
+    }
+
+    /**
+     * Converte o resultado de uma linha do lote -> DTO do relatório
+     */
+    public ItemLoteResponseDTO toItemLoteDTO(int linha, ResultadoCadastroLote resultado) {
+        return ItemLoteResponseDTO.builder()
+                .linha(linha)
+                .placa(resultado.getPlaca())
+                .status(resultado.isCadastrado() ? "CADASTRADO" : "REJEITADO")
+                .id(resultado.isCadastrado() ? resultado.getVeiculo().getId() : null)
+                .erro(resultado.getErro())
+                .build();
+    }
+
+    /**
+     * Linha rejeitada antes de chegar ao domínio (validação do DTO ou CSV mal formado)
+     */
+    public ItemLoteResponseDTO toItemLoteRejeitadoDTO(int linha, String placa, String erro) {
+        return ItemLoteResponseDTO.builder()
+                .linha(linha)
+                .placa(placa)
+                .status("REJEITADO")
+                .erro(erro)
                 .build();
     }
 }
@@ -1,10 +1,21 @@
 package com.agencia.adapter.input.dto.mapper;
 
 
+import com.agencia.adapter.input.dto.request.VendaLoteRequestDTO;
+import com.agencia.adapter.input.dto.response.ResumoVendaResponseDTO;
+import com.agencia.adapter.input.dto.response.VendaLoteResponseDTO;
 import com.agencia.adapter.input.dto.response.VendaResponseDTO;
+import com.agencia.domain.model.Cliente;
+import com.agencia.domain.model.ItemVendaLote;
+import com.agencia.domain.model.ResultadoVendaLote;
+import com.agencia.domain.model.ResumoVenda;
 import com.agencia.domain.model.Venda;
+import com.agencia.domain.model.VendaLote;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Set;
+
 /**
  * MAPPER DE DTOs - Venda
  * Converte entre objetos de domínio e DTOs da API REST
@@ -29,12 +40,81 @@ public class VendaDTOMapper {
      * Inclui os dados completos do veículo e cliente
      */
     public VendaResponseDTO toResponseDTO(Venda venda) {
-        return VendaResponseDTO.builder()
-                .id(venda.getId())
-                .veiculo(veiculoMapper.toResponseDTO(venda.getVeiculo()))
-                .cliente(clienteMapper.toResponseDTO(venda.getCliente()))
-                .valorVenda(venda.getValorVenda())
-                .dataVenda(venda.getDataVenda())
+        return new VendaResponseDTO(
+                venda.getId(),
+                veiculoMapper.toResponseDTO(venda.getVeiculo()),
+                clienteMapper.toResponseDTO(venda.getCliente()),
+                venda.getValorVenda(),
+                venda.getDataVenda());
+    }
+
+    /**
+     * Converte Domain -> Response DTO só com os objetos aninhados pedidos
+     * (?fields=): sem "veiculo" ou "cliente", o DTO correspondente nem é montado.
+     * Campos vazios = venda completa.
+     */
+    public VendaResponseDTO toResponseDTO(Venda venda, Set<String> campos) {
+        if (campos.isEmpty()) {
+            return toResponseDTO(venda);
+        }
+        return new VendaResponseDTO(
+                venda.getId(),
+                campos.contains("veiculo") ? veiculoMapper.toResponseDTO(venda.getVeiculo()) : null,
+                campos.contains("cliente") ? clienteMapper.toResponseDTO(venda.getCliente()) : null,
+                venda.getValorVenda(),
+                venda.getDataVenda());
+    }
+
+    /**
+     * Converte Resumo (Domain) -> Response DTO resumido
+     */
+    public ResumoVendaResponseDTO toResumoResponseDTO(ResumoVenda resumo) {
+        return new ResumoVendaResponseDTO(
+                resumo.getId(),
+                resumo.getVeiculoId(),
+                resumo.getPlaca(),
+                resumo.getMarca(),
+                resumo.getModelo(),
+                resumo.getClienteId(),
+                resumo.getNomeCliente(),
+                resumo.getValorVenda(),
+                resumo.getDataVenda());
+    }
+
+    /**
+     * Converte Request DTO da venda em lote -> Domain
+     */
+    public VendaLote toDomain(VendaLoteRequestDTO dto, Cliente cliente) {
+        return VendaLote.builder()
+                .cliente(cliente)
+                .modo(dto.getModo())
+                .itens(dto.getItens().stream()
+                        .map(item -> ItemVendaLote.builder()
+                                .veiculoId(item.getVeiculoId())
+                                .valorVenda(item.getValorVenda())
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    /**
+     * Converte o resultado da venda em lote -> relatório
+     */
+    public VendaLoteResponseDTO toVendaLoteResponseDTO(List<ResultadoVendaLote> resultados) {
+        List<VendaLoteResponseDTO.Item> itens = resultados.stream()
+                .map(resultado -> VendaLoteResponseDTO.Item.builder()
+                        .veiculoId(resultado.getVeiculoId())
+                        .status(resultado.isVendido() ? "VENDIDO" : "RECUSADO")
+                        .vendaId(resultado.isVendido() ? resultado.getVenda().getId() : null)
+                        .erro(resultado.getErro())
+                        .build())
+                .toList();
+        int vendidos = (int) resultados.stream().filter(ResultadoVendaLote::isVendido).count();
+        return VendaLoteResponseDTO.builder()
+                .total(resultados.size())
+                .vendidos(vendidos)
+                .recusados(resultados.size() - vendidos)
+                .itens(itens)
                 .build();
     }
 }
@@ -0,0 +1,44 @@
+package com.agencia.adapter.input.dto.request;
+
+import com.agencia.domain.model.ModoVendaLote;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO da venda em lote: vários veículos para o mesmo cliente.
+ * Os itens não passam por Bean Validation: um item inválido é recusado
+ * no relatório, sem impedir a análise dos demais.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VendaLoteRequestDTO {
+
+    @NotNull(message = "ID do cliente é obrigatório")
+    private Long clienteId;
+
+    /**
+     * TUDO_OU_NADA (padrão) ou PARCIAL
+     */
+    @Builder.Default
+    private ModoVendaLote modo = ModoVendaLote.TUDO_OU_NADA;
+
+    @NotEmpty(message = "Informe ao menos um veículo")
+    private List<Item> itens;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private Long veiculoId;
+        private BigDecimal valorVenda;
+    }
+}
@@ -0,0 +1,23 @@
+package com.agencia.adapter.input.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+
+/**
+ * DTO para retornar um total do painel de vendas
+ * A chave (marca ou dia) é omitida no total geral
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AgregadoVendasResponseDTO {
+    private String chave;
+    private long vendas;
+    private BigDecimal faturamento;
+}
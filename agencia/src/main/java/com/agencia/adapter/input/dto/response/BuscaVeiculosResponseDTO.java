@@ -0,0 +1,25 @@
+package com.agencia.adapter.input.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO para retornar uma página da busca de texto livre
+ * total = veículos que casam com a consulta (todas as páginas)
+ * facetas = quantidade de veículos por valor de marca, ano e cor, dentro da consulta
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BuscaVeiculosResponseDTO {
+    private List<VeiculoResponseDTO> itens;
+    private long total;
+    private int pagina;
+    private int tamanho;
+    private Map<String, Map<String, Long>> facetas;
+}
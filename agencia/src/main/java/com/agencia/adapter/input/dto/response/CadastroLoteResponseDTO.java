@@ -0,0 +1,21 @@
+package com.agencia.adapter.input.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * DTO com o relatório do cadastro em lote
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CadastroLoteResponseDTO {
+    private Integer total;
+    private Integer cadastrados;
+    private Integer rejeitados;
+    private List<ItemLoteResponseDTO> itens;
+}
@@ -0,0 +1,27 @@
+package com.agencia.adapter.input.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+
+/**
+ * DTO para retornar uma linha do relatório de desempenho por marca ou modelo
+ * O modelo é omitido no agrupamento por marca
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DesempenhoVeiculoResponseDTO {
+    private String marca;
+    private String modelo;
+    private long vendas;
+    private BigDecimal faturamento;
+    private BigDecimal descontoMedio;
+    private double descontoPercentualMedio;
+    private double diasMedioParaVender;
+}
@@ -0,0 +1,23 @@
+package com.agencia.adapter.input.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO para retornar uma linha do relatório de faturamento
+ * No agrupamento por mês, periodo é o primeiro dia do mês
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FaturamentoPeriodoResponseDTO {
+    private LocalDate periodo;
+    private long vendas;
+    private BigDecimal faturamento;
+    private BigDecimal ticketMedio;
+}
@@ -0,0 +1,28 @@
+package com.agencia.adapter.input.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO para retornar um veículo do catálogo público
+ * titulo e precoFormatado vêm prontos para exibição
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemCatalogoResponseDTO {
+    private Long id;
+    private String titulo;
+    private String marca;
+    private String modelo;
+    private Integer ano;
+    private String cor;
+    private BigDecimal preco;
+    private String precoFormatado;
+    private LocalDateTime dataCadastro;
+}
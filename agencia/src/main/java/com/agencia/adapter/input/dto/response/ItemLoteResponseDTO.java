@@ -0,0 +1,25 @@
+package com.agencia.adapter.input.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO com o resultado de uma linha do cadastro em lote
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemLoteResponseDTO {
+
+    /**
+     * Posição do registro no lote (começando em 1, sem contar o cabeçalho do CSV)
+     */
+    private Integer linha;
+    private String placa;
+    private String status;
+    private Long id;
+    private String erro;
+}
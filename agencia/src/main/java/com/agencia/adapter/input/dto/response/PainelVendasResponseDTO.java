@@ -0,0 +1,20 @@
+package com.agencia.adapter.input.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * DTO para retornar o painel de vendas: total geral, total do dia e total por marca
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PainelVendasResponseDTO {
+    private AgregadoVendasResponseDTO total;
+    private AgregadoVendasResponseDTO dia;
+    private List<AgregadoVendasResponseDTO> marcas;
+}
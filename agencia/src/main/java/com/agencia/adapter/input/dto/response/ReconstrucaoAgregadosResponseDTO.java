@@ -0,0 +1,36 @@
+package com.agencia.adapter.input.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO para retornar o resultado da reconstrução dos agregados de vendas
+ * consistente = nenhum grupo mantido (tabela ou memória) divergia do recalculado
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReconstrucaoAgregadosResponseDTO {
+    private int grupos;
+    private boolean consistente;
+    private List<Divergencia> divergencias;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Divergencia {
+        private String origem;
+        private String tipo;
+        private String chave;
+        private long vendasMantidas;
+        private BigDecimal faturamentoMantido;
+        private long vendasRecalculadas;
+        private BigDecimal faturamentoRecalculado;
+    }
+}
@@ -0,0 +1,19 @@
+package com.agencia.adapter.input.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para retornar o resultado da reindexação da busca de texto livre
+ * (e da reconstrução do catálogo público)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReindexacaoResponseDTO {
+    private long indexados;
+    private long duracaoMs;
+}
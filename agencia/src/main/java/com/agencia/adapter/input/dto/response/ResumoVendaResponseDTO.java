@@ -0,0 +1,27 @@
+package com.agencia.adapter.input.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO para retornar o resumo de uma venda nas listagens
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumoVendaResponseDTO {
+    private Long id;
+    private Long veiculoId;
+    private String placa;
+    private String marca;
+    private String modelo;
+    private Long clienteId;
+    private String nomeCliente;
+    private BigDecimal valorVenda;
+    private LocalDateTime dataVenda;
+}
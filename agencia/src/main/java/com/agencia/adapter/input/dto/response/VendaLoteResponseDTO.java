@@ -0,0 +1,35 @@
+package com.agencia.adapter.input.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * DTO com o relatório da venda em lote, um item por veículo na ordem recebida
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VendaLoteResponseDTO {
+    private Integer total;
+    private Integer vendidos;
+    private Integer recusados;
+    private List<Item> itens;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private Long veiculoId;
+        /**
+         * VENDIDO ou RECUSADO
+         */
+        private String status;
+        private Long vendaId;
+        private String erro;
+    }
+}
@@ -0,0 +1,29 @@
+package com.agencia.adapter.input.evento;
+
+import com.agencia.domain.evento.EventoDominio;
+import com.agencia.domain.evento.VendaRealizada;
+import com.agencia.ports.input.AgregadosVendasInputPort;
+import com.agencia.ports.input.AssinanteEventos;
+import org.springframework.stereotype.Component;
+
+/**
+ * ADAPTADOR DE ENTRADA - Eventos de venda para os agregados do painel
+ * Assim como um controller recebe requisições HTTP, este adaptador recebe
+ * eventos de domínio e chama a porta de entrada dos agregados.
+ */
+@Component
+public class AgregadosVendasAssinante implements AssinanteEventos {
+
+    private final AgregadosVendasInputPort agregadosVendasInputPort;
+
+    public AgregadosVendasAssinante(AgregadosVendasInputPort agregadosVendasInputPort) {
+        this.agregadosVendasInputPort = agregadosVendasInputPort;
+    }
+
+    @Override
+    public void receber(EventoDominio evento) {
+        if (evento instanceof VendaRealizada venda) {
+            agregadosVendasInputPort.registrarVenda(venda);
+        }
+    }
+}
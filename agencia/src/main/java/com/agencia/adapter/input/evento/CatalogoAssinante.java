@@ -0,0 +1,46 @@
+package com.agencia.adapter.input.evento;
+
+import com.agencia.domain.evento.EventoDominio;
+import com.agencia.domain.evento.VeiculoAtualizado;
+import com.agencia.domain.evento.VeiculoCadastrado;
+import com.agencia.domain.evento.VeiculoRemovido;
+import com.agencia.domain.evento.VendaRealizada;
+import com.agencia.ports.input.AssinanteEventosAssincrono;
+import com.agencia.ports.input.CatalogoInputPort;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * ADAPTADOR DE ENTRADA - Eventos de estoque e de venda para o catálogo público
+ * Assíncrono (depois do commit, pela outbox): atualizar o catálogo não entra
+ * no tempo do cadastro ou da venda, e uma gravação desfeita nunca chega a ele.
+ * Na subida, monta o catálogo se ele estiver vazio.
+ */
+@Component
+public class CatalogoAssinante implements AssinanteEventosAssincrono {
+
+    private final CatalogoInputPort catalogoInputPort;
+
+    public CatalogoAssinante(CatalogoInputPort catalogoInputPort) {
+        this.catalogoInputPort = catalogoInputPort;
+    }
+
+    @Override
+    public void receber(EventoDominio evento) {
+        if (evento instanceof VeiculoCadastrado cadastrado) {
+            catalogoInputPort.registrarCadastro(cadastrado);
+        } else if (evento instanceof VeiculoAtualizado atualizado) {
+            catalogoInputPort.registrarAlteracao(atualizado);
+        } else if (evento instanceof VeiculoRemovido removido) {
+            catalogoInputPort.registrarRemocao(removido);
+        } else if (evento instanceof VendaRealizada venda) {
+            catalogoInputPort.registrarVenda(venda);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preparar() {
+        catalogoInputPort.prepararCatalogo();
+    }
+}
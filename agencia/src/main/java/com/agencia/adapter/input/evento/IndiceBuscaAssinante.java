@@ -0,0 +1,46 @@
+package com.agencia.adapter.input.evento;
+
+import com.agencia.domain.evento.EventoDominio;
+import com.agencia.domain.evento.VeiculoAtualizado;
+import com.agencia.domain.evento.VeiculoCadastrado;
+import com.agencia.domain.evento.VeiculoRemovido;
+import com.agencia.domain.evento.VendaRealizada;
+import com.agencia.ports.input.AssinanteEventosAssincrono;
+import com.agencia.ports.input.BuscaVeiculosInputPort;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * ADAPTADOR DE ENTRADA - Eventos de estoque para o índice de busca
+ * Assíncrono (depois do commit, pela outbox): uma gravação desfeita nunca
+ * chega ao índice, e indexar não entra no tempo do cadastro ou da venda.
+ * Na subida, monta o índice se ele estiver vazio.
+ */
+@Component
+public class IndiceBuscaAssinante implements AssinanteEventosAssincrono {
+
+    private final BuscaVeiculosInputPort buscaVeiculosInputPort;
+
+    public IndiceBuscaAssinante(BuscaVeiculosInputPort buscaVeiculosInputPort) {
+        this.buscaVeiculosInputPort = buscaVeiculosInputPort;
+    }
+
+    @Override
+    public void receber(EventoDominio evento) {
+        if (evento instanceof VeiculoCadastrado cadastrado) {
+            buscaVeiculosInputPort.atualizarIndice(cadastrado.getVeiculoId());
+        } else if (evento instanceof VeiculoAtualizado atualizado) {
+            buscaVeiculosInputPort.atualizarIndice(atualizado.getVeiculoId());
+        } else if (evento instanceof VeiculoRemovido removido) {
+            buscaVeiculosInputPort.atualizarIndice(removido.getVeiculoId());
+        } else if (evento instanceof VendaRealizada venda) {
+            buscaVeiculosInputPort.atualizarIndice(venda.getVeiculoId());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preparar() {
+        buscaVeiculosInputPort.prepararIndice();
+    }
+}
@@ -2,6 +2,9 @@ package com.agencia.adapter.input.exceptionHandler;
 
 import com.agencia.domain.exception.VeiculoIndisponivelException;
 import com.agencia.domain.exception.VeiculoNaoEncontradoException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -19,9 +22,16 @@ import java.util.Map;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final MeterRegistry meterRegistry;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     @ExceptionHandler(VeiculoNaoEncontradoException.class)
     public ResponseEntity<ErrorResponse> handleVeiculoNaoEncontrado(
             VeiculoNaoEncontradoException ex) {
+        contar(ex, HttpStatus.NOT_FOUND);
 
         ErrorResponse error = ErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
@@ -39,6 +49,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(VeiculoIndisponivelException.class)
     public ResponseEntity<ErrorResponse> handleVeiculoIndisponivel(
             VeiculoIndisponivelException ex) {
+        contar(ex, HttpStatus.CONFLICT);
 
         ErrorResponse error = ErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
@@ -53,6 +64,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, String>> handleValidationExceptions(
             MethodArgumentNotValidException ex) {
+        contar(ex, HttpStatus.BAD_REQUEST);
 
         Map<String, String> errors = new HashMap<>();
         ex.getBindingResult().getAllErrors().forEach(error -> {
@@ -67,6 +79,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgument(
             IllegalArgumentException ex) {
+        contar(ex, HttpStatus.BAD_REQUEST);
 
         ErrorResponse error = ErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
@@ -84,6 +97,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(IllegalStateException.class)
     public ResponseEntity<ErrorResponse> handleIllegalState(
             IllegalStateException ex) {
+        contar(ex, HttpStatus.CONFLICT);
 
         ErrorResponse error = ErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
@@ -95,6 +109,38 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
 
+    /**
+     * Registro alterado por outra requisição entre a leitura e a gravação
+     * (@Version no JPA, versão do registro no perfil memoria)
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLocking(
+            OptimisticLockingFailureException ex) {
+        contar(ex, HttpStatus.CONFLICT);
+
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error("Conflict")
+                .message("Registro alterado por outra requisição; busque novamente e repita a operação")
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    /**
+     * Conta as exceções tratadas por tipo e status HTTP
+     * (/actuator/metrics/agencia.excecoes)
+     */
+    private void contar(Exception ex, HttpStatus status) {
+        Counter.builder("agencia.excecoes")
+                .description("Exceções convertidas em respostas de erro")
+                .tag("tipo", ex.getClass().getSimpleName())
+                .tag("status", String.valueOf(status.value()))
+                .register(meterRegistry)
+                .increment();
+    }
+
     /**
      * Classe interna para padronizar respostas de erro
      */
@@ -0,0 +1,118 @@
+package com.agencia.adapter.output.busca;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.Scorable;
+import org.apache.lucene.search.ScoreMode;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Contagem de facetas sobre todos os documentos encontrados.
+ * Em cada segmento do índice, conta os ordinais dos doc values (um int por
+ * valor distinto, sem criar objetos por documento); só no final os ordinais
+ * com contagem viram texto e são somados entre segmentos.
+ */
+class ContagemFacetas implements CollectorManager<ContagemFacetas.Coletor, Map<String, Map<String, Long>>> {
+
+    private final List<String> campos;
+    private final int valoresPorFaceta;
+
+    /**
+     * @param campos           campos com SortedDocValues (um por faceta)
+     * @param valoresPorFaceta quantos valores devolver por faceta (os mais frequentes)
+     */
+    ContagemFacetas(List<String> campos, int valoresPorFaceta) {
+        this.campos = campos;
+        this.valoresPorFaceta = valoresPorFaceta;
+    }
+
+    @Override
+    public Coletor newCollector() {
+        return new Coletor();
+    }
+
+    @Override
+    public Map<String, Map<String, Long>> reduce(Collection<Coletor> coletores) throws IOException {
+        List<Map<String, Long>> somas = new ArrayList<>();
+        for (int f = 0; f < campos.size(); f++) {
+            somas.add(new HashMap<>());
+        }
+        for (Coletor coletor : coletores) {
+            for (Segmento segmento : coletor.segmentos) {
+                for (int f = 0; f < campos.size(); f++) {
+                    SortedDocValues valores = segmento.valores[f];
+                    int[] contagens = segmento.contagens[f];
+                    for (int ordinal = 0; ordinal < contagens.length; ordinal++) {
+                        if (contagens[ordinal] > 0) {
+                            somas.get(f).merge(valores.lookupOrd(ordinal).utf8ToString(),
+                                    (long) contagens[ordinal], Long::sum);
+                        }
+                    }
+                }
+            }
+        }
+
+        Map<String, Map<String, Long>> facetas = new LinkedHashMap<>();
+        for (int f = 0; f < campos.size(); f++) {
+            Map<String, Long> ordenada = new LinkedHashMap<>();
+            somas.get(f).entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .limit(valoresPorFaceta)
+                    .forEach(valor -> ordenada.put(valor.getKey(), valor.getValue()));
+            facetas.put(campos.get(f), ordenada);
+        }
+        return facetas;
+    }
+
+    private record Segmento(SortedDocValues[] valores, int[][] contagens) {
+    }
+
+    class Coletor implements Collector {
+
+        private final List<Segmento> segmentos = new ArrayList<>();
+
+        @Override
+        public LeafCollector getLeafCollector(LeafReaderContext contexto) throws IOException {
+            SortedDocValues[] valores = new SortedDocValues[campos.size()];
+            int[][] contagens = new int[campos.size()][];
+            for (int f = 0; f < campos.size(); f++) {
+                valores[f] = DocValues.getSorted(contexto.reader(), campos.get(f));
+                contagens[f] = new int[valores[f].getValueCount()];
+            }
+            segmentos.add(new Segmento(valores, contagens));
+
+            return new LeafCollector() {
+                @Override
+                public void setScorer(Scorable scorer) {
+                }
+
+                @Override
+                public void collect(int doc) throws IOException {
+                    for (int f = 0; f < valores.length; f++) {
+                        if (valores[f].advanceExact(doc)) {
+                            contagens[f][valores[f].ordValue()]++;
+                        }
+                    }
+                }
+            };
+        }
+
+        @Override
+        public ScoreMode scoreMode() {
+            return ScoreMode.COMPLETE_NO_SCORES;
+        }
+    }
+}
@@ -0,0 +1,480 @@
+package com.agencia.adapter.output.busca;
+
+import com.agencia.domain.model.ConsultaTextoVeiculo;
+import com.agencia.domain.model.ResultadoBuscaTexto;
+import com.agencia.domain.model.Veiculo;
+import com.agencia.ports.output.IndiceBuscaVeiculosOutputPort;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.MultiTerms;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.DisjunctionMaxQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.MultiCollectorManager;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopScoreDocCollectorManager;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * ADAPTADOR DE SAÍDA - Índice de busca de veículos com Lucene (embutido)
+ * Um documento por veículo:
+ * - marca, modelo e cor analisados (minúsculas, sem acento) para a busca por palavras;
+ * - ano, disponibilidade e os valores exatos das facetas como termos;
+ * - doc values de marca, ano e cor para a contagem das facetas;
+ * - os campos da resposta armazenados, para a busca não ir ao banco.
+ * Cada palavra da consulta precisa casar com algum campo (exata, por prefixo
+ * ou com até 2 letras erradas, conforme o tamanho); o modelo pesa mais que a
+ * marca, que pesa mais que a cor.
+ * As gravações vão para o IndexWriter e aparecem nas buscas quando a tarefa
+ * de atualização reabre o leitor (near real time, a cada "intervalo").
+ * Com diretório configurado, o índice fica em disco e é confirmado (commit)
+ * na mesma tarefa; sem, fica em memória e é montado na subida.
+ * Com várias instâncias da aplicação, cada uma mantém o seu índice (em
+ * diretórios diferentes), atualizado pela sua cópia dos eventos da outbox.
+ */
+public class IndiceBuscaVeiculosLuceneAdapter implements IndiceBuscaVeiculosOutputPort, Closeable {
+
+    static final String ID = "id";
+    static final String MARCA = "marca";
+    static final String MODELO = "modelo";
+    static final String COR = "cor";
+    static final String ANO = "ano";
+    static final String DISPONIVEL = "disponivel";
+    private static final String PLACA = "placa";
+    private static final String PRECO = "preco";
+    private static final String DATA_CADASTRO = "dataCadastro";
+
+    /**
+     * Campos das facetas: termo exato (normalizado) para o filtro e doc values para a contagem
+     */
+    private static final String FACETA = "faceta_";
+    private static final List<String> FACETAS = List.of(MARCA, ANO, COR);
+    private static final int VALORES_POR_FACETA = 50;
+
+    private static final int ALTERNATIVAS_POR_PALAVRA = 50;
+
+    /**
+     * Campos da busca por palavras e o peso de cada um
+     */
+    private static final Map<String, Float> PESOS = Map.of(MODELO, 3f, MARCA, 2f, COR, 1f, ANO, 2f);
+
+    private final Analyzer analisador = new AnalisadorVeiculos();
+    private final Directory diretorio;
+    private final boolean persistente;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final ScheduledExecutorService atualizacao;
+
+    /**
+     * Gravações unitárias compartilham a leitura; a reconstrução é exclusiva
+     * e, enquanto dura, a tarefa de atualização não reabre o leitor
+     */
+    private final ReadWriteLock gravacao = new ReentrantReadWriteLock();
+
+    /**
+     * @param pasta     pasta do índice em disco (null = em memória)
+     * @param intervalo intervalo entre as reaberturas do leitor
+     */
+    public IndiceBuscaVeiculosLuceneAdapter(Path pasta, Duration intervalo) {
+        try {
+            this.persistente = pasta != null;
+            this.diretorio = persistente ? FSDirectory.open(pasta) : new ByteBuffersDirectory();
+            this.writer = new IndexWriter(diretorio, configuracao());
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao abrir o índice de busca", e);
+        }
+        this.atualizacao = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "indice-busca");
+            thread.setDaemon(true);
+            return thread;
+        });
+        atualizacao.scheduleWithFixedDelay(this::atualizarLeitura,
+                intervalo.toMillis(), intervalo.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private IndexWriterConfig configuracao() {
+        return new IndexWriterConfig(analisador)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND)
+                .setRAMBufferSizeMB(64);
+    }
+
+    @Override
+    public void indexar(Veiculo veiculo) {
+        gravar(() -> writer.updateDocument(new Term(ID, String.valueOf(veiculo.getId())), documento(veiculo)));
+    }
+
+    @Override
+    public void remover(Long veiculoId) {
+        gravar(() -> writer.deleteDocuments(new Term(ID, String.valueOf(veiculoId))));
+    }
+
+    private void gravar(Gravacao operacao) {
+        gravacao.readLock().lock();
+        try {
+            operacao.executar();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar no índice de busca", e);
+        } finally {
+            gravacao.readLock().unlock();
+        }
+    }
+
+    private interface Gravacao {
+        void executar() throws IOException;
+    }
+
+    /**
+     * O novo conteúdo é montado num índice à parte, em memória: se a fonte
+     * falhar no meio, o índice atual continua intacto. O novo é compactado
+     * num segmento só (as buscas percorrem um segmento em vez de vários) e
+     * o conteúdo atual é trocado por ele de uma vez (deleteAll + addIndexes).
+     */
+    @Override
+    public long reconstruir(Consumer<Consumer<Veiculo>> fonte) {
+        gravacao.writeLock().lock();
+        try (Directory novo = new ByteBuffersDirectory()) {
+            long indexados;
+            try (IndexWriter montagem = new IndexWriter(novo, configuracao())) {
+                long[] contador = {0};
+                fonte.accept(veiculo -> {
+                    try {
+                        montagem.addDocument(documento(veiculo));
+                        contador[0]++;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                indexados = contador[0];
+                montagem.forceMerge(1);
+            }
+            writer.deleteAll();
+            writer.addIndexes(novo);
+            writer.commit();
+            searcherManager.maybeRefreshBlocking();
+            return indexados;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao reconstruir o índice de busca", e);
+        } finally {
+            gravacao.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public ResultadoBuscaTexto buscar(ConsultaTextoVeiculo consulta) {
+        int fim = (consulta.getPagina() + 1) * consulta.getTamanho();
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                Object[] resultados = searcher.search(consulta(consulta, searcher.getIndexReader()), new MultiCollectorManager(
+                        new TopScoreDocCollectorManager(fim, null, Integer.MAX_VALUE),
+                        new ContagemFacetas(FACETAS.stream().map(campo -> FACETA + campo).toList(), VALORES_POR_FACETA)));
+                TopDocs encontrados = (TopDocs) resultados[0];
+                @SuppressWarnings("unchecked")
+                Map<String, Map<String, Long>> contagens = (Map<String, Map<String, Long>>) resultados[1];
+
+                StoredFields armazenados = searcher.storedFields();
+                List<Veiculo> itens = new ArrayList<>(consulta.getTamanho());
+                ScoreDoc[] documentos = encontrados.scoreDocs;
+                for (int i = consulta.getPagina() * consulta.getTamanho(); i < documentos.length; i++) {
+                    itens.add(veiculo(armazenados.document(documentos[i].doc)));
+                }
+
+                Map<String, Map<String, Long>> facetas = new LinkedHashMap<>();
+                FACETAS.forEach(campo -> facetas.put(campo, contagens.get(FACETA + campo)));
+                return new ResultadoBuscaTexto(itens, encontrados.totalHits.value,
+                        consulta.getPagina(), consulta.getTamanho(), facetas);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha na busca", e);
+        }
+    }
+
+    @Override
+    public long quantidade() {
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return searcher.getIndexReader().numDocs();
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reabre o leitor com as gravações feitas desde a última vez (e as
+     * confirma em disco, se o índice é persistente). Não faz nada durante
+     * uma reconstrução: as buscas continuam no conteúdo anterior.
+     */
+    void atualizarLeitura() {
+        if (!gravacao.readLock().tryLock()) {
+            return;
+        }
+        try {
+            searcherManager.maybeRefreshBlocking();
+            if (persistente && writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao atualizar o índice de busca", e);
+        } finally {
+            gravacao.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        atualizacao.shutdownNow();
+        searcherManager.close();
+        writer.close();
+        diretorio.close();
+    }
+
+    /**
+     * Todas as palavras do texto (AND); cada uma pode casar com qualquer campo,
+     * valendo o campo em que casa melhor (DisjunctionMaxQuery).
+     * Uma palavra que existe no índice (em algum campo) é buscada só como
+     * termo exato; as outras (erro de digitação, palavra incompleta) viram
+     * buscas por prefixo e aproximadas, bem mais caras por documento.
+     */
+    private Query consulta(ConsultaTextoVeiculo consulta, IndexReader leitor) throws IOException {
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        List<String> palavras = analisar(consulta.getTexto());
+        if (palavras.isEmpty()) {
+            query.add(new MatchAllDocsQuery(), BooleanClause.Occur.MUST);
+        }
+        for (String palavra : palavras) {
+            List<Query> campos = new ArrayList<>();
+            for (Map.Entry<String, Float> campo : PESOS.entrySet()) {
+                Term termo = new Term(campo.getKey(), palavra);
+                if (leitor.docFreq(termo) > 0) {
+                    campos.add(new BoostQuery(new TermQuery(termo), campo.getValue()));
+                }
+            }
+            if (campos.isEmpty()) {
+                for (String campo : List.of(MODELO, MARCA, COR)) {
+                    campos.add(new BoostQuery(aproximada(campo, palavra, leitor), PESOS.get(campo)));
+                }
+            }
+            query.add(new DisjunctionMaxQuery(campos, 0.1f), BooleanClause.Occur.MUST);
+        }
+
+        if (consulta.getDisponivel() != null) {
+            filtrar(query, DISPONIVEL, String.valueOf(consulta.getDisponivel()));
+        }
+        if (consulta.getMarca() != null) {
+            filtrar(query, FACETA + MARCA, normalizar(consulta.getMarca()));
+        }
+        if (consulta.getAno() != null) {
+            filtrar(query, FACETA + ANO, String.valueOf(consulta.getAno()));
+        }
+        if (consulta.getCor() != null) {
+            filtrar(query, FACETA + COR, normalizar(consulta.getCor()));
+        }
+        return query.build();
+    }
+
+    /**
+     * Termos do campo que começam com a palavra ou que diferem dela em poucas
+     * letras: nenhuma até 2 letras, 1 até 5, 2 acima (troca de posição de
+     * duas letras vizinhas conta como uma). Prefixo vale mais que aproximada.
+     * O vocabulário de marca, modelo e cor é o do catálogo (centenas de
+     * termos, não cresce com o estoque): percorrê-lo é mais barato que montar
+     * um autômato de Levenshtein (FuzzyQuery) por campo a cada busca.
+     */
+    private static Query aproximada(String campo, String palavra, IndexReader leitor) throws IOException {
+        BooleanQuery.Builder alternativas = new BooleanQuery.Builder();
+        Terms termos = MultiTerms.getTerms(leitor, campo);
+        if (termos == null) {
+            return alternativas.build();
+        }
+        int maximoErros = palavra.length() <= 2 ? 0 : palavra.length() <= 5 ? 1 : 2;
+        int encontradas = 0;
+        TermsEnum iterador = termos.iterator();
+        for (BytesRef termo = iterador.next(); termo != null && encontradas < ALTERNATIVAS_POR_PALAVRA;
+             termo = iterador.next()) {
+            String candidato = termo.utf8ToString();
+            if (palavra.length() >= 3 && candidato.startsWith(palavra)) {
+                alternativas.add(new BoostQuery(new TermQuery(new Term(campo, candidato)), 1.5f),
+                        BooleanClause.Occur.SHOULD);
+                encontradas++;
+            } else if (distancia(palavra, candidato, maximoErros) <= maximoErros) {
+                alternativas.add(new TermQuery(new Term(campo, candidato)), BooleanClause.Occur.SHOULD);
+                encontradas++;
+            }
+        }
+        return alternativas.build();
+    }
+
+    /**
+     * Distância de edição (inserção, remoção, troca e transposição de vizinhas).
+     * Para de calcular quando passa do limite: devolve limite + 1.
+     */
+    static int distancia(String a, String b, int limite) {
+        if (Math.abs(a.length() - b.length()) > limite) {
+            return limite + 1;
+        }
+        int[] antepenultima = new int[b.length() + 1];
+        int[] anterior = new int[b.length() + 1];
+        int[] atual = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            anterior[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            atual[0] = i;
+            int menor = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int custo = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                atual[j] = Math.min(Math.min(atual[j - 1] + 1, anterior[j] + 1), anterior[j - 1] + custo);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    atual[j] = Math.min(atual[j], antepenultima[j - 2] + 1);
+                }
+                menor = Math.min(menor, atual[j]);
+            }
+            if (menor > limite) {
+                return limite + 1;
+            }
+            int[] livre = antepenultima;
+            antepenultima = anterior;
+            anterior = atual;
+            atual = livre;
+        }
+        return Math.min(anterior[b.length()], limite + 1);
+    }
+
+    private static void filtrar(BooleanQuery.Builder query, String campo, String valor) {
+        query.add(new TermQuery(new Term(campo, valor)), BooleanClause.Occur.FILTER);
+    }
+
+    private List<String> analisar(String texto) {
+        List<String> palavras = new ArrayList<>();
+        if (texto == null || texto.isBlank()) {
+            return palavras;
+        }
+        try (TokenStream tokens = analisador.tokenStream(MODELO, texto)) {
+            CharTermAttribute termo = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+            while (tokens.incrementToken()) {
+                palavras.add(termo.toString());
+            }
+            tokens.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return palavras;
+    }
+
+    /**
+     * Mesma normalização das palavras (minúsculas, sem acento), para o valor inteiro
+     */
+    private String normalizar(String valor) {
+        return analisador.normalize(MARCA, valor.trim()).utf8ToString();
+    }
+
+    private Document documento(Veiculo veiculo) {
+        Document documento = new Document();
+        documento.add(new StringField(ID, String.valueOf(veiculo.getId()), Field.Store.YES));
+        documento.add(new TextField(MARCA, veiculo.getMarca(), Field.Store.YES));
+        documento.add(new TextField(MODELO, veiculo.getModelo(), Field.Store.YES));
+        documento.add(new StringField(ANO, String.valueOf(veiculo.getAno()), Field.Store.YES));
+        documento.add(new StringField(DISPONIVEL, String.valueOf(Boolean.TRUE.equals(veiculo.getDisponivel())), Field.Store.YES));
+        documento.add(new StoredField(PLACA, veiculo.getPlaca()));
+        documento.add(new StoredField(PRECO, veiculo.getPreco().toPlainString()));
+        documento.add(new StoredField(DATA_CADASTRO, veiculo.getDataCadastro().toString()));
+        faceta(documento, MARCA, veiculo.getMarca());
+        faceta(documento, ANO, String.valueOf(veiculo.getAno()));
+        if (veiculo.getCor() != null) {
+            documento.add(new TextField(COR, veiculo.getCor(), Field.Store.YES));
+            faceta(documento, COR, veiculo.getCor());
+        }
+        return documento;
+    }
+
+    private void faceta(Document documento, String campo, String valor) {
+        documento.add(new StringField(FACETA + campo, normalizar(valor), Field.Store.NO));
+        documento.add(new SortedDocValuesField(FACETA + campo, new BytesRef(valor)));
+    }
+
+    private static Veiculo veiculo(Document documento) {
+        return Veiculo.builder()
+                .id(Long.valueOf(documento.get(ID)))
+                .marca(documento.get(MARCA))
+                .modelo(documento.get(MODELO))
+                .ano(Integer.valueOf(documento.get(ANO)))
+                .placa(documento.get(PLACA))
+                .cor(documento.get(COR))
+                .preco(new BigDecimal(documento.get(PRECO)))
+                .disponivel(Boolean.valueOf(documento.get(DISPONIVEL)))
+                .dataCadastro(LocalDateTime.parse(documento.get(DATA_CADASTRO)))
+                .build();
+    }
+
+    /**
+     * Palavras em minúsculas e sem acento ("Metálico" e "metalico" são iguais)
+     */
+    private static final class AnalisadorVeiculos extends Analyzer {
+
+        @Override
+        protected TokenStreamComponents createComponents(String campo) {
+            Tokenizer tokenizer = new StandardTokenizer();
+            TokenStream filtros = new ASCIIFoldingFilter(new LowerCaseFilter(tokenizer));
+            return new TokenStreamComponents(tokenizer, filtros);
+        }
+
+        @Override
+        protected TokenStream normalize(String campo, TokenStream entrada) {
+            return new ASCIIFoldingFilter(new LowerCaseFilter(entrada));
+        }
+    }
+}
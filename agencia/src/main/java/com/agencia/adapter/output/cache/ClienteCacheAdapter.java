@@ -0,0 +1,87 @@
+package com.agencia.adapter.output.cache;
+
+import com.agencia.domain.model.Cliente;
+import com.agencia.ports.output.ClienteOutputPort;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+/**
+ * ADAPTADOR DE SAÍDA - Cache de leitura de clientes (decorator)
+ * Guarda em memória os clientes buscados por ID e por CPF.
+ * Cliente não tem métodos que alteram estado, então a mesma instância
+ * pode ser devolvida a todos que buscarem.
+ */
+public class ClienteCacheAdapter implements ClienteOutputPort {
+
+    private final ClienteOutputPort delegate;
+    private final Cache<Long, Cliente> porId;
+    private final Cache<String, Cliente> porCpf;
+
+    public ClienteCacheAdapter(ClienteOutputPort delegate,
+                               Cache<Long, Cliente> porId,
+                               Cache<String, Cliente> porCpf) {
+        this.delegate = delegate;
+        this.porId = porId;
+        this.porCpf = porCpf;
+    }
+
+    /**
+     * O CPF anterior vem do adapter decorado, não do cache: a entrada por ID
+     * pode já ter expirado enquanto a do CPF antigo continua em cache
+     */
+    @Override
+    public Cliente salvar(Cliente cliente) {
+        String cpfAnterior = cliente.getId() == null ? null
+                : delegate.buscarPorId(cliente.getId()).map(Cliente::getCpf).orElse(null);
+        Cliente salvo = delegate.salvar(cliente);
+        invalidar(salvo.getId(), salvo.getCpf(), cpfAnterior);
+        return salvo;
+    }
+
+    @Override
+    public Optional<Cliente> buscarPorId(Long id) {
+        return Optional.ofNullable(
+                porId.get(id, chave -> delegate.buscarPorId(chave).orElse(null)));
+    }
+
+    @Override
+    public Optional<Long> buscarVersao(Long id) {
+        Cliente emCache = porId.getIfPresent(id);
+        return emCache != null ? Optional.ofNullable(emCache.getVersao()) : delegate.buscarVersao(id);
+    }
+
+    /**
+     * Ausências não são guardadas: o cadastro consulta o CPF antes de salvar
+     */
+    @Override
+    public Optional<Cliente> buscarPorCpf(String cpf) {
+        return Optional.ofNullable(
+                porCpf.get(cpf, chave -> delegate.buscarPorCpf(chave).orElse(null)));
+    }
+
+    /**
+     * Invalida já e de novo quando a transação termina: uma leitura concorrente
+     * feita antes do commit colocaria o cliente anterior de volta no cache
+     */
+    private void invalidar(Long id, String cpf, String cpfAnterior) {
+        Runnable invalidacao = () -> {
+            porId.invalidate(id);
+            porCpf.invalidate(cpf);
+            if (cpfAnterior != null) {
+                porCpf.invalidate(cpfAnterior);
+            }
+        };
+        invalidacao.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidacao.run();
+                }
+            });
+        }
+    }
+}
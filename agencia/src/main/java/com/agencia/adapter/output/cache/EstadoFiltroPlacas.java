@@ -0,0 +1,17 @@
+package com.agencia.adapter.output.cache;
+
+/**
+ * Situação do filtro de placas: tamanho, ocupação e taxas de falso positivo
+ * (estimada pela ocupação e observada nas consultas desde a última reconstrução)
+ */
+public record EstadoFiltroPlacas(
+        boolean pronto,
+        long placas,
+        long capacidade,
+        long bits,
+        int funcoes,
+        double taxaFalsoPositivoEstimada,
+        double taxaFalsoPositivoObservada,
+        long consultasEvitadas,
+        long falsosPositivos) {
+}
@@ -0,0 +1,104 @@
+package com.agencia.adapter.output.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * FILTRO DE BLOOM DE TEXTOS
+ * Responde "com certeza não está" ou "talvez esteja" usando poucos bits por
+ * elemento. Não remove elementos: um valor removido continua como "talvez",
+ * até o filtro ser reconstruído.
+ * Dimensionado pela capacidade e pela taxa de falso positivo desejada;
+ * adicionar e consultar são seguros entre threads (sem bloqueio).
+ */
+final class FiltroBloom {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray palavras;
+    private final long quantidadeBits;
+    private final int funcoes;
+    private final long capacidade;
+    private final LongAdder adicionados = new LongAdder();
+
+    FiltroBloom(long capacidade, double taxaFalsoPositivo) {
+        this.capacidade = Math.max(capacidade, 1);
+        // m = -n ln(p) / ln(2)^2, arredondado para palavras de 64 bits
+        long bits = (long) Math.ceil(-this.capacidade * Math.log(taxaFalsoPositivo) / (LN2 * LN2));
+        int quantidadePalavras = (int) Math.min(Math.max((bits + 63) / 64, 1), Integer.MAX_VALUE - 8);
+        this.palavras = new AtomicLongArray(quantidadePalavras);
+        this.quantidadeBits = (long) quantidadePalavras * Long.SIZE;
+        // k = m/n ln(2)
+        this.funcoes = (int) Math.max(1, Math.round((double) quantidadeBits / this.capacidade * LN2));
+    }
+
+    void adicionar(String valor) {
+        long h1 = hash(valor);
+        long h2 = misturar(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < funcoes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, quantidadeBits);
+            palavras.getAndAccumulate((int) (bit >>> 6), 1L << bit, (atual, mascara) -> atual | mascara);
+        }
+        adicionados.increment();
+    }
+
+    boolean podeConter(String valor) {
+        long h1 = hash(valor);
+        long h2 = misturar(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < funcoes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, quantidadeBits);
+            if ((palavras.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Taxa de falso positivo esperada para o que já foi adicionado: (1 - e^(-kn/m))^k
+     */
+    double taxaEstimada() {
+        return Math.pow(1 - Math.exp(-funcoes * (double) adicionados.sum() / quantidadeBits), funcoes);
+    }
+
+    long adicionados() {
+        return adicionados.sum();
+    }
+
+    long capacidade() {
+        return capacidade;
+    }
+
+    long quantidadeBits() {
+        return quantidadeBits;
+    }
+
+    int funcoes() {
+        return funcoes;
+    }
+
+    /**
+     * FNV-1a de 64 bits sobre os caracteres, seguido de uma mistura final
+     * para espalhar os bits (as placas diferem em poucos caracteres)
+     */
+    private static long hash(String valor) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < valor.length(); i++) {
+            h ^= valor.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return misturar(h);
+    }
+
+    /**
+     * Finalizador do MurmurHash3 (fmix64)
+     */
+    private static long misturar(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,187 @@
+package com.agencia.adapter.output.cache;
+
+import com.agencia.domain.model.FiltroVeiculo;
+import com.agencia.domain.model.ResultadoBusca;
+import com.agencia.domain.model.Veiculo;
+import com.agencia.domain.model.VersaoRegistro;
+import com.agencia.ports.output.VeiculoOutputPort;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * ADAPTADOR DE SAÍDA - Cache de leitura (decorator)
+ * Envolve outro VeiculoOutputPort (ex: o adapter JPA) e guarda em memória
+ * os veículos buscados por ID. Escritas (salvar/reservar/deletar) invalidam a
+ * entrada na hora e de novo quando a transação termina.
+ * O domínio não sabe que existe cache: continua dependendo só da porta.
+ * Listagens e buscas por critério passam direto para o adapter decorado.
+ */
+public class VeiculoCacheAdapter implements VeiculoOutputPort {
+
+    private final VeiculoOutputPort delegate;
+    private final Cache<Long, Veiculo> porId;
+
+    public VeiculoCacheAdapter(VeiculoOutputPort delegate, Cache<Long, Veiculo> porId) {
+        this.delegate = delegate;
+        this.porId = porId;
+    }
+
+    @Override
+    public Veiculo salvar(Veiculo veiculo) {
+        Veiculo salvo = delegate.salvar(veiculo);
+        invalidar(List.of(salvo.getId()));
+        return salvo;
+    }
+
+    @Override
+    public List<Veiculo> salvarTodos(List<Veiculo> veiculos) {
+        List<Veiculo> salvos = delegate.salvarTodos(veiculos);
+        invalidar(salvos.stream().map(Veiculo::getId).toList());
+        return salvos;
+    }
+
+    /**
+     * Read-through: busca no adapter decorado só quando não está em cache.
+     * Ausências não são guardadas, para que um veículo recém-cadastrado
+     * seja encontrado na próxima busca.
+     */
+    @Override
+    public Optional<Veiculo> buscarPorId(Long id) {
+        Veiculo veiculo = porId.get(id, chave -> delegate.buscarPorId(chave).orElse(null));
+        // Veiculo é mutável (marcarComoVendido): quem chama recebe uma cópia
+        return Optional.ofNullable(veiculo).map(VeiculoCacheAdapter::copiar);
+    }
+
+    /**
+     * Os que estão em cache saem dele; os demais vêm juntos do adapter
+     * decorado (uma consulta) e entram no cache
+     */
+    @Override
+    public List<Veiculo> buscarPorIds(Collection<Long> ids) {
+        Map<Long, Veiculo> encontrados = porId.getAll(ids, faltantes -> {
+            Map<Long, Veiculo> carregados = new HashMap<>();
+            delegate.buscarPorIds(new ArrayList<>(faltantes)).forEach(veiculo -> carregados.put(veiculo.getId(), veiculo));
+            return carregados;
+        });
+        return encontrados.values().stream().map(VeiculoCacheAdapter::copiar).toList();
+    }
+
+    /**
+     * Com o veículo em cache, a versão sai dele; sem, vem do adapter
+     * decorado (sem carregar e sem guardar o veículo)
+     */
+    @Override
+    public Optional<Long> buscarVersao(Long id) {
+        Veiculo emCache = porId.getIfPresent(id);
+        return emCache != null ? Optional.ofNullable(emCache.getVersao()) : delegate.buscarVersao(id);
+    }
+
+    @Override
+    public List<Veiculo> listarTodos(Long aposId, int limite) {
+        return delegate.listarTodos(aposId, limite);
+    }
+
+    @Override
+    public List<Veiculo> listarDisponiveis(Long aposId, int limite) {
+        return delegate.listarDisponiveis(aposId, limite);
+    }
+
+    @Override
+    public List<VersaoRegistro> listarVersoesDisponiveis(Long aposId, int limite) {
+        return delegate.listarVersoesDisponiveis(aposId, limite);
+    }
+
+    @Override
+    public void percorrerTodos(Consumer<Veiculo> consumidor) {
+        delegate.percorrerTodos(consumidor);
+    }
+
+    @Override
+    public void percorrerDisponiveis(Consumer<Veiculo> consumidor) {
+        delegate.percorrerDisponiveis(consumidor);
+    }
+
+    @Override
+    public void percorrerPlacas(Consumer<String> consumidor) {
+        delegate.percorrerPlacas(consumidor);
+    }
+
+    @Override
+    public ResultadoBusca<Veiculo> buscar(FiltroVeiculo filtro) {
+        return delegate.buscar(filtro);
+    }
+
+    @Override
+    public boolean reservar(Long id) {
+        boolean reservado = delegate.reservar(id);
+        if (reservado) {
+            invalidar(List.of(id));
+        }
+        return reservado;
+    }
+
+    @Override
+    public Set<Long> reservarTodos(Collection<Long> ids) {
+        Set<Long> reservados = delegate.reservarTodos(ids);
+        invalidar(reservados);
+        return reservados;
+    }
+
+    @Override
+    public void deletar(Long id) {
+        delegate.deletar(id);
+        invalidar(List.of(id));
+    }
+
+    @Override
+    public boolean existePorPlaca(String placa) {
+        return delegate.existePorPlaca(placa);
+    }
+
+    @Override
+    public Set<String> placasExistentes(Collection<String> placas) {
+        return delegate.placasExistentes(placas);
+    }
+
+    /**
+     * Invalida já e de novo quando a transação termina: uma leitura concorrente
+     * feita antes do commit ainda veria o veículo anterior (inclusive a versão,
+     * que vira o ETag) e o colocaria de volta no cache até o fim do TTL
+     */
+    private void invalidar(Collection<Long> ids) {
+        porId.invalidateAll(ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    porId.invalidateAll(ids);
+                }
+            });
+        }
+    }
+
+    private static Veiculo copiar(Veiculo veiculo) {
+        return Veiculo.builder()
+                .id(veiculo.getId())
+                .marca(veiculo.getMarca())
+                .modelo(veiculo.getModelo())
+                .ano(veiculo.getAno())
+                .placa(veiculo.getPlaca())
+                .cor(veiculo.getCor())
+                .preco(veiculo.getPreco())
+                .disponivel(veiculo.getDisponivel())
+                .dataCadastro(veiculo.getDataCadastro())
+                .versao(veiculo.getVersao())
+                .build();
+    }
+}
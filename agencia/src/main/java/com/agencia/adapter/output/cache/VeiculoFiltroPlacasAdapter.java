@@ -0,0 +1,283 @@
+package com.agencia.adapter.output.cache;
+
+import com.agencia.domain.model.FiltroVeiculo;
+import com.agencia.domain.model.ResultadoBusca;
+import com.agencia.domain.model.Veiculo;
+import com.agencia.domain.model.VersaoRegistro;
+import com.agencia.ports.output.VeiculoOutputPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * ADAPTADOR DE SAÍDA - Filtro de placas (decorator)
+ * Guarda em memória um filtro de Bloom com as placas cadastradas, montado
+ * na subida a partir da coluna placa. A maioria das placas de um cadastro
+ * é nova: quando o filtro diz "não está", a consulta ao banco é evitada.
+ * Quando diz "talvez", a verificação segue para o adapter decorado (consulta
+ * pelo índice único). O índice único do banco continua sendo a última garantia,
+ * inclusive para uma placa gravada bem no início de uma reconstrução.
+ * Placas removidas continuam no filtro (viram falsos positivos) até a
+ * próxima reconstrução, pedida em /actuator/placas.
+ */
+public class VeiculoFiltroPlacasAdapter implements VeiculoOutputPort {
+
+    private final VeiculoOutputPort delegate;
+    private final long capacidadeMinima;
+    private final double taxaFalsoPositivo;
+
+    /**
+     * null até a primeira construção: sem filtro, tudo vai para o banco
+     */
+    private volatile FiltroBloom bloom;
+
+    /**
+     * Placas gravadas durante uma reconstrução: entram no filtro novo
+     * mesmo que a leitura da tabela não as tenha visto
+     */
+    private volatile Set<String> gravadasDuranteReconstrucao;
+
+    private final Counter evitadas;
+    private final Counter confirmadas;
+    private final Counter falsosPositivosTotal;
+    private final LongAdder evitadasDesdeReconstrucao = new LongAdder();
+    private final LongAdder falsosPositivos = new LongAdder();
+
+    public VeiculoFiltroPlacasAdapter(VeiculoOutputPort delegate,
+                                      long capacidadeMinima,
+                                      double taxaFalsoPositivo,
+                                      MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.capacidadeMinima = capacidadeMinima;
+        this.taxaFalsoPositivo = taxaFalsoPositivo;
+        this.evitadas = consultas(meterRegistry, "ausente");
+        this.confirmadas = consultas(meterRegistry, "presente");
+        this.falsosPositivosTotal = consultas(meterRegistry, "falso_positivo");
+        Gauge.builder("agencia.placas.filtro.falso.positivo", this, f -> f.estado().taxaFalsoPositivoObservada())
+                .description("Taxa de falso positivo nas consultas desde a última reconstrução")
+                .tag("calculo", "observada")
+                .register(meterRegistry);
+        Gauge.builder("agencia.placas.filtro.falso.positivo", this, f -> f.estado().taxaFalsoPositivoEstimada())
+                .description("Taxa de falso positivo esperada pela ocupação do filtro")
+                .tag("calculo", "estimada")
+                .register(meterRegistry);
+        Gauge.builder("agencia.placas.filtro.placas", this, f -> f.estado().placas())
+                .register(meterRegistry);
+    }
+
+    private static Counter consultas(MeterRegistry meterRegistry, String resultado) {
+        return Counter.builder("agencia.placas.filtro.consultas")
+                .description("Verificações de placa pelo filtro: ausente evita a consulta ao banco")
+                .tag("resultado", resultado)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Monta o filtro quando a aplicação termina de subir
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void aquecer() {
+        reconstruir();
+    }
+
+    /**
+     * Monta um filtro novo a partir das placas do banco e troca pelo atual.
+     * Dimensionado para o dobro das placas do filtro atual (no mínimo a
+     * capacidade configurada); se a tabela não couber, monta de novo maior.
+     */
+    public synchronized EstadoFiltroPlacas reconstruir() {
+        FiltroBloom anterior = bloom;
+        long capacidade = Math.max(capacidadeMinima, anterior == null ? 0 : anterior.adicionados() * 2);
+        gravadasDuranteReconstrucao = ConcurrentHashMap.newKeySet();
+        try {
+            FiltroBloom novo;
+            do {
+                novo = new FiltroBloom(capacidade, taxaFalsoPositivo);
+                delegate.percorrerPlacas(novo::adicionar);
+                capacidade = novo.adicionados() * 2;
+            } while (novo.adicionados() > novo.capacidade());
+            gravadasDuranteReconstrucao.forEach(novo::adicionar);
+            bloom = novo;
+            // Gravações entre a cópia acima e a troca
+            gravadasDuranteReconstrucao.forEach(novo::adicionar);
+        } finally {
+            gravadasDuranteReconstrucao = null;
+        }
+        evitadasDesdeReconstrucao.reset();
+        falsosPositivos.reset();
+        return estado();
+    }
+
+    public EstadoFiltroPlacas estado() {
+        FiltroBloom atual = bloom;
+        long evitadasAgora = evitadasDesdeReconstrucao.sum();
+        long falsos = falsosPositivos.sum();
+        double observada = evitadasAgora + falsos == 0 ? 0 : (double) falsos / (evitadasAgora + falsos);
+        if (atual == null) {
+            return new EstadoFiltroPlacas(false, 0, 0, 0, 0, 0, observada, evitadasAgora, falsos);
+        }
+        return new EstadoFiltroPlacas(true, atual.adicionados(), atual.capacidade(), atual.quantidadeBits(),
+                atual.funcoes(), atual.taxaEstimada(), observada, evitadasAgora, falsos);
+    }
+
+    /**
+     * A placa entra no filtro antes da gravação: se a gravação falhar,
+     * sobra só um falso positivo
+     */
+    @Override
+    public Veiculo salvar(Veiculo veiculo) {
+        lembrar(veiculo.getPlaca());
+        return delegate.salvar(veiculo);
+    }
+
+    @Override
+    public List<Veiculo> salvarTodos(List<Veiculo> veiculos) {
+        veiculos.forEach(veiculo -> lembrar(veiculo.getPlaca()));
+        return delegate.salvarTodos(veiculos);
+    }
+
+    @Override
+    public boolean existePorPlaca(String placa) {
+        FiltroBloom atual = bloom;
+        if (atual == null) {
+            return delegate.existePorPlaca(placa);
+        }
+        if (!atual.podeConter(placa)) {
+            evitada();
+            return false;
+        }
+        boolean existe = delegate.existePorPlaca(placa);
+        if (existe) {
+            confirmadas.increment();
+        } else {
+            falsoPositivo(1);
+        }
+        return existe;
+    }
+
+    /**
+     * Só as placas que o filtro não descarta vão para a consulta em lote
+     */
+    @Override
+    public Set<String> placasExistentes(Collection<String> placas) {
+        FiltroBloom atual = bloom;
+        if (atual == null) {
+            return delegate.placasExistentes(placas);
+        }
+        List<String> talvez = new ArrayList<>();
+        for (String placa : placas) {
+            if (atual.podeConter(placa)) {
+                talvez.add(placa);
+            } else {
+                evitada();
+            }
+        }
+        if (talvez.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> existentes = delegate.placasExistentes(talvez);
+        confirmadas.increment(existentes.size());
+        falsoPositivo(talvez.size() - existentes.size());
+        return existentes;
+    }
+
+    @Override
+    public Optional<Veiculo> buscarPorId(Long id) {
+        return delegate.buscarPorId(id);
+    }
+
+    @Override
+    public List<Veiculo> buscarPorIds(Collection<Long> ids) {
+        return delegate.buscarPorIds(ids);
+    }
+
+    @Override
+    public Optional<Long> buscarVersao(Long id) {
+        return delegate.buscarVersao(id);
+    }
+
+    @Override
+    public List<Veiculo> listarTodos(Long aposId, int limite) {
+        return delegate.listarTodos(aposId, limite);
+    }
+
+    @Override
+    public List<Veiculo> listarDisponiveis(Long aposId, int limite) {
+        return delegate.listarDisponiveis(aposId, limite);
+    }
+
+    @Override
+    public List<VersaoRegistro> listarVersoesDisponiveis(Long aposId, int limite) {
+        return delegate.listarVersoesDisponiveis(aposId, limite);
+    }
+
+    @Override
+    public void percorrerTodos(Consumer<Veiculo> consumidor) {
+        delegate.percorrerTodos(consumidor);
+    }
+
+    @Override
+    public void percorrerDisponiveis(Consumer<Veiculo> consumidor) {
+        delegate.percorrerDisponiveis(consumidor);
+    }
+
+    @Override
+    public void percorrerPlacas(Consumer<String> consumidor) {
+        delegate.percorrerPlacas(consumidor);
+    }
+
+    @Override
+    public ResultadoBusca<Veiculo> buscar(FiltroVeiculo filtro) {
+        return delegate.buscar(filtro);
+    }
+
+    @Override
+    public boolean reservar(Long id) {
+        return delegate.reservar(id);
+    }
+
+    @Override
+    public Set<Long> reservarTodos(Collection<Long> ids) {
+        return delegate.reservarTodos(ids);
+    }
+
+    /**
+     * A placa continua no filtro: o filtro de Bloom não remove elementos
+     */
+    @Override
+    public void deletar(Long id) {
+        delegate.deletar(id);
+    }
+
+    private void lembrar(String placa) {
+        FiltroBloom atual = bloom;
+        if (atual != null) {
+            atual.adicionar(placa);
+        }
+        Set<String> durante = gravadasDuranteReconstrucao;
+        if (durante != null) {
+            durante.add(placa);
+        }
+    }
+
+    private void evitada() {
+        evitadas.increment();
+        evitadasDesdeReconstrucao.increment();
+    }
+
+    private void falsoPositivo(int quantidade) {
+        falsosPositivosTotal.increment(quantidade);
+        falsosPositivos.add(quantidade);
+    }
+}
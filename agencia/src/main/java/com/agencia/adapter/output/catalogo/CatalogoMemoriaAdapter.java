@@ -0,0 +1,135 @@
+package com.agencia.adapter.output.catalogo;
+
+import com.agencia.domain.model.ItemCatalogo;
+import com.agencia.domain.model.OrdenacaoVeiculo;
+import com.agencia.domain.model.ResultadoBusca;
+import com.agencia.ports.output.CatalogoOutputPort;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Consumer;
+
+/**
+ * ADAPTADOR DE SAÍDA - Catálogo público em memória
+ * Os itens ficam em conjuntos já ordenados (skip lists), um por critério:
+ * preço, ano e data de cadastro. As ordens inversas são as visões
+ * descendentes dos mesmos conjuntos. Listar uma página é percorrer o
+ * conjunto a partir do início, sem ordenar e sem ir ao banco.
+ * - Consultas sem lock; as gravações (uma thread, a do despachante da
+ *   outbox) e a reconstrução são serializadas entre si.
+ * - Enquanto um item muda de preço, as consultas podem deixar de vê-lo
+ *   por um instante (sai da posição antiga antes de entrar na nova).
+ * - A reconstrução monta conjuntos novos e troca todos de uma vez.
+ * Com várias instâncias da aplicação, cada uma mantém o seu catálogo: cada
+ * instância é um consumidor da outbox e recebe a sua cópia de cada evento
+ * (DespachanteOutbox).
+ */
+public class CatalogoMemoriaAdapter implements CatalogoOutputPort {
+
+    /**
+     * O desempate é sempre pelo ID, para que a paginação seja estável
+     */
+    private static final Comparator<ItemCatalogo> POR_PRECO = Comparator
+            .comparing(ItemCatalogo::getPreco)
+            .thenComparing(ItemCatalogo::getVeiculoId);
+
+    /**
+     * Mais novos primeiro e, no mesmo ano, mais baratos primeiro
+     */
+    private static final Comparator<ItemCatalogo> POR_ANO = Comparator
+            .comparing(ItemCatalogo::getAno, Comparator.reverseOrder())
+            .thenComparing(ItemCatalogo::getPreco)
+            .thenComparing(ItemCatalogo::getVeiculoId);
+
+    private static final Comparator<ItemCatalogo> POR_CADASTRO = Comparator
+            .comparing(ItemCatalogo::getDataCadastro, Comparator.reverseOrder())
+            .thenComparing(ItemCatalogo::getVeiculoId, Comparator.reverseOrder());
+
+    private volatile Indices indices = new Indices();
+
+    @Override
+    public synchronized void salvar(ItemCatalogo item) {
+        indices.salvar(item);
+    }
+
+    @Override
+    public synchronized void remover(Long veiculoId) {
+        indices.remover(veiculoId);
+    }
+
+    @Override
+    public Optional<ItemCatalogo> buscar(Long veiculoId) {
+        return Optional.ofNullable(indices.porId.get(veiculoId));
+    }
+
+    @Override
+    public ResultadoBusca<ItemCatalogo> listar(OrdenacaoVeiculo ordenacao, int pagina, int tamanho) {
+        Iterator<ItemCatalogo> itens = indices.em(ordenacao).iterator();
+        long pular = (long) pagina * tamanho;
+        for (long i = 0; i < pular && itens.hasNext(); i++) {
+            itens.next();
+        }
+        List<ItemCatalogo> encontrados = new ArrayList<>(tamanho);
+        while (encontrados.size() < tamanho && itens.hasNext()) {
+            encontrados.add(itens.next());
+        }
+        return new ResultadoBusca<>(encontrados, pagina, tamanho, itens.hasNext());
+    }
+
+    @Override
+    public synchronized long reconstruir(Consumer<Consumer<ItemCatalogo>> fonte) {
+        Indices novos = new Indices();
+        fonte.accept(novos::salvar);
+        indices = novos;
+        return novos.porId.size();
+    }
+
+    @Override
+    public long quantidade() {
+        return indices.porId.size();
+    }
+
+    private static final class Indices {
+        private final Map<Long, ItemCatalogo> porId = new ConcurrentHashMap<>();
+        private final NavigableSet<ItemCatalogo> porPreco = new ConcurrentSkipListSet<>(POR_PRECO);
+        private final NavigableSet<ItemCatalogo> porAno = new ConcurrentSkipListSet<>(POR_ANO);
+        private final NavigableSet<ItemCatalogo> porCadastro = new ConcurrentSkipListSet<>(POR_CADASTRO);
+
+        void salvar(ItemCatalogo item) {
+            retirar(porId.put(item.getVeiculoId(), item));
+            porPreco.add(item);
+            porAno.add(item);
+            porCadastro.add(item);
+        }
+
+        void remover(Long veiculoId) {
+            retirar(porId.remove(veiculoId));
+        }
+
+        private void retirar(ItemCatalogo item) {
+            if (item != null) {
+                porPreco.remove(item);
+                porAno.remove(item);
+                porCadastro.remove(item);
+            }
+        }
+
+        NavigableSet<ItemCatalogo> em(OrdenacaoVeiculo ordenacao) {
+            return switch (ordenacao) {
+                case PRECO_ASC -> porPreco;
+                case PRECO_DESC -> porPreco.descendingSet();
+                case ANO_DESC -> porAno;
+                // Inverso de ANO_DESC: no mesmo ano, mais caros primeiro
+                case ANO_ASC -> porAno.descendingSet();
+                case MAIS_RECENTES -> porCadastro;
+            };
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.agencia.adapter.output.evento;
+
+import com.agencia.domain.evento.EventoDominio;
+
+/**
+ * Destino dos eventos despachados da outbox (um broker de mensagens ou,
+ * na aplicação, os assinantes em processo).
+ * Retornar sem exceção confirma a entrega: o evento é apagado da outbox.
+ * Uma exceção mantém o evento para nova tentativa.
+ */
+public interface BrokerEventos {
+
+    void enviar(EventoDominio evento);
+}
@@ -0,0 +1,29 @@
+package com.agencia.adapter.output.evento;
+
+import com.agencia.domain.evento.EventoDominio;
+import com.agencia.ports.input.AssinanteEventosAssincrono;
+
+import java.util.List;
+
+/**
+ * ADAPTADOR DE SAÍDA - Broker em processo
+ * Entrega cada evento aos assinantes assíncronos na thread do despachante.
+ * Um assinante lento segura o despachante, que só busca o próximo lote
+ * depois de entregar o atual: os eventos esperam na tabela, não na memória.
+ * Se um assinante falhar, o evento volta para todos na próxima tentativa.
+ */
+public class BrokerEventosEmProcesso implements BrokerEventos {
+
+    private final List<AssinanteEventosAssincrono> assinantes;
+
+    public BrokerEventosEmProcesso(List<AssinanteEventosAssincrono> assinantes) {
+        this.assinantes = List.copyOf(assinantes);
+    }
+
+    @Override
+    public void enviar(EventoDominio evento) {
+        for (AssinanteEventosAssincrono assinante : assinantes) {
+            assinante.receber(evento);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.agencia.adapter.output.evento;
+
+import com.agencia.adapter.output.persistence.EventoOutbox;
+import com.agencia.adapter.output.persistence.OutboxEventosRepositoryAdapter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DESPACHANTE DA OUTBOX
+ * Uma thread em segundo plano lê a tabela de outbox em lotes, na ordem de
+ * gravação, entrega cada evento ao BrokerEventos e apaga os entregues.
+ * - Pelo menos uma vez: o evento só é apagado depois da entrega; se a
+ *   aplicação cair entre as duas coisas, ele é entregue de novo.
+ * - Ordem: uma falha interrompe o lote, para que os eventos seguintes não
+ *   passem na frente. O evento é tentado de novo com espera crescente e,
+ *   depois de maximo-tentativas, fica na tabela (com o último erro) e deixa
+ *   de ser despachado.
+ * - Contrapressão: o próximo lote só é lido depois que o atual foi entregue;
+ *   os eventos acumulam na tabela, não em filas em memória.
+ * - Consumidor por instância: cada instância se registra com um nome
+ *   (agencia.outbox.consumidor, padrão o nome do host) e despacha só a sua
+ *   cópia de cada evento. Assim os modelos de leitura em memória (catálogo,
+ *   índice de busca) de todas as instâncias recebem todos os eventos.
+ *   Instâncias com o mesmo nome dividem as mesmas cópias, então duas
+ *   instâncias no mesmo host precisam de nomes diferentes. O registro é
+ *   renovado a cada despacho; sem renovar por consumidor-inativo, a
+ *   instância deixa de receber eventos e precisa reconstruir seus modelos
+ *   de leitura (o que acontece ao reiniciar).
+ * Métricas: agencia.outbox.entregues, agencia.outbox.falhas e
+ * agencia.outbox.atraso (da gravação até a entrega).
+ */
+@Component
+public class DespachanteOutbox {
+
+    private final OutboxEventosRepositoryAdapter outbox;
+    private final SerializadorEventos serializador;
+    private final BrokerEventos broker;
+    private final int tamanhoLote;
+    private final int maximoTentativas;
+    private final Duration intervalo;
+    private final Duration esperaMaxima;
+    private final boolean automatico;
+    private final String consumidor;
+    private final Duration renovacao;
+    private final Counter entregues;
+    private final Counter falhas;
+    private final Timer atraso;
+
+    private ScheduledExecutorService executor;
+    private int falhasSeguidas;
+    private long ultimaRenovacao;
+
+    public DespachanteOutbox(OutboxEventosRepositoryAdapter outbox,
+                             SerializadorEventos serializador,
+                             BrokerEventos broker,
+                             MeterRegistry meterRegistry,
+                             @Value("${agencia.outbox.lote:100}") int tamanhoLote,
+                             @Value("${agencia.outbox.maximo-tentativas:10}") int maximoTentativas,
+                             @Value("${agencia.outbox.intervalo:200ms}") Duration intervalo,
+                             @Value("${agencia.outbox.espera-maxima:1m}") Duration esperaMaxima,
+                             @Value("${agencia.outbox.despacho-automatico:true}") boolean automatico,
+                             @Value("${agencia.outbox.consumidor:}") String consumidor,
+                             @Value("${agencia.outbox.consumidor-inativo:5m}") Duration inatividade) {
+        this.outbox = outbox;
+        this.serializador = serializador;
+        this.broker = broker;
+        this.tamanhoLote = tamanhoLote;
+        this.maximoTentativas = maximoTentativas;
+        this.intervalo = intervalo;
+        this.esperaMaxima = esperaMaxima;
+        this.automatico = automatico;
+        this.consumidor = consumidor.isBlank() ? nomeDoHost() : consumidor;
+        // Várias renovações dentro do tempo de inatividade
+        this.renovacao = inatividade.dividedBy(4);
+        this.entregues = meterRegistry.counter("agencia.outbox.entregues");
+        this.falhas = meterRegistry.counter("agencia.outbox.falhas");
+        this.atraso = Timer.builder("agencia.outbox.atraso")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registra o consumidor antes da subida terminar: os modelos de leitura
+     * são montados depois disso, e os eventos gravados a partir daqui já
+     * têm uma cópia para esta instância
+     */
+    @PostConstruct
+    public synchronized void registrar() {
+        outbox.registrar(consumidor);
+        ultimaRenovacao = System.nanoTime();
+    }
+
+    /**
+     * Começa a despachar quando a aplicação termina de subir
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void iniciar() {
+        if (!automatico || executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "despachante-outbox");
+            thread.setDaemon(true);
+            return thread;
+        });
+        agendar(intervalo);
+    }
+
+    @PreDestroy
+    public synchronized void parar() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * Entrega os eventos pendentes até esvaziar a outbox ou até a primeira falha.
+     * Retorna a quantidade de eventos entregues.
+     */
+    public synchronized int despachar() {
+        if (System.nanoTime() - ultimaRenovacao >= renovacao.toNanos()) {
+            outbox.renovar(consumidor);
+            ultimaRenovacao = System.nanoTime();
+        }
+        int total = 0;
+        while (true) {
+            List<EventoOutbox> lote = outbox.pendentes(consumidor, maximoTentativas, tamanhoLote);
+            List<Long> confirmados = new ArrayList<>(lote.size());
+            boolean falhou = false;
+
+            for (EventoOutbox evento : lote) {
+                try {
+                    broker.enviar(serializador.desserializar(evento.tipo(), evento.payload()));
+                } catch (RuntimeException e) {
+                    outbox.registrarFalha(evento.id(), e.getClass().getSimpleName() + ": " + e.getMessage());
+                    falhas.increment();
+                    falhou = true;
+                    break;
+                }
+                confirmados.add(evento.id());
+                atraso.record(Duration.between(evento.criadoEm(), LocalDateTime.now()));
+            }
+
+            if (!confirmados.isEmpty()) {
+                outbox.confirmar(confirmados);
+                entregues.increment(confirmados.size());
+                total += confirmados.size();
+            }
+            if (falhou) {
+                falhasSeguidas++;
+                return total;
+            }
+            falhasSeguidas = 0;
+            if (lote.size() < tamanhoLote) {
+                return total;
+            }
+        }
+    }
+
+    /**
+     * Eventos que atingiram o máximo de tentativas não contam
+     */
+    public long pendentes() {
+        return outbox.contarPendentes(consumidor, maximoTentativas);
+    }
+
+    private void ciclo() {
+        try {
+            despachar();
+        } catch (RuntimeException e) {
+            // Banco indisponível: tenta de novo no próximo ciclo, com espera maior
+            synchronized (this) {
+                falhasSeguidas++;
+            }
+        }
+        agendar(proximaEspera());
+    }
+
+    /**
+     * Sem falhas, o intervalo normal; depois de falhas seguidas, o dobro a cada
+     * falha, até a espera máxima
+     */
+    private synchronized Duration proximaEspera() {
+        if (falhasSeguidas == 0) {
+            return intervalo;
+        }
+        long multiplicador = 1L << Math.min(falhasSeguidas, 20);
+        Duration espera = intervalo.multipliedBy(multiplicador);
+        return espera.compareTo(esperaMaxima) > 0 ? esperaMaxima : espera;
+    }
+
+    private synchronized void agendar(Duration espera) {
+        if (executor != null) {
+            executor.schedule(this::ciclo, espera.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static String nomeDoHost() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "agencia";
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.agencia.adapter.output.evento;
+
+import com.agencia.adapter.output.persistence.OutboxEventosRepositoryAdapter;
+import com.agencia.domain.evento.EventoDominio;
+import com.agencia.ports.output.PublicadorEventosOutputPort;
+
+import java.time.LocalDateTime;
+
+/**
+ * ADAPTADOR DE SAÍDA - Publicação de eventos com outbox transacional
+ * 1. Entrega o evento aos assinantes síncronos (mesma transação, ex: agregados do painel)
+ * 2. Grava o evento na tabela de outbox, também na transação de quem publicou
+ * Se a operação for desfeita, o evento some junto; se for confirmada, o
+ * DespachanteOutbox entrega o evento ao broker depois do commit.
+ */
+public class PublicadorEventosOutbox implements PublicadorEventosOutputPort {
+
+    private final PublicadorEventosOutputPort sincronos;
+    private final OutboxEventosRepositoryAdapter outbox;
+    private final SerializadorEventos serializador;
+
+    public PublicadorEventosOutbox(PublicadorEventosOutputPort sincronos,
+                                   OutboxEventosRepositoryAdapter outbox,
+                                   SerializadorEventos serializador) {
+        this.sincronos = sincronos;
+        this.outbox = outbox;
+        this.serializador = serializador;
+    }
+
+    @Override
+    public void publicar(EventoDominio evento) {
+        sincronos.publicar(evento);
+        outbox.gravar(serializador.tipo(evento), serializador.serializar(evento), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,30 @@
+package com.agencia.adapter.output.evento;
+
+import com.agencia.domain.evento.EventoDominio;
+import com.agencia.ports.input.AssinanteEventos;
+import com.agencia.ports.output.PublicadorEventosOutputPort;
+
+import java.util.List;
+
+/**
+ * ADAPTADOR DE SAÍDA - Publicação de eventos em processo (síncrona)
+ * Entrega o evento a cada assinante na mesma thread e na mesma transação
+ * de quem publicou: o que os assinantes gravam é confirmado (ou desfeito)
+ * junto com a operação que gerou o evento.
+ * Uma exceção de um assinante interrompe a entrega e chega a quem publicou.
+ */
+public class PublicadorEventosSincrono implements PublicadorEventosOutputPort {
+
+    private final List<AssinanteEventos> assinantes;
+
+    public PublicadorEventosSincrono(List<AssinanteEventos> assinantes) {
+        this.assinantes = List.copyOf(assinantes);
+    }
+
+    @Override
+    public void publicar(EventoDominio evento) {
+        for (AssinanteEventos assinante : assinantes) {
+            assinante.receber(evento);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.agencia.adapter.output.evento;
+
+import com.agencia.domain.evento.EventoDominio;
+import com.agencia.domain.evento.VeiculoAtualizado;
+import com.agencia.domain.evento.VeiculoCadastrado;
+import com.agencia.domain.evento.VeiculoRemovido;
+import com.agencia.domain.evento.VendaRealizada;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Conversão dos eventos de domínio para JSON (tabela de outbox) e de volta.
+ * O tipo gravado é o nome simples da classe; só os tipos listados aqui
+ * podem ser lidos da outbox.
+ */
+@Component
+public class SerializadorEventos {
+
+    private static final Map<String, Class<? extends EventoDominio>> TIPOS = List.of(
+                    VendaRealizada.class,
+                    VeiculoCadastrado.class,
+                    VeiculoAtualizado.class,
+                    VeiculoRemovido.class)
+            .stream()
+            .collect(Collectors.toUnmodifiableMap(Class::getSimpleName, Function.identity()));
+
+    private final ObjectMapper objectMapper;
+
+    public SerializadorEventos(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public String tipo(EventoDominio evento) {
+        String tipo = evento.getClass().getSimpleName();
+        if (!TIPOS.containsKey(tipo)) {
+            throw new IllegalArgumentException("Tipo de evento não registrado: " + tipo);
+        }
+        return tipo;
+    }
+
+    public String serializar(EventoDominio evento) {
+        try {
+            return objectMapper.writeValueAsString(evento);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar o evento " + evento.getClass().getSimpleName(), e);
+        }
+    }
+
+    public EventoDominio desserializar(String tipo, String payload) {
+        Class<? extends EventoDominio> classe = TIPOS.get(tipo);
+        if (classe == null) {
+            throw new IllegalArgumentException("Tipo de evento não registrado: " + tipo);
+        }
+        try {
+            return objectMapper.readValue(payload, classe);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao ler o evento " + tipo, e);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.agencia.adapter.output.memoria;
+
+import com.agencia.adapter.output.persistence.VisaoAgregadosVendas;
+import com.agencia.domain.model.AgregadoVendas;
+import com.agencia.domain.model.GrupoAgregado;
+import com.agencia.domain.model.ReconstrucaoAgregados;
+import com.agencia.domain.model.TipoAgregado;
+import com.agencia.ports.output.AgregadosVendasOutputPort;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ADAPTADOR DE SAÍDA - Agregados de vendas em memória (perfil "memoria")
+ * As vendas ficam no BancoMemoria, então os agregados também: a mesma
+ * VisaoAgregadosVendas do adapter JPA, sem a tabela agregados_vendas.
+ * - Na subida (depois do snapshot, se houver) e na reconstrução, os grupos
+ *   são recalculados a partir das vendas do banco em memória.
+ * - Cada venda é somada à visão no commit da sua transação.
+ * O recálculo ignora as vendas em andamento: elas entram na visão pelo
+ * próprio commit, sem serem contadas duas vezes.
+ */
+@Component
+@Profile("memoria")
+public class AgregadosVendasMemoriaAdapter implements AgregadosVendasOutputPort {
+
+    private final BancoMemoria banco;
+    private final VisaoAgregadosVendas visao = new VisaoAgregadosVendas();
+
+    public AgregadosVendasMemoriaAdapter(BancoMemoria banco) {
+        this.banco = banco;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        reconstruir();
+    }
+
+    @Override
+    public void acumular(List<GrupoAgregado> grupos, BigDecimal valor) {
+        visao.somarAposCommit(grupos, valor.setScale(2, RoundingMode.HALF_UP));
+    }
+
+    @Override
+    public AgregadoVendas buscar(GrupoAgregado grupo) {
+        return visao.buscar(grupo);
+    }
+
+    @Override
+    public List<AgregadoVendas> listar(TipoAgregado tipo) {
+        return visao.listar(tipo);
+    }
+
+    /**
+     * Não há tabela: os valores mantidos são os da visão
+     */
+    @Override
+    public ReconstrucaoAgregados reconstruir() {
+        List<AgregadoVendas> mantidos = new ArrayList<>();
+        List<AgregadoVendas> recalculados = visao.substituir(() -> {
+            mantidos.addAll(visao.todos());
+            return recalcular();
+        });
+        return new ReconstrucaoAgregados(mantidos, mantidos, recalculados);
+    }
+
+    private List<AgregadoVendas> recalcular() {
+        Map<GrupoAgregado, long[]> porGrupo = new LinkedHashMap<>();
+        porGrupo.put(GrupoAgregado.total(), new long[2]);
+        banco.vendas.percorrer(0, (id, venda) -> {
+            if (!banco.vendasEmAndamento.contains(id)) {
+                long centavos = venda.valorVenda().setScale(2, RoundingMode.HALF_UP).movePointRight(2).longValueExact();
+                String marca = banco.veiculos.buscar(venda.veiculoId()).getMarca();
+                somar(porGrupo, GrupoAgregado.total(), centavos);
+                somar(porGrupo, GrupoAgregado.marca(marca), centavos);
+                somar(porGrupo, GrupoAgregado.dia(venda.dataVenda().toLocalDate()), centavos);
+            }
+            return true;
+        });
+
+        List<AgregadoVendas> recalculados = new ArrayList<>(porGrupo.size());
+        porGrupo.forEach((grupo, valores) ->
+                recalculados.add(new AgregadoVendas(grupo, valores[0], BigDecimal.valueOf(valores[1], 2))));
+        return recalculados;
+    }
+
+    /**
+     * valores[0] = quantidade de vendas, valores[1] = faturamento em centavos
+     */
+    private static void somar(Map<GrupoAgregado, long[]> porGrupo, GrupoAgregado grupo, long centavos) {
+        long[] valores = porGrupo.computeIfAbsent(grupo, g -> new long[2]);
+        valores[0]++;
+        valores[1] += centavos;
+    }
+}
@@ -0,0 +1,197 @@
+package com.agencia.adapter.output.memoria;
+
+import com.agencia.domain.model.Cliente;
+import com.agencia.domain.model.Veiculo;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * BANCO EM MEMÓRIA (perfil "memoria")
+ * Guarda veículos, clientes e vendas para os adapters em memória:
+ * - tabelas por ID (TabelaPorId), com leituras sem lock;
+ * - índices secundários: placa e CPF (ConcurrentHashMap, que também garante
+ *   a unicidade como a constraint UNIQUE do banco), disponíveis (IndiceBits)
+ *   e venda por veículo;
+ * - vendas gravadas por transações ainda abertas (vendasEmAndamento);
+ * - sequences de ID.
+ * Cada registro tem uma versão (0 ao ser criado, +1 a cada alteração),
+ * como o @Version das entidades JPA.
+ * As escritas passam por aqui para que tabela e índices mudem juntos.
+ * Não há isolamento entre transações: uma escrita é vista na hora por todos.
+ * Se a transação de quem escreveu for desfeita, a escrita é desfeita
+ * depois (desfazerNoRollback), na ordem inversa.
+ */
+@Component
+@Profile("memoria")
+public class BancoMemoria {
+
+    final TabelaPorId<Veiculo> veiculos = new TabelaPorId<>();
+    final IndiceBits disponiveis = new IndiceBits();
+    final ConcurrentHashMap<String, Long> placas = new ConcurrentHashMap<>();
+    final AtomicLong sequenciaVeiculos = new AtomicLong();
+
+    final TabelaPorId<Cliente> clientes = new TabelaPorId<>();
+    final ConcurrentHashMap<String, Long> cpfs = new ConcurrentHashMap<>();
+    final AtomicLong sequenciaClientes = new AtomicLong();
+
+    final TabelaPorId<VendaArmazenada> vendas = new TabelaPorId<>();
+    final TabelaPorId<VendaArmazenada> vendasPorVeiculo = new TabelaPorId<>();
+    final Set<Long> vendasEmAndamento = ConcurrentHashMap.newKeySet();
+    final AtomicLong sequenciaVendas = new AtomicLong();
+
+    /**
+     * Grava o veículo (com ID) e atualiza os índices de placa e disponíveis.
+     * Placa já usada por outro veículo: DataIntegrityViolationException,
+     * como a violação da constraint UNIQUE no adapter JPA.
+     * Retorna a versão anterior (null se o veículo é novo).
+     */
+    Veiculo gravarVeiculo(Veiculo veiculo) {
+        long id = veiculo.getId();
+        Long dono = placas.putIfAbsent(veiculo.getPlaca(), id);
+        if (dono != null && dono != id) {
+            throw new DataIntegrityViolationException("Placa já cadastrada: " + veiculo.getPlaca());
+        }
+        Veiculo anterior = veiculos.gravar(id, veiculo);
+        disponiveis.definir(id, Boolean.TRUE.equals(veiculo.getDisponivel()));
+        if (anterior != null && !anterior.getPlaca().equals(veiculo.getPlaca())) {
+            placas.remove(anterior.getPlaca(), id);
+        }
+        sequenciaVeiculos.accumulateAndGet(id, Math::max);
+        return anterior;
+    }
+
+    Veiculo removerVeiculo(long id) {
+        Veiculo anterior = veiculos.remover(id);
+        if (anterior != null) {
+            disponiveis.definir(id, false);
+            placas.remove(anterior.getPlaca(), id);
+        }
+        return anterior;
+    }
+
+    /**
+     * Troca atômica do veículo (ex: reserva), mantendo o índice de disponíveis
+     */
+    boolean trocarVeiculo(Veiculo esperado, Veiculo novo) {
+        if (!veiculos.trocar(novo.getId(), esperado, novo)) {
+            return false;
+        }
+        disponiveis.definir(novo.getId(), Boolean.TRUE.equals(novo.getDisponivel()));
+        return true;
+    }
+
+    Cliente gravarCliente(Cliente cliente) {
+        long id = cliente.getId();
+        Long dono = cpfs.putIfAbsent(cliente.getCpf(), id);
+        if (dono != null && dono != id) {
+            throw new DataIntegrityViolationException("CPF já cadastrado: " + cliente.getCpf());
+        }
+        Cliente anterior = clientes.gravar(id, cliente);
+        if (anterior != null && !anterior.getCpf().equals(cliente.getCpf())) {
+            cpfs.remove(anterior.getCpf(), id);
+        }
+        sequenciaClientes.accumulateAndGet(id, Math::max);
+        return anterior;
+    }
+
+    Cliente removerCliente(long id) {
+        Cliente anterior = clientes.remover(id);
+        if (anterior != null) {
+            cpfs.remove(anterior.getCpf(), id);
+        }
+        return anterior;
+    }
+
+    /**
+     * Versão de um registro que vai ser gravado: 0 se é novo, a gravada + 1 se não.
+     * Alteração feita sobre uma versão lida que não é mais a gravada:
+     * OptimisticLockingFailureException, como o @Version no adapter JPA
+     * (versão lida null não é verificada).
+     * Não é atômico com a gravação: protege contra leituras antigas, não
+     * contra duas escritas simultâneas sobre a mesma versão.
+     */
+    static long proximaVersao(Long gravada, Long lida) {
+        if (gravada == null) {
+            return 0L;
+        }
+        if (lida != null && !lida.equals(gravada)) {
+            throw new OptimisticLockingFailureException(
+                    "Registro alterado por outra transação (versão " + gravada + ", lida " + lida + ")");
+        }
+        return gravada + 1;
+    }
+
+    /**
+     * Veículo que já tem venda: DataIntegrityViolationException, como a
+     * constraint UNIQUE de vendas.veiculo_id no adapter JPA
+     */
+    void gravarVenda(VendaArmazenada venda) {
+        if (!vendasPorVeiculo.trocar(venda.veiculoId(), null, venda)) {
+            throw new DataIntegrityViolationException("Veículo já vendido: " + venda.veiculoId());
+        }
+        vendas.gravar(venda.id(), venda);
+        sequenciaVendas.accumulateAndGet(venda.id(), Math::max);
+    }
+
+    void removerVenda(VendaArmazenada venda) {
+        vendas.remover(venda.id());
+        vendasPorVeiculo.trocar(venda.veiculoId(), venda, null);
+    }
+
+    /**
+     * Marca a venda como em andamento até a transação atual terminar (confirmada
+     * ou desfeita). Quem recalcula a partir das vendas ignora as em andamento:
+     * elas ainda podem ser desfeitas e só são somadas aos agregados no commit.
+     * Sem transação, a venda já está confirmada.
+     */
+    void marcarEmAndamento(long vendaId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        vendasEmAndamento.add(vendaId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                vendasEmAndamento.remove(vendaId);
+            }
+        });
+    }
+
+    /**
+     * Registra como desfazer uma escrita se a transação atual for desfeita.
+     * Sem transação, a escrita é definitiva.
+     */
+    void desfazerNoRollback(Runnable desfazer) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Deque<Runnable> pendentes = (Deque<Runnable>) TransactionSynchronizationManager.getResource(this);
+        if (pendentes == null) {
+            Deque<Runnable> novos = new ArrayDeque<>();
+            TransactionSynchronizationManager.bindResource(this, novos);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(BancoMemoria.this);
+                    if (status == STATUS_ROLLED_BACK) {
+                        novos.forEach(Runnable::run);
+                    }
+                }
+            });
+            pendentes = novos;
+        }
+        // Última escrita primeiro
+        pendentes.addFirst(desfazer);
+    }
+}
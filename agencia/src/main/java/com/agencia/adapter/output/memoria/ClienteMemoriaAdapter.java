@@ -0,0 +1,62 @@
+package com.agencia.adapter.output.memoria;
+
+import com.agencia.domain.model.Cliente;
+import com.agencia.ports.output.ClienteOutputPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * ADAPTADOR DE SAÍDA - Clientes em memória (perfil "memoria")
+ * Cliente não tem métodos que o alterem: o banco devolve a própria instância guardada.
+ */
+@Component
+@Profile("memoria")
+public class ClienteMemoriaAdapter implements ClienteOutputPort {
+
+    private final BancoMemoria banco;
+
+    public ClienteMemoriaAdapter(BancoMemoria banco) {
+        this.banco = banco;
+    }
+
+    @Override
+    public Cliente salvar(Cliente cliente) {
+        long id = cliente.getId() != null ? cliente.getId() : banco.sequenciaClientes.incrementAndGet();
+        Cliente gravado = banco.clientes.buscar(id);
+        Cliente novo = Cliente.builder()
+                .id(id)
+                .nome(cliente.getNome())
+                .cpf(cliente.getCpf())
+                .telefone(cliente.getTelefone())
+                .email(cliente.getEmail())
+                .versao(BancoMemoria.proximaVersao(gravado != null ? gravado.getVersao() : null, cliente.getVersao()))
+                .build();
+        Cliente anterior = banco.gravarCliente(novo);
+        banco.desfazerNoRollback(() -> {
+            if (anterior == null) {
+                banco.removerCliente(novo.getId());
+            } else {
+                banco.gravarCliente(anterior);
+            }
+        });
+        return novo;
+    }
+
+    @Override
+    public Optional<Cliente> buscarPorId(Long id) {
+        return Optional.ofNullable(banco.clientes.buscar(id));
+    }
+
+    @Override
+    public Optional<Long> buscarVersao(Long id) {
+        return Optional.ofNullable(banco.clientes.buscar(id)).map(Cliente::getVersao);
+    }
+
+    @Override
+    public Optional<Cliente> buscarPorCpf(String cpf) {
+        Long id = banco.cpfs.get(cpf);
+        return id == null ? Optional.empty() : buscarPorId(id);
+    }
+}
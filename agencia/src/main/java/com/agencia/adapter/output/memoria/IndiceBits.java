@@ -0,0 +1,104 @@
+package com.agencia.adapter.output.memoria;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * ÍNDICE SECUNDÁRIO DE UM BOOLEANO (ex: disponivel)
+ * Um bit por ID, em páginas como a TabelaPorId. Procurar o próximo ID
+ * marcado pula 64 IDs por palavra vazia, o que faz a paginação por cursor
+ * dos disponíveis não depender de quantos veículos já foram vendidos.
+ * O índice é atualizado depois do valor na tabela: quem o usa confere o
+ * valor na tabela antes de aceitar o ID.
+ */
+final class IndiceBits {
+
+    private static final int BITS_PAGINA = 10;
+    private static final int PALAVRAS_PAGINA = (1 << BITS_PAGINA) / Long.SIZE;
+
+    private volatile AtomicReferenceArray<AtomicLongArray> paginas = new AtomicReferenceArray<>(16);
+
+    void definir(long id, boolean marcado) {
+        AtomicLongArray pagina = marcado ? paginaParaEscrita(id) : pagina(id);
+        if (pagina == null) {
+            return;
+        }
+        int palavra = palavra(id);
+        long bit = 1L << id;
+        if (marcado) {
+            pagina.getAndAccumulate(palavra, bit, (atual, mascara) -> atual | mascara);
+        } else {
+            pagina.getAndAccumulate(palavra, ~bit, (atual, mascara) -> atual & mascara);
+        }
+    }
+
+    boolean marcado(long id) {
+        AtomicLongArray pagina = pagina(id);
+        return pagina != null && (pagina.get(palavra(id)) & (1L << id)) != 0;
+    }
+
+    /**
+     * Próximo ID marcado maior que aposId, ou -1 se não houver
+     */
+    long proximo(long aposId) {
+        long id = Math.max(aposId + 1, 1);
+        AtomicReferenceArray<AtomicLongArray> atuais = paginas;
+        for (long indice = id >>> BITS_PAGINA; indice < atuais.length(); indice++) {
+            AtomicLongArray pagina = atuais.get((int) indice);
+            if (pagina == null) {
+                id = (indice + 1) << BITS_PAGINA;
+                continue;
+            }
+            for (int palavra = palavra(id); palavra < PALAVRAS_PAGINA; palavra++) {
+                // Na primeira palavra, descarta os bits antes de id
+                long bits = pagina.get(palavra) & (-1L << id);
+                if (bits != 0) {
+                    return (indice << BITS_PAGINA) + (long) palavra * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                }
+                id = (indice << BITS_PAGINA) + (long) (palavra + 1) * Long.SIZE;
+            }
+        }
+        return -1;
+    }
+
+    private AtomicLongArray pagina(long id) {
+        if (id <= 0) {
+            return null;
+        }
+        long indice = id >>> BITS_PAGINA;
+        AtomicReferenceArray<AtomicLongArray> atuais = paginas;
+        return indice < atuais.length() ? atuais.get((int) indice) : null;
+    }
+
+    private AtomicLongArray paginaParaEscrita(long id) {
+        AtomicLongArray pagina = pagina(id);
+        return pagina != null ? pagina : alocar(id);
+    }
+
+    private synchronized AtomicLongArray alocar(long id) {
+        if (id <= 0 || (id >>> BITS_PAGINA) >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("ID fora da faixa: " + id);
+        }
+        int indice = (int) (id >>> BITS_PAGINA);
+        AtomicReferenceArray<AtomicLongArray> atuais = paginas;
+        if (indice >= atuais.length()) {
+            int tamanho = Math.max(indice + 1, atuais.length() * 2);
+            AtomicReferenceArray<AtomicLongArray> maiores = new AtomicReferenceArray<>(tamanho);
+            for (int i = 0; i < atuais.length(); i++) {
+                maiores.set(i, atuais.get(i));
+            }
+            paginas = maiores;
+            atuais = maiores;
+        }
+        AtomicLongArray pagina = atuais.get(indice);
+        if (pagina == null) {
+            pagina = new AtomicLongArray(PALAVRAS_PAGINA);
+            atuais.set(indice, pagina);
+        }
+        return pagina;
+    }
+
+    private static int palavra(long id) {
+        return (int) ((id & ((1 << BITS_PAGINA) - 1)) >>> 6);
+    }
+}
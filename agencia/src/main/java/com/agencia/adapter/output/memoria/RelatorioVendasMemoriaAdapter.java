@@ -0,0 +1,133 @@
+package com.agencia.adapter.output.memoria;
+
+import com.agencia.domain.model.AgrupamentoPeriodo;
+import com.agencia.domain.model.AgrupamentoVeiculo;
+import com.agencia.domain.model.DesempenhoVeiculo;
+import com.agencia.domain.model.FaturamentoPeriodo;
+import com.agencia.domain.model.Veiculo;
+import com.agencia.ports.output.RelatorioVendasOutputPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * ADAPTADOR DE SAÍDA - Relatórios de vendas em memória (perfil "memoria")
+ * Faz o que as consultas de agregação do adapter JPA fazem no banco: percorre
+ * as vendas do BancoMemoria, filtra o período e acumula uma linha por grupo
+ * (dia, mês, marca ou modelo), com a mesma ordenação e o mesmo arredondamento.
+ */
+@Component
+@Profile("memoria")
+public class RelatorioVendasMemoriaAdapter implements RelatorioVendasOutputPort {
+
+    private static final double SEGUNDOS_POR_DIA = 86_400d;
+
+    private final BancoMemoria banco;
+
+    public RelatorioVendasMemoriaAdapter(BancoMemoria banco) {
+        this.banco = banco;
+    }
+
+    @Override
+    public List<FaturamentoPeriodo> faturamento(AgrupamentoPeriodo agrupamento,
+                                                LocalDateTime desde, LocalDateTime ate) {
+        Map<LocalDate, Faturamento> porPeriodo = new TreeMap<>();
+        banco.vendas.percorrer(0, (id, venda) -> {
+            if (noPeriodo(venda, desde, ate)) {
+                LocalDate dia = venda.dataVenda().toLocalDate();
+                LocalDate periodo = agrupamento == AgrupamentoPeriodo.MES ? dia.withDayOfMonth(1) : dia;
+                porPeriodo.computeIfAbsent(periodo, p -> new Faturamento()).somar(venda.valorVenda());
+            }
+            return true;
+        });
+
+        List<FaturamentoPeriodo> linhas = new ArrayList<>(porPeriodo.size());
+        porPeriodo.forEach((periodo, faturamento) ->
+                linhas.add(new FaturamentoPeriodo(periodo, faturamento.quantidade, faturamento.total)));
+        return linhas;
+    }
+
+    @Override
+    public List<DesempenhoVeiculo> desempenhoPorVeiculo(AgrupamentoVeiculo agrupamento,
+                                                        LocalDateTime desde, LocalDateTime ate) {
+        Map<List<String>, Desempenho> porGrupo = new HashMap<>();
+        banco.vendas.percorrer(0, (id, venda) -> {
+            if (noPeriodo(venda, desde, ate)) {
+                Veiculo veiculo = banco.veiculos.buscar(venda.veiculoId());
+                List<String> grupo = agrupamento == AgrupamentoVeiculo.MODELO
+                        ? List.of(veiculo.getMarca(), veiculo.getModelo())
+                        : List.of(veiculo.getMarca());
+                porGrupo.computeIfAbsent(grupo, g -> new Desempenho()).somar(veiculo, venda);
+            }
+            return true;
+        });
+
+        List<DesempenhoVeiculo> linhas = new ArrayList<>(porGrupo.size());
+        porGrupo.forEach((grupo, desempenho) -> linhas.add(desempenho.linha(grupo)));
+        linhas.sort(Comparator.comparing(DesempenhoVeiculo::getFaturamento).reversed()
+                .thenComparing(DesempenhoVeiculo::getMarca)
+                .thenComparing(DesempenhoVeiculo::getModelo, Comparator.nullsFirst(Comparator.naturalOrder())));
+        return linhas;
+    }
+
+    private static boolean noPeriodo(VendaArmazenada venda, LocalDateTime desde, LocalDateTime ate) {
+        return !venda.dataVenda().isBefore(desde) && venda.dataVenda().isBefore(ate);
+    }
+
+    private static class Faturamento {
+        long quantidade;
+        BigDecimal total = BigDecimal.ZERO;
+
+        void somar(BigDecimal valor) {
+            quantidade++;
+            total = total.add(valor);
+        }
+    }
+
+    /**
+     * Somas das médias do relatório: desconto, desconto percentual e segundos até a venda
+     */
+    private static class Desempenho {
+        long quantidade;
+        BigDecimal faturamento = BigDecimal.ZERO;
+        BigDecimal desconto = BigDecimal.ZERO;
+        double descontoPercentual;
+        double segundosParaVender;
+
+        void somar(Veiculo veiculo, VendaArmazenada venda) {
+            BigDecimal descontoVenda = veiculo.getPreco().subtract(venda.valorVenda());
+            quantidade++;
+            faturamento = faturamento.add(venda.valorVenda());
+            desconto = desconto.add(descontoVenda);
+            descontoPercentual += descontoVenda.doubleValue() * 100 / veiculo.getPreco().doubleValue();
+            segundosParaVender += Duration.between(veiculo.getDataCadastro(), venda.dataVenda()).toSeconds();
+        }
+
+        DesempenhoVeiculo linha(List<String> grupo) {
+            return DesempenhoVeiculo.builder()
+                    .marca(grupo.get(0))
+                    .modelo(grupo.size() > 1 ? grupo.get(1) : null)
+                    .quantidadeVendas(quantidade)
+                    .faturamento(faturamento)
+                    .descontoMedio(desconto.divide(BigDecimal.valueOf(quantidade), 2, RoundingMode.HALF_UP))
+                    .descontoPercentualMedio(arredondar(descontoPercentual / quantidade))
+                    .diasMedioParaVender(arredondar(segundosParaVender / quantidade / SEGUNDOS_POR_DIA))
+                    .build();
+        }
+    }
+
+    private static double arredondar(double valor) {
+        return Math.round(valor * 100) / 100d;
+    }
+}
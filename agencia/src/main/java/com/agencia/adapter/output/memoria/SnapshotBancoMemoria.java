@@ -0,0 +1,264 @@
+package com.agencia.adapter.output.memoria;
+
+import com.agencia.domain.model.Cliente;
+import com.agencia.domain.model.Veiculo;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SNAPSHOT EM DISCO DO BANCO EM MEMÓRIA (opcional)
+ * Com agencia.memoria.snapshot.arquivo definido, o banco é carregado do
+ * arquivo na subida e gravado a cada agencia.memoria.snapshot.intervalo
+ * e no desligamento. A gravação vai para um arquivo temporário, que
+ * substitui o anterior só quando está completo.
+ * O arquivo é binário (DataOutputStream): vendas, veículos, clientes e por
+ * fim as sequences. Nessa ordem, toda venda gravada encontra seu veículo e
+ * seu cliente (veículo vendido não é removido e cliente nunca é).
+ * A gravação não para as escritas: uma venda em andamento durante o
+ * snapshot pode ficar só com a reserva do veículo.
+ * A versão 2 do arquivo inclui a versão de cada veículo e cliente; arquivos
+ * da versão 1 ainda são lidos (registros com versão 0).
+ */
+@Component
+@Profile("memoria")
+public class SnapshotBancoMemoria {
+
+    private static final int ASSINATURA = 0x41474D31;
+    private static final int VERSAO = 2;
+
+    private final BancoMemoria banco;
+    private final Path arquivo;
+    private final Duration intervalo;
+    private ScheduledExecutorService executor;
+
+    public SnapshotBancoMemoria(BancoMemoria banco,
+                                @Value("${agencia.memoria.snapshot.arquivo:}") String arquivo,
+                                @Value("${agencia.memoria.snapshot.intervalo:5m}") Duration intervalo) {
+        this.banco = banco;
+        this.arquivo = arquivo.isBlank() ? null : Path.of(arquivo);
+        this.intervalo = intervalo;
+    }
+
+    @PostConstruct
+    public void carregar() {
+        if (arquivo != null && Files.exists(arquivo)) {
+            ler(arquivo);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void iniciar() {
+        if (arquivo == null || intervalo.isZero() || executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "snapshot-memoria");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::salvar, intervalo.toMillis(), intervalo.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void parar() {
+        synchronized (this) {
+            if (executor != null) {
+                executor.shutdown();
+                executor = null;
+            }
+        }
+        salvar();
+    }
+
+    public synchronized void salvar() {
+        if (arquivo != null) {
+            gravar(arquivo);
+        }
+    }
+
+    void gravar(Path destino) {
+        try {
+            Path pasta = destino.toAbsolutePath().getParent();
+            Files.createDirectories(pasta);
+            Path temporario = Files.createTempFile(pasta, destino.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporario), 1 << 16))) {
+                out.writeInt(ASSINATURA);
+                out.writeInt(VERSAO);
+                escreverVendas(out);
+                escreverVeiculos(out);
+                escreverClientes(out);
+                out.writeLong(banco.sequenciaVendas.get());
+                out.writeLong(banco.sequenciaVeiculos.get());
+                out.writeLong(banco.sequenciaClientes.get());
+            }
+            Files.move(temporario, destino, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar o snapshot em " + destino, e);
+        }
+    }
+
+    void ler(Path origem) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(origem), 1 << 16))) {
+            if (in.readInt() != ASSINATURA) {
+                throw new IllegalStateException("Arquivo de snapshot inválido: " + origem);
+            }
+            int versaoArquivo = in.readInt();
+            if (versaoArquivo < 1 || versaoArquivo > VERSAO) {
+                throw new IllegalStateException("Versão de snapshot não suportada (" + versaoArquivo + "): " + origem);
+            }
+            boolean comVersoes = versaoArquivo >= 2;
+            while (in.readBoolean()) {
+                banco.gravarVenda(new VendaArmazenada(in.readLong(), in.readLong(), in.readLong(),
+                        lerDecimal(in), lerDataHora(in)));
+            }
+            while (in.readBoolean()) {
+                banco.gravarVeiculo(Veiculo.builder()
+                        .id(in.readLong())
+                        .marca(lerTexto(in))
+                        .modelo(lerTexto(in))
+                        .ano(in.readInt())
+                        .placa(lerTexto(in))
+                        .cor(lerTexto(in))
+                        .preco(lerDecimal(in))
+                        .disponivel(in.readBoolean())
+                        .dataCadastro(lerDataHora(in))
+                        .versao(comVersoes ? in.readLong() : 0L)
+                        .build());
+            }
+            while (in.readBoolean()) {
+                banco.gravarCliente(Cliente.builder()
+                        .id(in.readLong())
+                        .nome(lerTexto(in))
+                        .cpf(lerTexto(in))
+                        .telefone(lerTexto(in))
+                        .email(lerTexto(in))
+                        .versao(comVersoes ? in.readLong() : 0L)
+                        .build());
+            }
+            banco.sequenciaVendas.accumulateAndGet(in.readLong(), Math::max);
+            banco.sequenciaVeiculos.accumulateAndGet(in.readLong(), Math::max);
+            banco.sequenciaClientes.accumulateAndGet(in.readLong(), Math::max);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler o snapshot de " + origem, e);
+        }
+    }
+
+    /**
+     * Cada registro começa com true; false marca o fim da seção
+     */
+    private void escreverVendas(DataOutputStream out) throws IOException {
+        Escritor<VendaArmazenada> escritor = venda -> {
+            out.writeLong(venda.id());
+            out.writeLong(venda.veiculoId());
+            out.writeLong(venda.clienteId());
+            escreverDecimal(out, venda.valorVenda());
+            escreverDataHora(out, venda.dataVenda());
+        };
+        escreverSecao(out, banco.vendas, escritor);
+    }
+
+    private void escreverVeiculos(DataOutputStream out) throws IOException {
+        Escritor<Veiculo> escritor = veiculo -> {
+            out.writeLong(veiculo.getId());
+            escreverTexto(out, veiculo.getMarca());
+            escreverTexto(out, veiculo.getModelo());
+            out.writeInt(veiculo.getAno());
+            escreverTexto(out, veiculo.getPlaca());
+            escreverTexto(out, veiculo.getCor());
+            escreverDecimal(out, veiculo.getPreco());
+            out.writeBoolean(veiculo.getDisponivel());
+            escreverDataHora(out, veiculo.getDataCadastro());
+            out.writeLong(veiculo.getVersao());
+        };
+        escreverSecao(out, banco.veiculos, escritor);
+    }
+
+    private void escreverClientes(DataOutputStream out) throws IOException {
+        Escritor<Cliente> escritor = cliente -> {
+            out.writeLong(cliente.getId());
+            escreverTexto(out, cliente.getNome());
+            escreverTexto(out, cliente.getCpf());
+            escreverTexto(out, cliente.getTelefone());
+            escreverTexto(out, cliente.getEmail());
+            out.writeLong(cliente.getVersao());
+        };
+        escreverSecao(out, banco.clientes, escritor);
+    }
+
+    private <V> void escreverSecao(DataOutputStream out, TabelaPorId<V> tabela, Escritor<V> escritor) throws IOException {
+        try {
+            tabela.percorrer(0, (id, valor) -> {
+                try {
+                    out.writeBoolean(true);
+                    escritor.escrever(valor);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return true;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        out.writeBoolean(false);
+    }
+
+    private interface Escritor<V> {
+        void escrever(V valor) throws IOException;
+    }
+
+    private static void escreverTexto(DataOutputStream out, String texto) throws IOException {
+        out.writeBoolean(texto != null);
+        if (texto != null) {
+            out.writeUTF(texto);
+        }
+    }
+
+    private static String lerTexto(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void escreverDecimal(DataOutputStream out, BigDecimal valor) throws IOException {
+        escreverTexto(out, valor == null ? null : valor.toPlainString());
+    }
+
+    private static BigDecimal lerDecimal(DataInputStream in) throws IOException {
+        String texto = lerTexto(in);
+        return texto == null ? null : new BigDecimal(texto);
+    }
+
+    private static void escreverDataHora(DataOutputStream out, LocalDateTime dataHora) throws IOException {
+        out.writeBoolean(dataHora != null);
+        if (dataHora != null) {
+            out.writeLong(dataHora.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(dataHora.getNano());
+        }
+    }
+
+    private static LocalDateTime lerDataHora(DataInputStream in) throws IOException {
+        return in.readBoolean()
+                ? LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC)
+                : null;
+    }
+}
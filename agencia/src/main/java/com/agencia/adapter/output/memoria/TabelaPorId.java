@@ -0,0 +1,144 @@
+package com.agencia.adapter.output.memoria;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * MAPA long -> V PARA IDS SEQUENCIAIS
+ * Os IDs são gerados em sequência a partir de 1, então o mapa é um vetor
+ * paginado: o ID é a posição. Sem hash, sem Long (boxing) e percorrido
+ * em ordem de ID, como a chave primária de uma tabela.
+ * - Leituras sem lock: só leituras voláteis (AtomicReferenceArray).
+ * - Escritas por posição com set/compareAndSet; o lock só é usado para
+ *   alocar uma página nova.
+ * - IDs removidos ficam como buracos (null) na página.
+ */
+final class TabelaPorId<V> {
+
+    private static final int BITS_PAGINA = 10;
+    private static final int TAMANHO_PAGINA = 1 << BITS_PAGINA;
+    private static final int MASCARA = TAMANHO_PAGINA - 1;
+
+    private volatile AtomicReferenceArray<AtomicReferenceArray<V>> paginas = new AtomicReferenceArray<>(16);
+    private final AtomicLong quantidade = new AtomicLong();
+
+    V buscar(long id) {
+        AtomicReferenceArray<V> pagina = pagina(id);
+        return pagina == null ? null : pagina.get(posicao(id));
+    }
+
+    /**
+     * Grava o valor na posição do ID e retorna o anterior (null se não existia)
+     */
+    V gravar(long id, V valor) {
+        V anterior = paginaParaEscrita(id).getAndSet(posicao(id), valor);
+        contar(anterior, valor);
+        return anterior;
+    }
+
+    /**
+     * Troca atômica: só grava se o valor atual for o esperado (mesma instância)
+     */
+    boolean trocar(long id, V esperado, V novo) {
+        AtomicReferenceArray<V> pagina = esperado == null ? paginaParaEscrita(id) : pagina(id);
+        if (pagina == null || !pagina.compareAndSet(posicao(id), esperado, novo)) {
+            return false;
+        }
+        contar(esperado, novo);
+        return true;
+    }
+
+    V remover(long id) {
+        AtomicReferenceArray<V> pagina = pagina(id);
+        if (pagina == null) {
+            return null;
+        }
+        V anterior = pagina.getAndSet(posicao(id), null);
+        contar(anterior, null);
+        return anterior;
+    }
+
+    long quantidade() {
+        return quantidade.get();
+    }
+
+    /**
+     * Percorre os IDs maiores que aposId em ordem crescente, pulando páginas
+     * não alocadas, até o visitante retornar false
+     */
+    void percorrer(long aposId, Visitante<V> visitante) {
+        long id = Math.max(aposId + 1, 1);
+        AtomicReferenceArray<AtomicReferenceArray<V>> atuais = paginas;
+        for (long indice = id >>> BITS_PAGINA; indice < atuais.length(); indice++) {
+            AtomicReferenceArray<V> pagina = atuais.get((int) indice);
+            if (pagina == null) {
+                id = (indice + 1) << BITS_PAGINA;
+                continue;
+            }
+            for (int posicao = posicao(id); posicao < TAMANHO_PAGINA; posicao++, id++) {
+                V valor = pagina.get(posicao);
+                if (valor != null && !visitante.visitar(id, valor)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    interface Visitante<V> {
+        boolean visitar(long id, V valor);
+    }
+
+    private AtomicReferenceArray<V> pagina(long id) {
+        if (id <= 0) {
+            return null;
+        }
+        long indice = id >>> BITS_PAGINA;
+        AtomicReferenceArray<AtomicReferenceArray<V>> atuais = paginas;
+        return indice < atuais.length() ? atuais.get((int) indice) : null;
+    }
+
+    private AtomicReferenceArray<V> paginaParaEscrita(long id) {
+        AtomicReferenceArray<V> pagina = pagina(id);
+        return pagina != null ? pagina : alocar(id);
+    }
+
+    /**
+     * Aloca a página (e aumenta o vetor de páginas se preciso). O vetor novo
+     * aponta para as mesmas páginas do antigo: escritas feitas por quem ainda
+     * lê o vetor antigo não se perdem.
+     */
+    private synchronized AtomicReferenceArray<V> alocar(long id) {
+        if (id <= 0 || (id >>> BITS_PAGINA) >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("ID fora da faixa: " + id);
+        }
+        int indice = (int) (id >>> BITS_PAGINA);
+        AtomicReferenceArray<AtomicReferenceArray<V>> atuais = paginas;
+        if (indice >= atuais.length()) {
+            int tamanho = Math.max(indice + 1, atuais.length() * 2);
+            AtomicReferenceArray<AtomicReferenceArray<V>> maiores = new AtomicReferenceArray<>(tamanho);
+            for (int i = 0; i < atuais.length(); i++) {
+                maiores.set(i, atuais.get(i));
+            }
+            paginas = maiores;
+            atuais = maiores;
+        }
+        AtomicReferenceArray<V> pagina = atuais.get(indice);
+        if (pagina == null) {
+            pagina = new AtomicReferenceArray<>(TAMANHO_PAGINA);
+            atuais.set(indice, pagina);
+        }
+        return pagina;
+    }
+
+    private void contar(V anterior, V novo) {
+        if (anterior == null && novo != null) {
+            quantidade.incrementAndGet();
+        } else if (anterior != null && novo == null) {
+            quantidade.decrementAndGet();
+        }
+    }
+
+    private static int posicao(long id) {
+        return (int) (id & MASCARA);
+    }
+}
@@ -0,0 +1,317 @@
+package com.agencia.adapter.output.memoria;
+
+import com.agencia.domain.model.FiltroVeiculo;
+import com.agencia.domain.model.OrdenacaoVeiculo;
+import com.agencia.domain.model.ResultadoBusca;
+import com.agencia.domain.model.Veiculo;
+import com.agencia.domain.model.VersaoRegistro;
+import com.agencia.ports.output.VeiculoOutputPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * ADAPTADOR DE SAÍDA - Veículos em memória (perfil "memoria")
+ * Mesma porta do VeiculoRepositoryAdapter, sobre o BancoMemoria.
+ * Veiculo é mutável (marcarComoVendido): o banco guarda uma cópia
+ * e quem chama sempre recebe outra.
+ */
+@Component
+@Profile("memoria")
+public class VeiculoMemoriaAdapter implements VeiculoOutputPort {
+
+    private static final Comparator<Veiculo> POR_ID = Comparator.comparing(Veiculo::getId);
+
+    private final BancoMemoria banco;
+
+    public VeiculoMemoriaAdapter(BancoMemoria banco) {
+        this.banco = banco;
+    }
+
+    @Override
+    public Veiculo salvar(Veiculo veiculo) {
+        long id = veiculo.getId() != null ? veiculo.getId() : banco.sequenciaVeiculos.incrementAndGet();
+        Veiculo gravado = banco.veiculos.buscar(id);
+        Veiculo novo = copiar(veiculo, id, veiculo.getDisponivel(),
+                BancoMemoria.proximaVersao(gravado != null ? gravado.getVersao() : null, veiculo.getVersao()));
+        Veiculo anterior = banco.gravarVeiculo(novo);
+        banco.desfazerNoRollback(() -> {
+            if (anterior == null) {
+                banco.removerVeiculo(novo.getId());
+            } else {
+                banco.gravarVeiculo(anterior);
+            }
+        });
+        return copiar(novo);
+    }
+
+    @Override
+    public List<Veiculo> salvarTodos(List<Veiculo> veiculos) {
+        List<Veiculo> salvos = new ArrayList<>(veiculos.size());
+        for (Veiculo veiculo : veiculos) {
+            salvos.add(salvar(veiculo));
+        }
+        return salvos;
+    }
+
+    @Override
+    public Optional<Veiculo> buscarPorId(Long id) {
+        return Optional.ofNullable(banco.veiculos.buscar(id)).map(VeiculoMemoriaAdapter::copiar);
+    }
+
+    @Override
+    public List<Veiculo> buscarPorIds(Collection<Long> ids) {
+        List<Veiculo> encontrados = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Veiculo veiculo = banco.veiculos.buscar(id);
+            if (veiculo != null) {
+                encontrados.add(copiar(veiculo));
+            }
+        }
+        return encontrados;
+    }
+
+    @Override
+    public Optional<Long> buscarVersao(Long id) {
+        return Optional.ofNullable(banco.veiculos.buscar(id)).map(Veiculo::getVersao);
+    }
+
+    @Override
+    public List<Veiculo> listarTodos(Long aposId, int limite) {
+        List<Veiculo> pagina = new ArrayList<>(limite);
+        banco.veiculos.percorrer(aposId, (id, veiculo) -> {
+            pagina.add(copiar(veiculo));
+            return pagina.size() < limite;
+        });
+        return pagina;
+    }
+
+    /**
+     * Só os IDs marcados no índice de disponíveis são lidos da tabela
+     */
+    @Override
+    public List<Veiculo> listarDisponiveis(Long aposId, int limite) {
+        List<Veiculo> pagina = new ArrayList<>(limite);
+        for (long id = banco.disponiveis.proximo(aposId); id > 0 && pagina.size() < limite;
+             id = banco.disponiveis.proximo(id)) {
+            Veiculo veiculo = banco.veiculos.buscar(id);
+            if (veiculo != null && veiculo.getDisponivel()) {
+                pagina.add(copiar(veiculo));
+            }
+        }
+        return pagina;
+    }
+
+    @Override
+    public List<VersaoRegistro> listarVersoesDisponiveis(Long aposId, int limite) {
+        List<VersaoRegistro> pagina = new ArrayList<>(limite);
+        for (long id = banco.disponiveis.proximo(aposId); id > 0 && pagina.size() < limite;
+             id = banco.disponiveis.proximo(id)) {
+            Veiculo veiculo = banco.veiculos.buscar(id);
+            if (veiculo != null && veiculo.getDisponivel()) {
+                pagina.add(new VersaoRegistro(veiculo.getId(), veiculo.getVersao()));
+            }
+        }
+        return pagina;
+    }
+
+    @Override
+    public void percorrerTodos(Consumer<Veiculo> consumidor) {
+        banco.veiculos.percorrer(0, (id, veiculo) -> {
+            consumidor.accept(copiar(veiculo));
+            return true;
+        });
+    }
+
+    @Override
+    public void percorrerDisponiveis(Consumer<Veiculo> consumidor) {
+        for (long id = banco.disponiveis.proximo(0); id > 0; id = banco.disponiveis.proximo(id)) {
+            Veiculo veiculo = banco.veiculos.buscar(id);
+            if (veiculo != null && veiculo.getDisponivel()) {
+                consumidor.accept(copiar(veiculo));
+            }
+        }
+    }
+
+    @Override
+    public void percorrerPlacas(Consumer<String> consumidor) {
+        banco.placas.keySet().forEach(consumidor);
+    }
+
+    /**
+     * Varre os veículos (só os disponíveis, se o filtro pedir) e guarda num heap
+     * limitado apenas os que podem cair até a página pedida, mais um para saber
+     * se há próxima página
+     */
+    @Override
+    public ResultadoBusca<Veiculo> buscar(FiltroVeiculo filtro) {
+        Predicate<Veiculo> criterios = criterios(filtro);
+        Comparator<Veiculo> ordem = ordenacao(filtro.getOrdenacao());
+        int inicio = filtro.getPagina() * filtro.getTamanho();
+        int guardar = inicio + filtro.getTamanho() + 1;
+        PriorityQueue<Veiculo> melhores = new PriorityQueue<>(Math.min(guardar, 1024), ordem.reversed());
+
+        Consumer<Veiculo> candidato = veiculo -> {
+            if (!criterios.test(veiculo)) {
+                return;
+            }
+            if (melhores.size() < guardar) {
+                melhores.add(veiculo);
+            } else if (ordem.compare(veiculo, melhores.peek()) < 0) {
+                melhores.poll();
+                melhores.add(veiculo);
+            }
+        };
+        if (Boolean.TRUE.equals(filtro.getDisponivel())) {
+            for (long id = banco.disponiveis.proximo(0); id > 0; id = banco.disponiveis.proximo(id)) {
+                Veiculo veiculo = banco.veiculos.buscar(id);
+                if (veiculo != null) {
+                    candidato.accept(veiculo);
+                }
+            }
+        } else {
+            banco.veiculos.percorrer(0, (id, veiculo) -> {
+                candidato.accept(veiculo);
+                return true;
+            });
+        }
+
+        List<Veiculo> ordenados = new ArrayList<>(melhores);
+        ordenados.sort(ordem);
+        List<Veiculo> itens = new ArrayList<>(filtro.getTamanho());
+        for (int i = inicio; i < Math.min(ordenados.size(), inicio + filtro.getTamanho()); i++) {
+            itens.add(copiar(ordenados.get(i)));
+        }
+        return new ResultadoBusca<>(itens, filtro.getPagina(), filtro.getTamanho(),
+                ordenados.size() > inicio + filtro.getTamanho());
+    }
+
+    /**
+     * Compare-and-set sobre a versão lida: só um comprador troca
+     * disponivel de true para false, sem lock
+     */
+    @Override
+    public boolean reservar(Long id) {
+        while (true) {
+            Veiculo atual = banco.veiculos.buscar(id);
+            if (atual == null || !atual.getDisponivel()) {
+                return false;
+            }
+            Veiculo reservado = comDisponivel(atual, false);
+            if (banco.trocarVeiculo(atual, reservado)) {
+                banco.desfazerNoRollback(() -> banco.trocarVeiculo(reservado, atual));
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Uma reserva atômica por veículo; cada uma é desfeita no rollback
+     */
+    @Override
+    public Set<Long> reservarTodos(Collection<Long> ids) {
+        Set<Long> reservados = new HashSet<>();
+        for (Long id : ids) {
+            if (reservar(id)) {
+                reservados.add(id);
+            }
+        }
+        return reservados;
+    }
+
+    /**
+     * Veículo com venda não pode ser removido (chave estrangeira em vendas)
+     */
+    @Override
+    public void deletar(Long id) {
+        if (banco.vendasPorVeiculo.buscar(id) != null) {
+            throw new DataIntegrityViolationException(
+                    "Veículo " + id + " tem venda registrada");
+        }
+        Veiculo removido = banco.removerVeiculo(id);
+        if (removido != null) {
+            banco.desfazerNoRollback(() -> banco.gravarVeiculo(removido));
+        }
+    }
+
+    @Override
+    public boolean existePorPlaca(String placa) {
+        return banco.placas.containsKey(placa);
+    }
+
+    @Override
+    public Set<String> placasExistentes(Collection<String> placas) {
+        Set<String> existentes = new HashSet<>();
+        for (String placa : placas) {
+            if (banco.placas.containsKey(placa)) {
+                existentes.add(placa);
+            }
+        }
+        return existentes;
+    }
+
+    /**
+     * Mesmos critérios do VeiculoSpecifications: igualdade e faixas inclusivas
+     */
+    private static Predicate<Veiculo> criterios(FiltroVeiculo filtro) {
+        return veiculo -> (filtro.getDisponivel() == null || filtro.getDisponivel().equals(veiculo.getDisponivel()))
+                && (filtro.getMarca() == null || filtro.getMarca().equals(veiculo.getMarca()))
+                && (filtro.getModelo() == null || filtro.getModelo().equals(veiculo.getModelo()))
+                && (filtro.getCor() == null || filtro.getCor().equals(veiculo.getCor()))
+                && (filtro.getAnoMinimo() == null || veiculo.getAno() >= filtro.getAnoMinimo())
+                && (filtro.getAnoMaximo() == null || veiculo.getAno() <= filtro.getAnoMaximo())
+                && (filtro.getPrecoMinimo() == null || veiculo.getPreco().compareTo(filtro.getPrecoMinimo()) >= 0)
+                && (filtro.getPrecoMaximo() == null || veiculo.getPreco().compareTo(filtro.getPrecoMaximo()) <= 0);
+    }
+
+    /**
+     * Mesma ordenação do VeiculoSpecifications, com desempate pelo ID
+     */
+    private static Comparator<Veiculo> ordenacao(OrdenacaoVeiculo ordenacao) {
+        Comparator<Veiculo> comparador = switch (ordenacao) {
+            case PRECO_ASC -> Comparator.comparing(Veiculo::getPreco);
+            case PRECO_DESC -> Comparator.comparing(Veiculo::getPreco).reversed();
+            case ANO_ASC -> Comparator.comparing(Veiculo::getAno);
+            case ANO_DESC -> Comparator.comparing(Veiculo::getAno).reversed();
+            case MAIS_RECENTES -> Comparator.comparing(Veiculo::getDataCadastro).reversed();
+        };
+        return comparador.thenComparing(POR_ID);
+    }
+
+    /**
+     * A reserva é uma alteração: avança a versão
+     */
+    private static Veiculo comDisponivel(Veiculo veiculo, boolean disponivel) {
+        return copiar(veiculo, veiculo.getId(), disponivel, veiculo.getVersao() + 1);
+    }
+
+    static Veiculo copiar(Veiculo veiculo) {
+        return copiar(veiculo, veiculo.getId(), veiculo.getDisponivel(), veiculo.getVersao());
+    }
+
+    private static Veiculo copiar(Veiculo veiculo, Long id, Boolean disponivel, Long versao) {
+        return Veiculo.builder()
+                .id(id)
+                .marca(veiculo.getMarca())
+                .modelo(veiculo.getModelo())
+                .ano(veiculo.getAno())
+                .placa(veiculo.getPlaca())
+                .cor(veiculo.getCor())
+                .preco(veiculo.getPreco())
+                .disponivel(disponivel)
+                .dataCadastro(veiculo.getDataCadastro())
+                .versao(versao)
+                .build();
+    }
+}
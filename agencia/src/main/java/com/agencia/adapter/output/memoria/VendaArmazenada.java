@@ -0,0 +1,11 @@
+package com.agencia.adapter.output.memoria;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Venda guardada em memória: referencia veículo e cliente pelo ID,
+ * como as chaves estrangeiras da tabela vendas
+ */
+record VendaArmazenada(long id, long veiculoId, long clienteId, BigDecimal valorVenda, LocalDateTime dataVenda) {
+}
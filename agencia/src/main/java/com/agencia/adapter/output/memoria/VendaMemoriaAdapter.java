@@ -0,0 +1,133 @@
+package com.agencia.adapter.output.memoria;
+
+import com.agencia.domain.model.Cliente;
+import com.agencia.domain.model.ResumoVenda;
+import com.agencia.domain.model.Veiculo;
+import com.agencia.domain.model.Venda;
+import com.agencia.ports.output.VendaOutputPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * ADAPTADOR DE SAÍDA - Vendas em memória (perfil "memoria")
+ * A venda guarda só os IDs de veículo e cliente; veículo e cliente são
+ * lidos das suas tabelas ao montar a Venda (como o JOIN FETCH do adapter JPA).
+ */
+@Component
+@Profile("memoria")
+public class VendaMemoriaAdapter implements VendaOutputPort {
+
+    private final BancoMemoria banco;
+
+    public VendaMemoriaAdapter(BancoMemoria banco) {
+        this.banco = banco;
+    }
+
+    /**
+     * Veículo e cliente precisam existir, como as chaves estrangeiras da tabela vendas
+     */
+    @Override
+    public Venda salvar(Venda venda) {
+        long veiculoId = venda.getVeiculo().getId();
+        long clienteId = venda.getCliente().getId();
+        if (banco.veiculos.buscar(veiculoId) == null || banco.clientes.buscar(clienteId) == null) {
+            throw new DataIntegrityViolationException(
+                    "Veículo " + veiculoId + " ou cliente " + clienteId + " não encontrado");
+        }
+        VendaArmazenada armazenada = new VendaArmazenada(banco.sequenciaVendas.incrementAndGet(),
+                veiculoId, clienteId, venda.getValorVenda(), venda.getDataVenda());
+        banco.gravarVenda(armazenada);
+        banco.desfazerNoRollback(() -> banco.removerVenda(armazenada));
+        banco.marcarEmAndamento(armazenada.id());
+        return paraDominio(armazenada);
+    }
+
+    @Override
+    public List<Venda> salvarTodas(List<Venda> vendas) {
+        List<Venda> salvas = new ArrayList<>(vendas.size());
+        for (Venda venda : vendas) {
+            salvas.add(salvar(venda));
+        }
+        return salvas;
+    }
+
+    @Override
+    public List<Venda> listarTodas() {
+        List<Venda> todas = new ArrayList<>((int) banco.vendas.quantidade());
+        percorrerTodas(todas::add);
+        return todas;
+    }
+
+    @Override
+    public List<Venda> listarTodas(Long aposId, int limite) {
+        List<Venda> pagina = new ArrayList<>(limite);
+        banco.vendas.percorrer(aposId, (id, venda) -> {
+            pagina.add(paraDominio(venda));
+            return pagina.size() < limite;
+        });
+        return pagina;
+    }
+
+    @Override
+    public void percorrerTodas(Consumer<Venda> consumidor) {
+        banco.vendas.percorrer(0, (id, venda) -> {
+            consumidor.accept(paraDominio(venda));
+            return true;
+        });
+    }
+
+    @Override
+    public List<ResumoVenda> listarResumos(Long aposId, int limite) {
+        List<ResumoVenda> pagina = new ArrayList<>(limite);
+        banco.vendas.percorrer(aposId, (id, venda) -> {
+            pagina.add(resumo(venda));
+            return pagina.size() < limite;
+        });
+        return pagina;
+    }
+
+    @Override
+    public void percorrerResumos(Consumer<ResumoVenda> consumidor) {
+        banco.vendas.percorrer(0, (id, venda) -> {
+            consumidor.accept(resumo(venda));
+            return true;
+        });
+    }
+
+    @Override
+    public Optional<Venda> buscarPorVeiculo(Long veiculoId) {
+        return Optional.ofNullable(banco.vendasPorVeiculo.buscar(veiculoId)).map(this::paraDominio);
+    }
+
+    private Venda paraDominio(VendaArmazenada venda) {
+        return Venda.builder()
+                .id(venda.id())
+                .veiculo(VeiculoMemoriaAdapter.copiar(banco.veiculos.buscar(venda.veiculoId())))
+                .cliente(banco.clientes.buscar(venda.clienteId()))
+                .valorVenda(venda.valorVenda())
+                .dataVenda(venda.dataVenda())
+                .build();
+    }
+
+    private ResumoVenda resumo(VendaArmazenada venda) {
+        Veiculo veiculo = banco.veiculos.buscar(venda.veiculoId());
+        Cliente cliente = banco.clientes.buscar(venda.clienteId());
+        return ResumoVenda.builder()
+                .id(venda.id())
+                .veiculoId(venda.veiculoId())
+                .placa(veiculo.getPlaca())
+                .marca(veiculo.getMarca())
+                .modelo(veiculo.getModelo())
+                .clienteId(venda.clienteId())
+                .nomeCliente(cliente.getNome())
+                .valorVenda(venda.valorVenda())
+                .dataVenda(venda.dataVenda())
+                .build();
+    }
+}
@@ -0,0 +1,190 @@
+package com.agencia.adapter.output.persistence;
+
+import com.agencia.adapter.output.persistence.database.AgregadoVendaSpringDataRepository;
+import com.agencia.adapter.output.persistence.entity.AgregadoVendaEntity;
+import com.agencia.adapter.output.persistence.mapper.AgregadoVendaEntityMapper;
+import com.agencia.adapter.output.persistence.projection.TotalVendasProjecao;
+import com.agencia.domain.model.AgregadoVendas;
+import com.agencia.domain.model.GrupoAgregado;
+import com.agencia.domain.model.ReconstrucaoAgregados;
+import com.agencia.domain.model.TipoAgregado;
+import com.agencia.ports.output.AgregadosVendasOutputPort;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * ADAPTADOR DE SAÍDA - Agregados de vendas (tabela + memória)
+ * A tabela agregados_vendas é incrementada na transação de cada venda, com
+ * UPDATE ... SET quantidade = quantidade + 1: fica sempre consistente com as vendas
+ * confirmadas e sobrevive a reinícios. As leituras vêm da VisaoAgregadosVendas.
+ * Cada grupo é dividido em faixas (agencia.agregados.faixas) e o valor do grupo
+ * é a soma delas. A venda incrementa só a faixa da sua thread, então vendas em
+ * faixas diferentes não disputam a trava de nenhuma linha.
+ * A linha TOTAL da faixa é incrementada antes das outras e a reconstrução bloqueia
+ * todas as linhas TOTAL: ela ordena as vendas da mesma faixa entre si (nenhum grupo
+ * novo é inserido duas vezes na mesma faixa) e todas em relação à reconstrução.
+ * No perfil "memoria" as vendas não estão no banco: os agregados ficam no
+ * AgregadosVendasMemoriaAdapter.
+ */
+@Component
+@Profile("!memoria")
+public class AgregadosVendasRepositoryAdapter implements AgregadosVendasOutputPort {
+
+    private final AgregadoVendaSpringDataRepository springDataRepository;
+    private final AgregadoVendaEntityMapper mapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int faixas;
+    private final VisaoAgregadosVendas visao = new VisaoAgregadosVendas();
+
+    public AgregadosVendasRepositoryAdapter(AgregadoVendaSpringDataRepository springDataRepository,
+                                            AgregadoVendaEntityMapper mapper,
+                                            EntityManager entityManager,
+                                            PlatformTransactionManager transactionManager,
+                                            @Value("${agencia.agregados.faixas:8}") int faixas) {
+        if (faixas < 1) {
+            throw new IllegalArgumentException("Agregados de vendas precisam de pelo menos uma faixa");
+        }
+        this.springDataRepository = springDataRepository;
+        this.mapper = mapper;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.faixas = faixas;
+    }
+
+    /**
+     * Carrega a visão em memória na subida; sem todas as faixas da linha TOTAL
+     * (banco novo, tabela criada depois das vendas ou mais faixas configuradas)
+     * os agregados são reconstruídos
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        if (springDataRepository.contarFaixas(TipoAgregado.TOTAL, faixas) == faixas) {
+            visao.carregar(somarFaixas(springDataRepository.findAll()));
+        } else {
+            reconstruir();
+        }
+    }
+
+    /**
+     * Participa da transação da venda: se a venda for desfeita, o incremento também é.
+     * A faixa vem da thread: todas as vendas de um lote caem na mesma faixa.
+     */
+    @Override
+    @Transactional
+    public void acumular(List<GrupoAgregado> grupos, BigDecimal valor) {
+        BigDecimal valorVenda = valor.setScale(2, RoundingMode.HALF_UP);
+        int faixa = (int) (Thread.currentThread().getId() % faixas);
+        List<GrupoAgregado> emOrdem = grupos.stream()
+                .sorted(Comparator.comparing(GrupoAgregado::getTipo))
+                .collect(Collectors.toList());
+
+        for (GrupoAgregado grupo : emOrdem) {
+            if (springDataRepository.incrementar(grupo.getTipo(), grupo.getChave(), faixa, valorVenda) == 0) {
+                entityManager.persist(mapper.toEntity(new AgregadoVendas(grupo, 1, valorVenda), faixa));
+            }
+        }
+        visao.somarAposCommit(emOrdem, valorVenda);
+    }
+
+    @Override
+    public AgregadoVendas buscar(GrupoAgregado grupo) {
+        return visao.buscar(grupo);
+    }
+
+    @Override
+    public List<AgregadoVendas> listar(TipoAgregado tipo) {
+        return visao.listar(tipo);
+    }
+
+    @Override
+    public ReconstrucaoAgregados reconstruir() {
+        return transactionTemplate.execute(status -> reconstruirNaTransacao());
+    }
+
+    /**
+     * 1. Bloqueia as linhas TOTAL: vendas em andamento terminam antes, as novas esperam
+     * 2. Guarda os valores mantidos (tabela e memória) e recalcula a partir das vendas
+     * 3. Cada grupo recalculado fica na faixa 0 e as outras faixas são apagadas,
+     *    menos as da linha TOTAL, que são zeradas e nunca apagadas, para as vendas
+     *    que esperam por elas continuarem a encontrá-las.
+     *    Só as linhas que mudaram são gravadas.
+     */
+    private ReconstrucaoAgregados reconstruirNaTransacao() {
+        springDataRepository.travar(TipoAgregado.TOTAL);
+
+        List<AgregadoVendaEntity> entidades = springDataRepository.findAll();
+        List<AgregadoVendas> tabela = somarFaixas(entidades);
+        List<AgregadoVendas> memoria = visao.todos();
+        List<AgregadoVendas> recalculados = recalcular();
+
+        Map<AgregadoVendaEntity.Chave, AgregadoVendas> esperados = new HashMap<>();
+        recalculados.forEach(recalculado -> esperados.put(mapper.toChave(recalculado.getGrupo(), 0), recalculado));
+        for (int faixa = 1; faixa < faixas; faixa++) {
+            esperados.put(mapper.toChave(GrupoAgregado.total(), faixa), AgregadoVendas.vazio(GrupoAgregado.total()));
+        }
+
+        List<AgregadoVendaEntity> sobrando = new ArrayList<>();
+        for (AgregadoVendaEntity entity : entidades) {
+            AgregadoVendas esperado = esperados.remove(mapper.toChave(entity));
+            if (esperado == null) {
+                sobrando.add(entity);
+            } else if (!esperado.mesmosValores(mapper.toDomain(entity))) {
+                entity.setQuantidade(esperado.getQuantidadeVendas());
+                entity.setFaturamento(esperado.getFaturamento());
+            }
+        }
+        esperados.forEach((chave, esperado) -> entityManager.persist(mapper.toEntity(esperado, chave.getFaixa())));
+        // Grupos que não têm mais vendas e faixas somadas na faixa 0
+        springDataRepository.deleteAll(sobrando);
+
+        visao.substituirAposCommit(recalculados);
+        return new ReconstrucaoAgregados(tabela, memoria, recalculados);
+    }
+
+    /**
+     * Uma linha por grupo, com a soma das suas faixas
+     */
+    private List<AgregadoVendas> somarFaixas(List<AgregadoVendaEntity> entidades) {
+        Map<GrupoAgregado, AgregadoVendas> porGrupo = new LinkedHashMap<>();
+        for (AgregadoVendaEntity entity : entidades) {
+            porGrupo.merge(mapper.toGrupo(entity), mapper.toDomain(entity), (atual, faixa) -> new AgregadoVendas(
+                    atual.getGrupo(),
+                    atual.getQuantidadeVendas() + faixa.getQuantidadeVendas(),
+                    atual.getFaturamento().add(faixa.getFaturamento())));
+        }
+        return new ArrayList<>(porGrupo.values());
+    }
+
+    private List<AgregadoVendas> recalcular() {
+        List<AgregadoVendas> recalculados = new ArrayList<>();
+        TotalVendasProjecao total = springDataRepository.recalcularTotal();
+        recalculados.add(new AgregadoVendas(GrupoAgregado.total(), total.quantidade(), valor(total.faturamento())));
+        springDataRepository.recalcularPorMarca().forEach(marca -> recalculados.add(new AgregadoVendas(
+                GrupoAgregado.marca(marca.chave()), marca.quantidade(), valor(marca.faturamento()))));
+        springDataRepository.recalcularPorDia().forEach(dia -> recalculados.add(new AgregadoVendas(
+                GrupoAgregado.dia(dia.dia()), dia.quantidade(), valor(dia.faturamento()))));
+        return recalculados;
+    }
+
+    private static BigDecimal valor(BigDecimal faturamento) {
+        return faturamento == null ? BigDecimal.ZERO.setScale(2) : faturamento.setScale(2, RoundingMode.HALF_UP);
+    }
+}
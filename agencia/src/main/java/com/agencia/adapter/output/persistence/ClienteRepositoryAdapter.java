@@ -5,6 +5,7 @@ import com.agencia.adapter.output.persistence.mapper.ClienteEntityMapper;
 import com.agencia.domain.model.Cliente;
 import com.agencia.ports.output.ClienteOutputPort;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.Optional;
 
 @Component
@@ -19,20 +20,31 @@ public class ClienteRepositoryAdapter implements ClienteOutputPort {
         this.mapper = mapper;
     }
 
+    /**
+     * saveAndFlush: dentro de uma transação maior, só assim a versão devolvida é a nova
+     */
     @Override
     public Cliente salvar(Cliente cliente) {
         return mapper.toDomain(
-                springDataRepository.save(mapper.toEntity(cliente))
+                springDataRepository.saveAndFlush(mapper.toEntity(cliente))
         );
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Cliente> buscarPorId(Long id) {
         return springDataRepository.findById(id)
                 .map(mapper::toDomain);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> buscarVersao(Long id) {
+        return springDataRepository.findVersaoById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Optional<Cliente> buscarPorCpf(String cpf) {
         return springDataRepository.findByCpf(cpf)
                 .map(mapper::toDomain);
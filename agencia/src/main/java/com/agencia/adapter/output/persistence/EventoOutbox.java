@@ -0,0 +1,9 @@
+package com.agencia.adapter.output.persistence;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento pendente lido da tabela de outbox (ainda serializado)
+ */
+public record EventoOutbox(Long id, String tipo, String payload, LocalDateTime criadoEm, int tentativas) {
+}
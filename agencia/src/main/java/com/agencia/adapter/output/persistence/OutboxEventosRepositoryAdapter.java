@@ -0,0 +1,138 @@
+package com.agencia.adapter.output.persistence;
+
+import com.agencia.adapter.output.persistence.database.ConsumidorOutboxSpringDataRepository;
+import com.agencia.adapter.output.persistence.database.EventoOutboxSpringDataRepository;
+import com.agencia.adapter.output.persistence.entity.ConsumidorOutboxEntity;
+import com.agencia.adapter.output.persistence.entity.EventoOutboxEntity;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * ADAPTADOR DE SAÍDA - Tabela de outbox (eventos_outbox)
+ * Os eventos são gravados na transação da operação que os gerou e lidos,
+ * confirmados (apagados) ou marcados com falha pelo DespachanteOutbox.
+ * Cada instância da aplicação é um consumidor (consumidores_outbox) e cada
+ * evento é gravado uma vez para cada consumidor ativo: todas as instâncias
+ * recebem todos os eventos, e a cópia de uma só é apagada quando ela entrega.
+ * A lista de consumidores é lida uma vez por transação.
+ */
+@Component
+public class OutboxEventosRepositoryAdapter {
+
+    /**
+     * Tamanho máximo da mensagem de erro guardada (coluna ultimo_erro)
+     */
+    private static final int TAMANHO_ERRO = 500;
+
+    private final EventoOutboxSpringDataRepository springDataRepository;
+    private final ConsumidorOutboxSpringDataRepository consumidorRepository;
+    private final EntityManager entityManager;
+    private final Duration inatividade;
+
+    public OutboxEventosRepositoryAdapter(EventoOutboxSpringDataRepository springDataRepository,
+                                          ConsumidorOutboxSpringDataRepository consumidorRepository,
+                                          EntityManager entityManager,
+                                          @Value("${agencia.outbox.consumidor-inativo:5m}") Duration inatividade) {
+        this.springDataRepository = springDataRepository;
+        this.consumidorRepository = consumidorRepository;
+        this.entityManager = entityManager;
+        this.inatividade = inatividade;
+    }
+
+    /**
+     * MANDATORY: sem a transação da operação o evento poderia ser gravado
+     * sem a alteração de estado (ou o contrário), então a chamada falha
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void gravar(String tipo, String payload, LocalDateTime criadoEm) {
+        for (String consumidor : consumidoresDaTransacao()) {
+            entityManager.persist(EventoOutboxEntity.builder()
+                    .consumidor(consumidor)
+                    .tipo(tipo)
+                    .payload(payload)
+                    .criadoEm(criadoEm)
+                    .build());
+        }
+    }
+
+    /**
+     * Registra o consumidor (ou renova o registro) e fica com os eventos
+     * gravados antes de haver consumidores
+     */
+    @Transactional
+    public void registrar(String consumidor) {
+        renovar(consumidor);
+        springDataRepository.assumirSemConsumidor(consumidor);
+    }
+
+    /**
+     * Renova o registro do consumidor e remove os consumidores inativos,
+     * com os eventos que esperavam por eles
+     */
+    @Transactional
+    public void renovar(String consumidor) {
+        LocalDateTime agora = LocalDateTime.now();
+        if (consumidorRepository.renovar(consumidor, agora) == 0) {
+            entityManager.persist(ConsumidorOutboxEntity.builder().nome(consumidor).vistoEm(agora).build());
+        }
+        List<String> inativos = consumidorRepository.inativos(agora.minus(inatividade));
+        if (!inativos.isEmpty()) {
+            springDataRepository.apagarDosConsumidores(inativos);
+            consumidorRepository.apagar(inativos);
+        }
+    }
+
+    public List<EventoOutbox> pendentes(String consumidor, int maximoTentativas, int limite) {
+        return springDataRepository.pendentes(consumidor, maximoTentativas, Limit.of(limite)).stream()
+                .map(entity -> new EventoOutbox(entity.getId(), entity.getTipo(), entity.getPayload(),
+                        entity.getCriadoEm(), entity.getTentativas()))
+                .collect(Collectors.toList());
+    }
+
+    public long contarPendentes(String consumidor, int maximoTentativas) {
+        return springDataRepository.countByConsumidorAndTentativasLessThan(consumidor, maximoTentativas);
+    }
+
+    @Transactional
+    public void confirmar(Collection<Long> ids) {
+        springDataRepository.apagar(ids);
+    }
+
+    @Transactional
+    public void registrarFalha(Long id, String erro) {
+        springDataRepository.registrarFalha(id,
+                erro.length() > TAMANHO_ERRO ? erro.substring(0, TAMANHO_ERRO) : erro);
+    }
+
+    /**
+     * Consumidores ativos, lidos na primeira gravação da transação: um lote de
+     * eventos não consulta a tabela de consumidores a cada evento
+     */
+    @SuppressWarnings("unchecked")
+    private List<String> consumidoresDaTransacao() {
+        List<String> consumidores = (List<String>) TransactionSynchronizationManager.getResource(this);
+        if (consumidores == null) {
+            consumidores = consumidorRepository.ativos(LocalDateTime.now().minus(inatividade));
+            TransactionSynchronizationManager.bindResource(this, consumidores);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(OutboxEventosRepositoryAdapter.this);
+                }
+            });
+        }
+        return consumidores;
+    }
+}
@@ -0,0 +1,62 @@
+package com.agencia.adapter.output.persistence;
+
+import com.agencia.adapter.output.persistence.database.RelatorioVendasSpringDataRepository;
+import com.agencia.adapter.output.persistence.mapper.RelatorioVendasMapper;
+import com.agencia.adapter.output.persistence.projection.DesempenhoVeiculoProjecao;
+import com.agencia.domain.model.AgrupamentoPeriodo;
+import com.agencia.domain.model.AgrupamentoVeiculo;
+import com.agencia.domain.model.DesempenhoVeiculo;
+import com.agencia.domain.model.FaturamentoPeriodo;
+import com.agencia.ports.output.RelatorioVendasOutputPort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * ADAPTADOR DE SAÍDA - Relatórios de vendas com JPA
+ * Cada relatório é uma única consulta de agregação: o banco percorre as vendas
+ * do período e devolve só uma linha por grupo (dia, mês, marca ou modelo).
+ * Nenhuma entidade é carregada.
+ */
+@Component
+public class RelatorioVendasRepositoryAdapter implements RelatorioVendasOutputPort {
+
+    private final RelatorioVendasSpringDataRepository springDataRepository;
+    private final RelatorioVendasMapper mapper;
+
+    public RelatorioVendasRepositoryAdapter(RelatorioVendasSpringDataRepository springDataRepository,
+                                            RelatorioVendasMapper mapper) {
+        this.springDataRepository = springDataRepository;
+        this.mapper = mapper;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<FaturamentoPeriodo> faturamento(AgrupamentoPeriodo agrupamento,
+                                                LocalDateTime desde, LocalDateTime ate) {
+        return switch (agrupamento) {
+            case DIA -> springDataRepository.faturamentoPorDia(desde, ate).stream()
+                    .map(mapper::toDomain)
+                    .collect(Collectors.toList());
+            case MES -> springDataRepository.faturamentoPorMes(desde, ate).stream()
+                    .map(mapper::toDomain)
+                    .collect(Collectors.toList());
+        };
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DesempenhoVeiculo> desempenhoPorVeiculo(AgrupamentoVeiculo agrupamento,
+                                                        LocalDateTime desde, LocalDateTime ate) {
+        List<DesempenhoVeiculoProjecao> linhas = switch (agrupamento) {
+            case MARCA -> springDataRepository.desempenhoPorMarca(desde, ate);
+            case MODELO -> springDataRepository.desempenhoPorModelo(desde, ate);
+        };
+        return linhas.stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+}
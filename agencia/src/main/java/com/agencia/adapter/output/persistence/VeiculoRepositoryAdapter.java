@@ -1,14 +1,30 @@
 package com.agencia.adapter.output.persistence;
 
+import com.agencia.adapter.output.persistence.database.VeiculoSpecifications;
 import com.agencia.adapter.output.persistence.database.VeiculoSpringDataRepository;
 import com.agencia.adapter.output.persistence.entity.VeiculoEntity;
 import com.agencia.adapter.output.persistence.mapper.VeiculoEntityMapper;
+import com.agencia.adapter.output.persistence.projection.VeiculoProjecao;
+import com.agencia.domain.model.FiltroVeiculo;
+import com.agencia.domain.model.ResultadoBusca;
 import com.agencia.domain.model.Veiculo;
+import com.agencia.domain.model.VersaoRegistro;
 import com.agencia.ports.output.VeiculoOutputPort;
-import org.springframework.stereotype.Component;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * ADAPTADOR DE SAÍDA - Persistência com JPA
@@ -20,20 +36,37 @@ import java.util.stream.Collectors;
  * 3. Converter entre Domain e Entity usando o Mapper
  * O domínio NÃO conhece esta classe, apenas a interface (Port).
  * O Spring injeta esta implementação automaticamente.
+ * @Repository traduz as exceções do Hibernate (ex: placa duplicada num flush
+ * do cadastro em lote) nas do Spring (DataIntegrityViolationException).
  */
-@Component
+@Repository
 public class VeiculoRepositoryAdapter implements VeiculoOutputPort {
 
+    /**
+     * Deve acompanhar hibernate.jdbc.batch_size: a cada lote o contexto de
+     * persistência é descarregado (flush) e limpo, para não crescer com o lote
+     */
+    private static final int TAMANHO_LOTE = 50;
+
+    /**
+     * Placas (ou IDs) por consulta IN (alguns bancos limitam a quantidade de parâmetros)
+     */
+    private static final int PLACAS_POR_CONSULTA = 1_000;
+    private static final int IDS_POR_CONSULTA = 1_000;
+
     private final VeiculoSpringDataRepository springDataRepository;
     private final VeiculoEntityMapper mapper;
+    private final EntityManager entityManager;
 
     /**
      * Injeção das dependências de infraestrutura
      */
     public VeiculoRepositoryAdapter(VeiculoSpringDataRepository springDataRepository,
-                                    VeiculoEntityMapper mapper) {
+                                    VeiculoEntityMapper mapper,
+                                    EntityManager entityManager) {
         this.springDataRepository = springDataRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -41,31 +74,158 @@ public class VeiculoRepositoryAdapter implements VeiculoOutputPort {
         // 1. Converter Domain -> Entity
         VeiculoEntity entity = mapper.toEntity(veiculo);
 
-        // 2. Salvar no banco (JPA)
-        VeiculoEntity entitySalva = springDataRepository.save(entity);
+        // 2. Salvar no banco (JPA). O flush executa o UPDATE já aqui: dentro de
+        // uma transação maior, só assim a versão devolvida é a nova
+        VeiculoEntity entitySalva = springDataRepository.saveAndFlush(entity);
 
         // 3. Converter Entity -> Domain e retornar
         return mapper.toDomain(entitySalva);
     }
 
     @Override
+    @Transactional
+    public List<Veiculo> salvarTodos(List<Veiculo> veiculos) {
+        List<Veiculo> salvos = new ArrayList<>(veiculos.size());
+        for (int i = 0; i < veiculos.size(); i++) {
+            VeiculoEntity entity = mapper.toEntity(veiculos.get(i));
+            entityManager.persist(entity);
+            salvos.add(mapper.toDomain(entity));
+
+            if ((i + 1) % TAMANHO_LOTE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        return salvos;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Optional<Veiculo> buscarPorId(Long id) {
         return springDataRepository.findById(id)
                 .map(mapper::toDomain);
     }
 
     @Override
-    public List<Veiculo> listarTodos() {
-        return springDataRepository.findAll().stream()
+    @Transactional(readOnly = true)
+    public List<Veiculo> buscarPorIds(Collection<Long> ids) {
+        List<Long> todos = new ArrayList<>(ids);
+        List<Veiculo> encontrados = new ArrayList<>(todos.size());
+        for (int i = 0; i < todos.size(); i += IDS_POR_CONSULTA) {
+            List<Long> bloco = todos.subList(i, Math.min(i + IDS_POR_CONSULTA, todos.size()));
+            springDataRepository.findAllById(bloco).forEach(entity -> encontrados.add(mapper.toDomain(entity)));
+        }
+        return encontrados;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> buscarVersao(Long id) {
+        return springDataRepository.findVersaoById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Veiculo> listarTodos(Long aposId, int limite) {
+        return springDataRepository.findPagina(aposId, Limit.of(limite)).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Veiculo> listarDisponiveis(Long aposId, int limite) {
+        return springDataRepository.findPaginaDisponiveis(aposId, Limit.of(limite)).stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
 
     @Override
-    public List<Veiculo> listarDisponiveis() {
-        return springDataRepository.findByDisponivelTrue().stream()
+    @Transactional(readOnly = true)
+    public List<VersaoRegistro> listarVersoesDisponiveis(Long aposId, int limite) {
+        return springDataRepository.findVersoesDisponiveis(aposId, Limit.of(limite)).stream()
+                .map(projecao -> new VersaoRegistro(projecao.id(), projecao.versao()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * A transação mantém o cursor JDBC aberto enquanto o consumidor processa as linhas.
+     * As linhas vêm como projeção: nada entra no contexto de persistência,
+     * então a memória não cresce com o tamanho da tabela.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void percorrerTodos(Consumer<Veiculo> consumidor) {
+        try (Stream<VeiculoProjecao> linhas = springDataRepository.streamAll()) {
+            linhas.forEach(linha -> consumidor.accept(mapper.toDomain(linha)));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void percorrerDisponiveis(Consumer<Veiculo> consumidor) {
+        try (Stream<VeiculoProjecao> linhas = springDataRepository.streamDisponiveis()) {
+            linhas.forEach(linha -> consumidor.accept(mapper.toDomain(linha)));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void percorrerPlacas(Consumer<String> consumidor) {
+        try (Stream<String> placas = springDataRepository.streamPlacas()) {
+            placas.forEach(consumidor);
+        }
+    }
+
+    /**
+     * Usa Slice em vez de Page: busca tamanho + 1 linhas para saber se há
+     * próxima página, sem o SELECT COUNT(*) sobre todas as linhas filtradas
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ResultadoBusca<Veiculo> buscar(FiltroVeiculo filtro) {
+        PageRequest pageRequest = PageRequest.of(filtro.getPagina(), filtro.getTamanho(),
+                VeiculoSpecifications.ordenacao(filtro.getOrdenacao()));
+
+        Slice<VeiculoEntity> slice = springDataRepository.findBy(
+                VeiculoSpecifications.porFiltro(filtro),
+                query -> query.slice(pageRequest));
+
+        List<Veiculo> itens = slice.getContent().stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
+
+        return new ResultadoBusca<>(itens, filtro.getPagina(), filtro.getTamanho(), slice.hasNext());
+    }
+
+    /**
+     * Participa da transação de quem chama (a venda); sem ela, abre uma própria
+     */
+    @Override
+    @Transactional
+    public boolean reservar(Long id) {
+        return springDataRepository.reservar(id) == 1;
+    }
+
+    /**
+     * Bloqueia os disponíveis (SELECT ... FOR UPDATE, em ordem de ID) e
+     * reserva todos eles com um UPDATE: duas idas ao banco por bloco de IDs,
+     * em vez de um UPDATE por veículo
+     */
+    @Override
+    @Transactional
+    public Set<Long> reservarTodos(Collection<Long> ids) {
+        List<Long> todos = ids.stream().sorted().toList();
+        Set<Long> reservados = new HashSet<>();
+        for (int i = 0; i < todos.size(); i += IDS_POR_CONSULTA) {
+            List<Long> disponiveis = springDataRepository.travarDisponiveis(
+                    todos.subList(i, Math.min(i + IDS_POR_CONSULTA, todos.size())));
+            if (!disponiveis.isEmpty()) {
+                springDataRepository.reservarTodos(disponiveis);
+                reservados.addAll(disponiveis);
+            }
+        }
+        return reservados;
     }
 
     @Override
@@ -73,8 +233,23 @@ public class VeiculoRepositoryAdapter implements VeiculoOutputPort {
         springDataRepository.deleteById(id);
     }
 
+    /**
+     * Sem readOnly, como placasExistentes: a verificação de duplicidade
+     * precisa ver as gravações mais recentes, então fica no primário
+     */
     @Override
     public boolean existePorPlaca(String placa) {
         return springDataRepository.existsByPlaca(placa);
     }
+
+    @Override
+    public Set<String> placasExistentes(Collection<String> placas) {
+        List<String> todas = new ArrayList<>(placas);
+        Set<String> existentes = new HashSet<>();
+        for (int i = 0; i < todas.size(); i += PLACAS_POR_CONSULTA) {
+            List<String> bloco = todas.subList(i, Math.min(i + PLACAS_POR_CONSULTA, todas.size()));
+            existentes.addAll(springDataRepository.findPlacasExistentes(bloco));
+        }
+        return existentes;
+    }
 }
@@ -3,12 +3,22 @@ package com.agencia.adapter.output.persistence;
 import com.agencia.adapter.output.persistence.database.VendaSpringDataRepository;
 import com.agencia.adapter.output.persistence.entity.VendaEntity;
 import com.agencia.adapter.output.persistence.mapper.VendaEntityMapper;
+import com.agencia.adapter.output.persistence.projection.ResumoVendaProjecao;
+import com.agencia.adapter.output.persistence.projection.VendaProjecao;
+import com.agencia.domain.model.ResumoVenda;
 import com.agencia.domain.model.Venda;
 import com.agencia.ports.output.VendaOutputPort;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * ADAPTADOR DE SAÍDA - Implementação da persistência de Vendas com JPA
@@ -17,13 +27,21 @@ import java.util.stream.Collectors;
 @Component
 public class VendaRepositoryAdapter implements VendaOutputPort {
 
+    /**
+     * Deve acompanhar hibernate.jdbc.batch_size
+     */
+    private static final int TAMANHO_LOTE = 50;
+
     private final VendaSpringDataRepository springDataRepository;
     private final VendaEntityMapper mapper;
+    private final EntityManager entityManager;
 
     public VendaRepositoryAdapter(VendaSpringDataRepository springDataRepository,
-                                  VendaEntityMapper mapper) {
+                                  VendaEntityMapper mapper,
+                                  EntityManager entityManager) {
         this.springDataRepository = springDataRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -38,10 +56,79 @@ public class VendaRepositoryAdapter implements VendaOutputPort {
         return mapper.toDomain(entitySalva);
     }
 
+    /**
+     * Como em VeiculoRepositoryAdapter.salvarTodos: inserts agrupados
+     * (hibernate.jdbc.batch_size) e contexto de persistência limpo a cada lote
+     */
+    @Override
+    @Transactional
+    public List<Venda> salvarTodas(List<Venda> vendas) {
+        List<Venda> salvas = new ArrayList<>(vendas.size());
+        for (int i = 0; i < vendas.size(); i++) {
+            VendaEntity entity = mapper.toEntity(vendas.get(i));
+            entityManager.persist(entity);
+            salvas.add(mapper.toDomain(entity));
+
+            if ((i + 1) % TAMANHO_LOTE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        return salvas;
+    }
+
     @Override
+    @Transactional(readOnly = true)
     public List<Venda> listarTodas() {
-        return springDataRepository.findAll().stream()
+        return springDataRepository.findAllComVeiculoECliente().stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Venda> listarTodas(Long aposId, int limite) {
+        return springDataRepository.findPagina(aposId, Limit.of(limite)).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * A transação mantém o cursor JDBC aberto enquanto o consumidor processa as linhas.
+     * As linhas vêm como projeção (venda, veículo e cliente): nada entra no
+     * contexto de persistência, então a memória não cresce com o histórico.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void percorrerTodas(Consumer<Venda> consumidor) {
+        try (Stream<VendaProjecao> linhas = springDataRepository.streamAll()) {
+            linhas.forEach(linha -> consumidor.accept(mapper.toDomain(linha)));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ResumoVenda> listarResumos(Long aposId, int limite) {
+        return springDataRepository.findResumos(aposId, Limit.of(limite)).stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Projeções não entram no contexto de persistência: não há o que desanexar
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void percorrerResumos(Consumer<ResumoVenda> consumidor) {
+        try (Stream<ResumoVendaProjecao> resumos = springDataRepository.streamResumos()) {
+            resumos.forEach(resumo -> consumidor.accept(mapper.toDomain(resumo)));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Venda> buscarPorVeiculo(Long veiculoId) {
+        return springDataRepository.findByVeiculoId(veiculoId)
+                .map(mapper::toDomain);
+    }
 }
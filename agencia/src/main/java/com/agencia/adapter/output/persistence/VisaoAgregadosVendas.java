@@ -0,0 +1,169 @@
+package com.agencia.adapter.output.persistence;
+
+import com.agencia.domain.model.AgregadoVendas;
+import com.agencia.domain.model.GrupoAgregado;
+import com.agencia.domain.model.TipoAgregado;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * VISÃO EM MEMÓRIA DOS AGREGADOS DE VENDAS
+ * Cópia da tabela agregados_vendas para as leituras do painel: buscar um grupo
+ * é uma consulta a um mapa, sem ir ao banco.
+ * As vendas só entram aqui depois do commit, para o painel nunca mostrar uma
+ * venda desfeita. O faturamento é acumulado em centavos (LongAdder), sem trava
+ * entre vendas concorrentes.
+ * A trava de leitura/escrita só separa as vendas da reconstrução: uma venda
+ * segura a leitura do commit até somar aqui, e a reconstrução segura a escrita
+ * do commit até trocar a visão. Assim nenhuma venda é somada duas vezes (já contada
+ * na reconstrução e somada de novo) nem perdida (somada na visão descartada).
+ * Usada pelo adapter JPA e pelo adapter do perfil "memoria".
+ */
+public class VisaoAgregadosVendas {
+
+    private final ReadWriteLock trava = new ReentrantReadWriteLock();
+    private volatile Map<TipoAgregado, Map<String, Acumulador>> porTipo = vazia();
+
+    public AgregadoVendas buscar(GrupoAgregado grupo) {
+        Acumulador acumulador = porTipo.get(grupo.getTipo()).get(grupo.getChave());
+        return acumulador == null ? AgregadoVendas.vazio(grupo) : acumulador.valor(grupo);
+    }
+
+    public List<AgregadoVendas> listar(TipoAgregado tipo) {
+        List<AgregadoVendas> agregados = new ArrayList<>();
+        porTipo.get(tipo).forEach((chave, acumulador) ->
+                agregados.add(acumulador.valor(new GrupoAgregado(tipo, chave))));
+        return agregados;
+    }
+
+    public List<AgregadoVendas> todos() {
+        List<AgregadoVendas> agregados = new ArrayList<>();
+        for (TipoAgregado tipo : TipoAgregado.values()) {
+            agregados.addAll(listar(tipo));
+        }
+        return agregados;
+    }
+
+    /**
+     * Troca a visão inteira (carga inicial, sem transação)
+     */
+    public void carregar(List<AgregadoVendas> agregados) {
+        Map<TipoAgregado, Map<String, Acumulador>> nova = vazia();
+        for (AgregadoVendas agregado : agregados) {
+            Acumulador acumulador = nova.get(agregado.getGrupo().getTipo())
+                    .computeIfAbsent(agregado.getGrupo().getChave(), chave -> new Acumulador());
+            acumulador.somar(agregado.getQuantidadeVendas(), agregado.getFaturamento());
+        }
+        porTipo = nova;
+    }
+
+    /**
+     * Soma uma venda aos grupos quando a transação atual for confirmada
+     */
+    public void somarAposCommit(List<GrupoAgregado> grupos, BigDecimal valor) {
+        aposCommit(trava.readLock(), () -> {
+            Map<TipoAgregado, Map<String, Acumulador>> atual = porTipo;
+            for (GrupoAgregado grupo : grupos) {
+                atual.get(grupo.getTipo())
+                        .computeIfAbsent(grupo.getChave(), chave -> new Acumulador())
+                        .somar(1, valor);
+            }
+        });
+    }
+
+    /**
+     * Recalcula e troca a visão segurando a trava de escrita: nenhuma venda é
+     * somada enquanto o recálculo lê as vendas. Para quem recalcula fora de uma
+     * transação do banco (ex: a partir do banco em memória).
+     */
+    public List<AgregadoVendas> substituir(Supplier<List<AgregadoVendas>> recalculo) {
+        Lock escrita = trava.writeLock();
+        escrita.lock();
+        try {
+            List<AgregadoVendas> recalculados = recalculo.get();
+            carregar(recalculados);
+            return recalculados;
+        } finally {
+            escrita.unlock();
+        }
+    }
+
+    /**
+     * Troca a visão pelos valores reconstruídos quando a transação atual for confirmada
+     */
+    public void substituirAposCommit(List<AgregadoVendas> agregados) {
+        aposCommit(trava.writeLock(), () -> carregar(agregados));
+    }
+
+    /**
+     * Segura a trava do início do commit até a ação terminar.
+     * Sem transação ativa, executa na hora.
+     */
+    private void aposCommit(Lock lock, Runnable acao) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            lock.lock();
+            try {
+                acao.run();
+            } finally {
+                lock.unlock();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean travado;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                lock.lock();
+                travado = true;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        acao.run();
+                    }
+                } finally {
+                    if (travado) {
+                        lock.unlock();
+                    }
+                }
+            }
+        });
+    }
+
+    private static Map<TipoAgregado, Map<String, Acumulador>> vazia() {
+        Map<TipoAgregado, Map<String, Acumulador>> porTipo = new EnumMap<>(TipoAgregado.class);
+        for (TipoAgregado tipo : TipoAgregado.values()) {
+            porTipo.put(tipo, new ConcurrentHashMap<>());
+        }
+        return porTipo;
+    }
+
+    private static final class Acumulador {
+        private final LongAdder quantidade = new LongAdder();
+        private final LongAdder centavos = new LongAdder();
+
+        void somar(long vendas, BigDecimal valor) {
+            quantidade.add(vendas);
+            centavos.add(valor.movePointRight(2).longValueExact());
+        }
+
+        AgregadoVendas valor(GrupoAgregado grupo) {
+            return new AgregadoVendas(grupo, quantidade.sum(), BigDecimal.valueOf(centavos.sum(), 2));
+        }
+    }
+}
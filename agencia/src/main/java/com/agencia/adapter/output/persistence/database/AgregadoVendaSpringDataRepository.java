@@ -0,0 +1,65 @@
+package com.agencia.adapter.output.persistence.database;
+
+import com.agencia.adapter.output.persistence.entity.AgregadoVendaEntity;
+import com.agencia.adapter.output.persistence.projection.FaturamentoDiaProjecao;
+import com.agencia.adapter.output.persistence.projection.TotalVendasProjecao;
+import com.agencia.domain.model.TipoAgregado;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * REPOSITORY DO SPRING DATA JPA - Agregados de vendas
+ * Além da tabela agregados_vendas, traz as consultas que recalculam
+ * os agregados a partir das vendas (usadas só na reconstrução).
+ */
+@Repository
+public interface AgregadoVendaSpringDataRepository
+        extends JpaRepository<AgregadoVendaEntity, AgregadoVendaEntity.Chave> {
+
+    /**
+     * Incremento feito pelo banco (sem ler a linha antes):
+     * UPDATE agregados_vendas SET quantidade = quantidade + 1, faturamento = faturamento + ?
+     * WHERE tipo = ? AND chave = ? AND faixa = ?
+     * Retorna 0 quando o grupo ainda não tem a faixa.
+     */
+    @Modifying
+    @Query("UPDATE AgregadoVendaEntity a "
+            + "SET a.quantidade = a.quantidade + 1, a.faturamento = a.faturamento + :valor "
+            + "WHERE a.tipo = :tipo AND a.chave = :chave AND a.faixa = :faixa")
+    int incrementar(@Param("tipo") TipoAgregado tipo,
+                    @Param("chave") String chave,
+                    @Param("faixa") int faixa,
+                    @Param("valor") BigDecimal valor);
+
+    /**
+     * SELECT ... FOR UPDATE: bloqueia todas as faixas do tipo até o fim da transação
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM AgregadoVendaEntity a WHERE a.tipo = :tipo")
+    List<AgregadoVendaEntity> travar(@Param("tipo") TipoAgregado tipo);
+
+    @Query("SELECT count(a) FROM AgregadoVendaEntity a WHERE a.tipo = :tipo AND a.faixa < :faixas")
+    long contarFaixas(@Param("tipo") TipoAgregado tipo, @Param("faixas") int faixas);
+
+    @Query("SELECT new com.agencia.adapter.output.persistence.projection.TotalVendasProjecao("
+            + "'', count(v), sum(v.valorVenda)) FROM VendaEntity v")
+    TotalVendasProjecao recalcularTotal();
+
+    @Query("SELECT new com.agencia.adapter.output.persistence.projection.TotalVendasProjecao("
+            + "ve.marca, count(v), sum(v.valorVenda)) "
+            + "FROM VendaEntity v JOIN v.veiculo ve GROUP BY ve.marca")
+    List<TotalVendasProjecao> recalcularPorMarca();
+
+    @Query("SELECT new com.agencia.adapter.output.persistence.projection.FaturamentoDiaProjecao("
+            + "cast(v.dataVenda as LocalDate), count(v), sum(v.valorVenda)) "
+            + "FROM VendaEntity v GROUP BY cast(v.dataVenda as LocalDate)")
+    List<FaturamentoDiaProjecao> recalcularPorDia();
+}
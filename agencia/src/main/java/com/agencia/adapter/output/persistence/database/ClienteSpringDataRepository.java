@@ -2,10 +2,15 @@ package com.agencia.adapter.output.persistence.database;
 
 import com.agencia.adapter.output.persistence.entity.ClienteEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.Optional;
 
 @Repository
 public interface ClienteSpringDataRepository extends JpaRepository<ClienteEntity, Long> {
     Optional<ClienteEntity> findByCpf(String cpf);
+
+    @Query("SELECT c.versao FROM ClienteEntity c WHERE c.id = :id")
+    Optional<Long> findVersaoById(@Param("id") Long id);
 }
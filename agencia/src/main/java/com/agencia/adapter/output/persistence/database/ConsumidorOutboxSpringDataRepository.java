@@ -0,0 +1,33 @@
+package com.agencia.adapter.output.persistence.database;
+
+import com.agencia.adapter.output.persistence.entity.ConsumidorOutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * REPOSITORY DO SPRING DATA JPA - Consumidores da outbox
+ */
+@Repository
+public interface ConsumidorOutboxSpringDataRepository extends JpaRepository<ConsumidorOutboxEntity, String> {
+
+    @Modifying
+    @Query("UPDATE ConsumidorOutboxEntity c SET c.vistoEm = :agora WHERE c.nome = :nome")
+    int renovar(@Param("nome") String nome, @Param("agora") LocalDateTime agora);
+
+    @Query("SELECT c.nome FROM ConsumidorOutboxEntity c WHERE c.vistoEm >= :limite")
+    List<String> ativos(@Param("limite") LocalDateTime limite);
+
+    @Query("SELECT c.nome FROM ConsumidorOutboxEntity c WHERE c.vistoEm < :limite")
+    List<String> inativos(@Param("limite") LocalDateTime limite);
+
+    @Modifying
+    @Query("DELETE FROM ConsumidorOutboxEntity c WHERE c.nome IN :nomes")
+    int apagar(@Param("nomes") Collection<String> nomes);
+}
@@ -0,0 +1,47 @@
+package com.agencia.adapter.output.persistence.database;
+
+import com.agencia.adapter.output.persistence.entity.EventoOutboxEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * REPOSITORY DO SPRING DATA JPA - Outbox de eventos
+ */
+@Repository
+public interface EventoOutboxSpringDataRepository extends JpaRepository<EventoOutboxEntity, Long> {
+
+    /**
+     * Próximo lote do consumidor, na ordem de gravação (índice consumidor, id):
+     * SELECT * FROM eventos_outbox WHERE consumidor = ? AND tentativas < ? ORDER BY id LIMIT ?
+     */
+    @Query("SELECT e FROM EventoOutboxEntity e WHERE e.consumidor = :consumidor AND e.tentativas < :maximo "
+            + "ORDER BY e.id")
+    List<EventoOutboxEntity> pendentes(@Param("consumidor") String consumidor,
+                                       @Param("maximo") int maximoTentativas, Limit limite);
+
+    long countByConsumidorAndTentativasLessThan(String consumidor, int maximoTentativas);
+
+    @Modifying
+    @Query("UPDATE EventoOutboxEntity e SET e.consumidor = :consumidor WHERE e.consumidor IS NULL")
+    int assumirSemConsumidor(@Param("consumidor") String consumidor);
+
+    @Modifying
+    @Query("DELETE FROM EventoOutboxEntity e WHERE e.consumidor IN :consumidores")
+    int apagarDosConsumidores(@Param("consumidores") Collection<String> consumidores);
+
+    @Modifying
+    @Query("DELETE FROM EventoOutboxEntity e WHERE e.id IN :ids")
+    int apagar(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE EventoOutboxEntity e SET e.tentativas = e.tentativas + 1, e.ultimoErro = :erro "
+            + "WHERE e.id = :id")
+    int registrarFalha(@Param("id") Long id, @Param("erro") String erro);
+}
@@ -0,0 +1,71 @@
+package com.agencia.adapter.output.persistence.database;
+
+import com.agencia.adapter.output.persistence.entity.VendaEntity;
+import com.agencia.adapter.output.persistence.projection.DesempenhoVeiculoProjecao;
+import com.agencia.adapter.output.persistence.projection.FaturamentoDiaProjecao;
+import com.agencia.adapter.output.persistence.projection.FaturamentoMesProjecao;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * REPOSITORY DO SPRING DATA JPA - Relatórios de vendas
+ * Só consultas de agregação sobre vendas (sem save/find das entidades):
+ * cada método devolve uma linha por grupo, calculada pelo banco com GROUP BY.
+ * O filtro por período (data_venda >= ? AND data_venda < ?) usa o índice
+ * idx_vendas_data_venda_valor, que também cobre o valor da venda:
+ * o faturamento por período é calculado sem ler a tabela de vendas.
+ */
+@Repository
+public interface RelatorioVendasSpringDataRepository
+        extends org.springframework.data.repository.Repository<VendaEntity, Long> {
+
+    @Query("SELECT new com.agencia.adapter.output.persistence.projection.FaturamentoDiaProjecao("
+            + "cast(v.dataVenda as LocalDate), count(v), sum(v.valorVenda)) "
+            + "FROM VendaEntity v "
+            + "WHERE v.dataVenda >= :desde AND v.dataVenda < :ate "
+            + "GROUP BY cast(v.dataVenda as LocalDate) "
+            + "ORDER BY cast(v.dataVenda as LocalDate)")
+    List<FaturamentoDiaProjecao> faturamentoPorDia(@Param("desde") LocalDateTime desde,
+                                                   @Param("ate") LocalDateTime ate);
+
+    @Query("SELECT new com.agencia.adapter.output.persistence.projection.FaturamentoMesProjecao("
+            + "extract(year from v.dataVenda), extract(month from v.dataVenda), count(v), sum(v.valorVenda)) "
+            + "FROM VendaEntity v "
+            + "WHERE v.dataVenda >= :desde AND v.dataVenda < :ate "
+            + "GROUP BY extract(year from v.dataVenda), extract(month from v.dataVenda) "
+            + "ORDER BY extract(year from v.dataVenda), extract(month from v.dataVenda)")
+    List<FaturamentoMesProjecao> faturamentoPorMes(@Param("desde") LocalDateTime desde,
+                                                   @Param("ate") LocalDateTime ate);
+
+    /**
+     * Desconto = preço anunciado do veículo - valor da venda;
+     * tempo para vender = data da venda - data de cadastro do veículo (em segundos)
+     */
+    @Query("SELECT new com.agencia.adapter.output.persistence.projection.DesempenhoVeiculoProjecao("
+            + "ve.marca, count(v), sum(v.valorVenda), "
+            + "avg(ve.preco - v.valorVenda), "
+            + "avg((ve.preco - v.valorVenda) * 100 / ve.preco), "
+            + "avg((v.dataVenda - ve.dataCadastro) by second)) "
+            + "FROM VendaEntity v JOIN v.veiculo ve "
+            + "WHERE v.dataVenda >= :desde AND v.dataVenda < :ate "
+            + "GROUP BY ve.marca "
+            + "ORDER BY sum(v.valorVenda) DESC, ve.marca")
+    List<DesempenhoVeiculoProjecao> desempenhoPorMarca(@Param("desde") LocalDateTime desde,
+                                                       @Param("ate") LocalDateTime ate);
+
+    @Query("SELECT new com.agencia.adapter.output.persistence.projection.DesempenhoVeiculoProjecao("
+            + "ve.marca, ve.modelo, count(v), sum(v.valorVenda), "
+            + "avg(ve.preco - v.valorVenda), "
+            + "avg((ve.preco - v.valorVenda) * 100 / ve.preco), "
+            + "avg((v.dataVenda - ve.dataCadastro) by second)) "
+            + "FROM VendaEntity v JOIN v.veiculo ve "
+            + "WHERE v.dataVenda >= :desde AND v.dataVenda < :ate "
+            + "GROUP BY ve.marca, ve.modelo "
+            + "ORDER BY sum(v.valorVenda) DESC, ve.marca, ve.modelo")
+    List<DesempenhoVeiculoProjecao> desempenhoPorModelo(@Param("desde") LocalDateTime desde,
+                                                        @Param("ate") LocalDateTime ate);
+}
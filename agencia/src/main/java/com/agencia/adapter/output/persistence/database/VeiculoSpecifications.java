@@ -0,0 +1,71 @@
+package com.agencia.adapter.output.persistence.database;
+
+import com.agencia.adapter.output.persistence.entity.VeiculoEntity;
+import com.agencia.domain.model.FiltroVeiculo;
+import com.agencia.domain.model.OrdenacaoVeiculo;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SPECIFICATIONS DO SPRING DATA JPA
+ * Traduz o FiltroVeiculo do domínio para uma consulta Criteria.
+ * Só entram no WHERE os critérios informados, e sempre como igualdade ou
+ * faixa sobre a coluna original, para que os índices compostos de
+ * VeiculoEntity possam ser usados.
+ */
+public final class VeiculoSpecifications {
+
+    private VeiculoSpecifications() {
+    }
+
+    public static Specification<VeiculoEntity> porFiltro(FiltroVeiculo filtro) {
+        return (root, query, cb) -> {
+            List<Predicate> predicados = new ArrayList<>();
+
+            if (filtro.getDisponivel() != null) {
+                predicados.add(cb.equal(root.get("disponivel"), filtro.getDisponivel()));
+            }
+            if (filtro.getMarca() != null) {
+                predicados.add(cb.equal(root.get("marca"), filtro.getMarca()));
+            }
+            if (filtro.getModelo() != null) {
+                predicados.add(cb.equal(root.get("modelo"), filtro.getModelo()));
+            }
+            if (filtro.getCor() != null) {
+                predicados.add(cb.equal(root.get("cor"), filtro.getCor()));
+            }
+            if (filtro.getAnoMinimo() != null) {
+                predicados.add(cb.greaterThanOrEqualTo(root.get("ano"), filtro.getAnoMinimo()));
+            }
+            if (filtro.getAnoMaximo() != null) {
+                predicados.add(cb.lessThanOrEqualTo(root.get("ano"), filtro.getAnoMaximo()));
+            }
+            if (filtro.getPrecoMinimo() != null) {
+                predicados.add(cb.greaterThanOrEqualTo(root.get("preco"), filtro.getPrecoMinimo()));
+            }
+            if (filtro.getPrecoMaximo() != null) {
+                predicados.add(cb.lessThanOrEqualTo(root.get("preco"), filtro.getPrecoMaximo()));
+            }
+
+            return cb.and(predicados.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Converte a ordenação do domínio, desempatando pelo ID
+     */
+    public static Sort ordenacao(OrdenacaoVeiculo ordenacao) {
+        Sort sort = switch (ordenacao) {
+            case PRECO_ASC -> Sort.by("preco").ascending();
+            case PRECO_DESC -> Sort.by("preco").descending();
+            case ANO_ASC -> Sort.by("ano").ascending();
+            case ANO_DESC -> Sort.by("ano").descending();
+            case MAIS_RECENTES -> Sort.by("dataCadastro").descending();
+        };
+        return sort.and(Sort.by("id").ascending());
+    }
+}
@@ -1,9 +1,25 @@
 package com.agencia.adapter.output.persistence.database;
 
 import com.agencia.adapter.output.persistence.entity.VeiculoEntity;
+import com.agencia.adapter.output.persistence.projection.VeiculoProjecao;
+import com.agencia.adapter.output.persistence.projection.VersaoProjecao;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 /**
  * REPOSITORY DO SPRING DATA JPA
@@ -11,19 +27,113 @@ import java.util.List;
  * O Spring cria automaticamente a implementação em tempo de execução.
  * Esta é uma interface técnica, específica do Spring Data.
  * NÃO é a mesma coisa que VeiculoRepositoryPort (porta de saída)
+ * JpaSpecificationExecutor habilita as buscas por critérios (VeiculoSpecifications)
  */
 @Repository
-public interface VeiculoSpringDataRepository extends JpaRepository<VeiculoEntity, Long> {
+public interface VeiculoSpringDataRepository extends JpaRepository<VeiculoEntity, Long>,
+        JpaSpecificationExecutor<VeiculoEntity> {
 
     /**
-     * Spring Data JPA gera automaticamente a query:
-     * SELECT * FROM veiculos WHERE disponivel = true
+     * Linhas buscadas por ida ao banco nas consultas em streaming
      */
-    List<VeiculoEntity> findByDisponivelTrue();
+    int FETCH_SIZE = 500;
+
+    /**
+     * Construtor da VeiculoProjecao nas listagens: as linhas não viram entidades gerenciadas
+     */
+    String COLUNAS_PROJECAO = "new com.agencia.adapter.output.persistence.projection.VeiculoProjecao("
+            + "v.id, v.marca, v.modelo, v.ano, v.placa, v.cor, v.preco, v.disponivel, v.dataCadastro, v.versao)";
 
     /**
      * Spring Data JPA gera automaticamente:
      * SELECT EXISTS(SELECT 1 FROM veiculos WHERE placa = ?)
      */
     boolean existsByPlaca(String placa);
+
+    /**
+     * Verificação de placas em conjunto:
+     * SELECT placa FROM veiculos WHERE placa IN (?, ?, ...)
+     */
+    @Query("SELECT v.placa FROM VeiculoEntity v WHERE v.placa IN :placas")
+    List<String> findPlacasExistentes(@Param("placas") Collection<String> placas);
+
+    /**
+     * UPDATE condicional: o banco garante que só uma transação
+     * consegue mudar disponivel de true para false.
+     * Retorna a quantidade de linhas alteradas (0 ou 1).
+     * O UPDATE em massa não passa pelo @Version, então a versão é incrementada aqui.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE VeiculoEntity v SET v.disponivel = false, v.versao = v.versao + 1 "
+            + "WHERE v.id = :id AND v.disponivel = true")
+    int reservar(@Param("id") Long id);
+
+    /**
+     * SELECT id FROM veiculos WHERE id IN (...) AND disponivel = true ORDER BY id FOR UPDATE
+     * Bloqueia até o fim da transação os veículos ainda disponíveis. Duas vendas
+     * em lote com veículos em comum bloqueiam na mesma ordem (sem deadlock);
+     * a segunda espera a primeira terminar e não vê mais como disponíveis os
+     * veículos que ela vendeu.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT v.id FROM VeiculoEntity v WHERE v.id IN :ids AND v.disponivel = true ORDER BY v.id")
+    List<Long> travarDisponiveis(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Reserva dos veículos já bloqueados por travarDisponiveis: um UPDATE para o lote
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE VeiculoEntity v SET v.disponivel = false, v.versao = v.versao + 1 "
+            + "WHERE v.id IN :ids AND v.disponivel = true")
+    int reservarTodos(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Paginação por cursor (keyset), direto para a projeção:
+     * SELECT * FROM veiculos WHERE id > ? ORDER BY id LIMIT ?
+     */
+    @Query("SELECT " + COLUNAS_PROJECAO + " FROM VeiculoEntity v WHERE v.id > :aposId ORDER BY v.id")
+    List<VeiculoProjecao> findPagina(@Param("aposId") Long aposId, Limit limit);
+
+    /**
+     * Paginação por cursor dos disponíveis (índice idx_veiculos_disponivel_id):
+     * SELECT * FROM veiculos WHERE disponivel = true AND id > ? ORDER BY disponivel, id LIMIT ?
+     * O ORDER BY repete as colunas do índice: com só "ORDER BY id" o H2 não
+     * percebe que o índice já está ordenado e ordena todos os disponíveis.
+     */
+    @Query("SELECT " + COLUNAS_PROJECAO + " FROM VeiculoEntity v "
+            + "WHERE v.disponivel = true AND v.id > :aposId ORDER BY v.disponivel, v.id")
+    List<VeiculoProjecao> findPaginaDisponiveis(@Param("aposId") Long aposId, Limit limit);
+
+    /**
+     * Só a versão, sem montar a entidade (usada nas requisições condicionais)
+     */
+    @Query("SELECT v.versao FROM VeiculoEntity v WHERE v.id = :id")
+    Optional<Long> findVersaoById(@Param("id") Long id);
+
+    /**
+     * Mesma página de findPaginaDisponiveis (mesmo filtro, ordem e índice), só com ID e versão
+     */
+    @Query("SELECT new com.agencia.adapter.output.persistence.projection.VersaoProjecao(v.id, v.versao) "
+            + "FROM VeiculoEntity v WHERE v.disponivel = true AND v.id > :aposId "
+            + "ORDER BY v.disponivel, v.id")
+    List<VersaoProjecao> findVersoesDisponiveis(@Param("aposId") Long aposId, Limit limit);
+
+    /**
+     * Leitura via cursor JDBC: as linhas são lidas em lotes de FETCH_SIZE
+     * conforme o Stream é consumido. Precisa de uma transação aberta.
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + FETCH_SIZE))
+    @Query("SELECT " + COLUNAS_PROJECAO + " FROM VeiculoEntity v ORDER BY v.id")
+    Stream<VeiculoProjecao> streamAll();
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + FETCH_SIZE))
+    @Query("SELECT " + COLUNAS_PROJECAO + " FROM VeiculoEntity v WHERE v.disponivel = true ORDER BY v.disponivel, v.id")
+    Stream<VeiculoProjecao> streamDisponiveis();
+
+    /**
+     * Só a coluna placa (coberta pelo índice único), sem montar entidades
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + FETCH_SIZE))
+    @Query("SELECT v.placa FROM VeiculoEntity v")
+    Stream<String> streamPlacas();
 }
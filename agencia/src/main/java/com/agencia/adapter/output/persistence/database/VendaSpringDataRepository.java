@@ -1,9 +1,89 @@
 package com.agencia.adapter.output.persistence.database;
 
 import com.agencia.adapter.output.persistence.entity.VendaEntity;
+import com.agencia.adapter.output.persistence.projection.ResumoVendaProjecao;
+import com.agencia.adapter.output.persistence.projection.VendaProjecao;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface VendaSpringDataRepository extends JpaRepository<VendaEntity, Long> {
+
+    /**
+     * Linhas buscadas por ida ao banco nas consultas em streaming
+     */
+    int FETCH_SIZE = 500;
+
+    /**
+     * Construtor da VendaProjecao nas listagens (venda, veículo ve e cliente c)
+     */
+    String COLUNAS_PROJECAO = "new com.agencia.adapter.output.persistence.projection.VendaProjecao("
+            + "v.id, v.valorVenda, v.dataVenda, "
+            + "ve.id, ve.marca, ve.modelo, ve.ano, ve.placa, ve.cor, ve.preco, ve.disponivel, ve.dataCadastro, ve.versao, "
+            + "c.id, c.nome, c.cpf, c.telefone, c.email, c.versao)";
+
+    /**
+     * Todas as vendas com veículo e cliente em um único SELECT
+     * (as associações são LAZY: findAll() faria um select por venda)
+     */
+    @Query("SELECT v FROM VendaEntity v "
+            + "JOIN FETCH v.veiculo "
+            + "JOIN FETCH v.cliente "
+            + "ORDER BY v.id")
+    List<VendaEntity> findAllComVeiculoECliente();
+
+    /**
+     * Busca a venda de um veículo filtrando direto pela FK vendas.veiculo_id
+     * (índice idx_vendas_veiculo_id). O JOIN FETCH traz veículo e cliente
+     * na mesma consulta, sem selects extras.
+     * Um veículo só pode ser vendido uma vez, então há no máximo uma linha.
+     */
+    @Query("SELECT v FROM VendaEntity v "
+            + "JOIN FETCH v.veiculo "
+            + "JOIN FETCH v.cliente "
+            + "WHERE v.veiculo.id = :veiculoId")
+    Optional<VendaEntity> findByVeiculoId(@Param("veiculoId") Long veiculoId);
+
+    /**
+     * Paginação por cursor (keyset) trazendo veículo e cliente no mesmo SELECT,
+     * direto para a projeção
+     */
+    @Query("SELECT " + COLUNAS_PROJECAO + " FROM VendaEntity v JOIN v.veiculo ve JOIN v.cliente c "
+            + "WHERE v.id > :aposId ORDER BY v.id")
+    List<VendaProjecao> findPagina(@Param("aposId") Long aposId, Limit limit);
+
+    /**
+     * Leitura via cursor JDBC, em lotes de FETCH_SIZE linhas.
+     * Precisa de uma transação aberta enquanto o Stream é consumido.
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + FETCH_SIZE))
+    @Query("SELECT " + COLUNAS_PROJECAO + " FROM VendaEntity v JOIN v.veiculo ve JOIN v.cliente c "
+            + "ORDER BY v.id")
+    Stream<VendaProjecao> streamAll();
+
+    /**
+     * Resumo das vendas (keyset): só as colunas exibidas na listagem
+     */
+    @Query("SELECT new com.agencia.adapter.output.persistence.projection.ResumoVendaProjecao("
+            + "v.id, ve.id, ve.placa, ve.marca, ve.modelo, c.id, c.nome, v.valorVenda, v.dataVenda) "
+            + "FROM VendaEntity v JOIN v.veiculo ve JOIN v.cliente c "
+            + "WHERE v.id > :aposId ORDER BY v.id")
+    List<ResumoVendaProjecao> findResumos(@Param("aposId") Long aposId, Limit limit);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + FETCH_SIZE))
+    @Query("SELECT new com.agencia.adapter.output.persistence.projection.ResumoVendaProjecao("
+            + "v.id, ve.id, ve.placa, ve.marca, ve.modelo, c.id, c.nome, v.valorVenda, v.dataVenda) "
+            + "FROM VendaEntity v JOIN v.veiculo ve JOIN v.cliente c "
+            + "ORDER BY v.id")
+    Stream<ResumoVendaProjecao> streamResumos();
 }
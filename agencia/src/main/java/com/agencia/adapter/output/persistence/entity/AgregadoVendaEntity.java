@@ -0,0 +1,54 @@
+package com.agencia.adapter.output.persistence.entity;
+
+import com.agencia.domain.model.TipoAgregado;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * Agregados de vendas: até uma linha por grupo (total, marca ou dia) e faixa,
+ * incrementada na mesma transação de cada venda.
+ * O valor do grupo é a soma das suas faixas.
+ */
+@Entity
+@Table(name = "agregados_vendas")
+@IdClass(AgregadoVendaEntity.Chave.class)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AgregadoVendaEntity {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private TipoAgregado tipo;
+
+    @Id
+    @Column(nullable = false, length = 50)
+    private String chave;
+
+    @Id
+    @Column(nullable = false)
+    private Integer faixa;
+
+    @Column(nullable = false)
+    private Long quantidade;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal faturamento;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Chave implements Serializable {
+        private TipoAgregado tipo;
+        private String chave;
+        private Integer faixa;
+    }
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Table(name = "clientes")
@@ -29,4 +30,12 @@ public class ClienteEntity {
 
     @Column(length = 100)
     private String email;
+
+    /**
+     * Controle de concorrência otimista e base do ETag (ver VeiculoEntity)
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long versao;
 }
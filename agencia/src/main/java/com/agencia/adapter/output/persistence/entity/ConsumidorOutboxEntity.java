@@ -0,0 +1,31 @@
+package com.agencia.adapter.output.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * ENTIDADE JPA - Consumidor da outbox
+ * Uma linha por instância da aplicação que despacha eventos. O despachante
+ * renova visto_em periodicamente; o consumidor que fica sem renovar além do
+ * tempo de inatividade é removido, junto com as cópias de eventos que ainda
+ * esperavam por ele.
+ */
+@Entity
+@Table(name = "consumidores_outbox")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConsumidorOutboxEntity {
+
+    @Id
+    @Column(length = 100)
+    private String nome;
+
+    @Column(name = "visto_em", nullable = false)
+    private LocalDateTime vistoEm;
+}
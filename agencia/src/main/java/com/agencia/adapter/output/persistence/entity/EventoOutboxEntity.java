@@ -0,0 +1,65 @@
+package com.agencia.adapter.output.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * ENTIDADE JPA - Outbox de eventos de domínio
+ * Cada linha é um evento gravado na transação que o gerou e ainda não
+ * entregue ao broker por um consumidor (instância da aplicação): o evento
+ * é gravado uma vez para cada consumidor ativo. A linha é apagada depois
+ * da entrega; a ordem de entrega é a do id.
+ */
+@Entity
+@Table(name = "eventos_outbox")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventoOutboxEntity {
+
+    /**
+     * Sequence pooled, como em VeiculoEntity: o cadastro em lote grava
+     * um evento por veículo e os inserts também são agrupados
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "eventos_outbox_seq")
+    @SequenceGenerator(name = "eventos_outbox_seq", sequenceName = "eventos_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * Consumidor que vai entregar esta cópia do evento (ConsumidorOutboxEntity).
+     * Nulo só nos eventos gravados antes dos consumidores existirem: o primeiro
+     * consumidor que se registra fica com eles.
+     */
+    @Column(length = 100)
+    private String consumidor;
+
+    /**
+     * Nome simples da classe do evento (ex: VendaRealizada)
+     */
+    @Column(nullable = false, length = 100)
+    private String tipo;
+
+    /**
+     * Evento serializado em JSON
+     */
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    @Column(name = "criado_em", nullable = false)
+    private LocalDateTime criadoEm;
+
+    /**
+     * Entregas que falharam; ao atingir o máximo o evento deixa de ser despachado
+     */
+    @Column(nullable = false)
+    private int tentativas;
+
+    @Column(name = "ultimo_erro", length = 500)
+    private String ultimoErro;
+}
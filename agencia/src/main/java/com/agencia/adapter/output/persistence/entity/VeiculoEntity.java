@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
@@ -18,15 +19,29 @@ import java.time.LocalDateTime;
  * Um MAPPER faz a conversão entre elas
  */
 @Entity
-@Table(name = "veiculos")
+@Table(name = "veiculos", indexes = {
+        @Index(name = "idx_veiculos_disponivel_id", columnList = "disponivel, id"),
+        // Índices compostos para as combinações de filtro mais comuns da busca
+        @Index(name = "idx_veiculos_disp_marca_modelo_ano", columnList = "disponivel, marca, modelo, ano"),
+        @Index(name = "idx_veiculos_disp_preco", columnList = "disponivel, preco"),
+        @Index(name = "idx_veiculos_disp_ano_preco", columnList = "disponivel, ano, preco"),
+        @Index(name = "idx_veiculos_marca_modelo_preco", columnList = "marca, modelo, preco")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class VeiculoEntity {
 
+    /**
+     * Sequence com alocação em blocos (pooled): o Hibernate reserva 50 IDs
+     * por ida ao banco e não precisa executar cada INSERT para obter o ID,
+     * o que permite agrupar os inserts (hibernate.jdbc.batch_size).
+     * Com IDENTITY o batch de inserts fica desabilitado.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "veiculos_seq")
+    @SequenceGenerator(name = "veiculos_seq", sequenceName = "veiculos_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 50)
@@ -52,4 +67,15 @@ public class VeiculoEntity {
 
     @Column(name = "data_cadastro", nullable = false)
     private LocalDateTime dataCadastro;
+
+    /**
+     * Controle de concorrência otimista: o Hibernate incrementa a cada UPDATE
+     * e inclui "AND versao = ?" no WHERE. Também é a base do ETag da API.
+     * O default da coluna cobre inserts feitos direto por SQL.
+     * Wrapper (e não long): versão null indica entidade nova para o Spring Data.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long versao;
 }
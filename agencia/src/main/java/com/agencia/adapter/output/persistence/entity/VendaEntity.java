@@ -9,22 +9,40 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "vendas")
+@Table(name = "vendas", uniqueConstraints = {
+        // Um veículo é vendido uma vez: a constraint barra a segunda venda
+        // mesmo se duas transações passarem juntas pela verificação de disponível
+        @UniqueConstraint(name = "uk_vendas_veiculo_id", columnNames = "veiculo_id")
+}, indexes = {
+        // Filtro por período dos relatórios; o valor no índice permite somar o
+        // faturamento sem ler as linhas da tabela
+        @Index(name = "idx_vendas_data_venda_valor", columnList = "data_venda, valor_venda")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class VendaEntity {
 
+    /**
+     * Sequence com alocação em blocos, como em VeiculoEntity:
+     * com IDENTITY os inserts da venda em lote não seriam agrupados
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vendas_seq")
+    @SequenceGenerator(name = "vendas_seq", sequenceName = "vendas_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    /**
+     * Associações LAZY: as consultas que precisam do veículo e do cliente
+     * usam JOIN FETCH (VendaSpringDataRepository); as listagens resumidas
+     * usam projeção e não carregam as entidades.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "veiculo_id", nullable = false)
     private VeiculoEntity veiculo;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "cliente_id", nullable = false)
     private ClienteEntity cliente;
 
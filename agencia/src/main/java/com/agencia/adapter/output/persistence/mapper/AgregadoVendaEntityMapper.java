@@ -0,0 +1,39 @@
+package com.agencia.adapter.output.persistence.mapper;
+
+import com.agencia.adapter.output.persistence.entity.AgregadoVendaEntity;
+import com.agencia.domain.model.AgregadoVendas;
+import com.agencia.domain.model.GrupoAgregado;
+import org.springframework.stereotype.Component;
+
+/**
+ * MAPPER - Converte entre AgregadoVendaEntity (JPA) e AgregadoVendas (Domain)
+ */
+@Component
+public class AgregadoVendaEntityMapper {
+
+    public AgregadoVendas toDomain(AgregadoVendaEntity entity) {
+        return new AgregadoVendas(toGrupo(entity), entity.getQuantidade(), entity.getFaturamento());
+    }
+
+    public GrupoAgregado toGrupo(AgregadoVendaEntity entity) {
+        return new GrupoAgregado(entity.getTipo(), entity.getChave());
+    }
+
+    public AgregadoVendaEntity toEntity(AgregadoVendas agregado, int faixa) {
+        return AgregadoVendaEntity.builder()
+                .tipo(agregado.getGrupo().getTipo())
+                .chave(agregado.getGrupo().getChave())
+                .faixa(faixa)
+                .quantidade(agregado.getQuantidadeVendas())
+                .faturamento(agregado.getFaturamento())
+                .build();
+    }
+
+    public AgregadoVendaEntity.Chave toChave(GrupoAgregado grupo, int faixa) {
+        return new AgregadoVendaEntity.Chave(grupo.getTipo(), grupo.getChave(), faixa);
+    }
+
+    public AgregadoVendaEntity.Chave toChave(AgregadoVendaEntity entity) {
+        return new AgregadoVendaEntity.Chave(entity.getTipo(), entity.getChave(), entity.getFaixa());
+    }
+}
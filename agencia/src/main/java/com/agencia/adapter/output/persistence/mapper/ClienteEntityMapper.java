@@ -9,23 +9,23 @@ public class ClienteEntityMapper {
 
     public Cliente toDomain(ClienteEntity entity) {
         if (entity == null) return null;
-        return Cliente.builder()
-                .id(entity.getId())
-                .nome(entity.getNome())
-                .cpf(entity.getCpf())
-                .telefone(entity.getTelefone())
-                .email(entity.getEmail())
-                .build();
+        return new Cliente(
+                entity.getId(),
+                entity.getNome(),
+                entity.getCpf(),
+                entity.getTelefone(),
+                entity.getEmail(),
+                entity.getVersao());
     }
 
     public ClienteEntity toEntity(Cliente domain) {
         if (domain == null) return null;
-        return ClienteEntity.builder()
-                .id(domain.getId())
-                .nome(domain.getNome())
-                .cpf(domain.getCpf())
-                .telefone(domain.getTelefone())
-                .email(domain.getEmail())
-                .build();
+        return new ClienteEntity(
+                domain.getId(),
+                domain.getNome(),
+                domain.getCpf(),
+                domain.getTelefone(),
+                domain.getEmail(),
+                domain.getVersao());
     }
 }
@@ -0,0 +1,52 @@
+package com.agencia.adapter.output.persistence.mapper;
+
+import com.agencia.adapter.output.persistence.projection.DesempenhoVeiculoProjecao;
+import com.agencia.adapter.output.persistence.projection.FaturamentoDiaProjecao;
+import com.agencia.adapter.output.persistence.projection.FaturamentoMesProjecao;
+import com.agencia.domain.model.DesempenhoVeiculo;
+import com.agencia.domain.model.FaturamentoPeriodo;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+/**
+ * MAPPER - Converte as projeções dos relatórios de vendas em objetos do domínio
+ */
+@Component
+public class RelatorioVendasMapper {
+
+    private static final double SEGUNDOS_POR_DIA = 86_400d;
+
+    public FaturamentoPeriodo toDomain(FaturamentoDiaProjecao projecao) {
+        return new FaturamentoPeriodo(projecao.dia(), projecao.quantidade(), projecao.faturamento());
+    }
+
+    /**
+     * O mês é representado pelo seu primeiro dia
+     */
+    public FaturamentoPeriodo toDomain(FaturamentoMesProjecao projecao) {
+        return new FaturamentoPeriodo(LocalDate.of(projecao.ano(), projecao.mes(), 1),
+                projecao.quantidade(), projecao.faturamento());
+    }
+
+    public DesempenhoVeiculo toDomain(DesempenhoVeiculoProjecao projecao) {
+        return DesempenhoVeiculo.builder()
+                .marca(projecao.marca())
+                .modelo(projecao.modelo())
+                .quantidadeVendas(projecao.quantidade())
+                .faturamento(projecao.faturamento())
+                .descontoMedio(BigDecimal.valueOf(projecao.descontoMedio()).setScale(2, RoundingMode.HALF_UP))
+                .descontoPercentualMedio(arredondar(projecao.descontoPercentualMedio()))
+                .diasMedioParaVender(arredondar(projecao.segundosMedioParaVender() / SEGUNDOS_POR_DIA))
+                .build();
+    }
+
+    /**
+     * Duas casas decimais bastam para o relatório e deixam o JSON menor
+     */
+    private static double arredondar(double valor) {
+        return Math.round(valor * 100) / 100d;
+    }
+}
@@ -1,6 +1,7 @@
 package com.agencia.adapter.output.persistence.mapper;
 
 import com.agencia.adapter.output.persistence.entity.VeiculoEntity;
+import com.agencia.adapter.output.persistence.projection.VeiculoProjecao;
 import com.agencia.domain.model.Veiculo;
 import org.springframework.stereotype.Component;
 
@@ -10,6 +11,9 @@ import org.springframework.stereotype.Component;
  * - Veiculo (domínio) <-> VeiculoEntity (JPA)
  * Isso mantém o domínio independente da tecnologia de persistência.
  * Se mudarmos de JPA para MongoDB, só precisamos mudar o mapper e o adapter.
+ * As conversões chamam o construtor com todos os campos, na ordem em que
+ * são declarados, em vez do builder: cada linha de uma listagem passa por
+ * aqui, e o builder é um objeto a mais por conversão.
  */
 @Component
 public class VeiculoEntityMapper {
@@ -20,17 +24,36 @@ public class VeiculoEntityMapper {
     public Veiculo toDomain(VeiculoEntity entity) {
         if (entity == null) return null;
 
-        return Veiculo.builder()
-                .id(entity.getId())
-                .marca(entity.getMarca())
-                .modelo(entity.getModelo())
-                .ano(entity.getAno())
-                .placa(entity.getPlaca())
-                .cor(entity.getCor())
-                .preco(entity.getPreco())
-                .disponivel(entity.getDisponivel())
-                .dataCadastro(entity.getDataCadastro())
-                .build();
+        return new Veiculo(
+                entity.getId(),
+                entity.getMarca(),
+                entity.getModelo(),
+                entity.getAno(),
+                entity.getPlaca(),
+                entity.getCor(),
+                entity.getPreco(),
+                entity.getDisponivel(),
+                entity.getDataCadastro(),
+                entity.getVersao());
+    }
+
+    /**
+     * Converte Projeção (listagens) -> Domain, sem passar pela entidade
+     */
+    public Veiculo toDomain(VeiculoProjecao projecao) {
+        if (projecao == null) return null;
+
+        return new Veiculo(
+                projecao.id(),
+                projecao.marca(),
+                projecao.modelo(),
+                projecao.ano(),
+                projecao.placa(),
+                projecao.cor(),
+                projecao.preco(),
+                projecao.disponivel(),
+                projecao.dataCadastro(),
+                projecao.versao());
     }
 
     /**
@@ -39,16 +62,16 @@ public class VeiculoEntityMapper {
     public VeiculoEntity toEntity(Veiculo domain) {
         if (domain == null) return null;
 
-        return VeiculoEntity.builder()
-                .id(domain.getId())
-                .marca(domain.getMarca())
-                .modelo(domain.getModelo())
-                .ano(domain.getAno())
-                .placa(domain.getPlaca())
-                .cor(domain.getCor())
-                .preco(domain.getPreco())
-                .disponivel(domain.getDisponivel())
-                .dataCadastro(domain.getDataCadastro())
-                .build();
+        return new VeiculoEntity(
+                domain.getId(),
+                domain.getMarca(),
+                domain.getModelo(),
+                domain.getAno(),
+                domain.getPlaca(),
+                domain.getCor(),
+                domain.getPreco(),
+                domain.getDisponivel(),
+                domain.getDataCadastro(),
+                domain.getVersao());
     }
 }
@@ -1,11 +1,17 @@
 package com.agencia.adapter.output.persistence.mapper;
 
 import com.agencia.adapter.output.persistence.entity.VendaEntity;
+import com.agencia.adapter.output.persistence.projection.ResumoVendaProjecao;
+import com.agencia.adapter.output.persistence.projection.VendaProjecao;
+import com.agencia.domain.model.Cliente;
+import com.agencia.domain.model.ResumoVenda;
+import com.agencia.domain.model.Veiculo;
 import com.agencia.domain.model.Venda;
 import org.springframework.stereotype.Component;
 
 /**
  * MAPPER - Converte entre VendaEntity (JPA) e Venda (Domain)
+ * Como em VeiculoEntityMapper, os objetos são montados pelo construtor, sem builder.
  */
 @Component
 public class VendaEntityMapper {
@@ -25,13 +31,57 @@ public class VendaEntityMapper {
     public Venda toDomain(VendaEntity entity) {
         if (entity == null) return null;
 
-        return Venda.builder()
-                .id(entity.getId())
-                .veiculo(veiculoMapper.toDomain(entity.getVeiculo()))
-                .cliente(clienteMapper.toDomain(entity.getCliente()))
-                .valorVenda(entity.getValorVenda())
-                .dataVenda(entity.getDataVenda())
-                .build();
+        return new Venda(
+                entity.getId(),
+                veiculoMapper.toDomain(entity.getVeiculo()),
+                clienteMapper.toDomain(entity.getCliente()),
+                entity.getValorVenda(),
+                entity.getDataVenda());
+    }
+
+    /**
+     * Converte Projeção (listagens) -> Domain, com veículo e cliente da mesma linha
+     */
+    public Venda toDomain(VendaProjecao projecao) {
+        if (projecao == null) return null;
+
+        Veiculo veiculo = new Veiculo(
+                projecao.veiculoId(),
+                projecao.marca(),
+                projecao.modelo(),
+                projecao.ano(),
+                projecao.placa(),
+                projecao.cor(),
+                projecao.preco(),
+                projecao.disponivel(),
+                projecao.dataCadastro(),
+                projecao.veiculoVersao());
+        Cliente cliente = new Cliente(
+                projecao.clienteId(),
+                projecao.nome(),
+                projecao.cpf(),
+                projecao.telefone(),
+                projecao.email(),
+                projecao.clienteVersao());
+        return new Venda(projecao.id(), veiculo, cliente, projecao.valorVenda(), projecao.dataVenda());
+    }
+
+    /**
+     * Converte Projeção (JPA) -> Resumo de venda (Domain)
+     */
+    public ResumoVenda toDomain(ResumoVendaProjecao projecao) {
+        if (projecao == null) return null;
+
+        return new ResumoVenda(
+                projecao.id(),
+                projecao.veiculoId(),
+                projecao.placa(),
+                projecao.marca(),
+                projecao.modelo(),
+                projecao.clienteId(),
+                projecao.nomeCliente(),
+                projecao.valorVenda(),
+                projecao.dataVenda());
     }
 
     /**
@@ -40,12 +90,11 @@ public class VendaEntityMapper {
     public VendaEntity toEntity(Venda domain) {
         if (domain == null) return null;
 
-        return VendaEntity.builder()
-                .id(domain.getId())
-                .veiculo(veiculoMapper.toEntity(domain.getVeiculo()))
-                .cliente(clienteMapper.toEntity(domain.getCliente()))
-                .valorVenda(domain.getValorVenda())
-                .dataVenda(domain.getDataVenda())
-                .build();
+        return new VendaEntity(
+                domain.getId(),
+                veiculoMapper.toEntity(domain.getVeiculo()),
+                clienteMapper.toEntity(domain.getCliente()),
+                domain.getValorVenda(),
+                domain.getDataVenda());
     }
 }
@@ -0,0 +1,27 @@
+package com.agencia.adapter.output.persistence.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * PROJEÇÃO JPA - Desempenho de vendas de uma marca ou modelo (uma linha do GROUP BY)
+ * As médias vêm do banco como Double; o tempo para vender vem em segundos.
+ */
+public record DesempenhoVeiculoProjecao(
+        String marca,
+        String modelo,
+        Long quantidade,
+        BigDecimal faturamento,
+        Double descontoMedio,
+        Double descontoPercentualMedio,
+        Double segundosMedioParaVender) {
+
+    /**
+     * Usado no agrupamento só por marca (sem modelo)
+     */
+    public DesempenhoVeiculoProjecao(String marca, Long quantidade, BigDecimal faturamento,
+                                     Double descontoMedio, Double descontoPercentualMedio,
+                                     Double segundosMedioParaVender) {
+        this(marca, null, quantidade, faturamento, descontoMedio, descontoPercentualMedio,
+                segundosMedioParaVender);
+    }
+}
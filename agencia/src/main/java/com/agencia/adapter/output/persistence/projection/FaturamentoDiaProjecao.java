@@ -0,0 +1,13 @@
+package com.agencia.adapter.output.persistence.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * PROJEÇÃO JPA - Faturamento de um dia (uma linha do GROUP BY)
+ */
+public record FaturamentoDiaProjecao(
+        LocalDate dia,
+        Long quantidade,
+        BigDecimal faturamento) {
+}
@@ -0,0 +1,13 @@
+package com.agencia.adapter.output.persistence.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * PROJEÇÃO JPA - Faturamento de um mês (uma linha do GROUP BY)
+ */
+public record FaturamentoMesProjecao(
+        Integer ano,
+        Integer mes,
+        Long quantidade,
+        BigDecimal faturamento) {
+}
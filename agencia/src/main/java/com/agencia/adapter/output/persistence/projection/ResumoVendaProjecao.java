@@ -0,0 +1,21 @@
+package com.agencia.adapter.output.persistence.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * PROJEÇÃO JPA - Resumo de venda
+ * Preenchida direto pela consulta (SELECT new ...): só as colunas necessárias,
+ * sem entidades gerenciadas pelo contexto de persistência.
+ */
+public record ResumoVendaProjecao(
+        Long id,
+        Long veiculoId,
+        String placa,
+        String marca,
+        String modelo,
+        Long clienteId,
+        String nomeCliente,
+        BigDecimal valorVenda,
+        LocalDateTime dataVenda) {
+}
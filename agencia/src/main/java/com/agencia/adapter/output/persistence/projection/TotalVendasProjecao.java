@@ -0,0 +1,13 @@
+package com.agencia.adapter.output.persistence.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * PROJEÇÃO JPA - Quantidade e soma das vendas de um grupo
+ * O faturamento vem nulo quando não há vendas (SUM de nenhuma linha)
+ */
+public record TotalVendasProjecao(
+        String chave,
+        Long quantidade,
+        BigDecimal faturamento) {
+}
@@ -0,0 +1,24 @@
+package com.agencia.adapter.output.persistence.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * PROJEÇÃO JPA - Veículo das listagens
+ * Todas as colunas de veiculos, preenchidas direto pela consulta (SELECT new ...).
+ * Ao contrário da entidade, não entra no contexto de persistência: o Hibernate
+ * não guarda a cópia do estado carregado para o dirty checking, e não há o que
+ * desanexar nas leituras em streaming.
+ */
+public record VeiculoProjecao(
+        Long id,
+        String marca,
+        String modelo,
+        Integer ano,
+        String placa,
+        String cor,
+        BigDecimal preco,
+        Boolean disponivel,
+        LocalDateTime dataCadastro,
+        Long versao) {
+}
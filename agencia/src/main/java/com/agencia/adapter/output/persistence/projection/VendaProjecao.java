@@ -0,0 +1,31 @@
+package com.agencia.adapter.output.persistence.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * PROJEÇÃO JPA - Venda das listagens, com veículo e cliente
+ * Uma linha do JOIN entre vendas, veiculos e clientes, sem entidades
+ * gerenciadas (veja VeiculoProjecao).
+ */
+public record VendaProjecao(
+        Long id,
+        BigDecimal valorVenda,
+        LocalDateTime dataVenda,
+        Long veiculoId,
+        String marca,
+        String modelo,
+        Integer ano,
+        String placa,
+        String cor,
+        BigDecimal preco,
+        Boolean disponivel,
+        LocalDateTime dataCadastro,
+        Long veiculoVersao,
+        Long clienteId,
+        String nome,
+        String cpf,
+        String telefone,
+        String email,
+        Long clienteVersao) {
+}
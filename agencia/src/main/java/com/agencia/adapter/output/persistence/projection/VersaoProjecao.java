@@ -0,0 +1,9 @@
+package com.agencia.adapter.output.persistence.projection;
+
+/**
+ * PROJEÇÃO JPA - ID e versão de um registro (sem as demais colunas)
+ */
+public record VersaoProjecao(
+        Long id,
+        Long versao) {
+}
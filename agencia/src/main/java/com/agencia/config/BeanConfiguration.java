@@ -1,11 +1,80 @@
 package com.agencia.config;
 
+import com.agencia.adapter.output.busca.IndiceBuscaVeiculosLuceneAdapter;
+import com.agencia.adapter.output.cache.ClienteCacheAdapter;
+import com.agencia.adapter.output.cache.VeiculoCacheAdapter;
+import com.agencia.adapter.output.cache.VeiculoFiltroPlacasAdapter;
+import com.agencia.adapter.output.catalogo.CatalogoMemoriaAdapter;
+import com.agencia.adapter.output.evento.BrokerEventos;
+import com.agencia.adapter.output.evento.BrokerEventosEmProcesso;
+import com.agencia.adapter.output.evento.PublicadorEventosOutbox;
+import com.agencia.adapter.output.evento.PublicadorEventosSincrono;
+import com.agencia.adapter.output.evento.SerializadorEventos;
+import com.agencia.adapter.output.persistence.AgregadosVendasRepositoryAdapter;
+import com.agencia.adapter.output.persistence.ClienteRepositoryAdapter;
+import com.agencia.adapter.output.persistence.OutboxEventosRepositoryAdapter;
+import com.agencia.adapter.output.persistence.RelatorioVendasRepositoryAdapter;
+import com.agencia.adapter.output.persistence.VeiculoRepositoryAdapter;
+import com.agencia.adapter.output.persistence.VendaRepositoryAdapter;
+import com.agencia.config.limite.LimiteConcorrenciaAdaptativo;
+import com.agencia.config.limite.VendaInputPortLimitado;
+import com.agencia.config.metricas.AgregadosVendasInputPortInstrumentado;
+import com.agencia.config.metricas.AgregadosVendasOutputPortInstrumentado;
+import com.agencia.config.metricas.BuscaVeiculosInputPortInstrumentado;
+import com.agencia.config.metricas.CatalogoInputPortInstrumentado;
+import com.agencia.config.metricas.CatalogoOutputPortInstrumentado;
+import com.agencia.config.metricas.CatalogoQueryPortInstrumentado;
+import com.agencia.config.metricas.ClienteOutputPortInstrumentado;
+import com.agencia.config.metricas.IndiceBuscaVeiculosOutputPortInstrumentado;
+import com.agencia.config.metricas.PublicadorEventosOutputPortInstrumentado;
+import com.agencia.config.metricas.RelatorioVendasInputPortInstrumentado;
+import com.agencia.config.metricas.RelatorioVendasOutputPortInstrumentado;
+import com.agencia.config.metricas.VeiculoInputPortInstrumentado;
+import com.agencia.config.metricas.VeiculoOutputPortInstrumentado;
+import com.agencia.config.metricas.VendaInputPortInstrumentado;
+import com.agencia.config.metricas.VendaOutputPortInstrumentado;
+import com.agencia.domain.model.Cliente;
+import com.agencia.domain.model.Veiculo;
+import com.agencia.domain.service.AgregadosVendasService;
+import com.agencia.domain.service.BuscaVeiculosService;
+import com.agencia.domain.service.CatalogoService;
+import com.agencia.domain.service.RelatorioVendasService;
 import com.agencia.domain.service.VeiculoService;
 import com.agencia.domain.service.VendaService;
+import com.agencia.ports.input.AgregadosVendasInputPort;
+import com.agencia.ports.input.AssinanteEventos;
+import com.agencia.ports.input.AssinanteEventosAssincrono;
+import com.agencia.ports.input.BuscaVeiculosInputPort;
+import com.agencia.ports.input.CatalogoInputPort;
+import com.agencia.ports.input.CatalogoQueryPort;
+import com.agencia.ports.input.RelatorioVendasInputPort;
+import com.agencia.ports.input.VeiculoInputPort;
+import com.agencia.ports.input.VendaInputPort;
+import com.agencia.ports.output.AgregadosVendasOutputPort;
+import com.agencia.ports.output.CatalogoOutputPort;
+import com.agencia.ports.output.ClienteOutputPort;
+import com.agencia.ports.output.IndiceBuscaVeiculosOutputPort;
+import com.agencia.ports.output.PublicadorEventosOutputPort;
+import com.agencia.ports.output.RelatorioVendasOutputPort;
 import com.agencia.ports.output.VeiculoOutputPort;
 import com.agencia.ports.output.VendaOutputPort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
 
 /**
  * CONFIGURAÇÃO DE BEANS DO SPRING
@@ -30,20 +99,267 @@ public class BeanConfiguration {
      * 3. Disponibilizar como VeiculoServicePort para os controllers
      * Isso permite que o controller dependa apenas da interface (Port),
      * não da implementação concreta (Service)
+     * O service é envolvido pelo decorator transacional (cadastro, alteração e
+     * remoção gravados junto com o evento na outbox) e pelo de métricas (agencia.porta)
      */
     @Bean
-    public VeiculoService vendaOutputPort(
-            VeiculoOutputPort veiculoOutputPort) {
-        return new VeiculoService(veiculoOutputPort);
+    public VeiculoInputPort vendaOutputPort(
+            VeiculoOutputPort veiculoOutputPort,
+            PublicadorEventosOutputPort publicadorEventos,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        return new VeiculoInputPortInstrumentado(
+                new VeiculoInputPortTransacional(
+                        new VeiculoService(veiculoOutputPort, publicadorEventos),
+                        new TransactionTemplate(transactionManager)),
+                meterRegistry);
     }
 
     /**
      * Cria o bean do VendaService
+     * O service é envolvido pelo decorator transacional: a reserva do veículo,
+     * o registro da venda e os assinantes do evento VendaRealizada
+     * (agregados do painel) acontecem na mesma transação.
+     * Com o limite de concorrência ligado (agencia.limite.concorrencia.*), o
+     * controle de admissão fica entre os dois: a venda recusada não abre transação.
+     * Por fora fica o decorator de métricas, que mede também o commit.
      */
     @Bean
-    public VendaService vendaServicePort(
+    public VendaInputPort vendaServicePort(
             VendaOutputPort vendaOutputPort,
-            VeiculoOutputPort veiculoOutputPort) {
-        return new VendaService(vendaOutputPort, veiculoOutputPort);
+            VeiculoOutputPort veiculoOutputPort,
+            PublicadorEventosOutputPort publicadorEventos,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("limiteConcorrenciaVendas") ObjectProvider<LimiteConcorrenciaAdaptativo> limiteVendas,
+            @Qualifier("limiteConcorrenciaVendasLote") ObjectProvider<LimiteConcorrenciaAdaptativo> limiteLotes,
+            @Value("${agencia.limite.concorrencia.tentar-apos:1s}") Duration tentarApos,
+            MeterRegistry meterRegistry) {
+        VendaInputPort vendaInputPort = new VendaInputPortTransacional(
+                new VendaService(vendaOutputPort, veiculoOutputPort, publicadorEventos),
+                new TransactionTemplate(transactionManager));
+        if (limiteVendas.getIfAvailable() != null && limiteLotes.getIfAvailable() != null) {
+            vendaInputPort = new VendaInputPortLimitado(vendaInputPort,
+                    limiteVendas.getObject(), limiteLotes.getObject(), tentarApos, meterRegistry);
+        }
+        return new VendaInputPortInstrumentado(vendaInputPort, meterRegistry);
+    }
+
+    /**
+     * Publicação de eventos de domínio, na transação de quem publica:
+     * entrega aos assinantes síncronos (AssinanteEventos) e grava na outbox,
+     * de onde o DespachanteOutbox leva o evento ao BrokerEventos depois do commit
+     */
+    @Bean
+    public PublicadorEventosOutputPort publicadorEventos(
+            List<AssinanteEventos> assinantes,
+            OutboxEventosRepositoryAdapter outbox,
+            SerializadorEventos serializador,
+            MeterRegistry meterRegistry) {
+        return new PublicadorEventosOutputPortInstrumentado(
+                new PublicadorEventosOutbox(new PublicadorEventosSincrono(assinantes), outbox, serializador),
+                meterRegistry);
+    }
+
+    /**
+     * Broker dos eventos da outbox: os assinantes assíncronos da própria aplicação.
+     * Para um broker externo (Kafka, RabbitMQ), basta trocar a implementação aqui.
+     */
+    @Bean
+    public BrokerEventos brokerEventos(ObjectProvider<AssinanteEventosAssincrono> assinantes) {
+        return new BrokerEventosEmProcesso(assinantes.orderedStream().toList());
+    }
+
+    /**
+     * Índice de busca de texto livre (Lucene embutido).
+     * Sem agencia.busca.diretorio, fica em memória e é montado na subida;
+     * com, fica em disco e sobrevive ao restart.
+     */
+    @Bean(destroyMethod = "close")
+    public IndiceBuscaVeiculosLuceneAdapter indiceBuscaVeiculosLucene(
+            @Value("${agencia.busca.diretorio:}") String diretorio,
+            @Value("${agencia.busca.atualizacao:200ms}") Duration atualizacao) {
+        return new IndiceBuscaVeiculosLuceneAdapter(diretorio.isBlank() ? null : Path.of(diretorio), atualizacao);
+    }
+
+    /**
+     * Cria o bean do BuscaVeiculosService
+     * O estoque é lido pela porta de veículos já decorada (cache, métricas),
+     * em qualquer perfil; o índice é mantido pelo IndiceBuscaAssinante
+     */
+    @Bean
+    public BuscaVeiculosInputPort buscaVeiculosServicePort(
+            VeiculoOutputPort veiculoOutputPort,
+            IndiceBuscaVeiculosLuceneAdapter indiceBuscaVeiculosLucene,
+            MeterRegistry meterRegistry) {
+        IndiceBuscaVeiculosOutputPort indice =
+                new IndiceBuscaVeiculosOutputPortInstrumentado(indiceBuscaVeiculosLucene, meterRegistry);
+        return new BuscaVeiculosInputPortInstrumentado(
+                new BuscaVeiculosService(veiculoOutputPort, indice), meterRegistry);
+    }
+
+    /**
+     * Modelo de leitura do catálogo público, em memória: montado na subida e
+     * mantido pelo CatalogoAssinante com os eventos da outbox
+     */
+    @Bean
+    public CatalogoOutputPort catalogoOutputPort(MeterRegistry meterRegistry) {
+        return new CatalogoOutputPortInstrumentado(new CatalogoMemoriaAdapter(), meterRegistry);
+    }
+
+    /**
+     * Lado de leitura do CatalogoService: só o modelo de leitura, nunca a tabela de veículos
+     */
+    @Bean
+    public CatalogoQueryPort catalogoQueryPort(
+            VeiculoOutputPort veiculoOutputPort,
+            CatalogoOutputPort catalogoOutputPort,
+            MeterRegistry meterRegistry) {
+        return new CatalogoQueryPortInstrumentado(
+                new CatalogoService(veiculoOutputPort, catalogoOutputPort), meterRegistry);
+    }
+
+    /**
+     * Lado de escrita do CatalogoService (eventos e reconstrução).
+     * O serviço não guarda estado: as duas portas compartilham o mesmo catálogo.
+     */
+    @Bean
+    public CatalogoInputPort catalogoInputPort(
+            VeiculoOutputPort veiculoOutputPort,
+            CatalogoOutputPort catalogoOutputPort,
+            MeterRegistry meterRegistry) {
+        return new CatalogoInputPortInstrumentado(
+                new CatalogoService(veiculoOutputPort, catalogoOutputPort), meterRegistry);
+    }
+
+    /**
+     * Cria o bean do AgregadosVendasService (painel de vendas)
+     */
+    @Bean
+    public AgregadosVendasInputPort agregadosVendasServicePort(
+            AgregadosVendasOutputPort agregadosVendasOutputPort,
+            MeterRegistry meterRegistry) {
+        return new AgregadosVendasInputPortInstrumentado(
+                new AgregadosVendasService(agregadosVendasOutputPort), meterRegistry);
+    }
+
+    /**
+     * Decora o adapter de agregados de vendas com o decorator de métricas
+     * Com o perfil "memoria", os agregados vêm da MemoriaConfiguration
+     */
+    @Bean
+    @Primary
+    @Profile("!memoria")
+    public AgregadosVendasOutputPort agregadosVendasOutputPortInstrumentado(
+            AgregadosVendasRepositoryAdapter agregadosVendasRepositoryAdapter,
+            MeterRegistry meterRegistry) {
+        return new AgregadosVendasOutputPortInstrumentado(agregadosVendasRepositoryAdapter, meterRegistry);
+    }
+
+    /**
+     * Cria o bean do RelatorioVendasService
+     * Só leitura: cada relatório é uma única consulta, sem decorator transacional
+     */
+    @Bean
+    public RelatorioVendasInputPort relatorioVendasServicePort(
+            RelatorioVendasOutputPort relatorioVendasOutputPort,
+            MeterRegistry meterRegistry) {
+        return new RelatorioVendasInputPortInstrumentado(
+                new RelatorioVendasService(relatorioVendasOutputPort), meterRegistry);
+    }
+
+    /**
+     * Decora o adapter JPA de relatórios de vendas com o decorator de métricas
+     * Com o perfil "memoria", os relatórios vêm da MemoriaConfiguration
+     */
+    @Bean
+    @Primary
+    @Profile("!memoria")
+    public RelatorioVendasOutputPort relatorioVendasOutputPortInstrumentado(
+            RelatorioVendasRepositoryAdapter relatorioVendasRepositoryAdapter,
+            MeterRegistry meterRegistry) {
+        return new RelatorioVendasOutputPortInstrumentado(relatorioVendasRepositoryAdapter, meterRegistry);
+    }
+
+    /**
+     * Decora o adapter JPA de vendas com o decorator de métricas
+     * Com o perfil "memoria", veículos, vendas e clientes vêm da MemoriaConfiguration
+     */
+    @Bean
+    @Primary
+    @Profile("!memoria")
+    public VendaOutputPort vendaOutputPortInstrumentado(
+            VendaRepositoryAdapter vendaRepositoryAdapter,
+            MeterRegistry meterRegistry) {
+        return new VendaOutputPortInstrumentado(vendaRepositoryAdapter, meterRegistry);
+    }
+
+    /**
+     * Filtro de Bloom de placas sobre o adapter JPA: cadastros de placas novas
+     * não consultam o banco para verificar duplicidade.
+     * Montado na subida; estado e reconstrução em /actuator/placas.
+     */
+    @Bean
+    @Profile("!memoria")
+    public VeiculoFiltroPlacasAdapter veiculoFiltroPlacas(
+            VeiculoRepositoryAdapter veiculoRepositoryAdapter,
+            MeterRegistry meterRegistry,
+            @Value("${agencia.placas.filtro.capacidade:1000000}") long capacidade,
+            @Value("${agencia.placas.filtro.taxa-falso-positivo:0.01}") double taxaFalsoPositivo) {
+        return new VeiculoFiltroPlacasAdapter(veiculoRepositoryAdapter, capacidade, taxaFalsoPositivo, meterRegistry);
+    }
+
+    @Bean
+    @Profile("!memoria")
+    public FiltroPlacasEndpoint filtroPlacasEndpoint(VeiculoFiltroPlacasAdapter veiculoFiltroPlacas) {
+        return new FiltroPlacasEndpoint(veiculoFiltroPlacas);
+    }
+
+    /**
+     * Decora o adapter JPA de veículos (já com o filtro de placas) com um cache de leitura.
+     * Por ser @Primary, é esta implementação que o Spring injeta onde
+     * VeiculoOutputPort é pedido (services, controllers).
+     * O cache usa a política W-TinyLFU do Caffeine, limitada por tamanho e TTL.
+     * Acertos, faltas e remoções ficam em /actuator/metrics/cache.gets e cache.evictions.
+     * Por fora do cache fica o decorator de métricas da porta.
+     */
+    @Bean
+    @Primary
+    @Profile("!memoria")
+    public VeiculoOutputPort veiculoOutputPortComCache(
+            VeiculoFiltroPlacasAdapter veiculoFiltroPlacas,
+            MeterRegistry meterRegistry,
+            @Value("${agencia.cache.veiculos.tamanho-maximo:10000}") long tamanhoMaximo,
+            @Value("${agencia.cache.veiculos.ttl:5m}") Duration ttl) {
+        Cache<Long, Veiculo> porId = criarCache("veiculos", tamanhoMaximo, ttl, meterRegistry);
+        return new VeiculoOutputPortInstrumentado(
+                new VeiculoCacheAdapter(veiculoFiltroPlacas, porId), meterRegistry);
+    }
+
+    /**
+     * Decora o adapter JPA de clientes com um cache de leitura por ID e por CPF,
+     * envolvido pelo decorator de métricas da porta
+     */
+    @Bean
+    @Primary
+    @Profile("!memoria")
+    public ClienteOutputPort clienteOutputPortComCache(
+            ClienteRepositoryAdapter clienteRepositoryAdapter,
+            MeterRegistry meterRegistry,
+            @Value("${agencia.cache.clientes.tamanho-maximo:10000}") long tamanhoMaximo,
+            @Value("${agencia.cache.clientes.ttl:5m}") Duration ttl) {
+        Cache<Long, Cliente> porId = criarCache("clientes", tamanhoMaximo, ttl, meterRegistry);
+        Cache<String, Cliente> porCpf = criarCache("clientes-cpf", tamanhoMaximo, ttl, meterRegistry);
+        return new ClienteOutputPortInstrumentado(
+                new ClienteCacheAdapter(clienteRepositoryAdapter, porId, porCpf), meterRegistry);
+    }
+
+    private <K, V> Cache<K, V> criarCache(String nome, long tamanhoMaximo, Duration ttl,
+                                          MeterRegistry meterRegistry) {
+        Cache<K, V> cache = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, nome);
     }
 }
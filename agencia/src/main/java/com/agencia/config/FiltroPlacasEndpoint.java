@@ -0,0 +1,33 @@
+package com.agencia.config;
+
+import com.agencia.adapter.output.cache.EstadoFiltroPlacas;
+import com.agencia.adapter.output.cache.VeiculoFiltroPlacasAdapter;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+/**
+ * ENDPOINT DO ACTUATOR - Filtro de placas
+ * GET  /actuator/placas: tamanho, ocupação e taxas de falso positivo
+ * POST /actuator/placas: reconstrói o filtro a partir do banco
+ * (ex: depois de muitas remoções ou de cargas feitas direto no banco)
+ */
+@Endpoint(id = "placas")
+public class FiltroPlacasEndpoint {
+
+    private final VeiculoFiltroPlacasAdapter filtroPlacas;
+
+    public FiltroPlacasEndpoint(VeiculoFiltroPlacasAdapter filtroPlacas) {
+        this.filtroPlacas = filtroPlacas;
+    }
+
+    @ReadOperation
+    public EstadoFiltroPlacas estado() {
+        return filtroPlacas.estado();
+    }
+
+    @WriteOperation
+    public EstadoFiltroPlacas reconstruir() {
+        return filtroPlacas.reconstruir();
+    }
+}
@@ -0,0 +1,34 @@
+package com.agencia.config;
+
+import com.agencia.adapter.input.controller.CamposResposta;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * CONFIGURAÇÃO DOS FORMATOS DE RESPOSTA
+ * - JSON continua o padrão; com Accept: application/cbor as mesmas respostas
+ *   saem em CBOR (binário, sem aspas nem números em texto).
+ * - O conversor CBOR é montado pelo mesmo builder do ObjectMapper JSON: datas,
+ *   módulos e o filtro de campos (?fields=) ficam iguais nos dois formatos.
+ * - A compressão gzip é do Tomcat (server.compression.* no application.properties).
+ */
+@Configuration
+public class FormatosRespostaConfiguration {
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer camposRespostaCustomizer() {
+        return CamposResposta::registrar;
+    }
+
+    /**
+     * Substitui o conversor CBOR padrão do Spring MVC (que usaria um ObjectMapper próprio)
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
@@ -0,0 +1,76 @@
+package com.agencia.config;
+
+import com.agencia.adapter.output.memoria.AgregadosVendasMemoriaAdapter;
+import com.agencia.adapter.output.memoria.ClienteMemoriaAdapter;
+import com.agencia.adapter.output.memoria.RelatorioVendasMemoriaAdapter;
+import com.agencia.adapter.output.memoria.VeiculoMemoriaAdapter;
+import com.agencia.adapter.output.memoria.VendaMemoriaAdapter;
+import com.agencia.config.metricas.AgregadosVendasOutputPortInstrumentado;
+import com.agencia.config.metricas.ClienteOutputPortInstrumentado;
+import com.agencia.config.metricas.RelatorioVendasOutputPortInstrumentado;
+import com.agencia.config.metricas.VeiculoOutputPortInstrumentado;
+import com.agencia.config.metricas.VendaOutputPortInstrumentado;
+import com.agencia.ports.output.AgregadosVendasOutputPort;
+import com.agencia.ports.output.ClienteOutputPort;
+import com.agencia.ports.output.RelatorioVendasOutputPort;
+import com.agencia.ports.output.VeiculoOutputPort;
+import com.agencia.ports.output.VendaOutputPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * CONFIGURAÇÃO DO ARMAZENAMENTO EM MEMÓRIA (perfil "memoria")
+ * Troca os adapters JPA de veículos, vendas e clientes pelos adapters em
+ * memória, sem mudar domínio nem controllers: é o exemplo da
+ * BeanConfiguration na prática.
+ * Sem cache de leitura: os adapters em memória já leem sem ir ao banco.
+ * Relatórios e agregados do painel são calculados a partir das vendas em
+ * memória; só a outbox continua no banco relacional.
+ */
+@Configuration
+@Profile("memoria")
+public class MemoriaConfiguration {
+
+    @Bean
+    @Primary
+    public VeiculoOutputPort veiculoOutputPortEmMemoria(
+            VeiculoMemoriaAdapter veiculoMemoriaAdapter,
+            MeterRegistry meterRegistry) {
+        return new VeiculoOutputPortInstrumentado(veiculoMemoriaAdapter, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public VendaOutputPort vendaOutputPortEmMemoria(
+            VendaMemoriaAdapter vendaMemoriaAdapter,
+            MeterRegistry meterRegistry) {
+        return new VendaOutputPortInstrumentado(vendaMemoriaAdapter, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public ClienteOutputPort clienteOutputPortEmMemoria(
+            ClienteMemoriaAdapter clienteMemoriaAdapter,
+            MeterRegistry meterRegistry) {
+        return new ClienteOutputPortInstrumentado(clienteMemoriaAdapter, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public AgregadosVendasOutputPort agregadosVendasOutputPortEmMemoria(
+            AgregadosVendasMemoriaAdapter agregadosVendasMemoriaAdapter,
+            MeterRegistry meterRegistry) {
+        return new AgregadosVendasOutputPortInstrumentado(agregadosVendasMemoriaAdapter, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public RelatorioVendasOutputPort relatorioVendasOutputPortEmMemoria(
+            RelatorioVendasMemoriaAdapter relatorioVendasMemoriaAdapter,
+            MeterRegistry meterRegistry) {
+        return new RelatorioVendasOutputPortInstrumentado(relatorioVendasMemoriaAdapter, meterRegistry);
+    }
+}
@@ -0,0 +1,115 @@
+package com.agencia.config;
+
+import com.agencia.domain.model.FiltroVeiculo;
+import com.agencia.domain.model.Pagina;
+import com.agencia.domain.model.ResultadoBusca;
+import com.agencia.domain.model.ResultadoCadastroLote;
+import com.agencia.domain.model.Veiculo;
+import com.agencia.domain.model.VersaoRegistro;
+import com.agencia.ports.input.VeiculoInputPort;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * DECORATOR TRANSACIONAL DA PORTA DE ENTRADA DE VEÍCULOS
+ * Cadastro, alteração e remoção são gravados na mesma transação que o
+ * evento de domínio correspondente (tabela de outbox): ou os dois são
+ * confirmados, ou nenhum.
+ * As consultas passam direto (os adapters abrem transações de leitura).
+ */
+public class VeiculoInputPortTransacional implements VeiculoInputPort {
+
+    /**
+     * Tentativas do cadastro em lote quando o insert viola uma constraint
+     */
+    public static final int TENTATIVAS_LOTE = 5;
+
+    private final VeiculoInputPort delegate;
+    private final TransactionTemplate transactionTemplate;
+
+    public VeiculoInputPortTransacional(VeiculoInputPort delegate,
+                                        TransactionTemplate transactionTemplate) {
+        this.delegate = delegate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public Veiculo cadastrar(Veiculo veiculo) {
+        return transactionTemplate.execute(status -> delegate.cadastrar(veiculo));
+    }
+
+    /**
+     * Uma placa do lote pode ser cadastrada por outra transação entre a consulta
+     * de placas existentes e o insert: a constraint uk_veiculos_placa desfaz o
+     * lote inteiro. O lote é tentado de novo, cada vez numa transação nova, em
+     * que a consulta já encontra as placas cadastradas pelas outras e só esses
+     * veículos são rejeitados. Com outras placas chegando a cada tentativa (ou
+     * uma violação que não é de placa), desiste após TENTATIVAS_LOTE.
+     */
+    @Override
+    public List<ResultadoCadastroLote> cadastrarEmLote(List<Veiculo> veiculos) {
+        for (int tentativa = 1; ; tentativa++) {
+            try {
+                return transactionTemplate.execute(status -> delegate.cadastrarEmLote(veiculos));
+            } catch (DataIntegrityViolationException e) {
+                if (tentativa == TENTATIVAS_LOTE) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    @Override
+    public Veiculo buscarPorId(Long id) {
+        return delegate.buscarPorId(id);
+    }
+
+    @Override
+    public Optional<Long> buscarVersao(Long id) {
+        return delegate.buscarVersao(id);
+    }
+
+    @Override
+    public Pagina<Veiculo> listarTodos(Long cursor, int limite) {
+        return delegate.listarTodos(cursor, limite);
+    }
+
+    @Override
+    public Pagina<Veiculo> listarDisponiveis(Long cursor, int limite) {
+        return delegate.listarDisponiveis(cursor, limite);
+    }
+
+    @Override
+    public Pagina<VersaoRegistro> listarVersoesDisponiveis(Long cursor, int limite) {
+        return delegate.listarVersoesDisponiveis(cursor, limite);
+    }
+
+    @Override
+    public void percorrerTodos(Consumer<Veiculo> consumidor) {
+        delegate.percorrerTodos(consumidor);
+    }
+
+    @Override
+    public void percorrerDisponiveis(Consumer<Veiculo> consumidor) {
+        delegate.percorrerDisponiveis(consumidor);
+    }
+
+    @Override
+    public ResultadoBusca<Veiculo> buscar(FiltroVeiculo filtro) {
+        return delegate.buscar(filtro);
+    }
+
+    @Override
+    public Veiculo atualizar(Long id, Veiculo veiculo) {
+        return transactionTemplate.execute(status -> delegate.atualizar(id, veiculo));
+    }
+
+    @Override
+    public void deletar(Long id) {
+        transactionTemplate.executeWithoutResult(status -> delegate.deletar(id));
+    }
+}
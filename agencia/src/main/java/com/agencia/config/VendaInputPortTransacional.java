@@ -0,0 +1,70 @@
+package com.agencia.config;
+
+import com.agencia.domain.model.Pagina;
+import com.agencia.domain.model.ResultadoVendaLote;
+import com.agencia.domain.model.ResumoVenda;
+import com.agencia.domain.model.Venda;
+import com.agencia.domain.model.VendaLote;
+import com.agencia.ports.input.VendaInputPort;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * DECORATOR TRANSACIONAL DA PORTA DE ENTRADA DE VENDAS
+ * O VendaService não conhece Spring, então a transação é aplicada aqui:
+ * a reserva do veículo e o registro da venda são confirmados juntos,
+ * ou desfeitos juntos se qualquer passo falhar.
+ * As consultas passam direto (os adapters abrem transações de leitura).
+ */
+public class VendaInputPortTransacional implements VendaInputPort {
+
+    private final VendaInputPort delegate;
+    private final TransactionTemplate transactionTemplate;
+
+    public VendaInputPortTransacional(VendaInputPort delegate,
+                                      TransactionTemplate transactionTemplate) {
+        this.delegate = delegate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public Venda realizar(Venda venda) {
+        return transactionTemplate.execute(status -> delegate.realizar(venda));
+    }
+
+    /**
+     * Reservas e vendas do lote na mesma transação: no modo TUDO_OU_NADA,
+     * a recusa do lote (exceção) desfaz as reservas já feitas
+     */
+    @Override
+    public List<ResultadoVendaLote> realizarEmLote(VendaLote lote) {
+        return transactionTemplate.execute(status -> delegate.realizarEmLote(lote));
+    }
+
+    @Override
+    public Pagina<Venda> listarTodas(Long cursor, int limite) {
+        return delegate.listarTodas(cursor, limite);
+    }
+
+    @Override
+    public void percorrerTodas(Consumer<Venda> consumidor) {
+        delegate.percorrerTodas(consumidor);
+    }
+
+    @Override
+    public Pagina<ResumoVenda> listarResumos(Long cursor, int limite) {
+        return delegate.listarResumos(cursor, limite);
+    }
+
+    @Override
+    public void percorrerResumos(Consumer<ResumoVenda> consumidor) {
+        delegate.percorrerResumos(consumidor);
+    }
+
+    @Override
+    public Venda buscarPorVeiculo(Long veiculoId) {
+        return delegate.buscarPorVeiculo(veiculoId);
+    }
+}
@@ -0,0 +1,77 @@
+package com.agencia.config.banco;
+
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.time.Duration;
+import java.util.function.LongConsumer;
+
+/**
+ * ÚLTIMA ESCRITA CONFIRMADA NO PRIMÁRIO, POR CLIENTE
+ * Ouve as transações (o Spring Boot registra o listener no gerenciador de
+ * transações) e guarda o instante do último commit de escrita na janela da
+ * requisição atual. Enquanto a última escrita do cliente for mais recente que
+ * o atraso máximo da réplica, ela pode ainda não ter recebido a alteração, e
+ * as leituras desse cliente vão para o primário (quem acabou de gravar lê o
+ * que gravou). Os demais clientes continuam lendo da réplica.
+ * A janela é aberta pelo EscritasRecentesInterceptor com o instante que o
+ * cliente trouxe da resposta da sua última escrita. Fora de uma requisição
+ * (despacho do outbox, tarefas agendadas) não há janela: essas escritas não
+ * levam ninguém ao primário. Atraso zero desliga a volta ao primário.
+ */
+public class EscritasRecentes implements TransactionExecutionListener {
+
+    private static final ThreadLocal<Janela> JANELA = new ThreadLocal<>();
+
+    private final long atrasoReplicaMillis;
+
+    public EscritasRecentes(Duration atrasoReplica) {
+        this.atrasoReplicaMillis = atrasoReplica.toMillis();
+    }
+
+    /**
+     * Abre a janela da requisição atual
+     *
+     * @param ultimaEscrita instante (epoch millis) da última escrita informada pelo cliente, ou null
+     * @param aoEscrever    recebe o instante de cada escrita confirmada, para devolvê-lo ao cliente
+     */
+    public void abrir(@Nullable Long ultimaEscrita, LongConsumer aoEscrever) {
+        // Um instante no futuro vale como "agora": prende o cliente ao primário por no máximo o atraso
+        long informada = ultimaEscrita == null ? Long.MIN_VALUE : Math.min(ultimaEscrita, System.currentTimeMillis());
+        JANELA.set(new Janela(informada, aoEscrever));
+    }
+
+    public void fechar() {
+        JANELA.remove();
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transacao, @Nullable Throwable falha) {
+        Janela janela = JANELA.get();
+        if (janela != null && falha == null && !transacao.isReadOnly()) {
+            janela.ultimaEscrita = System.currentTimeMillis();
+            janela.aoEscrever.accept(janela.ultimaEscrita);
+        }
+    }
+
+    /**
+     * true se o cliente da requisição atual escreveu há menos que o atraso máximo da réplica
+     */
+    public boolean recente() {
+        Janela janela = JANELA.get();
+        return janela != null
+                && janela.ultimaEscrita != Long.MIN_VALUE
+                && System.currentTimeMillis() - janela.ultimaEscrita < atrasoReplicaMillis;
+    }
+
+    private static class Janela {
+        long ultimaEscrita;
+        final LongConsumer aoEscrever;
+
+        Janela(long ultimaEscrita, LongConsumer aoEscrever) {
+            this.ultimaEscrita = ultimaEscrita;
+            this.aoEscrever = aoEscrever;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.agencia.config.banco;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Abre, em cada requisição, a janela de leitura do cliente em EscritasRecentes.
+ * Toda escrita confirmada devolve o seu instante no header X-Ultima-Escrita;
+ * o cliente que reenviar esse header nas requisições seguintes lê do primário
+ * até a réplica alcançá-lo. Sem o header, as leituras vão para a réplica
+ * (exceto as da mesma requisição que escreveu).
+ * As listagens em streaming (NDJSON) continuam em outra thread, fora da janela:
+ * leem da réplica.
+ */
+public class EscritasRecentesInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String HEADER_ULTIMA_ESCRITA = "X-Ultima-Escrita";
+
+    private final EscritasRecentes escritasRecentes;
+
+    public EscritasRecentesInterceptor(EscritasRecentes escritasRecentes) {
+        this.escritasRecentes = escritasRecentes;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        escritasRecentes.abrir(ultimaEscrita(request),
+                instante -> response.setHeader(HEADER_ULTIMA_ESCRITA, Long.toString(instante)));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        escritasRecentes.fechar();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        escritasRecentes.fechar();
+    }
+
+    /**
+     * Header ausente ou inválido: o cliente não escreveu (ou não informa)
+     */
+    private static Long ultimaEscrita(HttpServletRequest request) {
+        String valor = request.getHeader(HEADER_ULTIMA_ESCRITA);
+        if (valor == null || valor.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(valor.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
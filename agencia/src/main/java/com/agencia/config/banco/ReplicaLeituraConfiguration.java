@@ -0,0 +1,74 @@
+package com.agencia.config.banco;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * CONFIGURAÇÃO DA RÉPLICA DE LEITURA (agencia.banco.replica.jdbc-url)
+ * Sem réplica configurada, o Spring Boot cria o DataSource único de sempre.
+ * Com ela, são dois pools Hikari: o primário (spring.datasource.*) e a réplica
+ * (agencia.banco.replica.*), e o DataSource usado por JPA, Flyway e
+ * JdbcTemplate passa a ser o de roteamento (RoteamentoDataSource).
+ * Migrações e validação do esquema rodam no primário (fora de transação);
+ * a réplica recebe o esquema pela replicação do banco.
+ * O interceptor de EscritasRecentes abre a janela de leitura de cada cliente.
+ */
+@Configuration
+@ConditionalOnExpression("!'${agencia.banco.replica.jdbc-url:}'.isBlank()")
+public class ReplicaLeituraConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSourcePrimario(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("agencia.banco.replica")
+    public HikariDataSource dataSourceReplica() {
+        return new HikariDataSource();
+    }
+
+    @Bean
+    public EscritasRecentes escritasRecentes(
+            @Value("${agencia.banco.atraso-replica:2s}") Duration atrasoReplica) {
+        return new EscritasRecentes(atrasoReplica);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("dataSourcePrimario") DataSource primario,
+                                 @Qualifier("dataSourceReplica") DataSource replica,
+                                 EscritasRecentes escritasRecentes) {
+        return new LazyConnectionDataSourceProxy(new RoteamentoDataSource(primario, replica, escritasRecentes));
+    }
+
+    @Configuration
+    @ConditionalOnExpression("!'${agencia.banco.replica.jdbc-url:}'.isBlank()")
+    static class EscritasRecentesWebConfiguration implements WebMvcConfigurer {
+
+        private final EscritasRecentesInterceptor interceptor;
+
+        EscritasRecentesWebConfiguration(EscritasRecentes escritasRecentes) {
+            this.interceptor = new EscritasRecentesInterceptor(escritasRecentes);
+        }
+
+        @Override
+        public void addInterceptors(InterceptorRegistry registry) {
+            registry.addInterceptor(interceptor);
+        }
+    }
+}
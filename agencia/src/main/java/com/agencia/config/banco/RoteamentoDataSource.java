@@ -0,0 +1,37 @@
+package com.agencia.config.banco;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * DATASOURCE COM ROTEAMENTO LEITURA/ESCRITA
+ * Transações somente leitura (@Transactional(readOnly = true) nos adapters)
+ * vão para a réplica; todo o resto (escritas, transações de escrita que
+ * também leem, acesso sem transação) vai para o primário.
+ * A decisão é tomada quando a conexão é obtida: por isso este DataSource fica
+ * atrás de um LazyConnectionDataSourceProxy, que só pede a conexão no primeiro
+ * comando SQL, quando a transação já está marcada como somente leitura.
+ */
+public class RoteamentoDataSource extends AbstractRoutingDataSource {
+
+    enum Destino { PRIMARIO, REPLICA }
+
+    private final EscritasRecentes escritasRecentes;
+
+    public RoteamentoDataSource(DataSource primario, DataSource replica, EscritasRecentes escritasRecentes) {
+        this.escritasRecentes = escritasRecentes;
+        setTargetDataSources(Map.of(Destino.PRIMARIO, primario, Destino.REPLICA, replica));
+        setDefaultTargetDataSource(primario);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !escritasRecentes.recente()
+                ? Destino.REPLICA
+                : Destino.PRIMARIO;
+    }
+}
@@ -0,0 +1,81 @@
+package com.agencia.config.limite;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * LIMITE ADAPTATIVO DE OPERAÇÕES SIMULTÂNEAS (AIMD)
+ * Deixa passar no máximo "limite" operações ao mesmo tempo; as excedentes
+ * são recusadas na hora, sem fila (ninguém fica esperando conexão do banco
+ * preso numa thread do Tomcat).
+ * O limite se ajusta pela latência das operações concluídas:
+ * - acima da latência alvo: limite x fator de redução (multiplicativo);
+ * - abaixo, com pelo menos metade do limite em uso: limite + 1 (aditivo).
+ *   Sem uso, o limite não cresce: ele só sobe quando é de fato testado.
+ * Uma espera pelo pool de conexões esgotado aparece como latência alta
+ * e reduz o limite; quando o banco volta a responder rápido, ele sobe de novo.
+ */
+public class LimiteConcorrenciaAdaptativo {
+
+    private final int minimo;
+    private final int maximo;
+    private final long latenciaAlvoNanos;
+    private final double fatorReducao;
+
+    private final AtomicInteger emAndamento = new AtomicInteger();
+    private double limite;
+
+    public LimiteConcorrenciaAdaptativo(int inicial, int minimo, int maximo,
+                                        Duration latenciaAlvo, double fatorReducao) {
+        if (minimo < 1 || maximo < minimo || inicial < minimo || inicial > maximo) {
+            throw new IllegalArgumentException("Limite de concorrência deve ter 1 <= mínimo <= inicial <= máximo");
+        }
+        if (fatorReducao <= 0 || fatorReducao >= 1) {
+            throw new IllegalArgumentException("Fator de redução do limite deve estar entre 0 e 1");
+        }
+        this.minimo = minimo;
+        this.maximo = maximo;
+        this.latenciaAlvoNanos = latenciaAlvo.toNanos();
+        this.fatorReducao = fatorReducao;
+        this.limite = inicial;
+    }
+
+    /**
+     * Reserva uma vaga; false se todas as vagas do limite atual estão em uso.
+     * Quem recebe true deve chamar liberar ao terminar.
+     */
+    public boolean adquirir() {
+        int limiteAtual = getLimite();
+        while (true) {
+            int atual = emAndamento.get();
+            if (atual >= limiteAtual) {
+                return false;
+            }
+            if (emAndamento.compareAndSet(atual, atual + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Devolve a vaga e ajusta o limite pela duração da operação
+     */
+    public void liberar(long duracaoNanos) {
+        int emUso = emAndamento.getAndDecrement();
+        synchronized (this) {
+            if (duracaoNanos > latenciaAlvoNanos) {
+                limite = Math.max(minimo, limite * fatorReducao);
+            } else if (emUso * 2 >= limite) {
+                limite = Math.min(maximo, limite + 1);
+            }
+        }
+    }
+
+    public synchronized int getLimite() {
+        return (int) limite;
+    }
+
+    public int getEmAndamento() {
+        return emAndamento.get();
+    }
+}
@@ -0,0 +1,109 @@
+package com.agencia.config.limite;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * CONFIGURAÇÃO DOS LIMITES DE CARGA DAS ESCRITAS (agencia.limite.*)
+ * - Taxa por cliente (429): POST /api/vendas, /api/vendas/lote,
+ *   /api/veiculos e /api/veiculos/lote, um balde por cliente e operação.
+ * - Concorrência adaptativa (503): na porta de entrada de vendas, com um
+ *   limite para vendas unitárias e outro para vendas em lote
+ *   (aplicados pela BeanConfiguration quando os beans existem).
+ * As recusas acontecem antes de qualquer acesso ao banco: num pico, as
+ * escritas excedentes voltam na hora e o pool de conexões continua
+ * atendendo as leituras.
+ * Métricas: agencia.limite.rejeicoes (tipo, operacao),
+ * agencia.limite.concorrencia (limite atual) e agencia.limite.em_andamento.
+ */
+@Configuration
+public class LimiteConfiguration {
+
+    static Counter contadorRejeicoes(MeterRegistry meterRegistry, String tipo, String operacao) {
+        return Counter.builder("agencia.limite.rejeicoes")
+                .description("Requisições recusadas pelos limites de carga")
+                .tag("tipo", tipo)
+                .tag("operacao", operacao)
+                .register(meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "agencia.limite.concorrencia.habilitado", havingValue = "true", matchIfMissing = true)
+    public LimiteConcorrenciaAdaptativo limiteConcorrenciaVendas(
+            @Value("${agencia.limite.concorrencia.inicial:10}") int inicial,
+            @Value("${agencia.limite.concorrencia.minimo:2}") int minimo,
+            @Value("${agencia.limite.concorrencia.maximo:50}") int maximo,
+            @Value("${agencia.limite.concorrencia.latencia-alvo:250ms}") Duration latenciaAlvo,
+            @Value("${agencia.limite.concorrencia.fator-reducao:0.9}") double fatorReducao,
+            MeterRegistry meterRegistry) {
+        return medir(new LimiteConcorrenciaAdaptativo(inicial, minimo, maximo, latenciaAlvo, fatorReducao),
+                "vendas", meterRegistry);
+    }
+
+    /**
+     * Vendas em lote têm limite próprio: um lote de centenas de veículos leva
+     * bem mais que uma venda e, na mesma amostra, derrubaria o limite das vendas unitárias
+     */
+    @Bean
+    @ConditionalOnProperty(name = "agencia.limite.concorrencia.habilitado", havingValue = "true", matchIfMissing = true)
+    public LimiteConcorrenciaAdaptativo limiteConcorrenciaVendasLote(
+            @Value("${agencia.limite.concorrencia.lote.inicial:2}") int inicial,
+            @Value("${agencia.limite.concorrencia.lote.minimo:1}") int minimo,
+            @Value("${agencia.limite.concorrencia.lote.maximo:4}") int maximo,
+            @Value("${agencia.limite.concorrencia.lote.latencia-alvo:5s}") Duration latenciaAlvo,
+            @Value("${agencia.limite.concorrencia.fator-reducao:0.9}") double fatorReducao,
+            MeterRegistry meterRegistry) {
+        return medir(new LimiteConcorrenciaAdaptativo(inicial, minimo, maximo, latenciaAlvo, fatorReducao),
+                "vendas_lote", meterRegistry);
+    }
+
+    private static LimiteConcorrenciaAdaptativo medir(LimiteConcorrenciaAdaptativo limite, String operacao,
+                                                      MeterRegistry meterRegistry) {
+        Gauge.builder("agencia.limite.concorrencia", limite, LimiteConcorrenciaAdaptativo::getLimite)
+                .description("Limite atual de operações simultâneas")
+                .tag("operacao", operacao)
+                .register(meterRegistry);
+        Gauge.builder("agencia.limite.em_andamento", limite, LimiteConcorrenciaAdaptativo::getEmAndamento)
+                .description("Operações em andamento dentro do limite de concorrência")
+                .tag("operacao", operacao)
+                .register(meterRegistry);
+        return limite;
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "agencia.limite.taxa.habilitado", havingValue = "true", matchIfMissing = true)
+    static class LimiteTaxaConfiguration implements WebMvcConfigurer {
+
+        private final LimiteTaxaInterceptor vendas;
+        private final LimiteTaxaInterceptor veiculos;
+
+        LimiteTaxaConfiguration(
+                @Value("${agencia.limite.taxa.header-cliente:}") String headerCliente,
+                @Value("${agencia.limite.taxa.maximo-clientes:100000}") long maximoClientes,
+                @Value("${agencia.limite.taxa.vendas.por-segundo:10}") double vendasPorSegundo,
+                @Value("${agencia.limite.taxa.vendas.rajada:20}") int vendasRajada,
+                @Value("${agencia.limite.taxa.veiculos.por-segundo:20}") double veiculosPorSegundo,
+                @Value("${agencia.limite.taxa.veiculos.rajada:50}") int veiculosRajada,
+                MeterRegistry meterRegistry) {
+            this.vendas = new LimiteTaxaInterceptor("vendas",
+                    new LimiteTaxa(vendasPorSegundo, vendasRajada, maximoClientes), headerCliente, meterRegistry);
+            this.veiculos = new LimiteTaxaInterceptor("veiculos",
+                    new LimiteTaxa(veiculosPorSegundo, veiculosRajada, maximoClientes), headerCliente, meterRegistry);
+        }
+
+        @Override
+        public void addInterceptors(InterceptorRegistry registry) {
+            registry.addInterceptor(vendas).addPathPatterns("/api/vendas", "/api/vendas/lote");
+            registry.addInterceptor(veiculos).addPathPatterns("/api/veiculos", "/api/veiculos/lote");
+        }
+    }
+}
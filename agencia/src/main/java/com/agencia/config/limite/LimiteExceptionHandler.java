@@ -0,0 +1,70 @@
+package com.agencia.config.limite;
+
+import com.agencia.adapter.input.exceptionHandler.GlobalExceptionHandler.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * TRATADOR DAS RECUSAS DO CONTROLE DE ADMISSÃO
+ * As recusas por taxa (429) e por sobrecarga (503) saem só dos limites
+ * deste pacote, não de regras do domínio: são mapeadas aqui, no mesmo
+ * formato de erro (ErrorResponse) e na mesma métrica (agencia.excecoes)
+ * do GlobalExceptionHandler, com Retry-After.
+ */
+@RestControllerAdvice
+public class LimiteExceptionHandler {
+
+    private final MeterRegistry meterRegistry;
+
+    public LimiteExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Cliente acima da taxa permitida: 429, com Retry-After até a próxima requisição aceita
+     */
+    @ExceptionHandler(LimiteTaxaExcedidoException.class)
+    public ResponseEntity<ErrorResponse> handleLimiteTaxaExcedido(
+            LimiteTaxaExcedidoException ex) {
+        return recusar(ex, HttpStatus.TOO_MANY_REQUESTS, ex.getTentarApos());
+    }
+
+    /**
+     * Limite de operações simultâneas atingido: 503, com Retry-After
+     */
+    @ExceptionHandler(SobrecargaException.class)
+    public ResponseEntity<ErrorResponse> handleSobrecarga(
+            SobrecargaException ex) {
+        return recusar(ex, HttpStatus.SERVICE_UNAVAILABLE, ex.getTentarApos());
+    }
+
+    private ResponseEntity<ErrorResponse> recusar(RuntimeException ex, HttpStatus status, Duration tentarApos) {
+        Counter.builder("agencia.excecoes")
+                .description("Exceções convertidas em respostas de erro")
+                .tag("tipo", ex.getClass().getSimpleName())
+                .tag("status", String.valueOf(status.value()))
+                .register(meterRegistry)
+                .increment();
+
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message(ex.getMessage())
+                .build();
+
+        // Retry-After é em segundos inteiros: arredonda para cima, no mínimo 1
+        long segundos = Math.max(1, (tentarApos.toMillis() + 999) / 1000);
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(segundos))
+                .body(error);
+    }
+}
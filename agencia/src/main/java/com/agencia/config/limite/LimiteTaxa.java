@@ -0,0 +1,69 @@
+package com.agencia.config.limite;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * LIMITE DE TAXA POR CLIENTE (token bucket)
+ * Cada cliente tem um balde com até "rajada" fichas, reposto a "porSegundo"
+ * fichas por segundo; cada requisição gasta uma ficha. Sem ficha, a requisição
+ * é recusada na hora, com o tempo até a próxima ficha.
+ * - Um LimiteTaxa por operação: o mesmo cliente tem baldes separados
+ *   para vendas e para cadastro de veículos.
+ * - Os baldes ficam num cache (Caffeine) e somem depois de um tempo sem uso,
+ *   quando já estariam cheios de novo; o tamanho máximo protege a memória
+ *   contra muitos clientes diferentes.
+ * - O limite é por instância da aplicação.
+ */
+public class LimiteTaxa {
+
+    private static final long NANOS_POR_SEGUNDO = 1_000_000_000L;
+
+    private final double fichasPorNano;
+    private final double rajada;
+    private final Cache<String, Balde> baldes;
+
+    public LimiteTaxa(double porSegundo, int rajada, long maximoClientes) {
+        if (porSegundo <= 0 || rajada < 1) {
+            throw new IllegalArgumentException("Taxa e rajada do limite devem ser positivas");
+        }
+        this.fichasPorNano = porSegundo / NANOS_POR_SEGUNDO;
+        this.rajada = rajada;
+        // Depois desse tempo parado, o balde estaria cheio: recriar dá no mesmo
+        long reposicaoCompleta = (long) Math.ceil(rajada / fichasPorNano);
+        this.baldes = Caffeine.newBuilder()
+                .maximumSize(maximoClientes)
+                .expireAfterAccess(Duration.ofNanos(reposicaoCompleta))
+                .build();
+    }
+
+    /**
+     * Gasta uma ficha do cliente. Retorna Duration.ZERO se havia ficha,
+     * ou o tempo até a próxima ficha se a requisição deve ser recusada.
+     */
+    public Duration consumir(String cliente) {
+        return baldes.get(cliente, c -> new Balde(rajada, System.nanoTime())).consumir(System.nanoTime());
+    }
+
+    private final class Balde {
+        private double fichas;
+        private long ultimaReposicao;
+
+        private Balde(double fichas, long agora) {
+            this.fichas = fichas;
+            this.ultimaReposicao = agora;
+        }
+
+        synchronized Duration consumir(long agora) {
+            fichas = Math.min(rajada, fichas + (agora - ultimaReposicao) * fichasPorNano);
+            ultimaReposicao = agora;
+            if (fichas >= 1) {
+                fichas -= 1;
+                return Duration.ZERO;
+            }
+            return Duration.ofNanos((long) Math.ceil((1 - fichas) / fichasPorNano));
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.agencia.config.limite;
+
+import java.time.Duration;
+
+/**
+ * Cliente acima da taxa de requisições permitida para a operação:
+ * pode tentar de novo depois de tentarApos
+ */
+public class LimiteTaxaExcedidoException extends RuntimeException {
+
+    private final Duration tentarApos;
+
+    public LimiteTaxaExcedidoException(String operacao, Duration tentarApos) {
+        super("Limite de requisições excedido em " + operacao + "; tente novamente em instantes");
+        this.tentarApos = tentarApos;
+    }
+
+    public Duration getTentarApos() {
+        return tentarApos;
+    }
+}
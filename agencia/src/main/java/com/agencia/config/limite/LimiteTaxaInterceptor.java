@@ -0,0 +1,61 @@
+package com.agencia.config.limite;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.security.Principal;
+import java.time.Duration;
+
+/**
+ * Aplica o limite de taxa de uma operação às requisições POST, antes do
+ * controller: a requisição recusada não lê o corpo, não abre transação e
+ * não pega conexão do banco. A recusa vira 429 com Retry-After no
+ * LimiteExceptionHandler.
+ * O cliente é o usuário autenticado ou, sem autenticação, o endereço de
+ * origem da requisição: um header escolhido por quem chama daria um balde
+ * novo a cada valor. O header configurado (ex: X-Cliente-Api) só é usado
+ * quando preenchido em agencia.limite.taxa.header-cliente, atrás de um
+ * gateway que o define e descarta o enviado pelo cliente.
+ */
+public class LimiteTaxaInterceptor implements HandlerInterceptor {
+
+    private final String operacao;
+    private final LimiteTaxa limite;
+    private final String headerCliente;
+    private final Counter rejeicoes;
+
+    public LimiteTaxaInterceptor(String operacao, LimiteTaxa limite, String headerCliente,
+                                 MeterRegistry meterRegistry) {
+        this.operacao = operacao;
+        this.limite = limite;
+        this.headerCliente = headerCliente;
+        this.rejeicoes = LimiteConfiguration.contadorRejeicoes(meterRegistry, "taxa", operacao);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!"POST".equals(request.getMethod())) {
+            return true;
+        }
+        Duration espera = limite.consumir(cliente(request));
+        if (!espera.isZero()) {
+            rejeicoes.increment();
+            throw new LimiteTaxaExcedidoException(operacao, espera);
+        }
+        return true;
+    }
+
+    private String cliente(HttpServletRequest request) {
+        if (!headerCliente.isBlank()) {
+            String cliente = request.getHeader(headerCliente);
+            if (cliente != null && !cliente.isBlank()) {
+                return cliente;
+            }
+        }
+        Principal usuario = request.getUserPrincipal();
+        return usuario != null ? "usuario:" + usuario.getName() : request.getRemoteAddr();
+    }
+}
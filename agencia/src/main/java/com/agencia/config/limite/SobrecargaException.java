@@ -0,0 +1,21 @@
+package com.agencia.config.limite;
+
+import java.time.Duration;
+
+/**
+ * Operação recusada sem ser executada porque o sistema está no limite de
+ * operações simultâneas: pode ser repetida depois de tentarApos
+ */
+public class SobrecargaException extends RuntimeException {
+
+    private final Duration tentarApos;
+
+    public SobrecargaException(String operacao, Duration tentarApos) {
+        super("Sistema sobrecarregado em " + operacao + "; tente novamente em instantes");
+        this.tentarApos = tentarApos;
+    }
+
+    public Duration getTentarApos() {
+        return tentarApos;
+    }
+}
@@ -0,0 +1,97 @@
+package com.agencia.config.limite;
+
+import com.agencia.domain.model.Pagina;
+import com.agencia.domain.model.ResultadoVendaLote;
+import com.agencia.domain.model.ResumoVenda;
+import com.agencia.domain.model.Venda;
+import com.agencia.domain.model.VendaLote;
+import com.agencia.ports.input.VendaInputPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * DECORATOR DE CONTROLE DE ADMISSÃO DA PORTA DE ENTRADA DE VENDAS
+ * Venda e venda em lote só entram se houver vaga no limite adaptativo de
+ * operações simultâneas; sem vaga, SobrecargaException (503 com Retry-After)
+ * antes de abrir a transação. Fica por fora do decorator transacional, então
+ * a latência que ajusta o limite inclui a espera por conexão e o commit.
+ * Venda e lote têm limites separados: a latência de um lote de centenas de
+ * veículos não entra na amostra que ajusta o limite das vendas unitárias.
+ * As consultas passam direto.
+ */
+public class VendaInputPortLimitado implements VendaInputPort {
+
+    private final VendaInputPort delegate;
+    private final LimiteConcorrenciaAdaptativo limiteVendas;
+    private final LimiteConcorrenciaAdaptativo limiteLotes;
+    private final Duration tentarApos;
+    private final Counter rejeicoesVendas;
+    private final Counter rejeicoesLotes;
+
+    public VendaInputPortLimitado(VendaInputPort delegate,
+                                  LimiteConcorrenciaAdaptativo limiteVendas,
+                                  LimiteConcorrenciaAdaptativo limiteLotes,
+                                  Duration tentarApos,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.limiteVendas = limiteVendas;
+        this.limiteLotes = limiteLotes;
+        this.tentarApos = tentarApos;
+        this.rejeicoesVendas = LimiteConfiguration.contadorRejeicoes(meterRegistry, "concorrencia", "vendas");
+        this.rejeicoesLotes = LimiteConfiguration.contadorRejeicoes(meterRegistry, "concorrencia", "vendas_lote");
+    }
+
+    @Override
+    public Venda realizar(Venda venda) {
+        return admitir(limiteVendas, rejeicoesVendas, "vendas", () -> delegate.realizar(venda));
+    }
+
+    @Override
+    public List<ResultadoVendaLote> realizarEmLote(VendaLote lote) {
+        return admitir(limiteLotes, rejeicoesLotes, "vendas em lote", () -> delegate.realizarEmLote(lote));
+    }
+
+    private <T> T admitir(LimiteConcorrenciaAdaptativo limite, Counter rejeicoes, String operacao,
+                          Supplier<T> chamada) {
+        if (!limite.adquirir()) {
+            rejeicoes.increment();
+            throw new SobrecargaException(operacao, tentarApos);
+        }
+        long inicio = System.nanoTime();
+        try {
+            return chamada.get();
+        } finally {
+            limite.liberar(System.nanoTime() - inicio);
+        }
+    }
+
+    @Override
+    public Pagina<Venda> listarTodas(Long cursor, int limite) {
+        return delegate.listarTodas(cursor, limite);
+    }
+
+    @Override
+    public void percorrerTodas(Consumer<Venda> consumidor) {
+        delegate.percorrerTodas(consumidor);
+    }
+
+    @Override
+    public Pagina<ResumoVenda> listarResumos(Long cursor, int limite) {
+        return delegate.listarResumos(cursor, limite);
+    }
+
+    @Override
+    public void percorrerResumos(Consumer<ResumoVenda> consumidor) {
+        delegate.percorrerResumos(consumidor);
+    }
+
+    @Override
+    public Venda buscarPorVeiculo(Long veiculoId) {
+        return delegate.buscarPorVeiculo(veiculoId);
+    }
+}
@@ -0,0 +1,38 @@
+package com.agencia.config.metricas;
+
+import com.agencia.domain.evento.VendaRealizada;
+import com.agencia.domain.model.PainelVendas;
+import com.agencia.domain.model.ReconstrucaoAgregados;
+import com.agencia.ports.input.AgregadosVendasInputPort;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.LocalDate;
+
+/**
+ * DECORATOR DE MÉTRICAS DA PORTA DE ENTRADA DE AGREGADOS DE VENDAS
+ */
+public class AgregadosVendasInputPortInstrumentado implements AgregadosVendasInputPort {
+
+    private final AgregadosVendasInputPort delegate;
+    private final MedidorPorta medidor;
+
+    public AgregadosVendasInputPortInstrumentado(AgregadosVendasInputPort delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.medidor = new MedidorPorta("AgregadosVendasInputPort", meterRegistry);
+    }
+
+    @Override
+    public void registrarVenda(VendaRealizada venda) {
+        medidor.executar("registrarVenda", () -> delegate.registrarVenda(venda));
+    }
+
+    @Override
+    public PainelVendas painel(LocalDate dia) {
+        return medidor.medir("painel", () -> delegate.painel(dia));
+    }
+
+    @Override
+    public ReconstrucaoAgregados reconstruir() {
+        return medidor.medir("reconstruir", delegate::reconstruir);
+    }
+}
@@ -0,0 +1,45 @@
+package com.agencia.config.metricas;
+
+import com.agencia.domain.model.AgregadoVendas;
+import com.agencia.domain.model.GrupoAgregado;
+import com.agencia.domain.model.ReconstrucaoAgregados;
+import com.agencia.domain.model.TipoAgregado;
+import com.agencia.ports.output.AgregadosVendasOutputPort;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DECORATOR DE MÉTRICAS DA PORTA DE SAÍDA DE AGREGADOS DE VENDAS
+ */
+public class AgregadosVendasOutputPortInstrumentado implements AgregadosVendasOutputPort {
+
+    private final AgregadosVendasOutputPort delegate;
+    private final MedidorPorta medidor;
+
+    public AgregadosVendasOutputPortInstrumentado(AgregadosVendasOutputPort delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.medidor = new MedidorPorta("AgregadosVendasOutputPort", meterRegistry);
+    }
+
+    @Override
+    public void acumular(List<GrupoAgregado> grupos, BigDecimal valor) {
+        medidor.executar("acumular", () -> delegate.acumular(grupos, valor));
+    }
+
+    @Override
+    public AgregadoVendas buscar(GrupoAgregado grupo) {
+        return medidor.medir("buscar", () -> delegate.buscar(grupo));
+    }
+
+    @Override
+    public List<AgregadoVendas> listar(TipoAgregado tipo) {
+        return medidor.medir("listar", () -> delegate.listar(tipo));
+    }
+
+    @Override
+    public ReconstrucaoAgregados reconstruir() {
+        return medidor.medir("reconstruir", delegate::reconstruir);
+    }
+}
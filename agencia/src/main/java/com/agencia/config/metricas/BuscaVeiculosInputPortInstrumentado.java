@@ -0,0 +1,40 @@
+package com.agencia.config.metricas;
+
+import com.agencia.domain.model.ConsultaTextoVeiculo;
+import com.agencia.domain.model.ResultadoBuscaTexto;
+import com.agencia.ports.input.BuscaVeiculosInputPort;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * DECORATOR DE MÉTRICAS DA PORTA DE ENTRADA DA BUSCA DE TEXTO LIVRE
+ */
+public class BuscaVeiculosInputPortInstrumentado implements BuscaVeiculosInputPort {
+
+    private final BuscaVeiculosInputPort delegate;
+    private final MedidorPorta medidor;
+
+    public BuscaVeiculosInputPortInstrumentado(BuscaVeiculosInputPort delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.medidor = new MedidorPorta("BuscaVeiculosInputPort", meterRegistry);
+    }
+
+    @Override
+    public ResultadoBuscaTexto buscar(ConsultaTextoVeiculo consulta) {
+        return medidor.medir("buscar", () -> delegate.buscar(consulta));
+    }
+
+    @Override
+    public void atualizarIndice(Long veiculoId) {
+        medidor.executar("atualizarIndice", () -> delegate.atualizarIndice(veiculoId));
+    }
+
+    @Override
+    public long reindexar() {
+        return medidor.medir("reindexar", delegate::reindexar);
+    }
+
+    @Override
+    public void prepararIndice() {
+        medidor.executar("prepararIndice", delegate::prepararIndice);
+    }
+}
@@ -0,0 +1,52 @@
+package com.agencia.config.metricas;
+
+import com.agencia.domain.evento.VeiculoAtualizado;
+import com.agencia.domain.evento.VeiculoCadastrado;
+import com.agencia.domain.evento.VeiculoRemovido;
+import com.agencia.domain.evento.VendaRealizada;
+import com.agencia.ports.input.CatalogoInputPort;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * DECORATOR DE MÉTRICAS DA PORTA DE ATUALIZAÇÃO DO CATÁLOGO
+ */
+public class CatalogoInputPortInstrumentado implements CatalogoInputPort {
+
+    private final CatalogoInputPort delegate;
+    private final MedidorPorta medidor;
+
+    public CatalogoInputPortInstrumentado(CatalogoInputPort delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.medidor = new MedidorPorta("CatalogoInputPort", meterRegistry);
+    }
+
+    @Override
+    public void registrarCadastro(VeiculoCadastrado evento) {
+        medidor.executar("registrarCadastro", () -> delegate.registrarCadastro(evento));
+    }
+
+    @Override
+    public void registrarAlteracao(VeiculoAtualizado evento) {
+        medidor.executar("registrarAlteracao", () -> delegate.registrarAlteracao(evento));
+    }
+
+    @Override
+    public void registrarRemocao(VeiculoRemovido evento) {
+        medidor.executar("registrarRemocao", () -> delegate.registrarRemocao(evento));
+    }
+
+    @Override
+    public void registrarVenda(VendaRealizada evento) {
+        medidor.executar("registrarVenda", () -> delegate.registrarVenda(evento));
+    }
+
+    @Override
+    public long reconstruir() {
+        return medidor.medir("reconstruir", delegate::reconstruir);
+    }
+
+    @Override
+    public void prepararCatalogo() {
+        medidor.executar("prepararCatalogo", delegate::prepararCatalogo);
+    }
+}
@@ -0,0 +1,54 @@
+package com.agencia.config.metricas;
+
+import com.agencia.domain.model.ItemCatalogo;
+import com.agencia.domain.model.OrdenacaoVeiculo;
+import com.agencia.domain.model.ResultadoBusca;
+import com.agencia.ports.output.CatalogoOutputPort;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * DECORATOR DE MÉTRICAS DA PORTA DE SAÍDA DO CATÁLOGO
+ */
+public class CatalogoOutputPortInstrumentado implements CatalogoOutputPort {
+
+    private final CatalogoOutputPort delegate;
+    private final MedidorPorta medidor;
+
+    public CatalogoOutputPortInstrumentado(CatalogoOutputPort delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.medidor = new MedidorPorta("CatalogoOutputPort", meterRegistry);
+    }
+
+    @Override
+    public void salvar(ItemCatalogo item) {
+        medidor.executar("salvar", () -> delegate.salvar(item));
+    }
+
+    @Override
+    public void remover(Long veiculoId) {
+        medidor.executar("remover", () -> delegate.remover(veiculoId));
+    }
+
+    @Override
+    public Optional<ItemCatalogo> buscar(Long veiculoId) {
+        return medidor.medir("buscar", () -> delegate.buscar(veiculoId));
+    }
+
+    @Override
+    public ResultadoBusca<ItemCatalogo> listar(OrdenacaoVeiculo ordenacao, int pagina, int tamanho) {
+        return medidor.medir("listar", () -> delegate.listar(ordenacao, pagina, tamanho));
+    }
+
+    @Override
+    public long reconstruir(Consumer<Consumer<ItemCatalogo>> fonte) {
+        return medidor.medir("reconstruir", () -> delegate.reconstruir(fonte));
+    }
+
+    @Override
+    public long quantidade() {
+        return medidor.medir("quantidade", delegate::quantidade);
+    }
+}
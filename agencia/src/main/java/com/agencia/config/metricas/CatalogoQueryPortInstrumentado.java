@@ -0,0 +1,31 @@
+package com.agencia.config.metricas;
+
+import com.agencia.domain.model.ItemCatalogo;
+import com.agencia.domain.model.OrdenacaoVeiculo;
+import com.agencia.domain.model.ResultadoBusca;
+import com.agencia.ports.input.CatalogoQueryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * DECORATOR DE MÉTRICAS DA PORTA DE CONSULTA DO CATÁLOGO
+ */
+public class CatalogoQueryPortInstrumentado implements CatalogoQueryPort {
+
+    private final CatalogoQueryPort delegate;
+    private final MedidorPorta medidor;
+
+    public CatalogoQueryPortInstrumentado(CatalogoQueryPort delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.medidor = new MedidorPorta("CatalogoQueryPort", meterRegistry);
+    }
+
+    @Override
+    public ResultadoBusca<ItemCatalogo> listar(OrdenacaoVeiculo ordenacao, int pagina, int tamanho) {
+        return medidor.medir("listar", () -> delegate.listar(ordenacao, pagina, tamanho));
+    }
+
+    @Override
+    public ItemCatalogo buscar(Long veiculoId) {
+        return medidor.medir("buscar", () -> delegate.buscar(veiculoId));
+    }
+}
@@ -0,0 +1,41 @@
+package com.agencia.config.metricas;
+
+import com.agencia.domain.model.Cliente;
+import com.agencia.ports.output.ClienteOutputPort;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Optional;
+
+/**
+ * DECORATOR DE MÉTRICAS DA PORTA DE SAÍDA DE CLIENTES
+ */
+public class ClienteOutputPortInstrumentado implements ClienteOutputPort {
+
+    private final ClienteOutputPort delegate;
+    private final MedidorPorta medidor;
+
+    public ClienteOutputPortInstrumentado(ClienteOutputPort delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.medidor = new MedidorPorta("ClienteOutputPort", meterRegistry);
+    }
+
+    @Override
+    public Cliente salvar(Cliente cliente) {
+        return medidor.medir("salvar", () -> delegate.salvar(cliente));
+    }
+
+    @Override
+    public Optional<Cliente> buscarPorId(Long id) {
+        return medidor.medir("buscarPorId", () -> delegate.buscarPorId(id));
+    }
+
+    @Override
+    public Optional<Long> buscarVersao(Long id) {
+        return medidor.medir("buscarVersao", () -> delegate.buscarVersao(id));
+    }
+
+    @Override
+    public Optional<Cliente> buscarPorCpf(String cpf) {
+        return medidor.medir("buscarPorCpf", () -> delegate.buscarPorCpf(cpf));
+    }
+}
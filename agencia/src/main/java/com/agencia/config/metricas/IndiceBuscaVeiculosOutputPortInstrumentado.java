@@ -0,0 +1,50 @@
+package com.agencia.config.metricas;
+
+import com.agencia.domain.model.ConsultaTextoVeiculo;
+import com.agencia.domain.model.ResultadoBuscaTexto;
+import com.agencia.domain.model.Veiculo;
+import com.agencia.ports.output.IndiceBuscaVeiculosOutputPort;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.function.Consumer;
+
+/**
+ * DECORATOR DE MÉTRICAS DA PORTA DE SAÍDA DO ÍNDICE DE BUSCA
+ * O tempo de buscar aqui é só o do índice, sem a validação e o mapeamento.
+ */
+public class IndiceBuscaVeiculosOutputPortInstrumentado implements IndiceBuscaVeiculosOutputPort {
+
+    private final IndiceBuscaVeiculosOutputPort delegate;
+    private final MedidorPorta medidor;
+
+    public IndiceBuscaVeiculosOutputPortInstrumentado(IndiceBuscaVeiculosOutputPort delegate,
+                                                      MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.medidor = new MedidorPorta("IndiceBuscaVeiculosOutputPort", meterRegistry);
+    }
+
+    @Override
+    public void indexar(Veiculo veiculo) {
+        medidor.executar("indexar", () -> delegate.indexar(veiculo));
+    }
+
+    @Override
+    public void remover(Long veiculoId) {
+        medidor.executar("remover", () -> delegate.remover(veiculoId));
+    }
+
+    @Override
+    public ResultadoBuscaTexto buscar(ConsultaTextoVeiculo consulta) {
+        return medidor.medir("buscar", () -> delegate.buscar(consulta));
+    }
+
+    @Override
+    public long reconstruir(Consumer<Consumer<Veiculo>> fonte) {
+        return medidor.medir("reconstruir", () -> delegate.reconstruir(fonte));
+    }
+
+    @Override
+    public long quantidade() {
+        return medidor.medir("quantidade", delegate::quantidade);
+    }
+}
@@ -0,0 +1,60 @@
+package com.agencia.config.metricas;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * MEDIDOR DE PORTA
+ * Cronometra as chamadas de uma porta e registra o Timer "agencia.porta"
+ * com as tags porta, metodo, resultado (sucesso/erro) e excecao.
+ * Os Timers de sucesso ficam guardados por método para não montar
+ * o identificador da métrica a cada chamada.
+ * Histogramas e percentis são ligados no application.properties
+ * (management.metrics.distribution.*.agencia.porta).
+ */
+public class MedidorPorta {
+
+    public static final String METRICA = "agencia.porta";
+
+    private final String porta;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> sucessos = new ConcurrentHashMap<>();
+
+    public MedidorPorta(String porta, MeterRegistry meterRegistry) {
+        this.porta = porta;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T medir(String metodo, Supplier<T> chamada) {
+        Timer.Sample amostra = Timer.start(meterRegistry);
+        try {
+            T resultado = chamada.get();
+            amostra.stop(sucessos.computeIfAbsent(metodo, m -> timer(m, "sucesso", "none")));
+            return resultado;
+        } catch (RuntimeException e) {
+            amostra.stop(timer(metodo, "erro", e.getClass().getSimpleName()));
+            throw e;
+        }
+    }
+
+    public void executar(String metodo, Runnable chamada) {
+        medir(metodo, () -> {
+            chamada.run();
+            return null;
+        });
+    }
+
+    private Timer timer(String metodo, String resultado, String excecao) {
+        return Timer.builder(METRICA)
+                .description("Tempo das chamadas às portas de entrada e saída")
+                .tag("porta", porta)
+                .tag("metodo", metodo)
+                .tag("resultado", resultado)
+                .tag("excecao", excecao)
+                .register(meterRegistry);
+    }
+}
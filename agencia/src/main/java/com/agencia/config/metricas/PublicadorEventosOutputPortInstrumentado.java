@@ -0,0 +1,25 @@
+package com.agencia.config.metricas;
+
+import com.agencia.domain.evento.EventoDominio;
+import com.agencia.ports.output.PublicadorEventosOutputPort;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * DECORATOR DE MÉTRICAS DA PORTA DE PUBLICAÇÃO DE EVENTOS
+ * O método na métrica é o tipo do evento (ex: publicar.VendaRealizada)
+ */
+public class PublicadorEventosOutputPortInstrumentado implements PublicadorEventosOutputPort {
+
+    private final PublicadorEventosOutputPort delegate;
+    private final MedidorPorta medidor;
+
+    public PublicadorEventosOutputPortInstrumentado(PublicadorEventosOutputPort delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.medidor = new MedidorPorta("PublicadorEventosOutputPort", meterRegistry);
+    }
+
+    @Override
+    public void publicar(EventoDominio evento) {
+        medidor.executar("publicar." + evento.getClass().getSimpleName(), () -> delegate.publicar(evento));
+    }
+}
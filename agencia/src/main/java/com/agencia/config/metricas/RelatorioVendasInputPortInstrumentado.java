@@ -0,0 +1,35 @@
+package com.agencia.config.metricas;
+
+import com.agencia.domain.model.AgrupamentoPeriodo;
+import com.agencia.domain.model.AgrupamentoVeiculo;
+import com.agencia.domain.model.DesempenhoVeiculo;
+import com.agencia.domain.model.FaturamentoPeriodo;
+import com.agencia.ports.input.RelatorioVendasInputPort;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DECORATOR DE MÉTRICAS DA PORTA DE ENTRADA DE RELATÓRIOS DE VENDAS
+ */
+public class RelatorioVendasInputPortInstrumentado implements RelatorioVendasInputPort {
+
+    private final RelatorioVendasInputPort delegate;
+    private final MedidorPorta medidor;
+
+    public RelatorioVendasInputPortInstrumentado(RelatorioVendasInputPort delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.medidor = new MedidorPorta("RelatorioVendasInputPort", meterRegistry);
+    }
+
+    @Override
+    public List<FaturamentoPeriodo> faturamento(AgrupamentoPeriodo agrupamento, LocalDate inicio, LocalDate fim) {
+        return medidor.medir("faturamento", () -> delegate.faturamento(agrupamento, inicio, fim));
+    }
+
+    @Override
+    public List<DesempenhoVeiculo> desempenhoPorVeiculo(AgrupamentoVeiculo agrupamento, LocalDate inicio, LocalDate fim) {
+        return medidor.medir("desempenhoPorVeiculo", () -> delegate.desempenhoPorVeiculo(agrupamento, inicio, fim));
+    }
+}
@@ -0,0 +1,37 @@
+package com.agencia.config.metricas;
+
+import com.agencia.domain.model.AgrupamentoPeriodo;
+import com.agencia.domain.model.AgrupamentoVeiculo;
+import com.agencia.domain.model.DesempenhoVeiculo;
+import com.agencia.domain.model.FaturamentoPeriodo;
+import com.agencia.ports.output.RelatorioVendasOutputPort;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DECORATOR DE MÉTRICAS DA PORTA DE SAÍDA DE RELATÓRIOS DE VENDAS
+ */
+public class RelatorioVendasOutputPortInstrumentado implements RelatorioVendasOutputPort {
+
+    private final RelatorioVendasOutputPort delegate;
+    private final MedidorPorta medidor;
+
+    public RelatorioVendasOutputPortInstrumentado(RelatorioVendasOutputPort delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.medidor = new MedidorPorta("RelatorioVendasOutputPort", meterRegistry);
+    }
+
+    @Override
+    public List<FaturamentoPeriodo> faturamento(AgrupamentoPeriodo agrupamento,
+                                                LocalDateTime desde, LocalDateTime ate) {
+        return medidor.medir("faturamento", () -> delegate.faturamento(agrupamento, desde, ate));
+    }
+
+    @Override
+    public List<DesempenhoVeiculo> desempenhoPorVeiculo(AgrupamentoVeiculo agrupamento,
+                                                        LocalDateTime desde, LocalDateTime ate) {
+        return medidor.medir("desempenhoPorVeiculo", () -> delegate.desempenhoPorVeiculo(agrupamento, desde, ate));
+    }
+}
@@ -0,0 +1,90 @@
+package com.agencia.config.metricas;
+
+import com.agencia.domain.model.FiltroVeiculo;
+import com.agencia.domain.model.Pagina;
+import com.agencia.domain.model.ResultadoBusca;
+import com.agencia.domain.model.ResultadoCadastroLote;
+import com.agencia.domain.model.Veiculo;
+import com.agencia.domain.model.VersaoRegistro;
+import com.agencia.ports.input.VeiculoInputPort;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * DECORATOR DE MÉTRICAS DA PORTA DE ENTRADA DE VEÍCULOS
+ * Mede cada chamada feita pelos controllers ao serviço de domínio.
+ * Nos métodos percorrer* o tempo inclui a escrita de cada item na resposta.
+ */
+public class VeiculoInputPortInstrumentado implements VeiculoInputPort {
+
+    private final VeiculoInputPort delegate;
+    private final MedidorPorta medidor;
+
+    public VeiculoInputPortInstrumentado(VeiculoInputPort delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.medidor = new MedidorPorta("VeiculoInputPort", meterRegistry);
+    }
+
+    @Override
+    public Veiculo cadastrar(Veiculo veiculo) {
+        return medidor.medir("cadastrar", () -> delegate.cadastrar(veiculo));
+    }
+
+    @Override
+    public List<ResultadoCadastroLote> cadastrarEmLote(List<Veiculo> veiculos) {
+        return medidor.medir("cadastrarEmLote", () -> delegate.cadastrarEmLote(veiculos));
+    }
+
+    @Override
+    public Veiculo buscarPorId(Long id) {
+        return medidor.medir("buscarPorId", () -> delegate.buscarPorId(id));
+    }
+
+    @Override
+    public Optional<Long> buscarVersao(Long id) {
+        return medidor.medir("buscarVersao", () -> delegate.buscarVersao(id));
+    }
+
+    @Override
+    public Pagina<Veiculo> listarTodos(Long cursor, int limite) {
+        return medidor.medir("listarTodosPaginado", () -> delegate.listarTodos(cursor, limite));
+    }
+
+    @Override
+    public Pagina<Veiculo> listarDisponiveis(Long cursor, int limite) {
+        return medidor.medir("listarDisponiveisPaginado", () -> delegate.listarDisponiveis(cursor, limite));
+    }
+
+    @Override
+    public Pagina<VersaoRegistro> listarVersoesDisponiveis(Long cursor, int limite) {
+        return medidor.medir("listarVersoesDisponiveis", () -> delegate.listarVersoesDisponiveis(cursor, limite));
+    }
+
+    @Override
+    public void percorrerTodos(Consumer<Veiculo> consumidor) {
+        medidor.executar("percorrerTodos", () -> delegate.percorrerTodos(consumidor));
+    }
+
+    @Override
+    public void percorrerDisponiveis(Consumer<Veiculo> consumidor) {
+        medidor.executar("percorrerDisponiveis", () -> delegate.percorrerDisponiveis(consumidor));
+    }
+
+    @Override
+    public ResultadoBusca<Veiculo> buscar(FiltroVeiculo filtro) {
+        return medidor.medir("buscar", () -> delegate.buscar(filtro));
+    }
+
+    @Override
+    public Veiculo atualizar(Long id, Veiculo veiculo) {
+        return medidor.medir("atualizar", () -> delegate.atualizar(id, veiculo));
+    }
+
+    @Override
+    public void deletar(Long id) {
+        medidor.executar("deletar", () -> delegate.deletar(id));
+    }
+}
@@ -0,0 +1,115 @@
+package com.agencia.config.metricas;
+
+import com.agencia.domain.model.FiltroVeiculo;
+import com.agencia.domain.model.ResultadoBusca;
+import com.agencia.domain.model.Veiculo;
+import com.agencia.domain.model.VersaoRegistro;
+import com.agencia.ports.output.VeiculoOutputPort;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * DECORATOR DE MÉTRICAS DA PORTA DE SAÍDA DE VEÍCULOS
+ * Mede o que o domínio vê da persistência (cache + JPA + mapeamento).
+ * Acertos e faltas do cache estão nas métricas cache.gets.
+ */
+public class VeiculoOutputPortInstrumentado implements VeiculoOutputPort {
+
+    private final VeiculoOutputPort delegate;
+    private final MedidorPorta medidor;
+
+    public VeiculoOutputPortInstrumentado(VeiculoOutputPort delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.medidor = new MedidorPorta("VeiculoOutputPort", meterRegistry);
+    }
+
+    @Override
+    public Veiculo salvar(Veiculo veiculo) {
+        return medidor.medir("salvar", () -> delegate.salvar(veiculo));
+    }
+
+    @Override
+    public List<Veiculo> salvarTodos(List<Veiculo> veiculos) {
+        return medidor.medir("salvarTodos", () -> delegate.salvarTodos(veiculos));
+    }
+
+    @Override
+    public Optional<Veiculo> buscarPorId(Long id) {
+        return medidor.medir("buscarPorId", () -> delegate.buscarPorId(id));
+    }
+
+    @Override
+    public List<Veiculo> buscarPorIds(Collection<Long> ids) {
+        return medidor.medir("buscarPorIds", () -> delegate.buscarPorIds(ids));
+    }
+
+    @Override
+    public Optional<Long> buscarVersao(Long id) {
+        return medidor.medir("buscarVersao", () -> delegate.buscarVersao(id));
+    }
+
+    @Override
+    public List<Veiculo> listarTodos(Long aposId, int limite) {
+        return medidor.medir("listarTodosPaginado", () -> delegate.listarTodos(aposId, limite));
+    }
+
+    @Override
+    public List<Veiculo> listarDisponiveis(Long aposId, int limite) {
+        return medidor.medir("listarDisponiveisPaginado", () -> delegate.listarDisponiveis(aposId, limite));
+    }
+
+    @Override
+    public List<VersaoRegistro> listarVersoesDisponiveis(Long aposId, int limite) {
+        return medidor.medir("listarVersoesDisponiveis", () -> delegate.listarVersoesDisponiveis(aposId, limite));
+    }
+
+    @Override
+    public void percorrerTodos(Consumer<Veiculo> consumidor) {
+        medidor.executar("percorrerTodos", () -> delegate.percorrerTodos(consumidor));
+    }
+
+    @Override
+    public void percorrerDisponiveis(Consumer<Veiculo> consumidor) {
+        medidor.executar("percorrerDisponiveis", () -> delegate.percorrerDisponiveis(consumidor));
+    }
+
+    @Override
+    public void percorrerPlacas(Consumer<String> consumidor) {
+        medidor.executar("percorrerPlacas", () -> delegate.percorrerPlacas(consumidor));
+    }
+
+    @Override
+    public ResultadoBusca<Veiculo> buscar(FiltroVeiculo filtro) {
+        return medidor.medir("buscar", () -> delegate.buscar(filtro));
+    }
+
+    @Override
+    public boolean reservar(Long id) {
+        return medidor.medir("reservar", () -> delegate.reservar(id));
+    }
+
+    @Override
+    public Set<Long> reservarTodos(Collection<Long> ids) {
+        return medidor.medir("reservarTodos", () -> delegate.reservarTodos(ids));
+    }
+
+    @Override
+    public void deletar(Long id) {
+        medidor.executar("deletar", () -> delegate.deletar(id));
+    }
+
+    @Override
+    public boolean existePorPlaca(String placa) {
+        return medidor.medir("existePorPlaca", () -> delegate.existePorPlaca(placa));
+    }
+
+    @Override
+    public Set<String> placasExistentes(Collection<String> placas) {
+        return medidor.medir("placasExistentes", () -> delegate.placasExistentes(placas));
+    }
+}
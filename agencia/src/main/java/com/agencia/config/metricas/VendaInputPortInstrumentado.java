@@ -0,0 +1,62 @@
+package com.agencia.config.metricas;
+
+import com.agencia.domain.model.Pagina;
+import com.agencia.domain.model.ResultadoVendaLote;
+import com.agencia.domain.model.ResumoVenda;
+import com.agencia.domain.model.Venda;
+import com.agencia.domain.model.VendaLote;
+import com.agencia.ports.input.VendaInputPort;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * DECORATOR DE MÉTRICAS DA PORTA DE ENTRADA DE VENDAS
+ * Envolve o decorator transacional: o tempo de realizar inclui o commit.
+ */
+public class VendaInputPortInstrumentado implements VendaInputPort {
+
+    private final VendaInputPort delegate;
+    private final MedidorPorta medidor;
+
+    public VendaInputPortInstrumentado(VendaInputPort delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.medidor = new MedidorPorta("VendaInputPort", meterRegistry);
+    }
+
+    @Override
+    public Venda realizar(Venda venda) {
+        return medidor.medir("realizar", () -> delegate.realizar(venda));
+    }
+
+    @Override
+    public List<ResultadoVendaLote> realizarEmLote(VendaLote lote) {
+        return medidor.medir("realizarEmLote", () -> delegate.realizarEmLote(lote));
+    }
+
+    @Override
+    public Pagina<Venda> listarTodas(Long cursor, int limite) {
+        return medidor.medir("listarTodasPaginado", () -> delegate.listarTodas(cursor, limite));
+    }
+
+    @Override
+    public void percorrerTodas(Consumer<Venda> consumidor) {
+        medidor.executar("percorrerTodas", () -> delegate.percorrerTodas(consumidor));
+    }
+
+    @Override
+    public Pagina<ResumoVenda> listarResumos(Long cursor, int limite) {
+        return medidor.medir("listarResumos", () -> delegate.listarResumos(cursor, limite));
+    }
+
+    @Override
+    public void percorrerResumos(Consumer<ResumoVenda> consumidor) {
+        medidor.executar("percorrerResumos", () -> delegate.percorrerResumos(consumidor));
+    }
+
+    @Override
+    public Venda buscarPorVeiculo(Long veiculoId) {
+        return medidor.medir("buscarPorVeiculo", () -> delegate.buscarPorVeiculo(veiculoId));
+    }
+}
@@ -0,0 +1,64 @@
+package com.agencia.config.metricas;
+
+import com.agencia.domain.model.ResumoVenda;
+import com.agencia.domain.model.Venda;
+import com.agencia.ports.output.VendaOutputPort;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * DECORATOR DE MÉTRICAS DA PORTA DE SAÍDA DE VENDAS
+ */
+public class VendaOutputPortInstrumentado implements VendaOutputPort {
+
+    private final VendaOutputPort delegate;
+    private final MedidorPorta medidor;
+
+    public VendaOutputPortInstrumentado(VendaOutputPort delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.medidor = new MedidorPorta("VendaOutputPort", meterRegistry);
+    }
+
+    @Override
+    public Venda salvar(Venda venda) {
+        return medidor.medir("salvar", () -> delegate.salvar(venda));
+    }
+
+    @Override
+    public List<Venda> salvarTodas(List<Venda> vendas) {
+        return medidor.medir("salvarTodas", () -> delegate.salvarTodas(vendas));
+    }
+
+    @Override
+    public List<Venda> listarTodas() {
+        return medidor.medir("listarTodas", delegate::listarTodas);
+    }
+
+    @Override
+    public List<Venda> listarTodas(Long aposId, int limite) {
+        return medidor.medir("listarTodasPaginado", () -> delegate.listarTodas(aposId, limite));
+    }
+
+    @Override
+    public void percorrerTodas(Consumer<Venda> consumidor) {
+        medidor.executar("percorrerTodas", () -> delegate.percorrerTodas(consumidor));
+    }
+
+    @Override
+    public List<ResumoVenda> listarResumos(Long aposId, int limite) {
+        return medidor.medir("listarResumos", () -> delegate.listarResumos(aposId, limite));
+    }
+
+    @Override
+    public void percorrerResumos(Consumer<ResumoVenda> consumidor) {
+        medidor.executar("percorrerResumos", () -> delegate.percorrerResumos(consumidor));
+    }
+
+    @Override
+    public Optional<Venda> buscarPorVeiculo(Long veiculoId) {
+        return medidor.medir("buscarPorVeiculo", () -> delegate.buscarPorVeiculo(veiculoId));
+    }
+}
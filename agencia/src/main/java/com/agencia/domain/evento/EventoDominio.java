@@ -0,0 +1,14 @@
+package com.agencia.domain.evento;
+
+import java.time.LocalDateTime;
+
+/**
+ * EVENTO DE DOMÍNIO
+ * Algo que aconteceu no domínio e que interessa a outras partes da aplicação
+ * (agregados de relatório, índices, caches). O domínio só publica o evento
+ * pela porta PublicadorEventosOutputPort; quem o consome fica fora do domínio.
+ */
+public interface EventoDominio {
+
+    LocalDateTime getOcorridoEm();
+}
@@ -0,0 +1,32 @@
+package com.agencia.domain.evento;
+
+import com.agencia.domain.model.Veiculo;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * EVENTO DE DOMÍNIO - Dados de um veículo alterados
+ * Carrega o estado completo depois da alteração, não só os campos alterados.
+ */
+@Getter
+@AllArgsConstructor
+public class VeiculoAtualizado implements EventoDominio {
+    private final Long veiculoId;
+    private final String marca;
+    private final String modelo;
+    private final Integer ano;
+    private final String placa;
+    private final String cor;
+    private final BigDecimal preco;
+    private final Boolean disponivel;
+    private final LocalDateTime ocorridoEm;
+
+    public static VeiculoAtualizado de(Veiculo veiculo, LocalDateTime ocorridoEm) {
+        return new VeiculoAtualizado(veiculo.getId(), veiculo.getMarca(), veiculo.getModelo(),
+                veiculo.getAno(), veiculo.getPlaca(), veiculo.getCor(), veiculo.getPreco(),
+                veiculo.getDisponivel(), ocorridoEm);
+    }
+}
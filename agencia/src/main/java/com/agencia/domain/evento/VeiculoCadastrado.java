@@ -0,0 +1,35 @@
+package com.agencia.domain.evento;
+
+import com.agencia.domain.model.Veiculo;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * EVENTO DE DOMÍNIO - Veículo cadastrado (unitário ou em lote)
+ */
+@Getter
+@AllArgsConstructor
+public class VeiculoCadastrado implements EventoDominio {
+    private final Long veiculoId;
+    private final String marca;
+    private final String modelo;
+    private final Integer ano;
+    private final String placa;
+    private final String cor;
+    private final BigDecimal preco;
+    private final LocalDateTime dataCadastro;
+
+    public static VeiculoCadastrado de(Veiculo veiculo) {
+        return new VeiculoCadastrado(veiculo.getId(), veiculo.getMarca(), veiculo.getModelo(),
+                veiculo.getAno(), veiculo.getPlaca(), veiculo.getCor(), veiculo.getPreco(),
+                veiculo.getDataCadastro());
+    }
+
+    @Override
+    public LocalDateTime getOcorridoEm() {
+        return dataCadastro;
+    }
+}
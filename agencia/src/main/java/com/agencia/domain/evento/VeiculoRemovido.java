@@ -0,0 +1,17 @@
+package com.agencia.domain.evento;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * EVENTO DE DOMÍNIO - Veículo removido do estoque
+ */
+@Getter
+@AllArgsConstructor
+public class VeiculoRemovido implements EventoDominio {
+    private final Long veiculoId;
+    private final String placa;
+    private final LocalDateTime ocorridoEm;
+}
@@ -0,0 +1,36 @@
+package com.agencia.domain.evento;
+
+import com.agencia.domain.model.Venda;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * EVENTO DE DOMÍNIO - Venda realizada
+ * Carrega os dados da venda já registrada, sem os objetos completos
+ * de veículo e cliente.
+ */
+@Getter
+@AllArgsConstructor
+public class VendaRealizada implements EventoDominio {
+    private final Long vendaId;
+    private final Long veiculoId;
+    private final Long clienteId;
+    private final String marca;
+    private final String modelo;
+    private final BigDecimal valorVenda;
+    private final LocalDateTime dataVenda;
+
+    public static VendaRealizada de(Venda venda) {
+        return new VendaRealizada(venda.getId(), venda.getVeiculo().getId(), venda.getCliente().getId(),
+                venda.getVeiculo().getMarca(), venda.getVeiculo().getModelo(),
+                venda.getValorVenda(), venda.getDataVenda());
+    }
+
+    @Override
+    public LocalDateTime getOcorridoEm() {
+        return dataVenda;
+    }
+}
@@ -0,0 +1,23 @@
+package com.agencia.domain.exception;
+
+import com.agencia.domain.model.ResultadoVendaLote;
+
+import java.util.List;
+
+/**
+ * Venda em lote TUDO_OU_NADA com algum veículo que não pode ser vendido:
+ * nada é vendido, e o resultado informa o motivo de cada veículo
+ */
+public class VendaLoteRecusadaException extends RuntimeException {
+
+    private final transient List<ResultadoVendaLote> resultados;
+
+    public VendaLoteRecusadaException(List<ResultadoVendaLote> resultados) {
+        super("Venda em lote recusada: nem todos os veículos podem ser vendidos");
+        this.resultados = resultados;
+    }
+
+    public List<ResultadoVendaLote> getResultados() {
+        return resultados;
+    }
+}
@@ -0,0 +1,29 @@
+package com.agencia.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * AGREGADO DE VENDAS
+ * Quantidade de vendas e faturamento acumulados de um grupo (total, marca ou dia),
+ * mantidos a cada venda para que os painéis não precisem ler as vendas.
+ */
+@Getter
+@AllArgsConstructor
+public class AgregadoVendas {
+    private final GrupoAgregado grupo;
+    private final long quantidadeVendas;
+    private final BigDecimal faturamento;
+
+    public static AgregadoVendas vazio(GrupoAgregado grupo) {
+        return new AgregadoVendas(grupo, 0, BigDecimal.ZERO);
+    }
+
+    public boolean mesmosValores(AgregadoVendas outro) {
+        return outro != null
+                && quantidadeVendas == outro.quantidadeVendas
+                && faturamento.compareTo(outro.faturamento) == 0;
+    }
+}
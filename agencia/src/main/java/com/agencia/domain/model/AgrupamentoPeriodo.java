@@ -0,0 +1,9 @@
+package com.agencia.domain.model;
+
+/**
+ * Períodos suportados no relatório de faturamento
+ */
+public enum AgrupamentoPeriodo {
+    DIA,
+    MES
+}
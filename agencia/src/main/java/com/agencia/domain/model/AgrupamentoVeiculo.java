@@ -0,0 +1,10 @@
+package com.agencia.domain.model;
+
+/**
+ * Agrupamentos suportados no relatório de desempenho por veículo
+ * MODELO agrupa por marca e modelo (o mesmo nome de modelo pode existir em duas marcas)
+ */
+public enum AgrupamentoVeiculo {
+    MARCA,
+    MODELO
+}
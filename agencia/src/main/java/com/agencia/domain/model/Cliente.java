@@ -19,6 +19,11 @@ public class Cliente {
     private String telefone;
     private String email;
 
+    /**
+     * Versão do registro: muda a cada alteração gravada
+     */
+    private Long versao;
+
     /**
      * Regra de negócio: Validar CPF básico
      */
@@ -0,0 +1,52 @@
+package com.agencia.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * CONSULTA DE TEXTO LIVRE NO ESTOQUE
+ * Cada palavra do texto precisa aparecer em marca, modelo, cor ou ano
+ * (com tolerância a erros de digitação). Texto vazio traz todo o estoque.
+ * Marca, ano e cor refinam o resultado pelas facetas; disponivel filtra
+ * pela disponibilidade. Todos opcionais (null = não filtra).
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConsultaTextoVeiculo {
+
+    /**
+     * Página mais funda que pode ser pedida (pagina * tamanho + tamanho):
+     * além disso, cada consulta teria de ordenar resultados demais
+     */
+    public static final int PROFUNDIDADE_MAXIMA = 10_000;
+
+    private String texto;
+    private Boolean disponivel;
+    private String marca;
+    private Integer ano;
+    private String cor;
+
+    @Builder.Default
+    private int pagina = 0;
+
+    @Builder.Default
+    private int tamanho = Pagina.LIMITE_PADRAO;
+
+    /**
+     * Regra de negócio: página válida e dentro da profundidade máxima
+     */
+    public void validar() {
+        if (pagina < 0) {
+            throw new IllegalArgumentException("Página não pode ser negativa");
+        }
+        Pagina.validarLimite(tamanho);
+        if ((long) (pagina + 1) * tamanho > PROFUNDIDADE_MAXIMA) {
+            throw new IllegalArgumentException(
+                    "A busca vai até o resultado " + PROFUNDIDADE_MAXIMA + "; refine o texto ou as facetas");
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.agencia.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * DESEMPENHO DE VENDAS POR MARCA OU MODELO
+ * Uma linha do relatório, já agregada pelo banco.
+ * O desconto é a diferença entre o preço anunciado do veículo e o valor da venda;
+ * o tempo para vender vai do cadastro do veículo até a venda.
+ * No agrupamento por marca o modelo fica nulo.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class DesempenhoVeiculo {
+    private final String marca;
+    private final String modelo;
+    private final long quantidadeVendas;
+    private final BigDecimal faturamento;
+    private final BigDecimal descontoMedio;
+    /**
+     * Desconto médio em percentual do preço anunciado (ex: 7.5 = 7,5%)
+     */
+    private final double descontoPercentualMedio;
+    private final double diasMedioParaVender;
+}
@@ -0,0 +1,22 @@
+package com.agencia.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * DIVERGÊNCIA ENCONTRADA NA RECONSTRUÇÃO DOS AGREGADOS
+ * Um grupo cujo valor mantido (na tabela ou na memória) não bate com o recalculado
+ * a partir das vendas. Um dos lados fica nulo quando o grupo só existe no outro.
+ */
+@Getter
+@AllArgsConstructor
+public class DivergenciaAgregado {
+    private final OrigemAgregado origem;
+    private final AgregadoVendas mantido;
+    private final AgregadoVendas recalculado;
+
+    public enum OrigemAgregado {
+        TABELA,
+        MEMORIA
+    }
+}
@@ -0,0 +1,25 @@
+package com.agencia.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+/**
+ * FATURAMENTO DE UM PERÍODO
+ * Uma linha do relatório de faturamento, já agregada pelo banco.
+ * No agrupamento por mês, o período é o primeiro dia do mês.
+ */
+@Getter
+@AllArgsConstructor
+public class FaturamentoPeriodo {
+    private final LocalDate periodo;
+    private final long quantidadeVendas;
+    private final BigDecimal faturamento;
+
+    public BigDecimal getTicketMedio() {
+        return faturamento.divide(BigDecimal.valueOf(quantidadeVendas), 2, RoundingMode.HALF_UP);
+    }
+}
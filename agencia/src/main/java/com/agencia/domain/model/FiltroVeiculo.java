@@ -0,0 +1,54 @@
+package com.agencia.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * CRITÉRIOS DE BUSCA DE VEÍCULOS
+ * Todos os filtros são opcionais (null = não filtra).
+ * Faixas de ano e preço são inclusivas.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FiltroVeiculo {
+    private String marca;
+    private String modelo;
+    private Integer anoMinimo;
+    private Integer anoMaximo;
+    private BigDecimal precoMinimo;
+    private BigDecimal precoMaximo;
+    private String cor;
+    private Boolean disponivel;
+
+    @Builder.Default
+    private OrdenacaoVeiculo ordenacao = OrdenacaoVeiculo.PRECO_ASC;
+
+    @Builder.Default
+    private int pagina = 0;
+
+    @Builder.Default
+    private int tamanho = Pagina.LIMITE_PADRAO;
+
+    /**
+     * Regra de negócio: faixas coerentes e página válida
+     */
+    public void validar() {
+        if (anoMinimo != null && anoMaximo != null && anoMinimo > anoMaximo) {
+            throw new IllegalArgumentException("Ano mínimo maior que o ano máximo");
+        }
+        if (precoMinimo != null && precoMaximo != null
+                && precoMinimo.compareTo(precoMaximo) > 0) {
+            throw new IllegalArgumentException("Preço mínimo maior que o preço máximo");
+        }
+        if (pagina < 0) {
+            throw new IllegalArgumentException("Página não pode ser negativa");
+        }
+        Pagina.validarLimite(tamanho);
+    }
+}
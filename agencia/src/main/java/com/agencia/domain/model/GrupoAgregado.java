@@ -0,0 +1,34 @@
+package com.agencia.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+/**
+ * GRUPO DE UM AGREGADO DE VENDAS (tipo + chave)
+ * As chaves são montadas só aqui, para que a venda e a reconstrução
+ * sempre acumulem no mesmo grupo.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+@AllArgsConstructor
+public class GrupoAgregado {
+    private final TipoAgregado tipo;
+    private final String chave;
+
+    public static GrupoAgregado total() {
+        return new GrupoAgregado(TipoAgregado.TOTAL, "");
+    }
+
+    public static GrupoAgregado marca(String marca) {
+        return new GrupoAgregado(TipoAgregado.MARCA, marca);
+    }
+
+    public static GrupoAgregado dia(LocalDate dia) {
+        return new GrupoAgregado(TipoAgregado.DIA, dia.toString());
+    }
+}
@@ -0,0 +1,42 @@
+package com.agencia.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * ITEM DO CATÁLOGO PÚBLICO (modelo de leitura)
+ * Um veículo disponível, já no formato de exibição: título e preço formatado
+ * são calculados uma vez, quando o item entra no catálogo, e não a cada consulta.
+ * Não tem placa nem versão: o catálogo é para o público, não para a operação.
+ */
+@Getter
+@AllArgsConstructor
+public class ItemCatalogo {
+
+    private static final Locale PT_BR = Locale.forLanguageTag("pt-BR");
+
+    private final Long veiculoId;
+    private final String titulo;
+    private final String marca;
+    private final String modelo;
+    private final Integer ano;
+    private final String cor;
+    private final BigDecimal preco;
+    private final String precoFormatado;
+    private final LocalDateTime dataCadastro;
+
+    public static ItemCatalogo de(Long veiculoId, String marca, String modelo, Integer ano,
+                                  String cor, BigDecimal preco, LocalDateTime dataCadastro) {
+        return new ItemCatalogo(veiculoId, marca + " " + modelo + " " + ano, marca, modelo, ano, cor,
+                preco, String.format(PT_BR, "R$ %,.2f", preco), dataCadastro);
+    }
+
+    public static ItemCatalogo de(Veiculo veiculo) {
+        return de(veiculo.getId(), veiculo.getMarca(), veiculo.getModelo(), veiculo.getAno(),
+                veiculo.getCor(), veiculo.getPreco(), veiculo.getDataCadastro());
+    }
+}
@@ -0,0 +1,28 @@
+package com.agencia.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+
+/**
+ * Um veículo de uma venda em lote, com o valor negociado para ele
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemVendaLote {
+    private Long veiculoId;
+    private BigDecimal valorVenda;
+
+    public void validar() {
+        if (veiculoId == null) {
+            throw new IllegalArgumentException("Veículo é obrigatório");
+        }
+        if (valorVenda == null || valorVenda.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("Valor de venda inválido");
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.agencia.domain.model;
+
+/**
+ * Como a venda em lote trata os veículos que não podem ser vendidos
+ * (não encontrados, indisponíveis ou vendidos por outro comprador no meio do caminho)
+ */
+public enum ModoVendaLote {
+    /**
+     * Basta um veículo não poder ser vendido para o lote inteiro ser recusado
+     */
+    TUDO_OU_NADA,
+    /**
+     * Vende os que puderem ser vendidos e informa o motivo dos demais
+     */
+    PARCIAL
+}
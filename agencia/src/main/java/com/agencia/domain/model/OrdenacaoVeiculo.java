@@ -0,0 +1,13 @@
+package com.agencia.domain.model;
+
+/**
+ * Ordenações suportadas na busca de veículos
+ * O desempate é sempre pelo ID, para que a paginação seja estável
+ */
+public enum OrdenacaoVeiculo {
+    PRECO_ASC,
+    PRECO_DESC,
+    ANO_ASC,
+    ANO_DESC,
+    MAIS_RECENTES
+}
@@ -0,0 +1,55 @@
+package com.agencia.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * PÁGINA DE RESULTADOS (paginação por cursor / keyset)
+ * O cursor é o último ID da página anterior: a próxima consulta busca
+ * "WHERE id > cursor ORDER BY id LIMIT n", que usa o índice da chave
+ * primária e tem o mesmo custo em qualquer posição da tabela (ao contrário
+ * de OFFSET, que percorre todas as linhas puladas).
+ */
+@Getter
+@AllArgsConstructor
+public class Pagina<T> {
+
+    public static final int LIMITE_PADRAO = 50;
+    public static final int LIMITE_MAXIMO = 500;
+
+    private final List<T> itens;
+
+    /**
+     * Cursor para buscar a próxima página (null quando não há mais itens)
+     */
+    private final Long proximoCursor;
+
+    public boolean temProxima() {
+        return proximoCursor != null;
+    }
+
+    /**
+     * Regra de negócio: tamanho de página limitado
+     */
+    public static void validarLimite(int limite) {
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            throw new IllegalArgumentException(
+                    "Limite deve estar entre 1 e " + LIMITE_MAXIMO);
+        }
+    }
+
+    /**
+     * Monta a página a partir de uma consulta feita com limite + 1 linhas:
+     * a linha excedente só indica que existe próxima página.
+     */
+    public static <T> Pagina<T> de(List<T> resultado, int limite, Function<T, Long> extrairId) {
+        if (resultado.size() <= limite) {
+            return new Pagina<>(resultado, null);
+        }
+        List<T> itens = resultado.subList(0, limite);
+        return new Pagina<>(itens, extrairId.apply(itens.get(limite - 1)));
+    }
+}
@@ -0,0 +1,19 @@
+package com.agencia.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * PAINEL DE VENDAS
+ * Totais lidos dos agregados de vendas: o total geral, o de um dia
+ * e o de cada marca (do maior faturamento para o menor).
+ */
+@Getter
+@AllArgsConstructor
+public class PainelVendas {
+    private final AgregadoVendas total;
+    private final AgregadoVendas dia;
+    private final List<AgregadoVendas> marcas;
+}
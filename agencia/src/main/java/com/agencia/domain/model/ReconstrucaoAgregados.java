@@ -0,0 +1,55 @@
+package com.agencia.domain.model;
+
+import com.agencia.domain.model.DivergenciaAgregado.OrigemAgregado;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RESULTADO DA RECONSTRUÇÃO DOS AGREGADOS DE VENDAS
+ * Guarda os valores mantidos antes da reconstrução (tabela e memória)
+ * e os recalculados a partir das vendas, que passam a valer.
+ * Linhas zeradas e linhas ausentes são equivalentes.
+ */
+@Getter
+@AllArgsConstructor
+public class ReconstrucaoAgregados {
+    private final List<AgregadoVendas> tabela;
+    private final List<AgregadoVendas> memoria;
+    private final List<AgregadoVendas> recalculados;
+
+    public boolean isConsistente() {
+        return divergencias().isEmpty();
+    }
+
+    public List<DivergenciaAgregado> divergencias() {
+        List<DivergenciaAgregado> divergencias = new ArrayList<>();
+        comparar(OrigemAgregado.TABELA, tabela, divergencias);
+        comparar(OrigemAgregado.MEMORIA, memoria, divergencias);
+        return divergencias;
+    }
+
+    private void comparar(OrigemAgregado origem, List<AgregadoVendas> mantidos,
+                          List<DivergenciaAgregado> divergencias) {
+        Map<GrupoAgregado, AgregadoVendas> porGrupo = new LinkedHashMap<>();
+        mantidos.forEach(mantido -> porGrupo.put(mantido.getGrupo(), mantido));
+
+        for (AgregadoVendas recalculado : recalculados) {
+            AgregadoVendas mantido = porGrupo.remove(recalculado.getGrupo());
+            AgregadoVendas comparado = mantido == null ? AgregadoVendas.vazio(recalculado.getGrupo()) : mantido;
+            if (!recalculado.mesmosValores(comparado)) {
+                divergencias.add(new DivergenciaAgregado(origem, mantido, recalculado));
+            }
+        }
+        // Grupos mantidos que não existem mais nas vendas
+        for (AgregadoVendas mantido : porGrupo.values()) {
+            if (!mantido.mesmosValores(AgregadoVendas.vazio(mantido.getGrupo()))) {
+                divergencias.add(new DivergenciaAgregado(origem, mantido, null));
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.agencia.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * RESULTADO DE UMA BUSCA PAGINADA POR NÚMERO DE PÁGINA
+ * Não traz o total de registros: contar todas as linhas que atendem
+ * ao filtro custaria tanto quanto a própria busca em tabelas grandes.
+ */
+@Getter
+@AllArgsConstructor
+public class ResultadoBusca<T> {
+    private final List<T> itens;
+    private final int pagina;
+    private final int tamanho;
+    private final boolean temProxima;
+}
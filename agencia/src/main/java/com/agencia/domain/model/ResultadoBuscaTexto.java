@@ -0,0 +1,27 @@
+package com.agencia.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RESULTADO DE UMA BUSCA DE TEXTO LIVRE
+ * Itens da página em ordem de relevância, total de veículos encontrados
+ * e contagens por faceta (marca, ano e cor) sobre todos os encontrados,
+ * da maior para a menor.
+ */
+@Getter
+@AllArgsConstructor
+public class ResultadoBuscaTexto {
+    private final List<Veiculo> itens;
+    private final long total;
+    private final int pagina;
+    private final int tamanho;
+    private final Map<String, Map<String, Long>> facetas;
+
+    public boolean isTemProxima() {
+        return (long) (pagina + 1) * tamanho < total;
+    }
+}
@@ -0,0 +1,33 @@
+package com.agencia.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * RESULTADO DE UMA LINHA DO CADASTRO EM LOTE
+ * Cada veículo do lote é aceito (com o veículo salvo) ou rejeitado (com o motivo),
+ * sem que uma linha inválida impeça o cadastro das demais.
+ */
+@Getter
+@AllArgsConstructor
+public class ResultadoCadastroLote {
+    /**
+     * Posição do veículo na lista recebida (começando em 0)
+     */
+    private final int indice;
+    private final String placa;
+    private final Veiculo veiculo;
+    private final String erro;
+
+    public boolean isCadastrado() {
+        return veiculo != null;
+    }
+
+    public static ResultadoCadastroLote cadastrado(int indice, Veiculo veiculo) {
+        return new ResultadoCadastroLote(indice, veiculo.getPlaca(), veiculo, null);
+    }
+
+    public static ResultadoCadastroLote rejeitado(int indice, String placa, String erro) {
+        return new ResultadoCadastroLote(indice, placa, null, erro);
+    }
+}
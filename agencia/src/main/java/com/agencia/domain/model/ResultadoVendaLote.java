@@ -0,0 +1,32 @@
+package com.agencia.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * RESULTADO DE UM VEÍCULO DA VENDA EM LOTE
+ * Cada veículo do lote é vendido (com a venda registrada) ou recusado (com o motivo).
+ */
+@Getter
+@AllArgsConstructor
+public class ResultadoVendaLote {
+    /**
+     * Posição do veículo na lista recebida (começando em 0)
+     */
+    private final int indice;
+    private final Long veiculoId;
+    private final Venda venda;
+    private final String erro;
+
+    public boolean isVendido() {
+        return venda != null;
+    }
+
+    public static ResultadoVendaLote vendido(int indice, Venda venda) {
+        return new ResultadoVendaLote(indice, venda.getVeiculo().getId(), venda, null);
+    }
+
+    public static ResultadoVendaLote recusado(int indice, Long veiculoId, String erro) {
+        return new ResultadoVendaLote(indice, veiculoId, null, erro);
+    }
+}
@@ -0,0 +1,28 @@
+package com.agencia.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * RESUMO DE VENDA
+ * Visão reduzida de uma venda para listagens: só identifica o veículo
+ * e o cliente, sem carregar os objetos completos.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ResumoVenda {
+    private final Long id;
+    private final Long veiculoId;
+    private final String placa;
+    private final String marca;
+    private final String modelo;
+    private final Long clienteId;
+    private final String nomeCliente;
+    private final BigDecimal valorVenda;
+    private final LocalDateTime dataVenda;
+}
@@ -0,0 +1,12 @@
+package com.agencia.domain.model;
+
+/**
+ * Agrupamentos mantidos nos agregados de vendas
+ * TOTAL tem uma única linha (chave vazia); MARCA usa o nome da marca
+ * e DIA a data no formato ISO (yyyy-MM-dd)
+ */
+public enum TipoAgregado {
+    TOTAL,
+    MARCA,
+    DIA
+}
@@ -29,6 +29,12 @@ public class Veiculo {
     private Boolean disponivel;
     private LocalDateTime dataCadastro;
 
+    /**
+     * Versão do registro: muda a cada alteração gravada
+     * (null em veículos ainda não gravados)
+     */
+    private Long versao;
+
     /**
      * Regra de negócio: Marcar veículo como vendido
      */
@@ -39,6 +45,24 @@ public class Veiculo {
         this.disponivel = false;
     }
 
+    /**
+     * Regra de negócio: uma placa tem uma única forma, sem separadores e em maiúsculas
+     * (ABC-1234, abc1234 e ABC 1234 são a mesma placa: ABC1234)
+     */
+    public static String canonicalizarPlaca(String placa) {
+        if (placa == null) {
+            return null;
+        }
+        StringBuilder canonica = new StringBuilder(placa.length());
+        for (int i = 0; i < placa.length(); i++) {
+            char c = placa.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                canonica.append(Character.toUpperCase(c));
+            }
+        }
+        return canonica.toString();
+    }
+
     /**
      * Regra de negócio: Validações do domínio
      */
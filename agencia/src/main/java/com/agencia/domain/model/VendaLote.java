@@ -0,0 +1,41 @@
+package com.agencia.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * VENDA EM LOTE - Vários veículos para o mesmo cliente (frotistas)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VendaLote {
+
+    public static final int TAMANHO_MAXIMO = 500;
+
+    private Cliente cliente;
+    private List<ItemVendaLote> itens;
+    @Builder.Default
+    private ModoVendaLote modo = ModoVendaLote.TUDO_OU_NADA;
+
+    /**
+     * Regra de negócio: cliente obrigatório e entre 1 e TAMANHO_MAXIMO veículos.
+     * Os itens são validados um a um, sem invalidar o lote.
+     */
+    public void validar() {
+        if (cliente == null) {
+            throw new IllegalArgumentException("Cliente é obrigatório");
+        }
+        if (itens == null || itens.isEmpty() || itens.size() > TAMANHO_MAXIMO) {
+            throw new IllegalArgumentException(
+                    "Lote deve ter entre 1 e " + TAMANHO_MAXIMO + " veículos");
+        }
+        if (modo == null) {
+            throw new IllegalArgumentException("Modo da venda em lote é obrigatório");
+        }
+    }
+}
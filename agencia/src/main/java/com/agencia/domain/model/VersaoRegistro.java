@@ -0,0 +1,16 @@
+package com.agencia.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * VERSÃO DE UM REGISTRO
+ * Só o ID e a versão, sem o restante dos dados: basta para saber
+ * se um registro (ou uma página deles) mudou desde a última leitura.
+ */
+@Getter
+@AllArgsConstructor
+public class VersaoRegistro {
+    private final Long id;
+    private final Long versao;
+}
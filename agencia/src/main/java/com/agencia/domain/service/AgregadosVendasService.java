@@ -0,0 +1,57 @@
+package com.agencia.domain.service;
+
+import com.agencia.domain.evento.VendaRealizada;
+import com.agencia.domain.model.AgregadoVendas;
+import com.agencia.domain.model.GrupoAgregado;
+import com.agencia.domain.model.PainelVendas;
+import com.agencia.domain.model.ReconstrucaoAgregados;
+import com.agencia.domain.model.TipoAgregado;
+import com.agencia.ports.input.AgregadosVendasInputPort;
+import com.agencia.ports.output.AgregadosVendasOutputPort;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * SERVIÇO DE DOMÍNIO - Agregados de vendas
+ * Cada venda realizada é somada ao total geral, ao total da marca do veículo
+ * e ao total do dia. O painel lê só esses totais, nunca as vendas.
+ */
+public class AgregadosVendasService implements AgregadosVendasInputPort {
+
+    private final AgregadosVendasOutputPort agregadosVendasOutputPort;
+
+    public AgregadosVendasService(AgregadosVendasOutputPort agregadosVendasOutputPort) {
+        this.agregadosVendasOutputPort = agregadosVendasOutputPort;
+    }
+
+    @Override
+    public void registrarVenda(VendaRealizada venda) {
+        agregadosVendasOutputPort.acumular(List.of(
+                GrupoAgregado.total(),
+                GrupoAgregado.marca(venda.getMarca()),
+                GrupoAgregado.dia(venda.getDataVenda().toLocalDate())), venda.getValorVenda());
+    }
+
+    @Override
+    public PainelVendas painel(LocalDate dia) {
+        if (dia == null) {
+            throw new IllegalArgumentException("Dia é obrigatório");
+        }
+        List<AgregadoVendas> marcas = agregadosVendasOutputPort.listar(TipoAgregado.MARCA).stream()
+                .sorted(Comparator.comparing(AgregadoVendas::getFaturamento).reversed())
+                .collect(Collectors.toList());
+
+        return new PainelVendas(
+                agregadosVendasOutputPort.buscar(GrupoAgregado.total()),
+                agregadosVendasOutputPort.buscar(GrupoAgregado.dia(dia)),
+                marcas);
+    }
+
+    @Override
+    public ReconstrucaoAgregados reconstruir() {
+        return agregadosVendasOutputPort.reconstruir();
+    }
+}
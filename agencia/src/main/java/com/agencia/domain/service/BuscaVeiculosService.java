@@ -0,0 +1,50 @@
+package com.agencia.domain.service;
+
+import com.agencia.domain.model.ConsultaTextoVeiculo;
+import com.agencia.domain.model.ResultadoBuscaTexto;
+import com.agencia.ports.input.BuscaVeiculosInputPort;
+import com.agencia.ports.output.IndiceBuscaVeiculosOutputPort;
+import com.agencia.ports.output.VeiculoOutputPort;
+
+/**
+ * SERVIÇO DE DOMÍNIO - Busca de texto livre no estoque
+ * O estoque (VeiculoOutputPort) é a fonte da verdade; o índice é uma cópia
+ * atualizada a cada cadastro, alteração, venda ou remoção. A atualização
+ * relê o veículo em vez de aplicar os dados do evento: repetir ou atrasar
+ * um evento não deixa o índice com um estado antigo.
+ */
+public class BuscaVeiculosService implements BuscaVeiculosInputPort {
+
+    private final VeiculoOutputPort veiculoOutputPort;
+    private final IndiceBuscaVeiculosOutputPort indice;
+
+    public BuscaVeiculosService(VeiculoOutputPort veiculoOutputPort,
+                                IndiceBuscaVeiculosOutputPort indice) {
+        this.veiculoOutputPort = veiculoOutputPort;
+        this.indice = indice;
+    }
+
+    @Override
+    public ResultadoBuscaTexto buscar(ConsultaTextoVeiculo consulta) {
+        consulta.validar();
+        return indice.buscar(consulta);
+    }
+
+    @Override
+    public void atualizarIndice(Long veiculoId) {
+        veiculoOutputPort.buscarPorId(veiculoId)
+                .ifPresentOrElse(indice::indexar, () -> indice.remover(veiculoId));
+    }
+
+    @Override
+    public long reindexar() {
+        return indice.reconstruir(veiculoOutputPort::percorrerTodos);
+    }
+
+    @Override
+    public void prepararIndice() {
+        if (indice.quantidade() == 0) {
+            reindexar();
+        }
+    }
+}
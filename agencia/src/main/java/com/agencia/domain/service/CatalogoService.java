@@ -0,0 +1,98 @@
+package com.agencia.domain.service;
+
+import com.agencia.domain.evento.VeiculoAtualizado;
+import com.agencia.domain.evento.VeiculoCadastrado;
+import com.agencia.domain.evento.VeiculoRemovido;
+import com.agencia.domain.evento.VendaRealizada;
+import com.agencia.domain.exception.VeiculoNaoEncontradoException;
+import com.agencia.domain.model.ItemCatalogo;
+import com.agencia.domain.model.OrdenacaoVeiculo;
+import com.agencia.domain.model.Pagina;
+import com.agencia.domain.model.ResultadoBusca;
+import com.agencia.ports.input.CatalogoInputPort;
+import com.agencia.ports.input.CatalogoQueryPort;
+import com.agencia.ports.output.CatalogoOutputPort;
+import com.agencia.ports.output.VeiculoOutputPort;
+
+/**
+ * SERVIÇO DE DOMÍNIO - Catálogo público (CQRS)
+ * O estoque (VeiculoOutputPort) é o modelo de escrita; o catálogo é um
+ * modelo de leitura à parte, só com os veículos disponíveis, mantido pelos
+ * eventos de cadastro, alteração, remoção e venda.
+ * Diferente da busca de texto livre, o catálogo aplica os dados do próprio
+ * evento, sem reler o veículo: a atualização não vai ao banco. Os eventos
+ * chegam na ordem em que foram gravados (outbox), e repetir um evento
+ * repete a mesma inclusão ou remoção.
+ * O estoque só é lido na reconstrução.
+ */
+public class CatalogoService implements CatalogoInputPort, CatalogoQueryPort {
+
+    private final VeiculoOutputPort veiculoOutputPort;
+    private final CatalogoOutputPort catalogo;
+
+    public CatalogoService(VeiculoOutputPort veiculoOutputPort, CatalogoOutputPort catalogo) {
+        this.veiculoOutputPort = veiculoOutputPort;
+        this.catalogo = catalogo;
+    }
+
+    @Override
+    public ResultadoBusca<ItemCatalogo> listar(OrdenacaoVeiculo ordenacao, int pagina, int tamanho) {
+        if (pagina < 0) {
+            throw new IllegalArgumentException("Página não pode ser negativa");
+        }
+        Pagina.validarLimite(tamanho);
+        return catalogo.listar(ordenacao, pagina, tamanho);
+    }
+
+    @Override
+    public ItemCatalogo buscar(Long veiculoId) {
+        return catalogo.buscar(veiculoId)
+                .orElseThrow(() -> new VeiculoNaoEncontradoException(veiculoId));
+    }
+
+    @Override
+    public void registrarCadastro(VeiculoCadastrado evento) {
+        catalogo.salvar(ItemCatalogo.de(evento.getVeiculoId(), evento.getMarca(), evento.getModelo(),
+                evento.getAno(), evento.getCor(), evento.getPreco(), evento.getDataCadastro()));
+    }
+
+    /**
+     * O evento de alteração não traz a data de cadastro: fica a do item
+     * que já está no catálogo
+     */
+    @Override
+    public void registrarAlteracao(VeiculoAtualizado evento) {
+        if (!Boolean.TRUE.equals(evento.getDisponivel())) {
+            catalogo.remover(evento.getVeiculoId());
+            return;
+        }
+        catalogo.salvar(ItemCatalogo.de(evento.getVeiculoId(), evento.getMarca(), evento.getModelo(),
+                evento.getAno(), evento.getCor(), evento.getPreco(),
+                catalogo.buscar(evento.getVeiculoId())
+                        .map(ItemCatalogo::getDataCadastro)
+                        .orElse(evento.getOcorridoEm())));
+    }
+
+    @Override
+    public void registrarRemocao(VeiculoRemovido evento) {
+        catalogo.remover(evento.getVeiculoId());
+    }
+
+    @Override
+    public void registrarVenda(VendaRealizada evento) {
+        catalogo.remover(evento.getVeiculoId());
+    }
+
+    @Override
+    public long reconstruir() {
+        return catalogo.reconstruir(item ->
+                veiculoOutputPort.percorrerDisponiveis(veiculo -> item.accept(ItemCatalogo.de(veiculo))));
+    }
+
+    @Override
+    public void prepararCatalogo() {
+        if (catalogo.quantidade() == 0) {
+            reconstruir();
+        }
+    }
+}
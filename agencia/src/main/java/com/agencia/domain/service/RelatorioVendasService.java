@@ -0,0 +1,67 @@
+package com.agencia.domain.service;
+
+import com.agencia.domain.model.AgrupamentoPeriodo;
+import com.agencia.domain.model.AgrupamentoVeiculo;
+import com.agencia.domain.model.DesempenhoVeiculo;
+import com.agencia.domain.model.FaturamentoPeriodo;
+import com.agencia.ports.input.RelatorioVendasInputPort;
+import com.agencia.ports.output.RelatorioVendasOutputPort;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * SERVIÇO DE DOMÍNIO - Relatórios de vendas
+ * Valida o período e o converte no intervalo [inicio 00:00, dia seguinte ao fim 00:00),
+ * que o banco resolve com o índice de data_venda.
+ * O desempenho por marca/modelo busca o veículo de cada venda do período, então
+ * custa proporcionalmente às vendas da janela (um ano com 1M de vendas: 5 s).
+ * Por isso o período desse relatório vai até PERIODO_MAXIMO_DESEMPENHO_DIAS;
+ * o faturamento, que lê só o índice de vendas, não tem limite.
+ */
+public class RelatorioVendasService implements RelatorioVendasInputPort {
+
+    static final int PERIODO_MAXIMO_DESEMPENHO_DIAS = 92;
+
+    private final RelatorioVendasOutputPort relatorioVendasOutputPort;
+
+    public RelatorioVendasService(RelatorioVendasOutputPort relatorioVendasOutputPort) {
+        this.relatorioVendasOutputPort = relatorioVendasOutputPort;
+    }
+
+    @Override
+    public List<FaturamentoPeriodo> faturamento(AgrupamentoPeriodo agrupamento, LocalDate inicio, LocalDate fim) {
+        validarPeriodo(inicio, fim);
+        return relatorioVendasOutputPort.faturamento(
+                exigir(agrupamento), inicio.atStartOfDay(), fim.plusDays(1).atStartOfDay());
+    }
+
+    @Override
+    public List<DesempenhoVeiculo> desempenhoPorVeiculo(AgrupamentoVeiculo agrupamento, LocalDate inicio, LocalDate fim) {
+        validarPeriodo(inicio, fim);
+        if (ChronoUnit.DAYS.between(inicio, fim) + 1 > PERIODO_MAXIMO_DESEMPENHO_DIAS) {
+            throw new IllegalArgumentException("Período do relatório por veículo deve ter no máximo "
+                    + PERIODO_MAXIMO_DESEMPENHO_DIAS + " dias");
+        }
+        return relatorioVendasOutputPort.desempenhoPorVeiculo(
+                exigir(agrupamento), inicio.atStartOfDay(), fim.plusDays(1).atStartOfDay());
+    }
+
+    private static void validarPeriodo(LocalDate inicio, LocalDate fim) {
+        if (inicio == null || fim == null) {
+            throw new IllegalArgumentException("Início e fim do período são obrigatórios");
+        }
+        if (inicio.isAfter(fim)) {
+            throw new IllegalArgumentException("Início do período não pode ser depois do fim");
+        }
+    }
+
+    private static <T> T exigir(T agrupamento) {
+        if (agrupamento == null) {
+            throw new IllegalArgumentException("Agrupamento é obrigatório");
+        }
+        return agrupamento;
+    }
+}
@@ -1,12 +1,27 @@
 package com.agencia.domain.service;
 
+import com.agencia.domain.evento.VeiculoAtualizado;
+import com.agencia.domain.evento.VeiculoCadastrado;
+import com.agencia.domain.evento.VeiculoRemovido;
 import com.agencia.domain.exception.VeiculoNaoEncontradoException;
+import com.agencia.domain.model.FiltroVeiculo;
+import com.agencia.domain.model.Pagina;
+import com.agencia.domain.model.ResultadoBusca;
+import com.agencia.domain.model.ResultadoCadastroLote;
 import com.agencia.domain.model.Veiculo;
+import com.agencia.domain.model.VersaoRegistro;
 import com.agencia.ports.input.VeiculoInputPort;
+import com.agencia.ports.output.PublicadorEventosOutputPort;
 import com.agencia.ports.output.VeiculoOutputPort;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * SERVIÇO DE DOMÍNIO
@@ -26,12 +41,19 @@ public class VeiculoService implements VeiculoInputPort {
      */
     private final VeiculoOutputPort veiculoOutputPort;
 
+    /**
+     * Cadastro, alteração e remoção publicam um evento de domínio
+     */
+    private final PublicadorEventosOutputPort publicadorEventos;
+
     /**
      * Injeção de dependência via construtor
      * Spring vai fornecer a implementação em tempo de execução
      */
-    public VeiculoService(VeiculoOutputPort veiculoOutputPort) {
+    public VeiculoService(VeiculoOutputPort veiculoOutputPort,
+                          PublicadorEventosOutputPort publicadorEventos) {
         this.veiculoOutputPort = veiculoOutputPort;
+        this.publicadorEventos = publicadorEventos;
     }
 
     @Override
@@ -39,24 +61,77 @@ public class VeiculoService implements VeiculoInputPort {
         // Regra de negócio: validar dados
         veiculo.validar();
 
-        // Regra de negócio: não pode cadastrar placa duplicada
-        if (veiculoOutputPort.existePorPlaca(veiculo.getPlaca())) {
+        // Regra de negócio: não pode cadastrar placa duplicada (em qualquer grafia)
+        if (veiculoOutputPort.existePorPlaca(Veiculo.canonicalizarPlaca(veiculo.getPlaca()))) {
             throw new IllegalArgumentException("Já existe veículo com esta placa");
         }
 
-        // Regra de negócio: novos veículos são disponíveis
-        Veiculo novoVeiculo = Veiculo.builder()
-                .marca(veiculo.getMarca())
-                .modelo(veiculo.getModelo())
-                .ano(veiculo.getAno())
-                .placa(veiculo.getPlaca())
-                .cor(veiculo.getCor())
-                .preco(veiculo.getPreco())
-                .disponivel(true)
-                .dataCadastro(LocalDateTime.now())
-                .build();
+        Veiculo veiculoSalvo = veiculoOutputPort.salvar(novoVeiculo(veiculo, LocalDateTime.now()));
+        publicadorEventos.publicar(VeiculoCadastrado.de(veiculoSalvo));
+        return veiculoSalvo;
+    }
+
+    /**
+     * Cadastro em lote: mesmas regras do cadastro unitário, mas com
+     * uma única consulta de placas duplicadas para o lote inteiro
+     * e inserts agrupados. Linhas inválidas são rejeitadas individualmente.
+     */
+    @Override
+    public List<ResultadoCadastroLote> cadastrarEmLote(List<Veiculo> veiculos) {
+        if (veiculos.isEmpty() || veiculos.size() > TAMANHO_MAXIMO_LOTE) {
+            throw new IllegalArgumentException(
+                    "Lote deve ter entre 1 e " + TAMANHO_MAXIMO_LOTE + " veículos");
+        }
+
+        ResultadoCadastroLote[] resultados = new ResultadoCadastroLote[veiculos.size()];
+
+        // 1. Regras do domínio e placas repetidas dentro do próprio lote
+        Set<String> placasDoLote = new HashSet<>();
+        List<Integer> candidatos = new ArrayList<>();
+        for (int i = 0; i < veiculos.size(); i++) {
+            Veiculo veiculo = veiculos.get(i);
+            try {
+                veiculo.validar();
+            } catch (IllegalArgumentException e) {
+                resultados[i] = ResultadoCadastroLote.rejeitado(i, veiculo.getPlaca(), e.getMessage());
+                continue;
+            }
+            if (!placasDoLote.add(Veiculo.canonicalizarPlaca(veiculo.getPlaca()))) {
+                resultados[i] = ResultadoCadastroLote.rejeitado(i, veiculo.getPlaca(), "Placa repetida no lote");
+                continue;
+            }
+            candidatos.add(i);
+        }
+
+        // 2. Regra de negócio: não pode cadastrar placa duplicada (uma consulta para o lote)
+        Set<String> existentes = placasDoLote.isEmpty()
+                ? Set.of()
+                : veiculoOutputPort.placasExistentes(placasDoLote);
+
+        LocalDateTime agora = LocalDateTime.now();
+        List<Integer> indicesNovos = new ArrayList<>();
+        List<Veiculo> novos = new ArrayList<>();
+        for (int i : candidatos) {
+            Veiculo veiculo = veiculos.get(i);
+            if (existentes.contains(Veiculo.canonicalizarPlaca(veiculo.getPlaca()))) {
+                resultados[i] = ResultadoCadastroLote.rejeitado(i, veiculo.getPlaca(), "Já existe veículo com esta placa");
+            } else {
+                indicesNovos.add(i);
+                novos.add(novoVeiculo(veiculo, agora));
+            }
+        }
 
-        return veiculoOutputPort.salvar(novoVeiculo);
+        // 3. Inserts agrupados
+        if (!novos.isEmpty()) {
+            List<Veiculo> salvos = veiculoOutputPort.salvarTodos(novos);
+            for (int j = 0; j < salvos.size(); j++) {
+                int indice = indicesNovos.get(j);
+                resultados[indice] = ResultadoCadastroLote.cadastrado(indice, salvos.get(j));
+                publicadorEventos.publicar(VeiculoCadastrado.de(salvos.get(j)));
+            }
+        }
+
+        return Arrays.asList(resultados);
     }
 
     @Override
@@ -66,13 +141,46 @@ public class VeiculoService implements VeiculoInputPort {
     }
 
     @Override
-    public List<Veiculo> listarTodos() {
-        return veiculoOutputPort.listarTodos();
+    public Optional<Long> buscarVersao(Long id) {
+        return veiculoOutputPort.buscarVersao(id);
+    }
+
+    @Override
+    public Pagina<Veiculo> listarTodos(Long cursor, int limite) {
+        Pagina.validarLimite(limite);
+        // Busca uma linha a mais para saber se existe próxima página
+        List<Veiculo> resultado = veiculoOutputPort.listarTodos(cursorInicial(cursor), limite + 1);
+        return Pagina.de(resultado, limite, Veiculo::getId);
+    }
+
+    @Override
+    public Pagina<Veiculo> listarDisponiveis(Long cursor, int limite) {
+        Pagina.validarLimite(limite);
+        List<Veiculo> resultado = veiculoOutputPort.listarDisponiveis(cursorInicial(cursor), limite + 1);
+        return Pagina.de(resultado, limite, Veiculo::getId);
     }
 
     @Override
-    public List<Veiculo> listarDisponiveis() {
-        return veiculoOutputPort.listarDisponiveis();
+    public Pagina<VersaoRegistro> listarVersoesDisponiveis(Long cursor, int limite) {
+        Pagina.validarLimite(limite);
+        List<VersaoRegistro> resultado = veiculoOutputPort.listarVersoesDisponiveis(cursorInicial(cursor), limite + 1);
+        return Pagina.de(resultado, limite, VersaoRegistro::getId);
+    }
+
+    @Override
+    public void percorrerTodos(Consumer<Veiculo> consumidor) {
+        veiculoOutputPort.percorrerTodos(consumidor);
+    }
+
+    @Override
+    public void percorrerDisponiveis(Consumer<Veiculo> consumidor) {
+        veiculoOutputPort.percorrerDisponiveis(consumidor);
+    }
+
+    @Override
+    public ResultadoBusca<Veiculo> buscar(FiltroVeiculo filtro) {
+        filtro.validar();
+        return veiculoOutputPort.buscar(filtro);
     }
 
     @Override
@@ -89,19 +197,46 @@ public class VeiculoService implements VeiculoInputPort {
                 .marca(veiculo.getMarca())
                 .modelo(veiculo.getModelo())
                 .ano(veiculo.getAno())
-                .placa(veiculo.getPlaca())
+                .placa(Veiculo.canonicalizarPlaca(veiculo.getPlaca()))
                 .cor(veiculo.getCor())
                 .preco(veiculo.getPreco())
                 .disponivel(veiculoExistente.getDisponivel())
                 .dataCadastro(veiculoExistente.getDataCadastro())
+                .versao(veiculoExistente.getVersao())
                 .build();
 
-        return veiculoOutputPort.salvar(veiculoAtualizado);
+        Veiculo veiculoSalvo = veiculoOutputPort.salvar(veiculoAtualizado);
+        publicadorEventos.publicar(VeiculoAtualizado.de(veiculoSalvo, LocalDateTime.now()));
+        return veiculoSalvo;
     }
 
     @Override
     public void deletar(Long id) {
-        buscarPorId(id); // Verifica se existe
+        Veiculo veiculo = buscarPorId(id); // Verifica se existe
         veiculoOutputPort.deletar(id);
+        publicadorEventos.publicar(new VeiculoRemovido(id, veiculo.getPlaca(), LocalDateTime.now()));
+    }
+
+    /**
+     * Regra de negócio: novos veículos são disponíveis e guardam a placa canônica
+     */
+    private Veiculo novoVeiculo(Veiculo veiculo, LocalDateTime dataCadastro) {
+        return Veiculo.builder()
+                .marca(veiculo.getMarca())
+                .modelo(veiculo.getModelo())
+                .ano(veiculo.getAno())
+                .placa(Veiculo.canonicalizarPlaca(veiculo.getPlaca()))
+                .cor(veiculo.getCor())
+                .preco(veiculo.getPreco())
+                .disponivel(true)
+                .dataCadastro(dataCadastro)
+                .build();
+    }
+
+    /**
+     * Sem cursor, começa antes do primeiro ID
+     */
+    private Long cursorInicial(Long cursor) {
+        return cursor == null ? 0L : cursor;
     }
 }
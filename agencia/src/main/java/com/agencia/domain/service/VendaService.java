@@ -1,14 +1,31 @@
 package com.agencia.domain.service;
 
+import com.agencia.domain.evento.VendaRealizada;
 import com.agencia.domain.exception.VeiculoIndisponivelException;
+import com.agencia.domain.exception.VendaLoteRecusadaException;
+import com.agencia.domain.model.ItemVendaLote;
+import com.agencia.domain.model.ModoVendaLote;
+import com.agencia.domain.model.Pagina;
+import com.agencia.domain.model.ResultadoVendaLote;
+import com.agencia.domain.model.ResumoVenda;
 import com.agencia.domain.model.Veiculo;
 import com.agencia.domain.model.Venda;
+import com.agencia.domain.model.VendaLote;
 import com.agencia.ports.input.VendaInputPort;
+import com.agencia.ports.output.PublicadorEventosOutputPort;
 import com.agencia.ports.output.VeiculoOutputPort;
 import com.agencia.ports.output.VendaOutputPort;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * SERVIÇO DE DOMÍNIO - Venda
@@ -18,11 +35,14 @@ public class VendaService implements VendaInputPort {
 
     private final VendaOutputPort vendaOutputPort;
     private final VeiculoOutputPort veiculoOutputPort;
+    private final PublicadorEventosOutputPort publicadorEventos;
 
     public VendaService(VendaOutputPort vendaOutputPort,
-                        VeiculoOutputPort veiculoOutputPort) {
+                        VeiculoOutputPort veiculoOutputPort,
+                        PublicadorEventosOutputPort publicadorEventos) {
         this.vendaOutputPort = vendaOutputPort;
         this.veiculoOutputPort = veiculoOutputPort;
+        this.publicadorEventos = publicadorEventos;
     }
 
     @Override
@@ -31,14 +51,19 @@ public class VendaService implements VendaInputPort {
         venda.validar();
 
         // Verificar se veículo está disponível
-        if (!venda.getVeiculo().getDisponivel()) {
-            throw new VeiculoIndisponivelException(venda.getVeiculo().getId());
+        Veiculo veiculo = venda.getVeiculo();
+        if (!veiculo.getDisponivel()) {
+            throw new VeiculoIndisponivelException(veiculo.getId());
+        }
+
+        // O veículo pode ter sido vendido depois de carregado:
+        // a reserva atômica garante um único comprador
+        if (!veiculoOutputPort.reservar(veiculo.getId())) {
+            throw new VeiculoIndisponivelException(veiculo.getId());
         }
 
         // Marcar veículo como vendido (regra de negócio do domínio)
-        Veiculo veiculo = venda.getVeiculo();
         veiculo.marcarComoVendido();
-        veiculoOutputPort.salvar(veiculo);
 
         // Registrar venda
         Venda novaVenda = Venda.builder()
@@ -48,11 +73,149 @@ public class VendaService implements VendaInputPort {
                 .dataVenda(LocalDateTime.now())
                 .build();
 
-        return vendaOutputPort.salvar(novaVenda);
+        Venda vendaSalva = vendaOutputPort.salvar(novaVenda);
+
+        // Avisar os interessados (ex: agregados do painel de vendas)
+        publicadorEventos.publicar(VendaRealizada.de(vendaSalva));
+
+        return vendaSalva;
+    }
+
+    /**
+     * 1. Valida cada item (valor, veículo repetido no lote)
+     * 2. Carrega todos os veículos numa consulta só
+     * 3. Reserva os disponíveis de uma vez (reserva atômica, como em realizar)
+     * 4. Registra as vendas com inserts agrupados
+     * No modo TUDO_OU_NADA, o primeiro passo em que algum veículo é recusado
+     * interrompe o lote com VendaLoteRecusadaException, antes dos inserts;
+     * as reservas já feitas são desfeitas com a transação.
+     */
+    @Override
+    public List<ResultadoVendaLote> realizarEmLote(VendaLote lote) {
+        lote.validar();
+        List<ItemVendaLote> itens = lote.getItens();
+        ResultadoVendaLote[] resultados = new ResultadoVendaLote[itens.size()];
+
+        // 1. Regras de cada item e veículos repetidos no lote
+        Map<Long, Integer> indicePorVeiculo = new LinkedHashMap<>();
+        for (int i = 0; i < itens.size(); i++) {
+            ItemVendaLote item = itens.get(i);
+            try {
+                item.validar();
+            } catch (IllegalArgumentException e) {
+                resultados[i] = ResultadoVendaLote.recusado(i, item.getVeiculoId(), e.getMessage());
+                continue;
+            }
+            if (indicePorVeiculo.putIfAbsent(item.getVeiculoId(), i) != null) {
+                resultados[i] = ResultadoVendaLote.recusado(i, item.getVeiculoId(), "Veículo repetido no lote");
+            }
+        }
+
+        // 2. Veículos do lote (uma consulta)
+        Map<Long, Veiculo> veiculos = new HashMap<>();
+        if (!indicePorVeiculo.isEmpty()) {
+            for (Veiculo veiculo : veiculoOutputPort.buscarPorIds(indicePorVeiculo.keySet())) {
+                veiculos.put(veiculo.getId(), veiculo);
+            }
+        }
+        List<Long> disponiveis = new ArrayList<>();
+        indicePorVeiculo.forEach((veiculoId, i) -> {
+            Veiculo veiculo = veiculos.get(veiculoId);
+            if (veiculo == null) {
+                resultados[i] = ResultadoVendaLote.recusado(i, veiculoId, "Veículo não encontrado");
+            } else if (!veiculo.getDisponivel()) {
+                resultados[i] = ResultadoVendaLote.recusado(i, veiculoId, "Veículo indisponível para venda");
+            } else {
+                disponiveis.add(veiculoId);
+            }
+        });
+        recusarSeIncompleto(lote, itens, resultados);
+
+        // 3. Reserva (outro comprador pode ter levado algum depois do passo 2)
+        Set<Long> reservados = disponiveis.isEmpty() ? Set.of() : veiculoOutputPort.reservarTodos(disponiveis);
+        List<Venda> novas = new ArrayList<>(reservados.size());
+        List<Integer> indicesNovas = new ArrayList<>(reservados.size());
+        LocalDateTime agora = LocalDateTime.now();
+        for (Long veiculoId : disponiveis) {
+            int i = indicePorVeiculo.get(veiculoId);
+            if (!reservados.contains(veiculoId)) {
+                resultados[i] = ResultadoVendaLote.recusado(i, veiculoId, "Veículo indisponível para venda");
+                continue;
+            }
+            Veiculo veiculo = veiculos.get(veiculoId);
+            veiculo.marcarComoVendido();
+            novas.add(Venda.builder()
+                    .veiculo(veiculo)
+                    .cliente(lote.getCliente())
+                    .valorVenda(itens.get(i).getValorVenda())
+                    .dataVenda(agora)
+                    .build());
+            indicesNovas.add(i);
+        }
+        recusarSeIncompleto(lote, itens, resultados);
+
+        // 4. Inserts agrupados
+        if (!novas.isEmpty()) {
+            List<Venda> salvas = vendaOutputPort.salvarTodas(novas);
+            for (int j = 0; j < salvas.size(); j++) {
+                int i = indicesNovas.get(j);
+                resultados[i] = ResultadoVendaLote.vendido(i, salvas.get(j));
+                publicadorEventos.publicar(VendaRealizada.de(salvas.get(j)));
+            }
+        }
+
+        return Arrays.asList(resultados);
+    }
+
+    /**
+     * No modo TUDO_OU_NADA, se algum veículo já foi recusado, recusa o lote
+     * inteiro; os veículos ainda sem resultado recebem o motivo da recusa do lote
+     */
+    private static void recusarSeIncompleto(VendaLote lote, List<ItemVendaLote> itens,
+                                            ResultadoVendaLote[] resultados) {
+        if (lote.getModo() != ModoVendaLote.TUDO_OU_NADA
+                || Arrays.stream(resultados).noneMatch(Objects::nonNull)) {
+            return;
+        }
+        List<ResultadoVendaLote> relatorio = new ArrayList<>(resultados.length);
+        for (int i = 0; i < resultados.length; i++) {
+            relatorio.add(resultados[i] != null ? resultados[i]
+                    : ResultadoVendaLote.recusado(i, itens.get(i).getVeiculoId(),
+                    "Lote recusado: outro veículo do lote não pode ser vendido"));
+        }
+        throw new VendaLoteRecusadaException(relatorio);
+    }
+
+    @Override
+    public Pagina<Venda> listarTodas(Long cursor, int limite) {
+        Pagina.validarLimite(limite);
+        // Busca uma linha a mais para saber se existe próxima página
+        List<Venda> resultado = vendaOutputPort.listarTodas(cursor == null ? 0L : cursor, limite + 1);
+        return Pagina.de(resultado, limite, Venda::getId);
+    }
+
+    @Override
+    public void percorrerTodas(Consumer<Venda> consumidor) {
+        vendaOutputPort.percorrerTodas(consumidor);
+    }
+
+    @Override
+    public Pagina<ResumoVenda> listarResumos(Long cursor, int limite) {
+        Pagina.validarLimite(limite);
+        List<ResumoVenda> resultado = vendaOutputPort.listarResumos(cursor == null ? 0L : cursor, limite + 1);
+        return Pagina.de(resultado, limite, ResumoVenda::getId);
+    }
+
+    @Override
+    public void percorrerResumos(Consumer<ResumoVenda> consumidor) {
+        vendaOutputPort.percorrerResumos(consumidor);
     }
 
     @Override
-    public List<Venda> listarTodas() {
-        return vendaOutputPort.listarTodas();
+    public Venda buscarPorVeiculo(Long veiculoId) {
+        return vendaOutputPort.buscarPorVeiculo(veiculoId)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Nenhuma venda encontrada para o veículo ID: " + veiculoId
+                ));
     }
 }
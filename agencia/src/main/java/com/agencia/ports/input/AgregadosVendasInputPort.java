@@ -0,0 +1,29 @@
+package com.agencia.ports.input;
+
+import com.agencia.domain.evento.VendaRealizada;
+import com.agencia.domain.model.PainelVendas;
+import com.agencia.domain.model.ReconstrucaoAgregados;
+
+import java.time.LocalDate;
+
+/**
+ * PORTA DE ENTRADA - Agregados de vendas (painel)
+ */
+public interface AgregadosVendasInputPort {
+
+    /**
+     * Acumula a venda nos agregados (total, marca e dia)
+     */
+    void registrarVenda(VendaRealizada venda);
+
+    /**
+     * Lê os totais já acumulados: não depende da quantidade de vendas
+     */
+    PainelVendas painel(LocalDate dia);
+
+    /**
+     * Recalcula os agregados a partir das vendas, substitui os mantidos
+     * e informa as divergências encontradas
+     */
+    ReconstrucaoAgregados reconstruir();
+}
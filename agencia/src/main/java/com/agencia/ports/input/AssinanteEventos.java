@@ -0,0 +1,12 @@
+package com.agencia.ports.input;
+
+import com.agencia.domain.evento.EventoDominio;
+
+/**
+ * PORTA DE ENTRADA - Assinante de eventos de domínio
+ * Cada assinante recebe todos os eventos publicados e ignora os que não lhe interessam.
+ */
+public interface AssinanteEventos {
+
+    void receber(EventoDominio evento);
+}
@@ -0,0 +1,17 @@
+package com.agencia.ports.input;
+
+import com.agencia.domain.evento.EventoDominio;
+
+/**
+ * PORTA DE ENTRADA - Assinante assíncrono de eventos de domínio
+ * Diferente do AssinanteEventos, recebe o evento depois do commit, fora da
+ * requisição que o gerou (outbox + DespachanteOutbox): o tempo do assinante
+ * não entra no tempo de resposta.
+ * A entrega é "pelo menos uma vez": depois de uma falha o mesmo evento pode
+ * chegar de novo, então o tratamento precisa ser idempotente.
+ * Os eventos chegam na ordem em que foram gravados.
+ */
+public interface AssinanteEventosAssincrono {
+
+    void receber(EventoDominio evento);
+}
@@ -0,0 +1,29 @@
+package com.agencia.ports.input;
+
+import com.agencia.domain.model.ConsultaTextoVeiculo;
+import com.agencia.domain.model.ResultadoBuscaTexto;
+
+/**
+ * PORTA DE ENTRADA - Busca de texto livre no estoque
+ */
+public interface BuscaVeiculosInputPort {
+
+    ResultadoBuscaTexto buscar(ConsultaTextoVeiculo consulta);
+
+    /**
+     * Copia para o índice o estado atual do veículo no estoque
+     * (ou o retira do índice, se o veículo não existe mais)
+     */
+    void atualizarIndice(Long veiculoId);
+
+    /**
+     * Monta o índice de novo a partir de todo o estoque.
+     * Retorna a quantidade de veículos indexados.
+     */
+    long reindexar();
+
+    /**
+     * Reindexa só se o índice está vazio (ex: índice em memória, na subida)
+     */
+    void prepararIndice();
+}
@@ -0,0 +1,33 @@
+package com.agencia.ports.input;
+
+import com.agencia.domain.evento.VeiculoAtualizado;
+import com.agencia.domain.evento.VeiculoCadastrado;
+import com.agencia.domain.evento.VeiculoRemovido;
+import com.agencia.domain.evento.VendaRealizada;
+
+/**
+ * PORTA DE ENTRADA - Atualização do catálogo público (lado de escrita)
+ * Recebe os eventos de estoque e de venda e os aplica ao modelo de leitura.
+ * Aplicar o mesmo evento duas vezes deixa o catálogo no mesmo estado.
+ */
+public interface CatalogoInputPort {
+
+    void registrarCadastro(VeiculoCadastrado evento);
+
+    void registrarAlteracao(VeiculoAtualizado evento);
+
+    void registrarRemocao(VeiculoRemovido evento);
+
+    void registrarVenda(VendaRealizada evento);
+
+    /**
+     * Monta o catálogo de novo a partir dos veículos disponíveis no estoque.
+     * Retorna a quantidade de veículos no catálogo.
+     */
+    long reconstruir();
+
+    /**
+     * Reconstrói só se o catálogo está vazio (na subida)
+     */
+    void prepararCatalogo();
+}
@@ -0,0 +1,25 @@
+package com.agencia.ports.input;
+
+import com.agencia.domain.model.ItemCatalogo;
+import com.agencia.domain.model.OrdenacaoVeiculo;
+import com.agencia.domain.model.ResultadoBusca;
+
+/**
+ * PORTA DE ENTRADA - Consultas ao catálogo público (lado de leitura)
+ * Lê só o modelo de leitura do catálogo, nunca a tabela de veículos:
+ * as consultas não disputam o banco com cadastros e vendas.
+ * O catálogo é atualizado depois do commit, então uma gravação
+ * aparece aqui com um pequeno atraso.
+ */
+public interface CatalogoQueryPort {
+
+    /**
+     * Uma página dos veículos disponíveis na ordenação pedida
+     */
+    ResultadoBusca<ItemCatalogo> listar(OrdenacaoVeiculo ordenacao, int pagina, int tamanho);
+
+    /**
+     * Um veículo do catálogo (lança VeiculoNaoEncontradoException se não está disponível)
+     */
+    ItemCatalogo buscar(Long veiculoId);
+}
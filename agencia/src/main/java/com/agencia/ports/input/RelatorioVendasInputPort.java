@@ -0,0 +1,20 @@
+package com.agencia.ports.input;
+
+import com.agencia.domain.model.AgrupamentoPeriodo;
+import com.agencia.domain.model.AgrupamentoVeiculo;
+import com.agencia.domain.model.DesempenhoVeiculo;
+import com.agencia.domain.model.FaturamentoPeriodo;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * PORTA DE ENTRADA - Relatórios de vendas
+ * Os períodos são inclusivos: de inicio a fim, ambos os dias inteiros
+ */
+public interface RelatorioVendasInputPort {
+
+    List<FaturamentoPeriodo> faturamento(AgrupamentoPeriodo agrupamento, LocalDate inicio, LocalDate fim);
+
+    List<DesempenhoVeiculo> desempenhoPorVeiculo(AgrupamentoVeiculo agrupamento, LocalDate inicio, LocalDate fim);
+}
@@ -1,7 +1,14 @@
 package com.agencia.ports.input;
 
+import com.agencia.domain.model.FiltroVeiculo;
+import com.agencia.domain.model.Pagina;
+import com.agencia.domain.model.ResultadoCadastroLote;
+import com.agencia.domain.model.ResultadoBusca;
 import com.agencia.domain.model.Veiculo;
+import com.agencia.domain.model.VersaoRegistro;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * PORTA DE ENTRADA (Input Port / Driving Port)
@@ -13,25 +20,61 @@ import java.util.List;
  */
 public interface VeiculoInputPort {
 
+    /**
+     * Quantidade máxima de veículos por cadastro em lote
+     */
+    int TAMANHO_MAXIMO_LOTE = 10_000;
+
     /**
      * Cadastrar um novo veículo
      */
     Veiculo cadastrar(Veiculo veiculo);
 
+    /**
+     * Cadastrar vários veículos de uma vez
+     * Retorna um resultado por veículo, na mesma ordem da entrada
+     */
+    List<ResultadoCadastroLote> cadastrarEmLote(List<Veiculo> veiculos);
+
     /**
      * Buscar veículo por ID
      */
     Veiculo buscarPorId(Long id);
 
     /**
-     * Listar todos os veículos
+     * Versão atual do veículo (vazio se não existe), sem carregar o veículo
+     */
+    Optional<Long> buscarVersao(Long id);
+
+    /**
+     * Listar veículos paginados por cursor (null = primeira página)
+     */
+    Pagina<Veiculo> listarTodos(Long cursor, int limite);
+
+    /**
+     * Listar veículos disponíveis paginados por cursor (null = primeira página)
+     */
+    Pagina<Veiculo> listarDisponiveis(Long cursor, int limite);
+
+    /**
+     * ID e versão dos itens da mesma página de listarDisponiveis(cursor, limite)
+     */
+    Pagina<VersaoRegistro> listarVersoesDisponiveis(Long cursor, int limite);
+
+    /**
+     * Percorrer todos os veículos em modo streaming
+     */
+    void percorrerTodos(Consumer<Veiculo> consumidor);
+
+    /**
+     * Percorrer os veículos disponíveis em modo streaming
      */
-    List<Veiculo> listarTodos();
+    void percorrerDisponiveis(Consumer<Veiculo> consumidor);
 
     /**
-     * Listar apenas veículos disponíveis
+     * Buscar veículos por marca, modelo, faixa de ano, faixa de preço, cor e disponibilidade
      */
-    List<Veiculo> listarDisponiveis();
+    ResultadoBusca<Veiculo> buscar(FiltroVeiculo filtro);
 
     /**
      * Atualizar veículo
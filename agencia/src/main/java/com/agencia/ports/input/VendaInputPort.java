@@ -1,7 +1,12 @@
 package com.agencia.ports.input;
 
+import com.agencia.domain.model.Pagina;
+import com.agencia.domain.model.ResultadoVendaLote;
+import com.agencia.domain.model.ResumoVenda;
 import com.agencia.domain.model.Venda;
+import com.agencia.domain.model.VendaLote;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * PORTA DE ENTRADA - Serviço de Venda
@@ -10,6 +15,20 @@ public interface VendaInputPort {
 
     Venda realizar(Venda venda);
 
-    List<Venda> listarTodas();
+    /**
+     * Vender vários veículos ao mesmo cliente de uma vez.
+     * Retorna o resultado de cada veículo, na ordem recebida.
+     */
+    List<ResultadoVendaLote> realizarEmLote(VendaLote lote);
+
+    Pagina<Venda> listarTodas(Long cursor, int limite);
+
+    void percorrerTodas(Consumer<Venda> consumidor);
+
+    Pagina<ResumoVenda> listarResumos(Long cursor, int limite);
+
+    void percorrerResumos(Consumer<ResumoVenda> consumidor);
+
+    Venda buscarPorVeiculo(Long veiculoId);
 
 }
@@ -0,0 +1,34 @@
+package com.agencia.ports.output;
+
+import com.agencia.domain.model.AgregadoVendas;
+import com.agencia.domain.model.GrupoAgregado;
+import com.agencia.domain.model.ReconstrucaoAgregados;
+import com.agencia.domain.model.TipoAgregado;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * PORTA DE SAÍDA - Agregados de vendas
+ * Quem implementa mantém os agregados duráveis (atualizados na transação da venda)
+ * e uma visão em memória para as leituras, atualizada só depois do commit.
+ */
+public interface AgregadosVendasOutputPort {
+
+    /**
+     * Soma uma venda com o valor informado a cada um dos grupos
+     */
+    void acumular(List<GrupoAgregado> grupos, BigDecimal valor);
+
+    /**
+     * Valor atual de um grupo; zerado se o grupo ainda não tem vendas
+     */
+    AgregadoVendas buscar(GrupoAgregado grupo);
+
+    List<AgregadoVendas> listar(TipoAgregado tipo);
+
+    /**
+     * Recalcula todos os grupos a partir das vendas e substitui os valores mantidos
+     */
+    ReconstrucaoAgregados reconstruir();
+}
@@ -0,0 +1,36 @@
+package com.agencia.ports.output;
+
+import com.agencia.domain.model.ItemCatalogo;
+import com.agencia.domain.model.OrdenacaoVeiculo;
+import com.agencia.domain.model.ResultadoBusca;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * PORTA DE SAÍDA - Modelo de leitura do catálogo público
+ * Guarda só os veículos disponíveis, já mantidos nas ordens de consulta:
+ * listar uma página não ordena nem filtra nada na hora.
+ */
+public interface CatalogoOutputPort {
+
+    /**
+     * Inclui o item ou substitui o que já estava no catálogo com o mesmo veículo
+     */
+    void salvar(ItemCatalogo item);
+
+    void remover(Long veiculoId);
+
+    Optional<ItemCatalogo> buscar(Long veiculoId);
+
+    ResultadoBusca<ItemCatalogo> listar(OrdenacaoVeiculo ordenacao, int pagina, int tamanho);
+
+    /**
+     * Troca todo o conteúdo do catálogo pelos itens que a fonte entregar.
+     * As consultas continuam vendo o conteúdo anterior até o fim da troca.
+     * Retorna a quantidade de itens.
+     */
+    long reconstruir(Consumer<Consumer<ItemCatalogo>> fonte);
+
+    long quantidade();
+}
@@ -15,4 +15,9 @@ public interface ClienteOutputPort {
 
     Optional<Cliente> buscarPorCpf(String cpf);
 
+    /**
+     * Versão atual do cliente, sem carregar o cliente
+     */
+    Optional<Long> buscarVersao(Long id);
+
 }
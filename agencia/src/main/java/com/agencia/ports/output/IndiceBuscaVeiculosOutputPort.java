@@ -0,0 +1,36 @@
+package com.agencia.ports.output;
+
+import com.agencia.domain.model.ConsultaTextoVeiculo;
+import com.agencia.domain.model.ResultadoBuscaTexto;
+import com.agencia.domain.model.Veiculo;
+
+import java.util.function.Consumer;
+
+/**
+ * PORTA DE SAÍDA - Índice de busca de texto livre do estoque
+ * Uma cópia dos veículos organizada para busca por palavras, mantida à parte
+ * do banco. As gravações aparecem nas buscas em até um segundo, não na hora.
+ */
+public interface IndiceBuscaVeiculosOutputPort {
+
+    /**
+     * Inclui o veículo ou substitui a cópia que já estava no índice
+     */
+    void indexar(Veiculo veiculo);
+
+    void remover(Long veiculoId);
+
+    ResultadoBuscaTexto buscar(ConsultaTextoVeiculo consulta);
+
+    /**
+     * Troca todo o conteúdo do índice pelos veículos que a fonte entregar.
+     * As buscas continuam vendo o conteúdo anterior até o fim da troca.
+     * Retorna a quantidade de veículos indexados.
+     */
+    long reconstruir(Consumer<Consumer<Veiculo>> fonte);
+
+    /**
+     * Quantidade de veículos no índice
+     */
+    long quantidade();
+}
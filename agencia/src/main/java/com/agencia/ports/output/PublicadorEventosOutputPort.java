@@ -0,0 +1,13 @@
+package com.agencia.ports.output;
+
+import com.agencia.domain.evento.EventoDominio;
+
+/**
+ * PORTA DE SAÍDA - Publicação de eventos de domínio
+ * Chamada dentro da transação de quem publica: se a entrega falhar,
+ * a operação que gerou o evento também é desfeita.
+ */
+public interface PublicadorEventosOutputPort {
+
+    void publicar(EventoDominio evento);
+}
@@ -0,0 +1,22 @@
+package com.agencia.ports.output;
+
+import com.agencia.domain.model.AgrupamentoPeriodo;
+import com.agencia.domain.model.AgrupamentoVeiculo;
+import com.agencia.domain.model.DesempenhoVeiculo;
+import com.agencia.domain.model.FaturamentoPeriodo;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * PORTA DE SAÍDA - Relatórios de vendas
+ * As agregações são feitas por quem implementa a porta (no banco, com GROUP BY):
+ * o domínio recebe só uma linha por grupo, nunca as vendas.
+ * Consideradas as vendas com desde <= dataVenda < ate, em ordem de período ou de faturamento.
+ */
+public interface RelatorioVendasOutputPort {
+
+    List<FaturamentoPeriodo> faturamento(AgrupamentoPeriodo agrupamento, LocalDateTime desde, LocalDateTime ate);
+
+    List<DesempenhoVeiculo> desempenhoPorVeiculo(AgrupamentoVeiculo agrupamento, LocalDateTime desde, LocalDateTime ate);
+}
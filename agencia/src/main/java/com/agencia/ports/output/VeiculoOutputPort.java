@@ -1,8 +1,14 @@
 package com.agencia.ports.output;
 
+import com.agencia.domain.model.FiltroVeiculo;
+import com.agencia.domain.model.ResultadoBusca;
 import com.agencia.domain.model.Veiculo;
+import com.agencia.domain.model.VersaoRegistro;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * PORTA DE SAÍDA (Output Port / Driven Port)
@@ -18,20 +24,77 @@ public interface VeiculoOutputPort {
      */
     Veiculo salvar(Veiculo veiculo);
 
+    /**
+     * Salvar vários veículos novos de uma vez (inserts em lote)
+     * Retorna os veículos salvos, na mesma ordem, já com ID
+     */
+    List<Veiculo> salvarTodos(List<Veiculo> veiculos);
+
     /**
      * Buscar veículo por ID
      */
     Optional<Veiculo> buscarPorId(Long id);
 
     /**
-     * Listar todos os veículos
+     * Buscar vários veículos de uma vez (uma consulta com IN)
+     * IDs não encontrados ficam de fora; a ordem não é garantida
+     */
+    List<Veiculo> buscarPorIds(Collection<Long> ids);
+
+    /**
+     * Versão atual do veículo, sem carregar o veículo
+     */
+    Optional<Long> buscarVersao(Long id);
+
+    /**
+     * Listar veículos com ID maior que o cursor, em ordem de ID (keyset)
      */
-    List<Veiculo> listarTodos();
+    List<Veiculo> listarTodos(Long aposId, int limite);
 
     /**
-     * Listar apenas veículos disponíveis
+     * Listar veículos disponíveis com ID maior que o cursor, em ordem de ID (keyset)
      */
-    List<Veiculo> listarDisponiveis();
+    List<Veiculo> listarDisponiveis(Long aposId, int limite);
+
+    /**
+     * ID e versão dos veículos disponíveis com ID maior que o cursor,
+     * na mesma ordem de listarDisponiveis(aposId, limite)
+     */
+    List<VersaoRegistro> listarVersoesDisponiveis(Long aposId, int limite);
+
+    /**
+     * Percorrer todos os veículos, um por vez, sem carregar a tabela em memória
+     */
+    void percorrerTodos(Consumer<Veiculo> consumidor);
+
+    /**
+     * Percorrer os veículos disponíveis, um por vez, sem carregar a tabela em memória
+     */
+    void percorrerDisponiveis(Consumer<Veiculo> consumidor);
+
+    /**
+     * Percorrer as placas de todos os veículos, sem carregar os veículos
+     */
+    void percorrerPlacas(Consumer<String> consumidor);
+
+    /**
+     * Buscar veículos por múltiplos critérios, ordenados e paginados
+     */
+    ResultadoBusca<Veiculo> buscar(FiltroVeiculo filtro);
+
+    /**
+     * Reservar o veículo para venda de forma atômica:
+     * marca como indisponível somente se ainda estiver disponível.
+     * Retorna false se outro comprador já o reservou.
+     */
+    boolean reservar(Long id);
+
+    /**
+     * Reservar vários veículos de uma vez, com a mesma garantia de reservar(id).
+     * Retorna os IDs reservados; os que faltam já estavam indisponíveis
+     * (ou não existem). Dentro de uma transação, um rollback desfaz todas.
+     */
+    Set<Long> reservarTodos(Collection<Long> ids);
 
     /**
      * Deletar veículo
@@ -42,4 +105,9 @@ public interface VeiculoOutputPort {
      * Verificar se existe por placa
      */
     boolean existePorPlaca(String placa);
+
+    /**
+     * Dentre as placas informadas, retornar as que já estão cadastradas
+     */
+    Set<String> placasExistentes(Collection<String> placas);
 }
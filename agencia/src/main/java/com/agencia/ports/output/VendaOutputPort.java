@@ -1,7 +1,10 @@
 package com.agencia.ports.output;
 
+import com.agencia.domain.model.ResumoVenda;
 import com.agencia.domain.model.Venda;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * PORTA DE SAÍDA - Repositório de Venda
@@ -10,5 +13,36 @@ public interface VendaOutputPort {
 
     Venda salvar(Venda venda);
 
+    /**
+     * Salvar várias vendas novas de uma vez (inserts em lote)
+     * Retorna as vendas salvas, na mesma ordem, já com ID
+     */
+    List<Venda> salvarTodas(List<Venda> vendas);
+
     List<Venda> listarTodas();
+
+    /**
+     * Listar vendas com ID maior que o cursor, em ordem de ID (keyset)
+     */
+    List<Venda> listarTodas(Long aposId, int limite);
+
+    /**
+     * Percorrer todas as vendas, uma por vez, sem carregar a tabela em memória
+     */
+    void percorrerTodas(Consumer<Venda> consumidor);
+
+    /**
+     * Listar resumos de vendas (keyset), sem carregar veículo e cliente completos
+     */
+    List<ResumoVenda> listarResumos(Long aposId, int limite);
+
+    /**
+     * Percorrer os resumos de todas as vendas, um por vez
+     */
+    void percorrerResumos(Consumer<ResumoVenda> consumidor);
+
+    /**
+     * Buscar a venda de um veículo (consulta indexada por veiculo_id)
+     */
+    Optional<Venda> buscarPorVeiculo(Long veiculoId);
 }
@@ -0,0 +1,76 @@
+-- Esquema inicial: o mesmo que o Hibernate gerava com ddl-auto=create-drop.
+-- A partir daqui o esquema muda só por migração (V2__..., V3__...);
+-- o Hibernate apenas valida (ddl-auto=validate) que as entidades batem com as tabelas.
+
+-- Sequências com incremento 50, igual ao allocationSize das entidades (IDs reservados em blocos)
+create sequence veiculos_seq start with 1 increment by 50;
+create sequence vendas_seq start with 1 increment by 50;
+create sequence eventos_outbox_seq start with 1 increment by 50;
+
+create table veiculos (
+    id bigint not null,
+    marca varchar(50) not null,
+    modelo varchar(50) not null,
+    ano integer not null,
+    placa varchar(10) not null,
+    cor varchar(30),
+    preco numeric(10,2) not null,
+    disponivel boolean not null,
+    data_cadastro timestamp(6) not null,
+    versao bigint default 0 not null,
+    constraint pk_veiculos primary key (id),
+    constraint uk_veiculos_placa unique (placa)
+);
+
+create table clientes (
+    id bigint generated by default as identity,
+    nome varchar(100) not null,
+    cpf varchar(11) not null,
+    telefone varchar(15),
+    email varchar(100),
+    versao bigint default 0 not null,
+    constraint pk_clientes primary key (id),
+    constraint uk_clientes_cpf unique (cpf)
+);
+
+create table vendas (
+    id bigint not null,
+    veiculo_id bigint not null,
+    cliente_id bigint not null,
+    valor_venda numeric(10,2) not null,
+    data_venda timestamp(6) not null,
+    constraint pk_vendas primary key (id),
+    constraint fk_vendas_veiculo foreign key (veiculo_id) references veiculos (id),
+    constraint fk_vendas_cliente foreign key (cliente_id) references clientes (id)
+);
+
+create table agregados_vendas (
+    tipo varchar(10) not null check (tipo in ('TOTAL','MARCA','DIA')),
+    chave varchar(50) not null,
+    quantidade bigint not null,
+    faturamento numeric(19,2) not null,
+    constraint pk_agregados_vendas primary key (chave, tipo)
+);
+
+create table eventos_outbox (
+    id bigint not null,
+    tipo varchar(100) not null,
+    payload varchar(4000) not null,
+    criado_em timestamp(6) not null,
+    tentativas integer not null,
+    ultimo_erro varchar(500),
+    constraint pk_eventos_outbox primary key (id)
+);
+
+-- Listagem de disponíveis por cursor (keyset)
+create index idx_veiculos_disponivel_id on veiculos (disponivel, id);
+
+-- Pesquisa por critérios (VeiculoSpecifications)
+create index idx_veiculos_disp_marca_modelo_ano on veiculos (disponivel, marca, modelo, ano);
+create index idx_veiculos_disp_preco on veiculos (disponivel, preco);
+create index idx_veiculos_disp_ano_preco on veiculos (disponivel, ano, preco);
+create index idx_veiculos_marca_modelo_preco on veiculos (marca, modelo, preco);
+
+-- Venda de um veículo e relatórios de faturamento por período
+create index idx_vendas_veiculo_id on vendas (veiculo_id);
+create index idx_vendas_data_venda_valor on vendas (data_venda, valor_venda);
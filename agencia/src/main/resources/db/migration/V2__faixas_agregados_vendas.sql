@@ -0,0 +1,8 @@
+-- Agregados de vendas divididos em faixas: cada venda incrementa só a faixa
+-- da sua thread e o valor de um grupo é a soma das faixas. As linhas
+-- existentes ficam na faixa 0.
+alter table agregados_vendas add column faixa integer default 0 not null;
+
+alter table agregados_vendas drop constraint pk_agregados_vendas;
+
+alter table agregados_vendas add constraint pk_agregados_vendas primary key (chave, tipo, faixa);
@@ -0,0 +1,5 @@
+-- Um veículo é vendido uma vez: o índice de vendas.veiculo_id passa a ser
+-- uma constraint UNIQUE, que também atende a busca da venda pelo veículo
+drop index idx_vendas_veiculo_id;
+
+alter table vendas add constraint uk_vendas_veiculo_id unique (veiculo_id);
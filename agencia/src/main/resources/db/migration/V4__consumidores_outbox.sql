@@ -0,0 +1,15 @@
+-- Cada instância da aplicação é um consumidor da outbox, com uma cópia de
+-- cada evento: os modelos de leitura em memória (catálogo, índice de busca)
+-- de todas as instâncias recebem todos os eventos.
+create table consumidores_outbox (
+    nome varchar(100) not null,
+    visto_em timestamp(6) not null,
+    constraint pk_consumidores_outbox primary key (nome)
+);
+
+-- Nulo nos eventos gravados antes desta migração: o primeiro consumidor que
+-- se registrar fica com eles
+alter table eventos_outbox add column consumidor varchar(100);
+
+-- Próximo lote de um consumidor, na ordem de gravação
+create index idx_eventos_outbox_consumidor_id on eventos_outbox (consumidor, id);
@@ -0,0 +1,151 @@
+package com.agencia.adapter.input.controller;
+
+import com.agencia.domain.model.Cliente;
+import com.agencia.domain.model.ResultadoCadastroLote;
+import com.agencia.domain.model.Veiculo;
+import com.agencia.domain.model.Venda;
+import com.agencia.ports.input.VeiculoInputPort;
+import com.agencia.ports.input.VendaInputPort;
+import com.agencia.ports.output.ClienteOutputPort;
+import com.agencia.ports.output.DadosContrato;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * TESTE DOS FORMATOS DE RESPOSTA
+ * Campos esparsos (?fields=), CBOR por negociação de conteúdo e
+ * compressão gzip (esta pelo Tomcat de verdade, numa porta aleatória).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:agencia_formatos",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "agencia.outbox.despacho-automatico=false"
+})
+@AutoConfigureMockMvc
+class FormatosRespostaTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private VeiculoInputPort veiculoInputPort;
+
+    @Autowired
+    private VendaInputPort vendaInputPort;
+
+    @Autowired
+    private ClienteOutputPort clienteOutputPort;
+
+    @LocalServerPort
+    private int porta;
+
+    @Test
+    void vendaComCamposTrazSoOsCamposPedidos() throws Exception {
+        Venda venda = vender();
+        String url = "/api/vendas/veiculo/" + venda.getVeiculo().getId();
+
+        JsonNode enxuta = objectMapper.readTree(mockMvc.perform(get(url).param("fields", "id, valorVenda"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+        assertThat(nomes(enxuta)).containsExactlyInAnyOrder("id", "valorVenda");
+
+        // O objeto aninhado pedido vai inteiro
+        JsonNode comVeiculo = objectMapper.readTree(mockMvc.perform(get(url).param("fields", "id,veiculo"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+        assertThat(nomes(comVeiculo)).containsExactlyInAnyOrder("id", "veiculo");
+        assertThat(comVeiculo.get("veiculo").get("placa").asText()).isEqualTo(venda.getVeiculo().getPlaca());
+        assertThat(comVeiculo.get("veiculo").has("marca")).isTrue();
+
+        JsonNode completa = objectMapper.readTree(mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+        assertThat(nomes(completa)).containsExactlyInAnyOrder("id", "veiculo", "cliente", "valorVenda", "dataVenda");
+    }
+
+    @Test
+    void listagemEmCborTemOsMesmosItensQueEmJson() throws Exception {
+        Veiculo veiculo = veiculoInputPort.cadastrar(DadosContrato.veiculo());
+        String url = "/api/veiculos/disponiveis?limite=1&cursor=" + (veiculo.getId() - 1);
+
+        byte[] json = mockMvc.perform(get(url).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        byte[] cbor = mockMvc.perform(get(url).accept(MediaType.APPLICATION_CBOR).param("fields", "id,placa"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode item = new ObjectMapper(new CBORFactory()).readTree(cbor).get(0);
+        assertThat(nomes(item)).containsExactlyInAnyOrder("id", "placa");
+        assertThat(item.get("placa").asText()).isEqualTo(veiculo.getPlaca());
+        assertThat(objectMapper.readTree(json).get(0).get("id").asLong()).isEqualTo(item.get("id").asLong());
+        assertThat(cbor.length).isLessThan(json.length);
+    }
+
+    @Test
+    void respostaGrandeVemComGzip() throws Exception {
+        List<Veiculo> veiculos = veiculoInputPort.cadastrarEmLote(IntStream.range(0, 30)
+                        .mapToObj(i -> DadosContrato.veiculo()).toList())
+                .stream().map(ResultadoCadastroLote::getVeiculo).toList();
+        URI uri = URI.create("http://localhost:" + porta + "/api/veiculos?limite=30&cursor="
+                + (veiculos.get(0).getId() - 1));
+
+        HttpResponse<InputStream> resposta = HttpClient.newHttpClient().send(HttpRequest.newBuilder(uri)
+                        .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .build(),
+                HttpResponse.BodyHandlers.ofInputStream());
+
+        assertThat(resposta.statusCode()).isEqualTo(200);
+        assertThat(resposta.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+        try (InputStream corpo = new GZIPInputStream(resposta.body())) {
+            assertThat(objectMapper.readTree(corpo).size()).isEqualTo(30);
+        }
+    }
+
+    private Venda vender() {
+        Veiculo veiculo = veiculoInputPort.cadastrar(DadosContrato.veiculo());
+        Cliente cliente = clienteOutputPort.salvar(DadosContrato.cliente());
+        return vendaInputPort.realizar(Venda.builder()
+                .veiculo(veiculo)
+                .cliente(cliente)
+                .valorVenda(new BigDecimal("48000.00"))
+                .build());
+    }
+
+    private static List<String> nomes(JsonNode objeto) {
+        List<String> nomes = new ArrayList<>();
+        objeto.fieldNames().forEachRemaining(nomes::add);
+        return nomes;
+    }
+}
@@ -0,0 +1,183 @@
+package com.agencia.adapter.input.controller;
+
+import com.agencia.domain.model.Cliente;
+import com.agencia.domain.model.Pagina;
+import com.agencia.domain.model.ResultadoCadastroLote;
+import com.agencia.domain.model.Veiculo;
+import com.agencia.ports.input.VeiculoInputPort;
+import com.agencia.ports.output.ClienteOutputPort;
+import com.agencia.ports.output.DadosContrato;
+import com.agencia.ports.output.VeiculoOutputPort;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * TESTE DAS REQUISIÇÕES CONDICIONAIS (ETag / If-None-Match)
+ * Confere pelas estatísticas do Hibernate que o 304 não carrega entidades
+ * e que o ETag muda quando o registro (ou um item da página) muda. Sem
+ * cursor e sem limite a listagem vem inteira; com um deles, paginada.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:agencia_http",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN",
+        "agencia.outbox.despacho-automatico=false",
+        "agencia.cache.veiculos.tamanho-maximo=0",
+        "agencia.cache.clientes.tamanho-maximo=0"
+})
+@AutoConfigureMockMvc
+class RespostaCondicionalTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private VeiculoInputPort veiculoInputPort;
+
+    @Autowired
+    private VeiculoOutputPort veiculoOutputPort;
+
+    @Autowired
+    private ClienteOutputPort clienteOutputPort;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics estatisticas;
+
+    @BeforeEach
+    void preparar() {
+        estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void veiculoSemAlteracaoResponde304SemCarregarAEntidade() throws Exception {
+        Veiculo veiculo = veiculoInputPort.cadastrar(DadosContrato.veiculo());
+        String url = "/api/veiculos/" + veiculo.getId();
+
+        String etag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("\"veiculo-" + veiculo.getId() + "-");
+
+        estatisticas.clear();
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, "\"outro\", W/" + etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+        assertThat(estatisticas.getEntityLoadCount()).isZero();
+
+        veiculoInputPort.atualizar(veiculo.getId(), Veiculo.builder()
+                .marca(veiculo.getMarca())
+                .modelo(veiculo.getModelo())
+                .ano(veiculo.getAno())
+                .placa(veiculo.getPlaca())
+                .cor("Prata")
+                .preco(new BigDecimal("39000.00"))
+                .build());
+
+        MvcResult alterado = mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(alterado.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+        assertThat(alterado.getResponse().getContentAsString()).contains("Prata");
+    }
+
+    @Test
+    void paginaDeDisponiveisMudaDeETagQuandoUmItemMuda() throws Exception {
+        List<Veiculo> veiculos = veiculoInputPort.cadastrarEmLote(List.of(
+                        DadosContrato.veiculo(), DadosContrato.veiculo(), DadosContrato.veiculo()))
+                .stream().map(ResultadoCadastroLote::getVeiculo).toList();
+        String url = "/api/veiculos/disponiveis?limite=2&cursor=" + (veiculos.get(0).getId() - 1);
+
+        String etag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+
+        estatisticas.clear();
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(RespostaListagem.HEADER_PROXIMO_CURSOR,
+                        String.valueOf(veiculos.get(1).getId())));
+        assertThat(estatisticas.getEntityLoadCount()).isZero();
+
+        // A reserva do segundo item (que não é o de maior ID) muda a página
+        veiculoOutputPort.reservar(veiculos.get(1).getId());
+
+        String novoEtag = mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(novoEtag).isNotEqualTo(etag);
+    }
+
+    @Test
+    void disponiveisSemCursorNemLimiteVemTodosComETag() throws Exception {
+        List<Veiculo> veiculos = new ArrayList<>();
+        for (int i = 0; i <= Pagina.LIMITE_PADRAO; i++) {
+            veiculos.add(DadosContrato.veiculo());
+        }
+        veiculoInputPort.cadastrarEmLote(veiculos);
+
+        MvcResult todos = mockMvc.perform(get("/api/veiculos/disponiveis"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(RespostaListagem.HEADER_PROXIMO_CURSOR))
+                .andExpect(jsonPath("$.length()").value(greaterThan(Pagina.LIMITE_PADRAO)))
+                .andReturn();
+        String etag = todos.getResponse().getHeader(HttpHeaders.ETAG);
+
+        estatisticas.clear();
+        mockMvc.perform(get("/api/veiculos/disponiveis").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        assertThat(estatisticas.getEntityLoadCount()).isZero();
+
+        // Só com o cursor: página do tamanho padrão
+        mockMvc.perform(get("/api/veiculos/disponiveis?cursor=0"))
+                .andExpect(jsonPath("$.length()").value(Pagina.LIMITE_PADRAO))
+                .andExpect(header().exists(RespostaListagem.HEADER_PROXIMO_CURSOR));
+    }
+
+    @Test
+    void clienteUsaOCacheControlConfigurado() throws Exception {
+        Cliente cliente = clienteOutputPort.salvar(DadosContrato.cliente());
+        String url = "/api/clientes/" + cliente.getId();
+
+        String etag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "private, no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        estatisticas.clear();
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "private, no-cache"));
+        assertThat(estatisticas.getEntityLoadCount()).isZero();
+
+        mockMvc.perform(get("/api/clientes/" + Long.MAX_VALUE).header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isBadRequest());
+    }
+}
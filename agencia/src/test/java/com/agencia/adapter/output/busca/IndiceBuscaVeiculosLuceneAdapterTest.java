@@ -0,0 +1,147 @@
+package com.agencia.adapter.output.busca;
+
+import com.agencia.domain.model.ConsultaTextoVeiculo;
+import com.agencia.domain.model.ResultadoBuscaTexto;
+import com.agencia.domain.model.Veiculo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TESTE DO ÍNDICE DE BUSCA (Lucene, em memória)
+ * A atualização periódica do leitor fica desligada (intervalo longo):
+ * o teste chama atualizarLeitura() quando quer ver as gravações.
+ */
+class IndiceBuscaVeiculosLuceneAdapterTest {
+
+    private final IndiceBuscaVeiculosLuceneAdapter indice =
+            new IndiceBuscaVeiculosLuceneAdapter(null, Duration.ofHours(1));
+
+    @AfterEach
+    void fechar() throws IOException {
+        indice.close();
+    }
+
+    @Test
+    void encontraComErroDeDigitacaoEAcentoEContaAsFacetas() {
+        indice.reconstruir(fonte -> {
+            fonte.accept(veiculo(1L, "Honda", "Civic", 2020, "Prata", true));
+            fonte.accept(veiculo(2L, "Honda", "City", 2019, "Preto", true));
+            fonte.accept(veiculo(3L, "Toyota", "Corolla", 2020, "Prata", false));
+            fonte.accept(veiculo(4L, "Chevrolet", "Cruze", 2021, "Vermelho Metálico", true));
+        });
+
+        assertThat(ids(buscar("civc"))).containsExactly(1L);
+        assertThat(ids(buscar("honda prta"))).containsExactly(1L);
+        assertThat(ids(buscar("hodna civic"))).containsExactly(1L);
+        assertThat(ids(buscar("METALICO"))).containsExactly(4L);
+        assertThat(ids(buscar("cor"))).containsExactly(3L);
+        assertThat(ids(buscar("2020"))).containsExactlyInAnyOrder(1L, 3L);
+
+        ResultadoBuscaTexto todos = buscar(null);
+        assertThat(todos.getTotal()).isEqualTo(4);
+        assertThat(todos.getFacetas().get("marca")).containsExactly(
+                Map.entry("Honda", 2L), Map.entry("Chevrolet", 1L), Map.entry("Toyota", 1L));
+        assertThat(todos.getFacetas().get("ano")).containsEntry("2020", 2L);
+
+        Veiculo civic = buscar("civic").getItens().get(0);
+        assertThat(civic.getPlaca()).isEqualTo("ABC0001");
+        assertThat(civic.getPreco()).isEqualByComparingTo("50000.00");
+    }
+
+    @Test
+    void filtraPorDisponibilidadeEPelosValoresDasFacetas() {
+        indice.reconstruir(fonte -> {
+            fonte.accept(veiculo(1L, "Honda", "Civic", 2020, "Prata", true));
+            fonte.accept(veiculo(2L, "Honda", "Civic", 2018, "Preto", true));
+            fonte.accept(veiculo(3L, "Honda", "Civic", 2020, "Prata", false));
+        });
+
+        ResultadoBuscaTexto disponiveis = indice.buscar(ConsultaTextoVeiculo.builder()
+                .texto("civic").disponivel(true).build());
+        assertThat(ids(disponiveis)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(disponiveis.getFacetas().get("ano")).containsOnly(Map.entry("2020", 1L), Map.entry("2018", 1L));
+
+        assertThat(ids(indice.buscar(ConsultaTextoVeiculo.builder()
+                .marca("honda").ano(2020).cor("PRATA").build())))
+                .containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    void gravacoesAparecemDepoisDaAtualizacaoDoLeitor() {
+        indice.indexar(veiculo(1L, "Fiat", "Argo", 2022, "Branco", true));
+        assertThat(indice.quantidade()).isZero();
+
+        indice.atualizarLeitura();
+        assertThat(ids(buscar("argo"))).containsExactly(1L);
+
+        indice.indexar(veiculo(1L, "Fiat", "Argo", 2022, "Branco", false));
+        indice.indexar(veiculo(2L, "Fiat", "Toro", 2023, "Azul", true));
+        indice.remover(2L);
+        indice.atualizarLeitura();
+
+        assertThat(indice.quantidade()).isEqualTo(1);
+        assertThat(buscar("argo").getItens().get(0).getDisponivel()).isFalse();
+    }
+
+    @Test
+    void reconstrucaoComFalhaMantemOConteudoAnterior() {
+        indice.reconstruir(fonte -> fonte.accept(veiculo(1L, "Ford", "Ka", 2015, "Azul", true)));
+
+        assertThatThrownBy(() -> indice.reconstruir(fonte -> {
+            fonte.accept(veiculo(2L, "Ford", "Ranger", 2020, "Preto", true));
+            throw new IllegalStateException("banco fora do ar");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(ids(buscar(null))).containsExactly(1L);
+    }
+
+    @Test
+    void paginaPeloTotalDeResultados() {
+        indice.reconstruir(fonte -> {
+            for (long id = 1; id <= 5; id++) {
+                fonte.accept(veiculo(id, "Renault", "Kwid", 2020, "Branco", true));
+            }
+        });
+
+        ResultadoBuscaTexto primeira = indice.buscar(ConsultaTextoVeiculo.builder().texto("kwid").tamanho(2).build());
+        ResultadoBuscaTexto ultima = indice.buscar(ConsultaTextoVeiculo.builder().texto("kwid").pagina(2).tamanho(2).build());
+
+        assertThat(primeira.getItens()).hasSize(2);
+        assertThat(primeira.isTemProxima()).isTrue();
+        assertThat(ultima.getItens()).hasSize(1);
+        assertThat(ultima.isTemProxima()).isFalse();
+    }
+
+    private ResultadoBuscaTexto buscar(String texto) {
+        return indice.buscar(ConsultaTextoVeiculo.builder().texto(texto).build());
+    }
+
+    private static List<Long> ids(ResultadoBuscaTexto resultado) {
+        return resultado.getItens().stream().map(Veiculo::getId).toList();
+    }
+
+    private static Veiculo veiculo(Long id, String marca, String modelo, int ano, String cor, boolean disponivel) {
+        return Veiculo.builder()
+                .id(id)
+                .marca(marca)
+                .modelo(modelo)
+                .ano(ano)
+                .placa(String.format("ABC%04d", id))
+                .cor(cor)
+                .preco(new BigDecimal("50000.00"))
+                .disponivel(disponivel)
+                .dataCadastro(LocalDateTime.of(2024, 1, 1, 10, 0))
+                .versao(0L)
+                .build();
+    }
+}
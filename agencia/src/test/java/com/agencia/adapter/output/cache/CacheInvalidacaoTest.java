@@ -0,0 +1,105 @@
+package com.agencia.adapter.output.cache;
+
+import com.agencia.domain.model.Cliente;
+import com.agencia.domain.model.Veiculo;
+import com.agencia.ports.output.ClienteOutputPort;
+import com.agencia.ports.output.VeiculoOutputPort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TESTE DA INVALIDAÇÃO DOS CACHES DE LEITURA
+ * Os adapters decorados são mapas: o que está em "confirmados" é o que uma
+ * leitura de outra transação enxerga. Uma leitura entre a escrita e o commit
+ * recoloca o registro anterior no cache; a invalidação no fim da transação
+ * o tira de lá.
+ */
+class CacheInvalidacaoTest {
+
+    @Test
+    void leituraAntesDoCommitNaoDeixaOVeiculoAnteriorNoCache() {
+        Map<Long, Veiculo> confirmados = new ConcurrentHashMap<>();
+        confirmados.put(1L, veiculo(0L));
+        VeiculoCacheAdapter cache = new VeiculoCacheAdapter(veiculos(confirmados),
+                Caffeine.newBuilder().<Long, Veiculo>build());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.salvar(veiculo(1L));
+            // Leitura concorrente antes do commit: ainda a versão 0
+            assertThat(cache.buscarPorId(1L).orElseThrow().getVersao()).isZero();
+            confirmados.put(1L, veiculo(1L));
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(cache.buscarPorId(1L).orElseThrow().getVersao()).isOne();
+        assertThat(cache.buscarVersao(1L)).contains(1L);
+    }
+
+    @Test
+    void trocaDeCpfInvalidaOCpfAntigoMesmoSemOClienteEmCachePorId() {
+        Map<Long, Cliente> confirmados = new ConcurrentHashMap<>();
+        confirmados.put(1L, cliente("11111111111"));
+        Cache<Long, Cliente> porId = Caffeine.newBuilder().build();
+        ClienteCacheAdapter cache = new ClienteCacheAdapter(clientes(confirmados), porId,
+                Caffeine.newBuilder().<String, Cliente>build());
+
+        assertThat(cache.buscarPorCpf("11111111111")).isPresent();
+        // A entrada por ID expirou; a do CPF continua
+        porId.invalidateAll();
+
+        cache.salvar(cliente("22222222222"));
+
+        assertThat(cache.buscarPorCpf("11111111111")).isEmpty();
+        assertThat(cache.buscarPorCpf("22222222222")).isPresent();
+    }
+
+    private static VeiculoOutputPort veiculos(Map<Long, Veiculo> confirmados) {
+        return (VeiculoOutputPort) Proxy.newProxyInstance(CacheInvalidacaoTest.class.getClassLoader(),
+                new Class<?>[]{VeiculoOutputPort.class}, (proxy, metodo, args) -> switch (metodo.getName()) {
+                    // A gravação só aparece para os outros no commit (o teste põe em "confirmados")
+                    case "salvar" -> args[0];
+                    case "buscarPorId" -> Optional.ofNullable(confirmados.get((Long) args[0]));
+                    default -> throw new UnsupportedOperationException(metodo.getName());
+                });
+    }
+
+    private static ClienteOutputPort clientes(Map<Long, Cliente> confirmados) {
+        return (ClienteOutputPort) Proxy.newProxyInstance(CacheInvalidacaoTest.class.getClassLoader(),
+                new Class<?>[]{ClienteOutputPort.class}, (proxy, metodo, args) -> switch (metodo.getName()) {
+                    case "salvar" -> {
+                        Cliente cliente = (Cliente) args[0];
+                        confirmados.put(cliente.getId(), cliente);
+                        yield cliente;
+                    }
+                    case "buscarPorId" -> Optional.ofNullable(confirmados.get((Long) args[0]));
+                    case "buscarPorCpf" -> confirmados.values().stream()
+                            .filter(cliente -> cliente.getCpf().equals(args[0]))
+                            .findFirst();
+                    default -> throw new UnsupportedOperationException(metodo.getName());
+                });
+    }
+
+    private static Veiculo veiculo(long versao) {
+        return Veiculo.builder().id(1L).marca("Fiat").modelo("Argo").ano(2023).placa("CAC1A23")
+                .cor("Prata").disponivel(true).versao(versao).build();
+    }
+
+    private static Cliente cliente(String cpf) {
+        return Cliente.builder().id(1L).nome("Cliente Cache").cpf(cpf).versao(0L).build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.agencia.adapter.output.cache;
+
+import com.agencia.ports.output.ClienteOutputPort;
+import com.agencia.ports.output.ClienteOutputPortContrato;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * CONTRATO DE ClienteOutputPort - porta injetada na aplicação
+ * (métricas + cache sobre o adaptador JPA): o cache não pode mudar o contrato
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:agencia_contrato",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN"
+})
+class ClienteCacheAdapterContratoTest extends ClienteOutputPortContrato {
+
+    @Autowired
+    private ClienteOutputPort porta;
+
+    @Override
+    protected ClienteOutputPort porta() {
+        return porta;
+    }
+
+    @Override
+    protected String adaptador() {
+        return "jpa+cache";
+    }
+}
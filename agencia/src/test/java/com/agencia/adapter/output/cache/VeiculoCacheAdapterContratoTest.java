@@ -0,0 +1,32 @@
+package com.agencia.adapter.output.cache;
+
+import com.agencia.ports.output.VeiculoOutputPort;
+import com.agencia.ports.output.VeiculoOutputPortContrato;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * CONTRATO DE VeiculoOutputPort - porta injetada na aplicação
+ * (métricas + cache + filtro de placas sobre o adaptador JPA): os decorators
+ * não podem mudar o contrato
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:agencia_contrato",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN"
+})
+class VeiculoCacheAdapterContratoTest extends VeiculoOutputPortContrato {
+
+    @Autowired
+    private VeiculoOutputPort porta;
+
+    @Override
+    protected VeiculoOutputPort porta() {
+        return porta;
+    }
+
+    @Override
+    protected String adaptador() {
+        return "jpa+cache";
+    }
+}
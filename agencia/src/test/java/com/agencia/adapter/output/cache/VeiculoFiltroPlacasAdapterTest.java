@@ -0,0 +1,109 @@
+package com.agencia.adapter.output.cache;
+
+import com.agencia.adapter.output.persistence.VeiculoRepositoryAdapter;
+import com.agencia.domain.model.Veiculo;
+import com.agencia.ports.input.VeiculoInputPort;
+import com.agencia.ports.output.DadosContrato;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TESTE DO FILTRO DE PLACAS
+ * O filtro nunca pode dizer "não está" para uma placa gravada (falso negativo):
+ * só pode errar para o lado do "talvez", que vai ao banco.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:agencia_contrato",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN"
+})
+class VeiculoFiltroPlacasAdapterTest {
+
+    @Autowired
+    private VeiculoFiltroPlacasAdapter filtroPlacas;
+
+    @Autowired
+    private VeiculoRepositoryAdapter veiculoRepositoryAdapter;
+
+    @Autowired
+    private VeiculoInputPort veiculoInputPort;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void placaNovaNaoConsultaOBancoEPlacaGravadaEhEncontrada() {
+        assertThat(filtroPlacas.estado().pronto()).isTrue();
+        long evitadasAntes = filtroPlacas.estado().consultasEvitadas();
+
+        Veiculo salvo = filtroPlacas.salvar(DadosContrato.veiculo());
+
+        assertThat(filtroPlacas.existePorPlaca(salvo.getPlaca())).isTrue();
+        assertThat(filtroPlacas.placasExistentes(List.of(salvo.getPlaca(), DadosContrato.placa())))
+                .isEqualTo(Set.of(salvo.getPlaca()));
+        assertThat(filtroPlacas.existePorPlaca(DadosContrato.placa())).isFalse();
+        assertThat(filtroPlacas.estado().consultasEvitadas()).isGreaterThan(evitadasAntes);
+    }
+
+    @Test
+    void reconstrucaoIncluiPlacasGravadasPorForaDoAdapter() {
+        String placa = DadosContrato.placa();
+        jdbcTemplate.update("INSERT INTO veiculos (id, marca, modelo, ano, placa, cor, preco, disponivel, data_cadastro) "
+                        + "VALUES (NEXT VALUE FOR veiculos_seq, 'Carga', 'Direta', 2020, ?, 'Preto', 10000, TRUE, CURRENT_TIMESTAMP)",
+                placa);
+
+        filtroPlacas.reconstruir();
+
+        assertThat(filtroPlacas.existePorPlaca(placa)).isTrue();
+        assertThat(filtroPlacas.estado().placas()).isPositive();
+    }
+
+    @Test
+    void placaComOuSemSeparadorEhAMesma() {
+        String placa = DadosContrato.placa();
+        String comHifen = placa.substring(0, 3) + "-" + placa.substring(3);
+
+        Veiculo cadastrado = veiculoInputPort.cadastrar(Veiculo.builder()
+                .marca("Fiat").modelo("Argo").ano(2024).placa(comHifen.toLowerCase())
+                .cor("Branco").preco(new BigDecimal("80000.00")).build());
+
+        assertThat(cadastrado.getPlaca()).isEqualTo(placa);
+        assertThatThrownBy(() -> veiculoInputPort.cadastrar(Veiculo.builder()
+                .marca("Fiat").modelo("Argo").ano(2024).placa(placa)
+                .cor("Branco").preco(new BigDecimal("80000.00")).build()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("placa");
+    }
+
+    @Test
+    void filtroPequenoCresceNaReconstrucaoEFalsosPositivosVaoAoBanco() {
+        List<Veiculo> novos = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            novos.add(DadosContrato.veiculo());
+        }
+        List<Veiculo> salvos = veiculoRepositoryAdapter.salvarTodos(novos);
+        VeiculoFiltroPlacasAdapter pequeno = new VeiculoFiltroPlacasAdapter(
+                veiculoRepositoryAdapter, 1, 0.5, new SimpleMeterRegistry());
+
+        pequeno.reconstruir();
+
+        assertThat(pequeno.estado().capacidade()).isGreaterThanOrEqualTo(pequeno.estado().placas());
+        assertThat(salvos).allSatisfy(v -> assertThat(pequeno.existePorPlaca(v.getPlaca())).isTrue());
+        for (int i = 0; i < 200; i++) {
+            assertThat(pequeno.existePorPlaca(DadosContrato.placa())).isFalse();
+        }
+        assertThat(pequeno.estado().falsosPositivos()).isPositive();
+        assertThat(pequeno.estado().taxaFalsoPositivoObservada()).isBetween(0.0, 1.0);
+    }
+}
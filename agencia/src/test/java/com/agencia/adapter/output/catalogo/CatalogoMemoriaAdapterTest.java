@@ -0,0 +1,96 @@
+package com.agencia.adapter.output.catalogo;
+
+import com.agencia.domain.model.ItemCatalogo;
+import com.agencia.domain.model.OrdenacaoVeiculo;
+import com.agencia.domain.model.ResultadoBusca;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TESTE DO CATÁLOGO EM MEMÓRIA
+ * Cada ordenação sai pronta dos conjuntos ordenados; trocar o preço de um
+ * item o move de posição, e a reconstrução substitui todo o conteúdo.
+ */
+class CatalogoMemoriaAdapterTest {
+
+    private final CatalogoMemoriaAdapter catalogo = new CatalogoMemoriaAdapter();
+
+    @Test
+    void listaEmCadaOrdenacaoComDesempatePorId() {
+        catalogo.salvar(item(1L, 2020, "90000.00", 1));
+        catalogo.salvar(item(2L, 2022, "90000.00", 2));
+        catalogo.salvar(item(3L, 2022, "75000.00", 3));
+        catalogo.salvar(item(4L, 2018, "120000.00", 4));
+
+        assertThat(ids(OrdenacaoVeiculo.PRECO_ASC)).containsExactly(3L, 1L, 2L, 4L);
+        assertThat(ids(OrdenacaoVeiculo.PRECO_DESC)).containsExactly(4L, 2L, 1L, 3L);
+        assertThat(ids(OrdenacaoVeiculo.ANO_DESC)).containsExactly(3L, 2L, 1L, 4L);
+        assertThat(ids(OrdenacaoVeiculo.ANO_ASC)).containsExactly(4L, 1L, 2L, 3L);
+        assertThat(ids(OrdenacaoVeiculo.MAIS_RECENTES)).containsExactly(4L, 3L, 2L, 1L);
+    }
+
+    @Test
+    void paginaIndicaSeHaProxima() {
+        for (long id = 1; id <= 5; id++) {
+            catalogo.salvar(item(id, 2020, "5000" + id + ".00", (int) id));
+        }
+
+        ResultadoBusca<ItemCatalogo> primeira = catalogo.listar(OrdenacaoVeiculo.PRECO_ASC, 0, 2);
+        ResultadoBusca<ItemCatalogo> ultima = catalogo.listar(OrdenacaoVeiculo.PRECO_ASC, 2, 2);
+
+        assertThat(primeira.getItens()).extracting(ItemCatalogo::getVeiculoId).containsExactly(1L, 2L);
+        assertThat(primeira.isTemProxima()).isTrue();
+        assertThat(ultima.getItens()).extracting(ItemCatalogo::getVeiculoId).containsExactly(5L);
+        assertThat(ultima.isTemProxima()).isFalse();
+        assertThat(catalogo.listar(OrdenacaoVeiculo.PRECO_ASC, 9, 2).getItens()).isEmpty();
+    }
+
+    @Test
+    void salvarDeNovoMoveOItemERemoverTiraDeTodasAsOrdens() {
+        catalogo.salvar(item(1L, 2020, "50000.00", 1));
+        catalogo.salvar(item(2L, 2020, "60000.00", 2));
+
+        catalogo.salvar(item(1L, 2020, "70000.00", 1));
+        assertThat(ids(OrdenacaoVeiculo.PRECO_ASC)).containsExactly(2L, 1L);
+        assertThat(catalogo.buscar(1L)).hasValueSatisfying(item ->
+                assertThat(item.getPrecoFormatado()).isEqualTo("R$ 70.000,00"));
+        assertThat(catalogo.quantidade()).isEqualTo(2);
+
+        catalogo.remover(2L);
+        catalogo.remover(2L);
+        for (OrdenacaoVeiculo ordenacao : OrdenacaoVeiculo.values()) {
+            assertThat(ids(ordenacao)).containsExactly(1L);
+        }
+        assertThat(catalogo.buscar(2L)).isEmpty();
+    }
+
+    @Test
+    void reconstruirSubstituiOConteudo() {
+        catalogo.salvar(item(1L, 2020, "50000.00", 1));
+
+        long quantidade = catalogo.reconstruir(fonte -> {
+            fonte.accept(item(7L, 2021, "80000.00", 7));
+            fonte.accept(item(8L, 2019, "40000.00", 8));
+        });
+
+        assertThat(quantidade).isEqualTo(2);
+        assertThat(ids(OrdenacaoVeiculo.PRECO_ASC)).containsExactly(8L, 7L);
+        assertThat(catalogo.buscar(1L)).isEmpty();
+    }
+
+    private List<Long> ids(OrdenacaoVeiculo ordenacao) {
+        return catalogo.listar(ordenacao, 0, 50).getItens().stream()
+                .map(ItemCatalogo::getVeiculoId)
+                .toList();
+    }
+
+    private static ItemCatalogo item(Long id, int ano, String preco, int dia) {
+        return ItemCatalogo.de(id, "Honda", "Civic", ano, "Prata", new BigDecimal(preco),
+                LocalDateTime.of(2024, 1, dia, 10, 0));
+    }
+}
@@ -0,0 +1,45 @@
+package com.agencia.adapter.output.evento;
+
+import com.agencia.domain.evento.EventoDominio;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Broker em memória para os testes: guarda os eventos recebidos e
+ * pode recusar as próximas entregas para simular o broker fora do ar
+ */
+class BrokerEventosEmMemoria implements BrokerEventos {
+
+    private final List<EventoDominio> recebidos = new ArrayList<>();
+    private int falhasRestantes;
+    private int tentativas;
+
+    @Override
+    public synchronized void enviar(EventoDominio evento) {
+        tentativas++;
+        if (falhasRestantes > 0) {
+            falhasRestantes--;
+            throw new IllegalStateException("Broker indisponível");
+        }
+        recebidos.add(evento);
+    }
+
+    synchronized List<EventoDominio> recebidos() {
+        return List.copyOf(recebidos);
+    }
+
+    synchronized int tentativas() {
+        return tentativas;
+    }
+
+    synchronized void falharProximas(int quantidade) {
+        falhasRestantes = quantidade;
+    }
+
+    synchronized void limpar() {
+        recebidos.clear();
+        falhasRestantes = 0;
+        tentativas = 0;
+    }
+}
@@ -0,0 +1,206 @@
+package com.agencia.adapter.output.evento;
+
+import com.agencia.adapter.output.persistence.OutboxEventosRepositoryAdapter;
+import com.agencia.domain.evento.EventoDominio;
+import com.agencia.domain.evento.VeiculoAtualizado;
+import com.agencia.domain.evento.VeiculoCadastrado;
+import com.agencia.domain.evento.VeiculoRemovido;
+import com.agencia.domain.evento.VendaRealizada;
+import com.agencia.domain.exception.VeiculoIndisponivelException;
+import com.agencia.domain.model.Cliente;
+import com.agencia.domain.model.Veiculo;
+import com.agencia.domain.model.Venda;
+import com.agencia.ports.input.VeiculoInputPort;
+import com.agencia.ports.input.VendaInputPort;
+import com.agencia.ports.output.ClienteOutputPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TESTE DA OUTBOX DE EVENTOS
+ * O broker é substituído por um em memória e o despacho automático fica
+ * desligado: cada teste chama despachar() quando quer entregar os eventos.
+ * Banco próprio, para que o despachante de outros contextos de teste
+ * (mesmo banco em memória, mesmo consumidor) não entregue os eventos deste.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:agencia_outbox",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "agencia.outbox.despacho-automatico=false",
+        "agencia.outbox.maximo-tentativas=3",
+        "agencia.outbox.lote=2"
+})
+class DespachanteOutboxTest {
+
+    @TestConfiguration
+    static class BrokerEmMemoriaConfig {
+
+        @Bean
+        @Primary
+        BrokerEventosEmMemoria brokerEventosEmMemoria() {
+            return new BrokerEventosEmMemoria();
+        }
+    }
+
+    @Autowired
+    private DespachanteOutbox despachante;
+
+    @Autowired
+    private BrokerEventosEmMemoria broker;
+
+    @Autowired
+    private OutboxEventosRepositoryAdapter outbox;
+
+    @Autowired
+    private SerializadorEventos serializador;
+
+    @Autowired
+    private VeiculoInputPort veiculoInputPort;
+
+    @Autowired
+    private VendaInputPort vendaInputPort;
+
+    @Autowired
+    private ClienteOutputPort clienteOutputPort;
+
+    private Cliente cliente;
+
+    @BeforeEach
+    void preparar() {
+        despachante.despachar();
+        broker.limpar();
+        cliente = clienteOutputPort.buscarPorCpf("99988877766").orElseGet(() ->
+                clienteOutputPort.salvar(Cliente.builder().nome("Cliente Outbox").cpf("99988877766").build()));
+    }
+
+    @Test
+    void eventosGravadosNaTransacaoSaoEntreguesNaOrdemDepoisDoDespacho() {
+        Veiculo vendido = veiculoInputPort.cadastrar(veiculo("OUT0001"));
+        veiculoInputPort.atualizar(vendido.getId(), Veiculo.builder()
+                .marca("Fiat").modelo("Argo").ano(2023).placa("OUT0001").cor("Azul")
+                .preco(new BigDecimal("72000")).build());
+        vendaInputPort.realizar(venda(vendido));
+        Veiculo removido = veiculoInputPort.cadastrar(veiculo("OUT0002"));
+        veiculoInputPort.deletar(removido.getId());
+
+        // Nada é entregue na requisição
+        assertThat(broker.recebidos()).isEmpty();
+        assertThat(despachante.pendentes()).isEqualTo(5);
+
+        // Lotes de 2: o despacho continua até esvaziar a outbox
+        assertThat(despachante.despachar()).isEqualTo(5);
+
+        List<EventoDominio> recebidos = broker.recebidos();
+        assertThat(recebidos).extracting(evento -> evento.getClass().getSimpleName())
+                .containsExactly("VeiculoCadastrado", "VeiculoAtualizado", "VendaRealizada",
+                        "VeiculoCadastrado", "VeiculoRemovido");
+        assertThat(((VeiculoCadastrado) recebidos.get(0)).getPlaca()).isEqualTo("OUT0001");
+        assertThat(((VeiculoAtualizado) recebidos.get(1)).getCor()).isEqualTo("Azul");
+        VendaRealizada venda = (VendaRealizada) recebidos.get(2);
+        assertThat(venda.getVeiculoId()).isEqualTo(vendido.getId());
+        assertThat(venda.getValorVenda()).isEqualByComparingTo("70000.00");
+        assertThat(venda.getDataVenda()).isNotNull();
+        assertThat(((VeiculoRemovido) recebidos.get(4)).getVeiculoId()).isEqualTo(removido.getId());
+        assertThat(despachante.pendentes()).isZero();
+    }
+
+    @Test
+    void operacaoRecusadaNaoGravaEvento() {
+        Veiculo veiculo = veiculoInputPort.cadastrar(veiculo("OUT0003"));
+        vendaInputPort.realizar(venda(veiculo));
+        despachante.despachar();
+
+        assertThatThrownBy(() -> vendaInputPort.realizar(venda(veiculo)))
+                .isInstanceOf(VeiculoIndisponivelException.class);
+        assertThatThrownBy(() -> veiculoInputPort.cadastrar(veiculo("OUT0003")))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(despachante.pendentes()).isZero();
+    }
+
+    @Test
+    void falhaNoBrokerMantemOEventoEEntregaDeNovoSemMudarAOrdem() {
+        veiculoInputPort.cadastrar(veiculo("OUT0004"));
+        veiculoInputPort.cadastrar(veiculo("OUT0005"));
+        broker.falharProximas(1);
+
+        assertThat(despachante.despachar()).isZero();
+        assertThat(despachante.pendentes()).isEqualTo(2);
+
+        assertThat(despachante.despachar()).isEqualTo(2);
+        assertThat(broker.recebidos()).extracting(evento -> ((VeiculoCadastrado) evento).getPlaca())
+                .containsExactly("OUT0004", "OUT0005");
+        assertThat(broker.tentativas()).isEqualTo(3);
+    }
+
+    @Test
+    void eventoQueAtingeOMaximoDeTentativasDeixaDeBloquearOsSeguintes() {
+        veiculoInputPort.cadastrar(veiculo("OUT0006"));
+        veiculoInputPort.cadastrar(veiculo("OUT0007"));
+        broker.falharProximas(3);
+
+        despachante.despachar();
+        despachante.despachar();
+        despachante.despachar();
+
+        assertThat(despachante.pendentes()).isEqualTo(1);
+        assertThat(despachante.despachar()).isEqualTo(1);
+        assertThat(broker.recebidos()).extracting(evento -> ((VeiculoCadastrado) evento).getPlaca())
+                .containsExactly("OUT0007");
+    }
+
+    @Test
+    void cadaInstanciaRecebeASuaCopiaDosEventos() {
+        BrokerEventosEmMemoria outroBroker = new BrokerEventosEmMemoria();
+        DespachanteOutbox outraInstancia = new DespachanteOutbox(outbox, serializador, outroBroker,
+                new SimpleMeterRegistry(), 2, 3, Duration.ofMillis(200), Duration.ofMinutes(1), false,
+                "outra-instancia", Duration.ofMinutes(5));
+        outraInstancia.registrar();
+
+        veiculoInputPort.cadastrar(veiculo("OUT0008"));
+        assertThat(despachante.despachar()).isEqualTo(1);
+
+        // A entrega desta instância não apaga a cópia da outra
+        assertThat(outraInstancia.pendentes()).isEqualTo(1);
+        assertThat(outraInstancia.despachar()).isEqualTo(1);
+        assertThat(outroBroker.recebidos()).extracting(evento -> ((VeiculoCadastrado) evento).getPlaca())
+                .containsExactly("OUT0008");
+        assertThat(broker.recebidos()).extracting(evento -> ((VeiculoCadastrado) evento).getPlaca())
+                .containsExactly("OUT0008");
+        assertThat(despachante.pendentes()).isZero();
+        assertThat(outraInstancia.pendentes()).isZero();
+    }
+
+    private Veiculo veiculo(String placa) {
+        return Veiculo.builder()
+                .marca("Fiat")
+                .modelo("Argo")
+                .ano(2023)
+                .placa(placa)
+                .cor("Prata")
+                .preco(new BigDecimal("75000"))
+                .build();
+    }
+
+    private Venda venda(Veiculo veiculo) {
+        return Venda.builder()
+                .veiculo(veiculo)
+                .cliente(cliente)
+                .valorVenda(new BigDecimal("70000.00"))
+                .build();
+    }
+}
@@ -0,0 +1,260 @@
+package com.agencia.adapter.output.memoria;
+
+import com.agencia.domain.model.AgregadoVendas;
+import com.agencia.domain.model.AgrupamentoVeiculo;
+import com.agencia.domain.model.Cliente;
+import com.agencia.domain.model.DesempenhoVeiculo;
+import com.agencia.domain.model.GrupoAgregado;
+import com.agencia.domain.model.ReconstrucaoAgregados;
+import com.agencia.domain.model.ResumoVenda;
+import com.agencia.domain.model.Veiculo;
+import com.agencia.domain.model.Venda;
+import com.agencia.ports.input.AgregadosVendasInputPort;
+import com.agencia.ports.input.RelatorioVendasInputPort;
+import com.agencia.ports.input.VeiculoInputPort;
+import com.agencia.ports.input.VendaInputPort;
+import com.agencia.ports.output.ClienteOutputPort;
+import com.agencia.ports.output.VeiculoOutputPort;
+import com.agencia.ports.output.VendaOutputPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TESTE DOS ADAPTADORES EM MEMÓRIA (perfil "memoria")
+ * As portas injetadas são as da MemoriaConfiguration; o banco relacional
+ * (próprio deste teste) só guarda a outbox.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:agencia_memoria",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN"
+})
+@ActiveProfiles("memoria")
+class AdaptadoresMemoriaTest {
+
+    @Autowired
+    private BancoMemoria banco;
+
+    @Autowired
+    private VeiculoOutputPort veiculoOutputPort;
+
+    @Autowired
+    private VendaOutputPort vendaOutputPort;
+
+    @Autowired
+    private ClienteOutputPort clienteOutputPort;
+
+    @Autowired
+    private VeiculoInputPort veiculoInputPort;
+
+    @Autowired
+    private VendaInputPort vendaInputPort;
+
+    @Autowired
+    private AgregadosVendasInputPort agregadosVendasInputPort;
+
+    @Autowired
+    private RelatorioVendasInputPort relatorioVendasInputPort;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void cadastroEVendaPeloDominioFicamEmMemoria() {
+        long antes = banco.veiculos.quantidade();
+        Veiculo vendido = veiculoInputPort.cadastrar(veiculo("MEM0001"));
+        Veiculo disponivel = veiculoInputPort.cadastrar(veiculo("MEM0002"));
+        Cliente cliente = clienteOutputPort.salvar(cliente("11122233344"));
+
+        assertThat(banco.veiculos.quantidade()).isEqualTo(antes + 2);
+        assertThat(veiculoOutputPort.existePorPlaca("MEM0001")).isTrue();
+        assertThat(clienteOutputPort.buscarPorCpf("11122233344")).get()
+                .extracting(Cliente::getId).isEqualTo(cliente.getId());
+
+        Venda venda = vendaInputPort.realizar(Venda.builder()
+                .veiculo(veiculoInputPort.buscarPorId(vendido.getId()))
+                .cliente(cliente)
+                .valorVenda(new BigDecimal("50000.00"))
+                .build());
+
+        assertThat(veiculoOutputPort.listarDisponiveis(vendido.getId() - 1, 10))
+                .extracting(Veiculo::getId)
+                .contains(disponivel.getId())
+                .doesNotContain(vendido.getId());
+        assertThat(vendaOutputPort.buscarPorVeiculo(vendido.getId())).get()
+                .satisfies(salva -> {
+                    assertThat(salva.getId()).isEqualTo(venda.getId());
+                    assertThat(salva.getVeiculo().getDisponivel()).isFalse();
+                    assertThat(salva.getCliente().getNome()).isEqualTo("Cliente Memória");
+                });
+        List<ResumoVenda> resumos = vendaOutputPort.listarResumos(venda.getId() - 1, 1);
+        assertThat(resumos).singleElement()
+                .extracting(ResumoVenda::getPlaca).isEqualTo("MEM0001");
+
+        // Veículo vendido não pode ser removido (como a chave estrangeira no banco)
+        assertThatThrownBy(() -> veiculoOutputPort.deletar(vendido.getId()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void relatoriosEPainelEnxergamAsVendasEmMemoria() {
+        // Outros testes gravam vendas direto na porta de saída, sem passar pelo painel
+        agregadosVendasInputPort.reconstruir();
+        Veiculo veiculo = veiculoInputPort.cadastrar(Veiculo.builder().marca("MarcaMemoria").modelo("Relatorio")
+                .ano(2023).placa("MEM0010").cor("Prata").preco(new BigDecimal("80000")).disponivel(true)
+                .dataCadastro(LocalDateTime.now()).build());
+        Cliente cliente = clienteOutputPort.salvar(cliente("44455566677"));
+
+        vendaInputPort.realizar(Venda.builder()
+                .veiculo(veiculoInputPort.buscarPorId(veiculo.getId()))
+                .cliente(cliente)
+                .valorVenda(new BigDecimal("76000.00"))
+                .build());
+
+        LocalDate hoje = LocalDate.now();
+        assertThat(relatorioVendasInputPort.desempenhoPorVeiculo(AgrupamentoVeiculo.MODELO, hoje, hoje))
+                .filteredOn(linha -> linha.getMarca().equals("MarcaMemoria"))
+                .singleElement()
+                .satisfies(linha -> {
+                    assertThat(linha.getModelo()).isEqualTo("Relatorio");
+                    assertThat(linha.getQuantidadeVendas()).isEqualTo(1);
+                    assertThat(linha.getDescontoMedio()).isEqualByComparingTo("4000.00");
+                    assertThat(linha.getDescontoPercentualMedio()).isEqualTo(5.0);
+                });
+        assertThat(relatorioVendasInputPort.desempenhoPorVeiculo(AgrupamentoVeiculo.MARCA, hoje, hoje))
+                .extracting(DesempenhoVeiculo::getMarca).contains("MarcaMemoria");
+
+        AgregadoVendas marca = agregadosVendasInputPort.painel(hoje).getMarcas().stream()
+                .filter(agregado -> agregado.getGrupo().equals(GrupoAgregado.marca("MarcaMemoria")))
+                .findFirst().orElseThrow();
+        assertThat(marca.getQuantidadeVendas()).isEqualTo(1);
+        assertThat(marca.getFaturamento()).isEqualByComparingTo("76000.00");
+
+        // A reconstrução recalcula das vendas em memória e não zera o painel
+        ReconstrucaoAgregados reconstrucao = agregadosVendasInputPort.reconstruir();
+        assertThat(reconstrucao.isConsistente()).isTrue();
+        assertThat(agregadosVendasInputPort.painel(hoje).getTotal().getQuantidadeVendas())
+                .isEqualTo(banco.vendas.quantidade());
+    }
+
+    @Test
+    void placaECpfSaoUnicos() {
+        Veiculo salvo = veiculoOutputPort.salvar(veiculo("MEM0003"));
+        clienteOutputPort.salvar(cliente("22233344455"));
+
+        assertThatThrownBy(() -> veiculoOutputPort.salvar(veiculo("MEM0003")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThatThrownBy(() -> clienteOutputPort.salvar(cliente("22233344455")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        // Trocar a placa libera a antiga
+        veiculoOutputPort.salvar(Veiculo.builder().id(salvo.getId()).marca("Fiat").modelo("Argo").ano(2023)
+                .placa("MEM0004").cor("Prata").preco(new BigDecimal("75000")).disponivel(true)
+                .dataCadastro(salvo.getDataCadastro()).build());
+        assertThat(veiculoOutputPort.placasExistentes(List.of("MEM0003", "MEM0004"))).containsExactly("MEM0004");
+    }
+
+    @Test
+    void reservaConcorrenteTemUmUnicoVencedor() throws Exception {
+        Veiculo veiculo = veiculoOutputPort.salvar(veiculo("MEM0005"));
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Boolean>> reservas = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            reservas.add(executor.submit(() -> {
+                largada.await();
+                return veiculoOutputPort.reservar(veiculo.getId());
+            }));
+        }
+        largada.countDown();
+        int vencedores = 0;
+        for (Future<Boolean> reserva : reservas) {
+            vencedores += reserva.get() ? 1 : 0;
+        }
+        executor.shutdown();
+
+        assertThat(vencedores).isEqualTo(1);
+        assertThat(banco.disponiveis.marcado(veiculo.getId())).isFalse();
+    }
+
+    @Test
+    void escritasSaoDesfeitasNoRollback() {
+        Veiculo reservado = veiculoOutputPort.salvar(veiculo("MEM0006"));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            veiculoOutputPort.salvar(veiculo("MEM0007"));
+            veiculoOutputPort.reservar(reservado.getId());
+            status.setRollbackOnly();
+        });
+
+        assertThat(veiculoOutputPort.existePorPlaca("MEM0007")).isFalse();
+        assertThat(veiculoOutputPort.buscarPorId(reservado.getId())).get()
+                .extracting(Veiculo::getDisponivel).isEqualTo(true);
+        assertThat(banco.disponiveis.marcado(reservado.getId())).isTrue();
+    }
+
+    @Test
+    void snapshotRestauraTabelasIndicesESequences(@TempDir Path pasta) {
+        Veiculo veiculo = veiculoOutputPort.salvar(veiculo("MEM0008"));
+        Cliente cliente = clienteOutputPort.salvar(cliente("33344455566"));
+        veiculoOutputPort.reservar(veiculo.getId());
+        vendaOutputPort.salvar(Venda.builder().veiculo(veiculo).cliente(cliente)
+                .valorVenda(new BigDecimal("61000.50")).dataVenda(LocalDateTime.now()).build());
+
+        Path arquivo = pasta.resolve("banco.bin");
+        new SnapshotBancoMemoria(banco, arquivo.toString(), Duration.ZERO).salvar();
+
+        BancoMemoria restaurado = new BancoMemoria();
+        new SnapshotBancoMemoria(restaurado, arquivo.toString(), Duration.ZERO).carregar();
+        VeiculoMemoriaAdapter veiculos = new VeiculoMemoriaAdapter(restaurado);
+        VendaMemoriaAdapter vendas = new VendaMemoriaAdapter(restaurado);
+
+        assertThat(restaurado.veiculos.quantidade()).isEqualTo(banco.veiculos.quantidade());
+        assertThat(restaurado.vendas.quantidade()).isEqualTo(banco.vendas.quantidade());
+        assertThat(restaurado.clientes.quantidade()).isEqualTo(banco.clientes.quantidade());
+        assertThat(veiculos.existePorPlaca("MEM0008")).isTrue();
+        assertThat(restaurado.disponiveis.marcado(veiculo.getId())).isFalse();
+        assertThat(vendas.buscarPorVeiculo(veiculo.getId())).get()
+                .extracting(Venda::getValorVenda).isEqualTo(new BigDecimal("61000.50"));
+        assertThat(new ClienteMemoriaAdapter(restaurado).buscarPorCpf("33344455566")).isPresent();
+        // IDs novos continuam depois dos restaurados
+        assertThat(veiculos.salvar(veiculo("MEM0009")).getId()).isGreaterThan(banco.sequenciaVeiculos.get());
+    }
+
+    private Veiculo veiculo(String placa) {
+        return Veiculo.builder()
+                .marca("Fiat")
+                .modelo("Argo")
+                .ano(2023)
+                .placa(placa)
+                .cor("Prata")
+                .preco(new BigDecimal("75000"))
+                .disponivel(true)
+                .dataCadastro(LocalDateTime.now())
+                .build();
+    }
+
+    private Cliente cliente(String cpf) {
+        return Cliente.builder().nome("Cliente Memória").cpf(cpf).build();
+    }
+}
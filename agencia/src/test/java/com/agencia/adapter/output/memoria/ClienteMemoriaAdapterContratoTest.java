@@ -0,0 +1,32 @@
+package com.agencia.adapter.output.memoria;
+
+import com.agencia.ports.output.ClienteOutputPort;
+import com.agencia.ports.output.ClienteOutputPortContrato;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * CONTRATO DE ClienteOutputPort - adaptador em memória (perfil "memoria")
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:agencia_memoria",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN"
+})
+@ActiveProfiles("memoria")
+class ClienteMemoriaAdapterContratoTest extends ClienteOutputPortContrato {
+
+    @Autowired
+    private ClienteMemoriaAdapter adapter;
+
+    @Override
+    protected ClienteOutputPort porta() {
+        return adapter;
+    }
+
+    @Override
+    protected String adaptador() {
+        return "memoria";
+    }
+}
@@ -0,0 +1,32 @@
+package com.agencia.adapter.output.memoria;
+
+import com.agencia.ports.output.VeiculoOutputPort;
+import com.agencia.ports.output.VeiculoOutputPortContrato;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * CONTRATO DE VeiculoOutputPort - adaptador em memória (perfil "memoria")
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:agencia_memoria",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN"
+})
+@ActiveProfiles("memoria")
+class VeiculoMemoriaAdapterContratoTest extends VeiculoOutputPortContrato {
+
+    @Autowired
+    private VeiculoMemoriaAdapter adapter;
+
+    @Override
+    protected VeiculoOutputPort porta() {
+        return adapter;
+    }
+
+    @Override
+    protected String adaptador() {
+        return "memoria";
+    }
+}
@@ -0,0 +1,50 @@
+package com.agencia.adapter.output.memoria;
+
+import com.agencia.ports.output.ClienteOutputPort;
+import com.agencia.ports.output.VeiculoOutputPort;
+import com.agencia.ports.output.VendaOutputPort;
+import com.agencia.ports.output.VendaOutputPortContrato;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * CONTRATO DE VendaOutputPort - adaptador em memória (perfil "memoria")
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:agencia_memoria",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN"
+})
+@ActiveProfiles("memoria")
+class VendaMemoriaAdapterContratoTest extends VendaOutputPortContrato {
+
+    @Autowired
+    private VendaMemoriaAdapter adapter;
+
+    @Autowired
+    private VeiculoMemoriaAdapter veiculoAdapter;
+
+    @Autowired
+    private ClienteMemoriaAdapter clienteAdapter;
+
+    @Override
+    protected VendaOutputPort porta() {
+        return adapter;
+    }
+
+    @Override
+    protected VeiculoOutputPort veiculos() {
+        return veiculoAdapter;
+    }
+
+    @Override
+    protected ClienteOutputPort clientes() {
+        return clienteAdapter;
+    }
+
+    @Override
+    protected String adaptador() {
+        return "memoria";
+    }
+}
@@ -0,0 +1,30 @@
+package com.agencia.adapter.output.persistence;
+
+import com.agencia.ports.output.ClienteOutputPort;
+import com.agencia.ports.output.ClienteOutputPortContrato;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * CONTRATO DE ClienteOutputPort - adaptador JPA, sem cache
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:agencia_contrato",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN"
+})
+class ClienteRepositoryAdapterContratoTest extends ClienteOutputPortContrato {
+
+    @Autowired
+    private ClienteRepositoryAdapter adapter;
+
+    @Override
+    protected ClienteOutputPort porta() {
+        return adapter;
+    }
+
+    @Override
+    protected String adaptador() {
+        return "jpa";
+    }
+}
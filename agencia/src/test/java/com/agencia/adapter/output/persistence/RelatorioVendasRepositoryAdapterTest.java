@@ -0,0 +1,134 @@
+package com.agencia.adapter.output.persistence;
+
+import com.agencia.benchmark.GeradorDataset;
+import com.agencia.domain.model.AgrupamentoPeriodo;
+import com.agencia.domain.model.AgrupamentoVeiculo;
+import com.agencia.domain.model.DesempenhoVeiculo;
+import com.agencia.domain.model.FaturamentoPeriodo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TESTE DE CONSULTAS - Relatórios de vendas
+ * Confere as agregações calculadas pelo banco contra um dataset pequeno
+ * com valores conhecidos.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN"
+})
+class RelatorioVendasRepositoryAdapterTest {
+
+    private static final LocalDateTime CADASTRO = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Autowired
+    private RelatorioVendasRepositoryAdapter adapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void preparar() {
+        GeradorDataset gerador = new GeradorDataset(jdbcTemplate);
+        gerador.limpar();
+        gerador.gerarCliente(1L);
+
+        veiculo(1, "Toyota", "Corolla", "100000");
+        veiculo(2, "Toyota", "Corolla", "100000");
+        veiculo(3, "Toyota", "Hilux", "200000");
+        veiculo(4, "Honda", "Civic", "80000");
+        veiculo(5, "Honda", "Civic", "80000");
+
+        // Desconto de 10% e 5%, vendidos 2 e 4 dias depois do cadastro
+        venda(1, "90000", CADASTRO.plusDays(2));
+        venda(2, "95000", CADASTRO.plusDays(4));
+        // Sem desconto, 36 dias depois
+        venda(3, "200000", LocalDateTime.of(2026, 2, 6, 12, 0));
+        venda(4, "72000", LocalDateTime.of(2026, 1, 3, 18, 30));
+        // Fora do período consultado
+        venda(5, "80000", LocalDateTime.of(2026, 3, 1, 0, 0));
+    }
+
+    /**
+     * As linhas têm IDs fixos, fora das sequences: não podem ficar para os
+     * outros testes, que usam o mesmo banco em memória
+     */
+    @AfterEach
+    void limpar() {
+        new GeradorDataset(jdbcTemplate).limpar();
+    }
+
+    @Test
+    void faturamentoPorDia() {
+        List<FaturamentoPeriodo> dias = adapter.faturamento(AgrupamentoPeriodo.DIA,
+                CADASTRO, LocalDateTime.of(2026, 3, 1, 0, 0));
+
+        assertThat(dias).extracting(FaturamentoPeriodo::getPeriodo).containsExactly(
+                LocalDate.of(2026, 1, 3), LocalDate.of(2026, 1, 5), LocalDate.of(2026, 2, 6));
+        assertThat(dias.get(0).getQuantidadeVendas()).isEqualTo(2);
+        assertThat(dias.get(0).getFaturamento()).isEqualByComparingTo("162000");
+        assertThat(dias.get(0).getTicketMedio()).isEqualByComparingTo("81000");
+    }
+
+    @Test
+    void faturamentoPorMes() {
+        List<FaturamentoPeriodo> meses = adapter.faturamento(AgrupamentoPeriodo.MES,
+                CADASTRO, LocalDateTime.of(2026, 4, 1, 0, 0));
+
+        assertThat(meses).extracting(FaturamentoPeriodo::getPeriodo).containsExactly(
+                LocalDate.of(2026, 1, 1), LocalDate.of(2026, 2, 1), LocalDate.of(2026, 3, 1));
+        assertThat(meses).extracting(FaturamentoPeriodo::getQuantidadeVendas).containsExactly(3L, 1L, 1L);
+        assertThat(meses.get(0).getFaturamento()).isEqualByComparingTo("257000");
+    }
+
+    @Test
+    void desempenhoPorMarcaOrdenadoPorFaturamento() {
+        List<DesempenhoVeiculo> marcas = adapter.desempenhoPorVeiculo(AgrupamentoVeiculo.MARCA,
+                CADASTRO, LocalDateTime.of(2026, 3, 1, 0, 0));
+
+        assertThat(marcas).extracting(DesempenhoVeiculo::getMarca).containsExactly("Toyota", "Honda");
+        DesempenhoVeiculo toyota = marcas.get(0);
+        assertThat(toyota.getModelo()).isNull();
+        assertThat(toyota.getQuantidadeVendas()).isEqualTo(3);
+        assertThat(toyota.getFaturamento()).isEqualByComparingTo("385000");
+        assertThat(toyota.getDescontoMedio()).isEqualByComparingTo("5000");
+        assertThat(toyota.getDescontoPercentualMedio()).isEqualTo(5.0);
+        assertThat(toyota.getDiasMedioParaVender()).isEqualTo(14.17);
+    }
+
+    @Test
+    void desempenhoPorModelo() {
+        List<DesempenhoVeiculo> modelos = adapter.desempenhoPorVeiculo(AgrupamentoVeiculo.MODELO,
+                CADASTRO, LocalDateTime.of(2026, 3, 1, 0, 0));
+
+        assertThat(modelos).extracting(DesempenhoVeiculo::getModelo)
+                .containsExactly("Hilux", "Corolla", "Civic");
+        DesempenhoVeiculo corolla = modelos.get(1);
+        assertThat(corolla.getDescontoMedio()).isEqualByComparingTo("7500");
+        assertThat(corolla.getDescontoPercentualMedio()).isEqualTo(7.5);
+        assertThat(corolla.getDiasMedioParaVender()).isEqualTo(3.0);
+    }
+
+    private void veiculo(long id, String marca, String modelo, String preco) {
+        jdbcTemplate.update("INSERT INTO veiculos (id, marca, modelo, ano, placa, cor, preco, disponivel, data_cadastro) "
+                        + "VALUES (?, ?, ?, 2024, ?, 'Preto', ?, false, ?)",
+                id, marca, modelo, String.format("R%07d", id), new BigDecimal(preco), Timestamp.valueOf(CADASTRO));
+    }
+
+    private void venda(long id, String valor, LocalDateTime dataVenda) {
+        jdbcTemplate.update("INSERT INTO vendas (id, veiculo_id, cliente_id, valor_venda, data_venda) "
+                + "VALUES (?, ?, 1, ?, ?)", id, id, new BigDecimal(valor), Timestamp.valueOf(dataVenda));
+    }
+}
@@ -0,0 +1,30 @@
+package com.agencia.adapter.output.persistence;
+
+import com.agencia.ports.output.VeiculoOutputPort;
+import com.agencia.ports.output.VeiculoOutputPortContrato;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * CONTRATO DE VeiculoOutputPort - adaptador JPA, sem cache
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:agencia_contrato",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN"
+})
+class VeiculoRepositoryAdapterContratoTest extends VeiculoOutputPortContrato {
+
+    @Autowired
+    private VeiculoRepositoryAdapter adapter;
+
+    @Override
+    protected VeiculoOutputPort porta() {
+        return adapter;
+    }
+
+    @Override
+    protected String adaptador() {
+        return "jpa";
+    }
+}
@@ -0,0 +1,132 @@
+package com.agencia.adapter.output.persistence;
+
+import com.agencia.benchmark.GeradorDataset;
+import com.agencia.domain.model.ResumoVenda;
+import com.agencia.domain.model.Venda;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TESTE DE CONSULTAS - Persistência de vendas
+ * Conta os comandos SQL (estatísticas do Hibernate) de cada consulta do adapter.
+ * Com veículo e cliente LAZY, um JOIN FETCH esquecido vira um SELECT extra
+ * por venda (N+1) e este teste falha.
+ * O despachante da outbox fica desligado: suas consultas entrariam na contagem.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN",
+        "agencia.outbox.despacho-automatico=false"
+})
+class VendaRepositoryAdapterConsultasTest {
+
+    private static final int VENDAS = 20;
+    private static final int CLIENTES = 5;
+
+    @Autowired
+    private VendaRepositoryAdapter vendaRepositoryAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics estatisticas;
+
+    @BeforeEach
+    void preparar() {
+        GeradorDataset gerador = new GeradorDataset(jdbcTemplate);
+        gerador.limpar();
+        gerador.gerarVeiculos(VENDAS);
+        for (long id = 1; id <= CLIENTES; id++) {
+            gerador.gerarCliente(id);
+        }
+        // Vendas distribuídas entre clientes diferentes, para que um N+1
+        // no cliente também apareça na contagem
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        for (long id = 1; id <= VENDAS; id++) {
+            jdbcTemplate.update("INSERT INTO vendas (id, veiculo_id, cliente_id, valor_venda, data_venda) "
+                    + "VALUES (?, ?, ?, ?, ?)", id, id, 1 + id % CLIENTES, new BigDecimal("50000"), agora);
+        }
+
+        estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+    }
+
+    /**
+     * As linhas têm IDs fixos, fora das sequences: não podem ficar para os
+     * outros testes, que usam o mesmo banco em memória
+     */
+    @AfterEach
+    void limpar() {
+        new GeradorDataset(jdbcTemplate).limpar();
+    }
+
+    @Test
+    void listagemPaginadaUsaUmaConsulta() {
+        List<Venda> vendas = vendaRepositoryAdapter.listarTodas(0L, VENDAS);
+
+        assertThat(vendas).hasSize(VENDAS);
+        assertThat(vendas).allSatisfy(venda -> {
+            assertThat(venda.getVeiculo().getPlaca()).isNotNull();
+            assertThat(venda.getCliente().getNome()).isNotNull();
+        });
+        assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void listagemCompletaUsaUmaConsulta() {
+        assertThat(vendaRepositoryAdapter.listarTodas()).hasSize(VENDAS);
+        assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void streamingUsaUmaConsulta() {
+        List<Venda> vendas = new ArrayList<>();
+        vendaRepositoryAdapter.percorrerTodas(vendas::add);
+
+        assertThat(vendas).hasSize(VENDAS);
+        assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void buscaPorVeiculoUsaUmaConsulta() {
+        Venda venda = vendaRepositoryAdapter.buscarPorVeiculo(7L).orElseThrow();
+
+        assertThat(venda.getVeiculo().getId()).isEqualTo(7L);
+        assertThat(venda.getCliente().getNome()).isNotNull();
+        assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void resumosNaoCarregamEntidades() {
+        List<ResumoVenda> resumos = vendaRepositoryAdapter.listarResumos(0L, VENDAS);
+        vendaRepositoryAdapter.percorrerResumos(resumos::add);
+
+        assertThat(resumos).hasSize(2 * VENDAS);
+        assertThat(resumos).allSatisfy(resumo -> {
+            assertThat(resumo.getPlaca()).isNotNull();
+            assertThat(resumo.getNomeCliente()).isNotNull();
+        });
+        assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(estatisticas.getEntityLoadCount()).isZero();
+    }
+}
@@ -0,0 +1,48 @@
+package com.agencia.adapter.output.persistence;
+
+import com.agencia.ports.output.ClienteOutputPort;
+import com.agencia.ports.output.VeiculoOutputPort;
+import com.agencia.ports.output.VendaOutputPort;
+import com.agencia.ports.output.VendaOutputPortContrato;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * CONTRATO DE VendaOutputPort - adaptador JPA
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:agencia_contrato",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN"
+})
+class VendaRepositoryAdapterContratoTest extends VendaOutputPortContrato {
+
+    @Autowired
+    private VendaRepositoryAdapter adapter;
+
+    @Autowired
+    private VeiculoRepositoryAdapter veiculoAdapter;
+
+    @Autowired
+    private ClienteRepositoryAdapter clienteAdapter;
+
+    @Override
+    protected VendaOutputPort porta() {
+        return adapter;
+    }
+
+    @Override
+    protected VeiculoOutputPort veiculos() {
+        return veiculoAdapter;
+    }
+
+    @Override
+    protected ClienteOutputPort clientes() {
+        return clienteAdapter;
+    }
+
+    @Override
+    protected String adaptador() {
+        return "jpa";
+    }
+}
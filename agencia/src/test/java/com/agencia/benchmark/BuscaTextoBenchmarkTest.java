@@ -0,0 +1,133 @@
+package com.agencia.benchmark;
+
+import com.agencia.adapter.output.busca.IndiceBuscaVeiculosLuceneAdapter;
+import com.agencia.domain.model.ConsultaTextoVeiculo;
+import com.agencia.domain.model.Veiculo;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BENCHMARK - Busca de texto livre no índice Lucene
+ * Mede p50/p99 de uma busca (página de 20 itens + facetas) sobre um índice
+ * em memória com 1M de veículos, com e sem erros de digitação.
+ * Não passa pelo banco: os veículos são gerados direto para o índice.
+ * Executar com: mvn test -Pbenchmark -Dtest=BuscaTextoBenchmarkTest
+ * Tamanho configurável com -Dbenchmark.veiculos=N
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BuscaTextoBenchmarkTest {
+
+    private static final int VEICULOS = Integer.getInteger("benchmark.veiculos", 1_000_000);
+    private static final int AQUECIMENTO = 200;
+    private static final int MEDICOES = 1_000;
+    private static final long P99_MAXIMO_MS = 20;
+
+    private final IndiceBuscaVeiculosLuceneAdapter indice =
+            new IndiceBuscaVeiculosLuceneAdapter(null, Duration.ofSeconds(1));
+    private final Random random = new Random(7);
+
+    @BeforeAll
+    void indexar() {
+        Random dados = new Random(42);
+        LocalDateTime agora = LocalDateTime.now();
+        long inicio = System.nanoTime();
+        indice.reconstruir(fonte -> {
+            for (long id = 1; id <= VEICULOS; id++) {
+                String[] marca = GeradorDataset.MARCAS_MODELOS[dados.nextInt(GeradorDataset.MARCAS_MODELOS.length)];
+                fonte.accept(Veiculo.builder()
+                        .id(id)
+                        .marca(marca[0])
+                        .modelo(marca[1 + dados.nextInt(marca.length - 1)])
+                        .ano(2000 + dados.nextInt(26))
+                        .placa(String.format("BEN%07d", id))
+                        .cor(GeradorDataset.CORES[dados.nextInt(GeradorDataset.CORES.length)])
+                        .preco(BigDecimal.valueOf(20_000 + dados.nextInt(200_000)))
+                        .disponivel(dados.nextInt(10) >= 3)
+                        .dataCadastro(agora)
+                        .build());
+            }
+        });
+        System.out.printf("indexacao veiculos=%,d tempo=%,dms%n", VEICULOS, (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    @AfterAll
+    void fechar() throws IOException {
+        indice.close();
+    }
+
+    @Test
+    void modeloECor() {
+        medir("modelo+cor", r -> {
+            String[] marca = marcaAleatoria(r);
+            return ConsultaTextoVeiculo.builder()
+                    .texto(marca[1 + r.nextInt(marca.length - 1)] + " "
+                            + GeradorDataset.CORES[r.nextInt(GeradorDataset.CORES.length)])
+                    .disponivel(true)
+                    .tamanho(20)
+                    .build();
+        });
+    }
+
+    @Test
+    void modeloComErroDeDigitacao() {
+        medir("modelo com erro", r -> {
+            String[] marca = marcaAleatoria(r);
+            String modelo = marca[1 + r.nextInt(marca.length - 1)];
+            int posicao = r.nextInt(modelo.length());
+            String comErro = modelo.substring(0, posicao) + modelo.substring(posicao + 1);
+            return ConsultaTextoVeiculo.builder()
+                    .texto(marca[0] + " " + comErro)
+                    .tamanho(20)
+                    .build();
+        });
+    }
+
+    @Test
+    void marcaEAnoPelasFacetas() {
+        medir("facetas marca+ano", r -> ConsultaTextoVeiculo.builder()
+                .marca(marcaAleatoria(r)[0])
+                .ano(2000 + r.nextInt(26))
+                .disponivel(true)
+                .tamanho(20)
+                .build());
+    }
+
+    private String[] marcaAleatoria(Random r) {
+        return GeradorDataset.MARCAS_MODELOS[r.nextInt(GeradorDataset.MARCAS_MODELOS.length)];
+    }
+
+    private void medir(String cenario, Function<Random, ConsultaTextoVeiculo> consultas) {
+        for (int i = 0; i < AQUECIMENTO; i++) {
+            indice.buscar(consultas.apply(random));
+        }
+
+        long[] amostras = new long[MEDICOES];
+        for (int i = 0; i < MEDICOES; i++) {
+            ConsultaTextoVeiculo consulta = consultas.apply(random);
+            long inicio = System.nanoTime();
+            indice.buscar(consulta);
+            amostras[i] = System.nanoTime() - inicio;
+        }
+        Arrays.sort(amostras);
+
+        long p50 = amostras[MEDICOES / 2] / 1_000;
+        long p99 = amostras[(int) (MEDICOES * 0.99)] / 1_000;
+        System.out.printf("busca texto %-24s veiculos=%,d p50=%,dus p99=%,dus%n", cenario, VEICULOS, p50, p99);
+
+        assertThat(p99).isLessThan(P99_MAXIMO_MS * 1_000);
+    }
+}
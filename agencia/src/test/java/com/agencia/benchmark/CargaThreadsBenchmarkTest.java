@@ -0,0 +1,173 @@
+package com.agencia.benchmark;
+
+import com.agencia.AgenciaApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BENCHMARK - Carga HTTP com threads de plataforma x threads virtuais
+ * Sobe a aplicação duas vezes (spring.threads.virtual.enabled=false/true)
+ * e dispara N clientes simultâneos, cada um fazendo uma sequência de
+ * requisições que vão ao banco (venda por veículo e página de disponíveis).
+ * Threads virtuais só existem no JDK 21+: em JDKs anteriores só o modo
+ * plataforma é medido.
+ * Executar com: mvn test -Pbenchmark -Dtest=CargaThreadsBenchmarkTest
+ * Clientes configuráveis com -Dbenchmark.clientes=1000,5000,10000
+ * (cliente e servidor estão no mesmo processo: cada conexão usa dois
+ * descritores de arquivo, então 10k clientes pedem ulimit -n acima de 20k)
+ */
+@Tag("benchmark")
+class CargaThreadsBenchmarkTest {
+
+    private static final int[] CLIENTES = Arrays.stream(
+                    System.getProperty("benchmark.clientes", "1000,5000").split(","))
+            .mapToInt(valor -> Integer.parseInt(valor.trim()))
+            .toArray();
+    private static final int REQUISICOES_POR_CLIENTE = 10;
+    private static final int VEICULOS = 10_000;
+    private static final int VENDAS = 5_000;
+
+    @Test
+    void plataformaVersusVirtual() {
+        List<String> relatorio = new ArrayList<>();
+        for (boolean virtuais : new boolean[]{false, true}) {
+            try (ConfigurableApplicationContext contexto = iniciar(virtuais)) {
+                if (virtuais && !Threading.VIRTUAL.isActive(contexto.getEnvironment())) {
+                    relatorio.add("virtual     indisponível (JDK " + Runtime.version().feature() + ")");
+                    continue;
+                }
+                popular(contexto);
+                int porta = Integer.parseInt(contexto.getEnvironment().getProperty("local.server.port"));
+
+                // Um único HttpClient por execução: as conexões abertas em um nível
+                // são reaproveitadas no seguinte em vez de se acumularem
+                ExecutorService executor = Executors.newFixedThreadPool(4);
+                HttpClient http = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .connectTimeout(Duration.ofSeconds(30))
+                        .executor(executor)
+                        .build();
+
+                // Aquecimento (JIT, pool de conexões, caches) descartado
+                executar(http, porta, Math.min(CLIENTES[0], 500));
+
+                for (int clientes : CLIENTES) {
+                    Resultado resultado = executar(http, porta, clientes);
+                    String linha = String.format("%-10s %7d clientes %,9.0f req/s  p50 %6d ms  p99 %6d ms  erros %d  threads %d",
+                            virtuais ? "virtual" : "plataforma", clientes, resultado.porSegundo(),
+                            resultado.percentilMs(0.50), resultado.percentilMs(0.99),
+                            resultado.erros(), resultado.picoThreads());
+                    System.out.println(linha);
+                    relatorio.add(linha);
+                    assertThat(resultado.erros()).isZero();
+                }
+                executor.shutdown();
+            }
+        }
+        relatorio.forEach(System.out::println);
+    }
+
+    private ConfigurableApplicationContext iniciar(boolean virtuais) {
+        // Argumentos de linha de comando sobrepõem o application.properties
+        return new SpringApplicationBuilder(AgenciaApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtuais,
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--spring.devtools.restart.enabled=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN");
+    }
+
+    private void popular(ConfigurableApplicationContext contexto) {
+        GeradorDataset gerador = new GeradorDataset(contexto.getBean(JdbcTemplate.class));
+        gerador.limpar();
+        gerador.gerarVeiculos(VEICULOS);
+        gerador.gerarCliente(1L);
+        gerador.gerarVendas(VENDAS, 1L);
+    }
+
+    /**
+     * Cada cliente encadeia suas requisições (uma termina, a próxima começa);
+     * os clientes rodam todos ao mesmo tempo. O HttpClient é assíncrono,
+     * então o gerador de carga não precisa de uma thread por cliente.
+     */
+    private Resultado executar(HttpClient http, int porta, int clientes) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+
+        long[] latencias = new long[clientes * REQUISICOES_POR_CLIENTE];
+        AtomicInteger erros = new AtomicInteger();
+        List<CompletableFuture<Void>> execucoes = new ArrayList<>(clientes);
+
+        long inicio = System.nanoTime();
+        for (int c = 0; c < clientes; c++) {
+            SplittableRandom random = new SplittableRandom(c);
+            int primeira = c * REQUISICOES_POR_CLIENTE;
+            CompletableFuture<Void> execucao = CompletableFuture.completedFuture(null);
+            for (int r = 0; r < REQUISICOES_POR_CLIENTE; r++) {
+                int indice = primeira + r;
+                String caminho = r % 2 == 0
+                        ? "/api/vendas/veiculo/" + (1 + random.nextInt(VENDAS))
+                        : "/api/veiculos/disponiveis?limite=20&cursor=" + random.nextInt(VEICULOS);
+                HttpRequest requisicao = HttpRequest.newBuilder(URI.create("http://localhost:" + porta + caminho))
+                        .timeout(Duration.ofMinutes(2))
+                        .header("Accept", "application/json")
+                        .build();
+                execucao = execucao.thenCompose(anterior -> {
+                    long envio = System.nanoTime();
+                    return http.sendAsync(requisicao, HttpResponse.BodyHandlers.discarding())
+                            .handle((resposta, erro) -> {
+                                latencias[indice] = System.nanoTime() - envio;
+                                if (erro != null || resposta.statusCode() != 200) {
+                                    erros.incrementAndGet();
+                                }
+                                return null;
+                            });
+                });
+            }
+            execucoes.add(execucao);
+        }
+        CompletableFuture.allOf(execucoes.toArray(CompletableFuture[]::new)).join();
+        long duracao = System.nanoTime() - inicio;
+
+        return new Resultado(latencias, duracao, erros.get(), threads.getPeakThreadCount());
+    }
+
+    private record Resultado(long[] latencias, long duracaoNanos, int erros, int picoThreads) {
+
+        double porSegundo() {
+            return latencias.length / (duracaoNanos / 1_000_000_000.0);
+        }
+
+        long percentilMs(double percentil) {
+            long[] ordenadas = latencias.clone();
+            Arrays.sort(ordenadas);
+            return ordenadas[(int) Math.ceil(percentil * ordenadas.length) - 1] / 1_000_000;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.agencia.benchmark;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * GERADOR DE DATASET PARA BENCHMARKS
+ * Popula as tabelas direto via JDBC em lotes (sem passar pelo JPA),
+ * com distribuição realista de marcas, modelos, cores, anos e preços.
+ * A semente é fixa: a mesma chamada gera sempre os mesmos dados.
+ */
+public class GeradorDataset {
+
+    public static final String[][] MARCAS_MODELOS = {
+            {"Toyota", "Corolla", "Hilux", "Yaris", "Etios"},
+            {"Honda", "Civic", "City", "Fit", "HR-V"},
+            {"Volkswagen", "Gol", "Polo", "Virtus", "T-Cross"},
+            {"Chevrolet", "Onix", "Cruze", "Tracker", "S10"},
+            {"Fiat", "Uno", "Argo", "Mobi", "Toro"},
+            {"Hyundai", "HB20", "Creta", "Tucson", "Azera"},
+            {"Ford", "Ka", "Fiesta", "Ranger", "EcoSport"},
+            {"Renault", "Sandero", "Logan", "Duster", "Kwid"},
+    };
+
+    public static final String[] CORES = {"Preto", "Branco", "Prata", "Cinza", "Vermelho", "Azul"};
+
+    private static final int LOTE = 5_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Random random = new Random(42);
+    private final Random randomVendas = new Random(43);
+
+    public GeradorDataset(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Apaga todas as linhas de vendas, veículos e clientes
+     */
+    public void limpar() {
+        jdbcTemplate.update("DELETE FROM vendas");
+        jdbcTemplate.update("DELETE FROM veiculos");
+        jdbcTemplate.update("DELETE FROM clientes");
+    }
+
+    /**
+     * Insere um cliente com o ID informado
+     */
+    public void gerarCliente(long id) {
+        jdbcTemplate.update("INSERT INTO clientes (id, nome, cpf) VALUES (?, ?, ?)",
+                id, "Cliente " + id, String.format("%011d", id));
+    }
+
+    /**
+     * Insere veículos com IDs de 1 a quantidade.
+     * Cerca de 30% ficam vendidos (disponivel = false).
+     */
+    public void gerarVeiculos(int quantidade) {
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> lote = new ArrayList<>(LOTE);
+
+        for (long id = 1; id <= quantidade; id++) {
+            lote.add(novoVeiculo(id, agora));
+
+            if (lote.size() == LOTE) {
+                inserirVeiculos(lote);
+                lote.clear();
+            }
+        }
+        if (!lote.isEmpty()) {
+            inserirVeiculos(lote);
+        }
+
+        // IDs foram inseridos explicitamente: a sequence precisa passar deles.
+        // Com o otimizador pooled o valor lido é o topo do bloco de 50 IDs.
+        jdbcTemplate.execute("ALTER SEQUENCE veiculos_seq RESTART WITH " + (quantidade + 51));
+    }
+
+    /**
+     * Insere uma venda para cada veículo de 1 a quantidade, todas do mesmo cliente.
+     * Os veículos e o cliente já devem existir.
+     */
+    public void gerarVendas(int quantidade, long clienteId) {
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> lote = new ArrayList<>(LOTE);
+
+        for (long id = 1; id <= quantidade; id++) {
+            lote.add(new Object[]{id, id, clienteId, 48_000, agora});
+            if (lote.size() == LOTE) {
+                inserirVendas(lote);
+                lote.clear();
+            }
+        }
+        if (!lote.isEmpty()) {
+            inserirVendas(lote);
+        }
+        jdbcTemplate.execute("ALTER SEQUENCE vendas_seq RESTART WITH " + (quantidade + 51));
+    }
+
+    /**
+     * Insere veículos vendidos com IDs de 1 a quantidade e uma venda para cada um,
+     * todas do mesmo cliente, com datas espalhadas pelos dias a partir de inicio.
+     * O valor da venda fica entre 85% e 100% do preço do veículo e o cadastro
+     * fica até 180 dias antes da venda (relatórios de desconto e de tempo para vender).
+     * O cliente já deve existir.
+     */
+    public void gerarVendasNoPeriodo(int quantidade, long clienteId, LocalDate inicio, int dias) {
+        LocalDateTime base = inicio.atStartOfDay();
+        List<Object[]> veiculos = new ArrayList<>(LOTE);
+        List<Object[]> vendas = new ArrayList<>(LOTE);
+
+        for (long id = 1; id <= quantidade; id++) {
+            LocalDateTime dataVenda = base.plusSeconds(randomVendas.nextInt(dias * 86_400));
+            LocalDateTime dataCadastro = dataVenda.minusMinutes(randomVendas.nextInt(180 * 24 * 60));
+
+            Object[] veiculo = novoVeiculo(id, Timestamp.valueOf(dataCadastro));
+            veiculo[7] = false;
+            BigDecimal preco = (BigDecimal) veiculo[6];
+            BigDecimal valor = preco.multiply(BigDecimal.valueOf(85 + randomVendas.nextInt(16), 2))
+                    .setScale(2, RoundingMode.HALF_UP);
+
+            veiculos.add(veiculo);
+            vendas.add(new Object[]{id, id, clienteId, valor, Timestamp.valueOf(dataVenda)});
+            if (vendas.size() == LOTE) {
+                inserirVeiculos(veiculos);
+                inserirVendas(vendas);
+                veiculos.clear();
+                vendas.clear();
+            }
+        }
+        if (!vendas.isEmpty()) {
+            inserirVeiculos(veiculos);
+            inserirVendas(vendas);
+        }
+        jdbcTemplate.execute("ALTER SEQUENCE veiculos_seq RESTART WITH " + (quantidade + 51));
+        jdbcTemplate.execute("ALTER SEQUENCE vendas_seq RESTART WITH " + (quantidade + 51));
+    }
+
+    /**
+     * Colunas: id, marca, modelo, ano, placa, cor, preco, disponivel, data_cadastro
+     */
+    private Object[] novoVeiculo(long id, Timestamp dataCadastro) {
+        String[] marca = MARCAS_MODELOS[random.nextInt(MARCAS_MODELOS.length)];
+        int ano = 2000 + random.nextInt(27);
+        // Preço cresce com o ano, com variação de ±30%
+        BigDecimal preco = BigDecimal.valueOf(20_000L + (ano - 2000) * 5_000L
+                + random.nextInt(60_000)).setScale(2);
+
+        return new Object[]{id, marca[0], marca[1 + random.nextInt(marca.length - 1)], ano,
+                String.format("B%07d", id), CORES[random.nextInt(CORES.length)], preco,
+                random.nextInt(10) >= 3, dataCadastro};
+    }
+
+    private void inserirVeiculos(List<Object[]> lote) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO veiculos (id, marca, modelo, ano, placa, cor, preco, disponivel, data_cadastro) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", lote);
+    }
+
+    private void inserirVendas(List<Object[]> lote) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO vendas (id, veiculo_id, cliente_id, valor_venda, data_venda) "
+                        + "VALUES (?, ?, ?, ?, ?)", lote);
+    }
+}
@@ -0,0 +1,123 @@
+package com.agencia.benchmark;
+
+import com.agencia.domain.model.AgrupamentoPeriodo;
+import com.agencia.domain.model.AgrupamentoVeiculo;
+import com.agencia.ports.input.RelatorioVendasInputPort;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BENCHMARK - Relatórios de vendas
+ * Mede p50/p99 dos relatórios sobre 1M de vendas espalhadas por dois anos,
+ * com janelas de 30 dias (~41 mil vendas), de 92 dias (~126 mil vendas, o
+ * máximo do relatório por veículo) e de um ano (~500 mil vendas).
+ * Como a agregação é feita pelo banco, o custo acompanha a quantidade de
+ * vendas da janela, não o tamanho da tabela.
+ * Executar com: mvn test -Pbenchmark -Dtest=RelatorioVendasBenchmarkTest
+ * Tamanho configurável com -Dbenchmark.vendas=N
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "logging.level.org.hibernate.SQL=WARN"
+})
+class RelatorioVendasBenchmarkTest {
+
+    private static final int VENDAS = Integer.getInteger("benchmark.vendas", 1_000_000);
+    private static final LocalDate INICIO = LocalDate.of(2024, 1, 1);
+    private static final int DIAS = 730;
+    private static final int AQUECIMENTO = 5;
+    private static final int MEDICOES = 30;
+    private static final long P99_MAXIMO_FATURAMENTO_MS = 500;
+    private static final long P99_MAXIMO_VEICULOS_MS = 2_000;
+
+    @Autowired
+    private RelatorioVendasInputPort relatorioVendasInputPort;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Random random = new Random(7);
+
+    @BeforeAll
+    void popular() {
+        GeradorDataset gerador = new GeradorDataset(jdbcTemplate);
+        gerador.limpar();
+        gerador.gerarCliente(1L);
+        gerador.gerarVendasNoPeriodo(VENDAS, 1L, INICIO, DIAS);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void faturamentoPorDia() {
+        long p99 = medir("faturamento DIA 30 dias", 30,
+                (inicio, fim) -> relatorioVendasInputPort.faturamento(AgrupamentoPeriodo.DIA, inicio, fim));
+        assertThat(p99).isLessThan(P99_MAXIMO_FATURAMENTO_MS * 1_000);
+    }
+
+    @Test
+    void faturamentoPorMes() {
+        medir("faturamento MES 365 dias", 365,
+                (inicio, fim) -> relatorioVendasInputPort.faturamento(AgrupamentoPeriodo.MES, inicio, fim));
+    }
+
+    /**
+     * Junta cada venda da janela ao seu veículo (busca pela chave primária):
+     * mais caro por venda que o faturamento, que lê só o índice de vendas
+     */
+    @Test
+    void desempenhoPorMarca() {
+        long p99 = medir("veiculos MARCA 30 dias", 30,
+                (inicio, fim) -> relatorioVendasInputPort.desempenhoPorVeiculo(AgrupamentoVeiculo.MARCA, inicio, fim));
+        assertThat(p99).isLessThan(P99_MAXIMO_VEICULOS_MS * 1_000);
+    }
+
+    @Test
+    void desempenhoPorModelo() {
+        long p99 = medir("veiculos MODELO 92 dias", 92,
+                (inicio, fim) -> relatorioVendasInputPort.desempenhoPorVeiculo(AgrupamentoVeiculo.MODELO, inicio, fim));
+        assertThat(p99).isLessThan(P99_MAXIMO_VEICULOS_MS * 1_000);
+    }
+
+    /**
+     * Cada execução usa uma janela de dias em posição aleatória dentro dos dois anos
+     */
+    private long medir(String cenario, int diasJanela, BiConsumer<LocalDate, LocalDate> relatorio) {
+        for (int i = 0; i < AQUECIMENTO; i++) {
+            executar(diasJanela, relatorio);
+        }
+
+        long[] amostras = new long[MEDICOES];
+        for (int i = 0; i < MEDICOES; i++) {
+            amostras[i] = executar(diasJanela, relatorio);
+        }
+        Arrays.sort(amostras);
+
+        long p50 = amostras[MEDICOES / 2] / 1_000;
+        long p99 = amostras[(int) (MEDICOES * 0.99)] / 1_000;
+        System.out.printf("relatorio %-26s vendas=%,d p50=%,dus p99=%,dus%n", cenario, VENDAS, p50, p99);
+        return p99;
+    }
+
+    private long executar(int diasJanela, BiConsumer<LocalDate, LocalDate> relatorio) {
+        LocalDate inicio = INICIO.plusDays(random.nextInt(DIAS - diasJanela + 1));
+        LocalDate fim = inicio.plusDays(diasJanela - 1);
+        long antes = System.nanoTime();
+        relatorio.accept(inicio, fim);
+        return System.nanoTime() - antes;
+    }
+}
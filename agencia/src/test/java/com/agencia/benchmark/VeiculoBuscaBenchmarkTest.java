@@ -0,0 +1,145 @@
+package com.agencia.benchmark;
+
+import com.agencia.domain.model.FiltroVeiculo;
+import com.agencia.domain.model.OrdenacaoVeiculo;
+import com.agencia.ports.input.VeiculoInputPort;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BENCHMARK - Busca de veículos por múltiplos critérios
+ * Mede p50/p99 de VeiculoInputPort.buscar para as combinações de filtro
+ * mais usadas na vitrine, sobre um estoque de 1M de veículos.
+ * Executar com: mvn test -Pbenchmark -Dtest=VeiculoBuscaBenchmarkTest
+ * Tamanho configurável com -Dbenchmark.veiculos=N
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "logging.level.org.hibernate.SQL=WARN"
+})
+class VeiculoBuscaBenchmarkTest {
+
+    private static final int VEICULOS = Integer.getInteger("benchmark.veiculos", 1_000_000);
+    private static final int AQUECIMENTO = 200;
+    private static final int MEDICOES = 1_000;
+    private static final long P99_MAXIMO_MS = 250;
+
+    @Autowired
+    private VeiculoInputPort veiculoInputPort;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Random random = new Random(7);
+
+    @BeforeAll
+    void popular() {
+        GeradorDataset gerador = new GeradorDataset(jdbcTemplate);
+        gerador.limpar();
+        gerador.gerarVeiculos(VEICULOS);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void marcaModeloEFaixaDeAno() {
+        medir("disponivel+marca+modelo+ano", r -> {
+            String[] marca = marcaAleatoria(r);
+            int ano = 2000 + r.nextInt(20);
+            return FiltroVeiculo.builder()
+                    .disponivel(true)
+                    .marca(marca[0])
+                    .modelo(marca[1 + r.nextInt(marca.length - 1)])
+                    .anoMinimo(ano)
+                    .anoMaximo(ano + 5)
+                    .ordenacao(OrdenacaoVeiculo.PRECO_ASC)
+                    .tamanho(20)
+                    .build();
+        });
+    }
+
+    @Test
+    void faixaDePreco() {
+        medir("disponivel+preco", r -> {
+            int preco = 30_000 + r.nextInt(150_000);
+            return FiltroVeiculo.builder()
+                    .disponivel(true)
+                    .precoMinimo(BigDecimal.valueOf(preco))
+                    .precoMaximo(BigDecimal.valueOf(preco + 2_000))
+                    .ordenacao(OrdenacaoVeiculo.PRECO_ASC)
+                    .tamanho(20)
+                    .build();
+        });
+    }
+
+    @Test
+    void faixaDeAnoEPreco() {
+        medir("disponivel+ano+preco", r -> {
+            int ano = 2000 + r.nextInt(26);
+            int preco = 20_000 + (ano - 2000) * 5_000 + r.nextInt(50_000);
+            return FiltroVeiculo.builder()
+                    .disponivel(true)
+                    .anoMinimo(ano)
+                    .anoMaximo(ano)
+                    .precoMinimo(BigDecimal.valueOf(preco))
+                    .precoMaximo(BigDecimal.valueOf(preco + 5_000))
+                    .ordenacao(OrdenacaoVeiculo.ANO_DESC)
+                    .tamanho(20)
+                    .build();
+        });
+    }
+
+    @Test
+    void marcaModeloEPrecoMaximo() {
+        medir("marca+modelo+preco", r -> {
+            String[] marca = marcaAleatoria(r);
+            return FiltroVeiculo.builder()
+                    .marca(marca[0])
+                    .modelo(marca[1 + r.nextInt(marca.length - 1)])
+                    .precoMinimo(BigDecimal.valueOf(60_000))
+                    .precoMaximo(BigDecimal.valueOf(62_000))
+                    .ordenacao(OrdenacaoVeiculo.PRECO_DESC)
+                    .tamanho(20)
+                    .build();
+        });
+    }
+
+    private String[] marcaAleatoria(Random r) {
+        return GeradorDataset.MARCAS_MODELOS[r.nextInt(GeradorDataset.MARCAS_MODELOS.length)];
+    }
+
+    private void medir(String cenario, Function<Random, FiltroVeiculo> filtros) {
+        for (int i = 0; i < AQUECIMENTO; i++) {
+            veiculoInputPort.buscar(filtros.apply(random));
+        }
+
+        long[] amostras = new long[MEDICOES];
+        for (int i = 0; i < MEDICOES; i++) {
+            FiltroVeiculo filtro = filtros.apply(random);
+            long inicio = System.nanoTime();
+            veiculoInputPort.buscar(filtro);
+            amostras[i] = System.nanoTime() - inicio;
+        }
+        Arrays.sort(amostras);
+
+        long p50 = amostras[MEDICOES / 2] / 1_000;
+        long p99 = amostras[(int) (MEDICOES * 0.99)] / 1_000;
+        System.out.printf("busca %-30s veiculos=%,d p50=%,dus p99=%,dus%n", cenario, VEICULOS, p50, p99);
+
+        assertThat(p99).isLessThan(P99_MAXIMO_MS * 1_000);
+    }
+}
@@ -0,0 +1,95 @@
+package com.agencia.benchmark;
+
+import com.agencia.domain.model.ResultadoCadastroLote;
+import com.agencia.domain.model.Veiculo;
+import com.agencia.ports.input.VeiculoInputPort;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BENCHMARK - Cadastro de veículos em lote
+ * Compara a vazão (linhas por segundo) do cadastro unitário,
+ * como faria um POST /api/veiculos por carro, com o cadastro em lote.
+ * Executar com: mvn test -Pbenchmark -Dtest=VeiculoCadastroLoteBenchmarkTest
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "logging.level.org.hibernate.SQL=WARN"
+})
+class VeiculoCadastroLoteBenchmarkTest {
+
+    private static final int UNITARIOS = 5_000;
+    private static final int EM_LOTE = 50_000;
+    private static final int TAMANHO_LOTE = 1_000;
+
+    @Autowired
+    private VeiculoInputPort veiculoInputPort;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void cadastroEmLoteTemMaiorVazaoQueUnitario() {
+        new GeradorDataset(jdbcTemplate).limpar();
+
+        // Aquecimento
+        veiculoInputPort.cadastrarEmLote(veiculos("W", 0, 2_000));
+        for (int i = 0; i < 500; i++) {
+            veiculoInputPort.cadastrar(veiculo("X", i));
+        }
+
+        long inicio = System.nanoTime();
+        for (int i = 0; i < UNITARIOS; i++) {
+            veiculoInputPort.cadastrar(veiculo("U", i));
+        }
+        double unitarioPorSegundo = UNITARIOS / segundosDesde(inicio);
+
+        inicio = System.nanoTime();
+        for (int i = 0; i < EM_LOTE; i += TAMANHO_LOTE) {
+            List<ResultadoCadastroLote> resultados =
+                    veiculoInputPort.cadastrarEmLote(veiculos("L", i, TAMANHO_LOTE));
+            assertThat(resultados).allMatch(ResultadoCadastroLote::isCadastrado);
+        }
+        double lotePorSegundo = EM_LOTE / segundosDesde(inicio);
+
+        System.out.printf("cadastro unitario: %,.0f linhas/s (%,d veiculos)%n", unitarioPorSegundo, UNITARIOS);
+        System.out.printf("cadastro em lote:  %,.0f linhas/s (%,d veiculos, lotes de %,d)%n",
+                lotePorSegundo, EM_LOTE, TAMANHO_LOTE);
+
+        assertThat(lotePorSegundo).isGreaterThan(unitarioPorSegundo);
+    }
+
+    private List<Veiculo> veiculos(String prefixo, int inicio, int quantidade) {
+        List<Veiculo> veiculos = new ArrayList<>(quantidade);
+        for (int i = inicio; i < inicio + quantidade; i++) {
+            veiculos.add(veiculo(prefixo, i));
+        }
+        return veiculos;
+    }
+
+    private Veiculo veiculo(String prefixo, int i) {
+        return Veiculo.builder()
+                .marca("Toyota")
+                .modelo("Corolla")
+                .ano(2021)
+                .placa(String.format("%s%06d", prefixo, i))
+                .cor("Branco")
+                .preco(new BigDecimal("110000"))
+                .build();
+    }
+
+    private double segundosDesde(long inicio) {
+        return (System.nanoTime() - inicio) / 1_000_000_000.0;
+    }
+}
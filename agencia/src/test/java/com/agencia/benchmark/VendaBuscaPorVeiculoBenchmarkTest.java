@@ -0,0 +1,85 @@
+package com.agencia.benchmark;
+
+import com.agencia.ports.output.VendaOutputPort;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BENCHMARK - Busca de venda por veículo
+ * Mede a latência de VendaOutputPort.buscarPorVeiculo com a tabela de vendas
+ * crescendo. Com o índice em vendas.veiculo_id a latência deve ficar estável.
+ * Executar com: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "logging.level.org.hibernate.SQL=WARN"
+})
+class VendaBuscaPorVeiculoBenchmarkTest {
+
+    private static final int[] TAMANHOS = {1_000, 10_000, 100_000};
+    private static final int AQUECIMENTO = 500;
+    private static final int MEDICOES = 5_000;
+
+    @Autowired
+    private VendaOutputPort vendaOutputPort;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void latenciaPermaneceEstavelComCrescimentoDaTabela() {
+        long[] medianas = new long[TAMANHOS.length];
+
+        for (int i = 0; i < TAMANHOS.length; i++) {
+            int tamanho = TAMANHOS[i];
+            popular(tamanho);
+
+            for (int j = 0; j < AQUECIMENTO; j++) {
+                vendaOutputPort.buscarPorVeiculo(idAleatorio(tamanho));
+            }
+
+            long[] amostras = new long[MEDICOES];
+            for (int j = 0; j < MEDICOES; j++) {
+                long inicio = System.nanoTime();
+                vendaOutputPort.buscarPorVeiculo(idAleatorio(tamanho));
+                amostras[j] = System.nanoTime() - inicio;
+            }
+            Arrays.sort(amostras);
+            medianas[i] = amostras[MEDICOES / 2];
+
+            System.out.printf("vendas=%,d p50=%,dus p99=%,dus%n",
+                    tamanho,
+                    amostras[MEDICOES / 2] / 1_000,
+                    amostras[(int) (MEDICOES * 0.99)] / 1_000);
+        }
+
+        // Crescer a tabela 100x não pode multiplicar a latência mediana
+        assertThat(medianas[medianas.length - 1])
+                .isLessThan(medianas[0] * 5 + 1_000_000);
+    }
+
+    private long idAleatorio(int tamanho) {
+        return ThreadLocalRandom.current().nextLong(1, tamanho + 1);
+    }
+
+    /**
+     * Recria o dataset: um cliente, N veículos vendidos e N vendas
+     */
+    private void popular(int tamanho) {
+        GeradorDataset gerador = new GeradorDataset(jdbcTemplate);
+        gerador.limpar();
+        gerador.gerarCliente(1L);
+        gerador.gerarVeiculos(tamanho);
+        gerador.gerarVendas(tamanho, 1L);
+    }
+}
@@ -0,0 +1,72 @@
+package com.agencia.config;
+
+import com.agencia.AgenciaApplication;
+import com.agencia.domain.model.Cliente;
+import com.agencia.domain.model.Veiculo;
+import com.agencia.domain.model.Venda;
+import com.agencia.ports.input.VeiculoInputPort;
+import com.agencia.ports.input.VendaInputPort;
+import com.agencia.ports.output.ClienteOutputPort;
+import com.agencia.ports.output.DadosContrato;
+import com.agencia.ports.output.VendaOutputPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TESTE DOS PERFIS "arquivo" E "performance"
+ * Sobe a aplicação duas vezes sobre o mesmo H2 em arquivo: na primeira o
+ * Flyway cria o esquema; na segunda só confere o histórico, e os dados e as
+ * sequências continuam de onde pararam.
+ */
+class PerfilArquivoTest {
+
+    @Test
+    void dadosSobrevivemAoReinicio(@TempDir Path pasta) {
+        Veiculo veiculo;
+        Venda venda;
+        try (ConfigurableApplicationContext contexto = iniciar(pasta)) {
+            veiculo = contexto.getBean(VeiculoInputPort.class).cadastrar(DadosContrato.veiculo());
+            Cliente cliente = contexto.getBean(ClienteOutputPort.class).salvar(DadosContrato.cliente());
+            venda = contexto.getBean(VendaInputPort.class).realizar(Venda.builder()
+                    .veiculo(veiculo)
+                    .cliente(cliente)
+                    .valorVenda(new BigDecimal("45000.00"))
+                    .build());
+        }
+
+        try (ConfigurableApplicationContext contexto = iniciar(pasta)) {
+            Veiculo lido = contexto.getBean(VeiculoInputPort.class).buscarPorId(veiculo.getId());
+            assertThat(lido.getPlaca()).isEqualTo(veiculo.getPlaca());
+            assertThat(lido.getDisponivel()).isFalse();
+            assertThat(contexto.getBean(VendaOutputPort.class).buscarPorVeiculo(veiculo.getId()))
+                    .hasValueSatisfying(lida -> assertThat(lida.getId()).isEqualTo(venda.getId()));
+
+            // Cada migração rodou uma vez só, na primeira subida
+            assertThat(contexto.getBean(JdbcTemplate.class).queryForList(
+                    "SELECT version FROM flyway_schema_history WHERE type = 'SQL' AND success", String.class))
+                    .startsWith("1", "2")
+                    .doesNotHaveDuplicates();
+            Veiculo novo = contexto.getBean(VeiculoInputPort.class).cadastrar(DadosContrato.veiculo());
+            assertThat(novo.getId()).isGreaterThan(veiculo.getId());
+        }
+    }
+
+    private ConfigurableApplicationContext iniciar(Path pasta) {
+        return new SpringApplicationBuilder(AgenciaApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("performance", "arquivo")
+                .run("--agencia.banco.diretorio=" + pasta,
+                        "--agencia.outbox.despacho-automatico=false",
+                        "--spring.devtools.restart.enabled=false",
+                        "--logging.level.root=WARN");
+    }
+}
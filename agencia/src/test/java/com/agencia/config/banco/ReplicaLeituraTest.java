@@ -0,0 +1,189 @@
+package com.agencia.config.banco;
+
+import com.agencia.adapter.output.evento.DespachanteOutbox;
+import com.agencia.domain.model.Cliente;
+import com.agencia.domain.model.Veiculo;
+import com.agencia.domain.model.Venda;
+import com.agencia.ports.input.VeiculoInputPort;
+import com.agencia.ports.input.VendaInputPort;
+import com.agencia.ports.output.ClienteOutputPort;
+import com.agencia.ports.output.DadosContrato;
+import com.agencia.ports.output.VeiculoOutputPort;
+import com.jayway.jsonpath.JsonPath;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * TESTE DO ROTEAMENTO LEITURA/ESCRITA
+ * Dois H2 em memória fazem o papel de primário e réplica, sem replicação
+ * entre eles: o que está só na réplica prova que a leitura foi para lá, e o
+ * que está só no primário prova que a escrita (e a leitura logo depois dela)
+ * foi para o primário. A volta ao primário vale só para o cliente que
+ * escreveu e reenviou X-Ultima-Escrita.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:agencia_primario;DB_CLOSE_DELAY=-1",
+        "agencia.banco.replica.jdbc-url=jdbc:h2:mem:agencia_replica;DB_CLOSE_DELAY=-1",
+        "agencia.banco.atraso-replica=500ms",
+        "agencia.cache.veiculos.tamanho-maximo=0",
+        "agencia.cache.clientes.tamanho-maximo=0",
+        "agencia.outbox.despacho-automatico=false",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN"
+})
+@AutoConfigureMockMvc
+@Import(ReplicaLeituraTest.EsquemaNaReplica.class)
+class ReplicaLeituraTest {
+
+    /**
+     * Sem replicação de verdade, o esquema da réplica vem das mesmas migrações
+     */
+    @TestConfiguration
+    static class EsquemaNaReplica {
+
+        @Bean
+        FlywayMigrationStrategy migrarPrimarioEReplica(@Qualifier("dataSourceReplica") DataSource replica) {
+            return flyway -> {
+                flyway.migrate();
+                Flyway.configure().configuration(flyway.getConfiguration()).dataSource(replica).load().migrate();
+            };
+        }
+    }
+
+    private static final AtomicInteger PLACAS = new AtomicInteger();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DespachanteOutbox despachante;
+
+    @Autowired
+    private VeiculoOutputPort veiculoOutputPort;
+
+    @Autowired
+    private VeiculoInputPort veiculoInputPort;
+
+    @Autowired
+    private VendaInputPort vendaInputPort;
+
+    @Autowired
+    private ClienteOutputPort clienteOutputPort;
+
+    @Autowired
+    @Qualifier("dataSourcePrimario")
+    private DataSource primario;
+
+    @Autowired
+    @Qualifier("dataSourceReplica")
+    private DataSource replica;
+
+    @Test
+    void consultasEListagensLeemDaReplica() {
+        Long id = inserirSoNaReplica();
+
+        assertThat(veiculoOutputPort.buscarPorId(id)).isPresent();
+        assertThat(veiculoOutputPort.listarDisponiveis(id - 1, 10))
+                .extracting(Veiculo::getId)
+                .containsExactly(id);
+        assertThat(contar(primario, id)).isZero();
+    }
+
+    @Test
+    void quemEscreveuLeDoPrimarioAteOAtrasoDaReplica() throws Exception {
+        MvcResult cadastro = mockMvc.perform(post("/api/veiculos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(veiculoJson()))
+                .andExpect(status().isCreated())
+                .andExpect(header().exists(EscritasRecentesInterceptor.HEADER_ULTIMA_ESCRITA))
+                .andReturn();
+        String ultimaEscrita = cadastro.getResponse().getHeader(EscritasRecentesInterceptor.HEADER_ULTIMA_ESCRITA);
+        Long id = JsonPath.parse(cadastro.getResponse().getContentAsString()).read("$.id", Long.class);
+
+        assertThat(contar(primario, id)).isOne();
+        assertThat(contar(replica, id)).isZero();
+        // Com o instante da própria escrita, a leitura vai ao primário
+        mockMvc.perform(get("/api/veiculos/{id}", id)
+                        .header(EscritasRecentesInterceptor.HEADER_ULTIMA_ESCRITA, ultimaEscrita))
+                .andExpect(status().isOk());
+        // Outro cliente continua lendo da réplica (que aqui nunca recebe o veículo)
+        mockMvc.perform(get("/api/veiculos/{id}", id)).andExpect(status().isNotFound());
+
+        Thread.sleep(600);
+        // Passado o atraso, o mesmo cliente também volta para a réplica
+        mockMvc.perform(get("/api/veiculos/{id}", id)
+                        .header(EscritasRecentesInterceptor.HEADER_ULTIMA_ESCRITA, ultimaEscrita))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void despachoDoOutboxNaoLevaAsLeiturasAoPrimario() throws Exception {
+        veiculoInputPort.cadastrar(DadosContrato.veiculo());
+        assertThat(despachante.despachar()).isPositive();
+        Long id = inserirSoNaReplica();
+
+        // O cadastro e a confirmação do outbox gravaram no primário, fora de uma requisição
+        mockMvc.perform(get("/api/veiculos/{id}", id)).andExpect(status().isOk());
+    }
+
+    @Test
+    void leiturasDentroDaTransacaoDeVendaUsamOPrimario() {
+        Veiculo veiculo = veiculoInputPort.cadastrar(DadosContrato.veiculo());
+        Cliente cliente = clienteOutputPort.salvar(DadosContrato.cliente());
+
+        // A venda lê veículo e cliente na mesma transação de escrita: se fossem
+        // para a réplica, não seriam encontrados
+        Venda venda = vendaInputPort.realizar(Venda.builder()
+                .veiculo(veiculo)
+                .cliente(cliente)
+                .valorVenda(new BigDecimal("45000.00"))
+                .build());
+
+        assertThat(venda.getId()).isNotNull();
+        assertThat(new JdbcTemplate(primario).queryForObject(
+                "SELECT disponivel FROM veiculos WHERE id = ?", Boolean.class, veiculo.getId())).isFalse();
+    }
+
+    private Long inserirSoNaReplica() {
+        Long id = 900_000L + PLACAS.incrementAndGet();
+        new JdbcTemplate(replica).update("""
+                INSERT INTO veiculos (id, marca, modelo, ano, placa, cor, preco, disponivel, data_cadastro, versao)
+                VALUES (?, 'Replica', 'Modelo', 2022, ?, 'Prata', 50000.00, TRUE, CURRENT_TIMESTAMP, 0)
+                """, id, DadosContrato.placa());
+        return id;
+    }
+
+    private static String veiculoJson() {
+        return """
+                {"marca": "Replica", "modelo": "Modelo", "ano": 2022, "placa": "RPL%04d",
+                 "cor": "Prata", "preco": 50000.00}
+                """.formatted(PLACAS.incrementAndGet());
+    }
+
+    private static int contar(DataSource dataSource, Long id) {
+        return new JdbcTemplate(dataSource).queryForObject(
+                "SELECT COUNT(*) FROM veiculos WHERE id = ?", Integer.class, id);
+    }
+}
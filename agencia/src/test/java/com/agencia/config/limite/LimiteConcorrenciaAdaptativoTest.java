@@ -0,0 +1,119 @@
+package com.agencia.config.limite;
+
+import com.agencia.domain.model.Venda;
+import com.agencia.domain.model.VendaLote;
+import com.agencia.ports.input.VendaInputPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TESTE DO LIMITE ADAPTATIVO DE CONCORRÊNCIA
+ * O limite recusa sem fila, cai com latência alta, só sobe quando está
+ * em uso, e o decorator de vendas recusa antes de chamar o serviço.
+ */
+class LimiteConcorrenciaAdaptativoTest {
+
+    private static final long RAPIDA = Duration.ofMillis(10).toNanos();
+    private static final long LENTA = Duration.ofSeconds(1).toNanos();
+
+    @Test
+    void recusaAcimaDoLimiteEReduzComLatenciaAlta() {
+        LimiteConcorrenciaAdaptativo limite =
+                new LimiteConcorrenciaAdaptativo(4, 2, 8, Duration.ofMillis(250), 0.5);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(limite.adquirir()).isTrue();
+        }
+        assertThat(limite.adquirir()).isFalse();
+        assertThat(limite.getEmAndamento()).isEqualTo(4);
+
+        limite.liberar(LENTA);
+        assertThat(limite.getLimite()).isEqualTo(2);
+        limite.liberar(LENTA);
+        assertThat(limite.getLimite()).isEqualTo(2);
+        // Duas ainda em andamento, limite 2: sem vaga até uma terminar
+        assertThat(limite.adquirir()).isFalse();
+    }
+
+    @Test
+    void sobeSoQuandoOLimiteEstaEmUso() {
+        LimiteConcorrenciaAdaptativo limite =
+                new LimiteConcorrenciaAdaptativo(4, 2, 5, Duration.ofMillis(250), 0.9);
+
+        // Uma operação por vez: menos da metade do limite em uso
+        for (int i = 0; i < 10; i++) {
+            limite.adquirir();
+            limite.liberar(RAPIDA);
+        }
+        assertThat(limite.getLimite()).isEqualTo(4);
+
+        limite.adquirir();
+        limite.adquirir();
+        limite.liberar(RAPIDA);
+        assertThat(limite.getLimite()).isEqualTo(5);
+        limite.liberar(RAPIDA);
+        limite.adquirir();
+        limite.adquirir();
+        limite.adquirir();
+        limite.liberar(RAPIDA);
+        assertThat(limite.getLimite()).isEqualTo(5);
+    }
+
+    @Test
+    void vendaSemVagaERecusadaSemChamarOServico() throws Exception {
+        CountDownLatch emAndamento = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        VendaInputPort servico = (VendaInputPort) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{VendaInputPort.class}, (proxy, metodo, args) -> {
+                    emAndamento.countDown();
+                    liberar.await(5, TimeUnit.SECONDS);
+                    return args[0];
+                });
+        VendaInputPortLimitado vendas = new VendaInputPortLimitado(servico,
+                new LimiteConcorrenciaAdaptativo(1, 1, 1, Duration.ofSeconds(10), 0.9),
+                new LimiteConcorrenciaAdaptativo(1, 1, 1, Duration.ofSeconds(10), 0.9),
+                Duration.ofSeconds(2), new SimpleMeterRegistry());
+
+        Venda venda = Venda.builder().build();
+        CompletableFuture<Venda> primeira = CompletableFuture.supplyAsync(() -> vendas.realizar(venda));
+        assertThat(emAndamento.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> vendas.realizar(venda))
+                .isInstanceOfSatisfying(SobrecargaException.class,
+                        e -> assertThat(e.getTentarApos()).isEqualTo(Duration.ofSeconds(2)));
+
+        liberar.countDown();
+        assertThat(primeira.get(5, TimeUnit.SECONDS)).isSameAs(venda);
+        // Vaga devolvida: a próxima entra
+        CompletableFuture.runAsync(() -> vendas.realizar(venda)).get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void loteLentoNaoReduzOLimiteDasVendas() {
+        VendaInputPort servico = (VendaInputPort) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{VendaInputPort.class}, (proxy, metodo, args) -> {
+                    Thread.sleep(50);
+                    return List.of();
+                });
+        LimiteConcorrenciaAdaptativo limiteVendas = new LimiteConcorrenciaAdaptativo(5, 1, 10, Duration.ofMillis(10), 0.5);
+        LimiteConcorrenciaAdaptativo limiteLotes = new LimiteConcorrenciaAdaptativo(4, 1, 4, Duration.ofMillis(10), 0.5);
+        VendaInputPortLimitado vendas = new VendaInputPortLimitado(servico, limiteVendas, limiteLotes,
+                Duration.ofSeconds(1), new SimpleMeterRegistry());
+
+        vendas.realizarEmLote(VendaLote.builder().build());
+
+        // O lote acima da latência alvo reduz só o limite dos lotes
+        assertThat(limiteLotes.getLimite()).isEqualTo(2);
+        assertThat(limiteVendas.getLimite()).isEqualTo(5);
+    }
+}
@@ -0,0 +1,72 @@
+package com.agencia.config.limite;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * TESTE DO LIMITE DE TAXA POR CLIENTE
+ * Rajada de 2 vendas e reposição lenta: a terceira requisição do mesmo
+ * cliente (IP de origem) recebe 429 sem chegar ao controller, mesmo trocando
+ * o X-Cliente-Api, enquanto outro cliente e as leituras seguem atendidos.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:agencia_limite",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "agencia.outbox.despacho-automatico=false",
+        "agencia.limite.taxa.vendas.por-segundo=0.1",
+        "agencia.limite.taxa.vendas.rajada=2"
+})
+@AutoConfigureMockMvc
+class LimiteTaxaInterceptorTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void terceiraVendaDoMesmoClienteRecebe429ComRetryAfter() throws Exception {
+        // Corpo inválido: as aceitas param na validação (400), sem tocar em dados
+        mockMvc.perform(venda("10.0.0.1")).andExpect(status().isBadRequest());
+        mockMvc.perform(venda("10.0.0.1")).andExpect(status().isBadRequest());
+
+        mockMvc.perform(venda("10.0.0.1"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(jsonPath("$.status").value(429));
+
+        // O header vem de quem chama: sem gateway configurado, não dá um balde novo
+        mockMvc.perform(venda("10.0.0.1").header("X-Cliente-Api", "outra-loja"))
+                .andExpect(status().isTooManyRequests());
+
+        mockMvc.perform(venda("10.0.0.2")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/vendas").with(origem("10.0.0.1")))
+                .andExpect(status().isOk());
+    }
+
+    private static MockHttpServletRequestBuilder venda(String ip) {
+        return post("/api/vendas")
+                .with(origem(ip))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}");
+    }
+
+    private static RequestPostProcessor origem(String ip) {
+        return request -> {
+            request.setRemoteAddr(ip);
+            return request;
+        };
+    }
+}
@@ -0,0 +1,184 @@
+package com.agencia.domain.service;
+
+import com.agencia.domain.exception.VeiculoIndisponivelException;
+import com.agencia.domain.model.AgregadoVendas;
+import com.agencia.domain.model.Cliente;
+import com.agencia.domain.model.DivergenciaAgregado;
+import com.agencia.domain.model.GrupoAgregado;
+import com.agencia.domain.model.PainelVendas;
+import com.agencia.domain.model.ReconstrucaoAgregados;
+import com.agencia.domain.model.Veiculo;
+import com.agencia.domain.model.Venda;
+import com.agencia.ports.input.AgregadosVendasInputPort;
+import com.agencia.ports.input.VeiculoInputPort;
+import com.agencia.ports.input.VendaInputPort;
+import com.agencia.ports.output.ClienteOutputPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TESTE DOS AGREGADOS DE VENDAS (painel)
+ * As vendas passam pelo VendaInputPort real: o evento VendaRealizada
+ * atualiza os agregados na transação da venda.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        // Todas as vendas concorrentes precisam chegar ao serviço (sem recusa por sobrecarga)
+        "agencia.limite.concorrencia.habilitado=false"
+})
+class AgregadosVendasServiceTest {
+
+    private static final int THREADS = 8;
+    private static final BigDecimal VALOR = new BigDecimal("50000.50");
+
+    @Autowired
+    private AgregadosVendasInputPort agregadosVendasInputPort;
+
+    @Autowired
+    private VendaInputPort vendaInputPort;
+
+    @Autowired
+    private VeiculoInputPort veiculoInputPort;
+
+    @Autowired
+    private ClienteOutputPort clienteOutputPort;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Cliente cliente;
+
+    /**
+     * Outros testes inserem e apagam vendas direto no banco, sem passar pelo
+     * domínio: a reconstrução deixa os agregados de acordo com o banco atual
+     */
+    @BeforeEach
+    void preparar() {
+        agregadosVendasInputPort.reconstruir();
+        cliente = clienteOutputPort.buscarPorCpf("55566677788").orElseGet(() ->
+                clienteOutputPort.salvar(Cliente.builder().nome("Cliente Painel").cpf("55566677788").build()));
+    }
+
+    @Test
+    void vendasConcorrentesSaoSomadasUmaVezMesmoDuranteReconstrucao() throws Exception {
+        List<Veiculo> veiculos = cadastrar("Painel", 40, "P");
+        PainelVendas antes = agregadosVendasInputPort.painel(LocalDate.now());
+
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futuros = new ArrayList<>();
+        for (Veiculo veiculo : veiculos) {
+            futuros.add(executor.submit(() -> {
+                largada.await();
+                return vendaInputPort.realizar(venda(veiculo));
+            }));
+        }
+        // Reconstruções no meio das vendas
+        for (int i = 0; i < 3; i++) {
+            futuros.add(executor.submit(() -> {
+                largada.await();
+                return agregadosVendasInputPort.reconstruir();
+            }));
+        }
+        largada.countDown();
+        for (Future<?> futuro : futuros) {
+            futuro.get();
+        }
+        executor.shutdown();
+
+        PainelVendas depois = agregadosVendasInputPort.painel(LocalDate.now());
+        assertThat(depois.getTotal().getQuantidadeVendas())
+                .isEqualTo(antes.getTotal().getQuantidadeVendas() + veiculos.size());
+        assertThat(depois.getTotal().getFaturamento())
+                .isEqualByComparingTo(antes.getTotal().getFaturamento()
+                        .add(VALOR.multiply(BigDecimal.valueOf(veiculos.size()))));
+        assertThat(depois.getDia().getQuantidadeVendas())
+                .isEqualTo(antes.getDia().getQuantidadeVendas() + veiculos.size());
+        assertThat(marca(depois, "Painel").getQuantidadeVendas()).isEqualTo(veiculos.size());
+
+        assertThat(agregadosVendasInputPort.reconstruir().divergencias()).isEmpty();
+        // A reconstrução junta tudo na faixa 0, mas mantém todas as faixas da linha TOTAL
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM agregados_vendas WHERE tipo = 'TOTAL'",
+                Long.class)).isEqualTo(8);
+    }
+
+    @Test
+    void vendaRecusadaNaoAlteraOsAgregados() {
+        Veiculo veiculo = cadastrar("Recusa", 1, "R").get(0);
+        Venda venda = venda(veiculo);
+        vendaInputPort.realizar(venda);
+        PainelVendas antes = agregadosVendasInputPort.painel(LocalDate.now());
+
+        assertThatThrownBy(() -> vendaInputPort.realizar(venda))
+                .isInstanceOf(VeiculoIndisponivelException.class);
+
+        PainelVendas depois = agregadosVendasInputPort.painel(LocalDate.now());
+        assertThat(depois.getTotal().getQuantidadeVendas()).isEqualTo(antes.getTotal().getQuantidadeVendas());
+        assertThat(marca(depois, "Recusa").getQuantidadeVendas()).isEqualTo(1);
+    }
+
+    @Test
+    void reconstrucaoEncontraECorrigeDivergencias() {
+        vendaInputPort.realizar(venda(cadastrar("Divergente", 1, "D").get(0)));
+        jdbcTemplate.update("UPDATE agregados_vendas SET quantidade = quantidade + 5 "
+                + "WHERE tipo = 'MARCA' AND chave = 'Divergente'");
+
+        ReconstrucaoAgregados reconstrucao = agregadosVendasInputPort.reconstruir();
+
+        assertThat(reconstrucao.isConsistente()).isFalse();
+        assertThat(reconstrucao.divergencias()).singleElement().satisfies(divergencia -> {
+            assertThat(divergencia.getOrigem()).isEqualTo(DivergenciaAgregado.OrigemAgregado.TABELA);
+            assertThat(divergencia.getMantido().getQuantidadeVendas()).isEqualTo(6);
+            assertThat(divergencia.getRecalculado().getQuantidadeVendas()).isEqualTo(1);
+        });
+        assertThat(agregadosVendasInputPort.reconstruir().isConsistente()).isTrue();
+        assertThat(jdbcTemplate.queryForObject("SELECT quantidade FROM agregados_vendas "
+                + "WHERE tipo = 'MARCA' AND chave = 'Divergente'", Long.class)).isEqualTo(1);
+    }
+
+    private AgregadoVendas marca(PainelVendas painel, String marca) {
+        return painel.getMarcas().stream()
+                .filter(agregado -> agregado.getGrupo().equals(GrupoAgregado.marca(marca)))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private List<Veiculo> cadastrar(String marca, int quantidade, String prefixoPlaca) {
+        List<Veiculo> veiculos = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            veiculos.add(veiculoInputPort.cadastrar(Veiculo.builder()
+                    .marca(marca)
+                    .modelo("Modelo")
+                    .ano(2022)
+                    .placa(String.format("%s%06d", prefixoPlaca, i))
+                    .cor("Prata")
+                    .preco(new BigDecimal("60000"))
+                    .build()));
+        }
+        return veiculos;
+    }
+
+    private Venda venda(Veiculo veiculo) {
+        return Venda.builder()
+                .veiculo(veiculo)
+                .cliente(cliente)
+                .valorVenda(VALOR)
+                .build();
+    }
+}
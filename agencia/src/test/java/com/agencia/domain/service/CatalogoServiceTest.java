@@ -0,0 +1,106 @@
+package com.agencia.domain.service;
+
+import com.agencia.adapter.output.evento.DespachanteOutbox;
+import com.agencia.domain.exception.VeiculoNaoEncontradoException;
+import com.agencia.domain.model.Cliente;
+import com.agencia.domain.model.ItemCatalogo;
+import com.agencia.domain.model.Veiculo;
+import com.agencia.domain.model.Venda;
+import com.agencia.ports.input.CatalogoInputPort;
+import com.agencia.ports.input.CatalogoQueryPort;
+import com.agencia.ports.input.VeiculoInputPort;
+import com.agencia.ports.input.VendaInputPort;
+import com.agencia.ports.output.ClienteOutputPort;
+import com.agencia.ports.output.DadosContrato;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TESTE DO CATÁLOGO PÚBLICO (CQRS)
+ * Cadastro, alteração e venda chegam ao catálogo pelos eventos da outbox.
+ * O despacho automático fica desligado: o teste chama despachar() e só
+ * então o catálogo muda. Banco próprio, para que o despachante de outros
+ * contextos de teste não entregue os eventos deste.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:agencia_catalogo",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "agencia.outbox.despacho-automatico=false"
+})
+class CatalogoServiceTest {
+
+    @Autowired
+    private CatalogoQueryPort catalogoQueryPort;
+
+    @Autowired
+    private CatalogoInputPort catalogoInputPort;
+
+    @Autowired
+    private VeiculoInputPort veiculoInputPort;
+
+    @Autowired
+    private VendaInputPort vendaInputPort;
+
+    @Autowired
+    private ClienteOutputPort clienteOutputPort;
+
+    @Autowired
+    private DespachanteOutbox despachante;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void cadastroAlteracaoEVendaChegamAoCatalogoPelosEventos() {
+        Veiculo veiculo = veiculoInputPort.cadastrar(DadosContrato.veiculo());
+        assertThatThrownBy(() -> catalogoQueryPort.buscar(veiculo.getId()))
+                .isInstanceOf(VeiculoNaoEncontradoException.class);
+
+        despachante.despachar();
+        ItemCatalogo cadastrado = catalogoQueryPort.buscar(veiculo.getId());
+        assertThat(cadastrado.getTitulo()).isEqualTo("Contrato Modelo 2022");
+        assertThat(cadastrado.getPrecoFormatado()).isEqualTo("R$ 50.000,00");
+
+        veiculoInputPort.atualizar(veiculo.getId(), Veiculo.builder()
+                .marca(veiculo.getMarca())
+                .modelo(veiculo.getModelo())
+                .ano(veiculo.getAno())
+                .placa(veiculo.getPlaca())
+                .cor(veiculo.getCor())
+                .preco(new BigDecimal("47500.00"))
+                .build());
+        despachante.despachar();
+        ItemCatalogo alterado = catalogoQueryPort.buscar(veiculo.getId());
+        assertThat(alterado.getPrecoFormatado()).isEqualTo("R$ 47.500,00");
+        assertThat(alterado.getDataCadastro()).isEqualTo(cadastrado.getDataCadastro());
+
+        Cliente cliente = clienteOutputPort.salvar(DadosContrato.cliente());
+        vendaInputPort.realizar(Venda.builder()
+                .veiculo(veiculo)
+                .cliente(cliente)
+                .valorVenda(new BigDecimal("47000.00"))
+                .build());
+        despachante.despachar();
+        assertThatThrownBy(() -> catalogoQueryPort.buscar(veiculo.getId()))
+                .isInstanceOf(VeiculoNaoEncontradoException.class);
+    }
+
+    @Test
+    void reconstruirTrazSoOsDisponiveisDoEstoque() {
+        veiculoInputPort.cadastrar(DadosContrato.veiculo());
+        despachante.despachar();
+
+        long itens = catalogoInputPort.reconstruir();
+
+        assertThat(itens).isEqualTo(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM veiculos WHERE disponivel", Long.class));
+    }
+}
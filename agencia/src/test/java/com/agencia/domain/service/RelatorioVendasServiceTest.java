@@ -0,0 +1,38 @@
+package com.agencia.domain.service;
+
+import com.agencia.domain.model.AgrupamentoPeriodo;
+import com.agencia.domain.model.AgrupamentoVeiculo;
+import com.agencia.ports.output.RelatorioVendasOutputPort;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TESTE DO SERVIÇO DE RELATÓRIOS DE VENDAS
+ * O relatório por veículo aceita até 92 dias (inclusive início e fim) e
+ * recusa períodos maiores sem consultar o banco; o faturamento não tem limite.
+ */
+class RelatorioVendasServiceTest {
+
+    private static final LocalDate INICIO = LocalDate.of(2024, 1, 1);
+
+    private final RelatorioVendasService service = new RelatorioVendasService(
+            (RelatorioVendasOutputPort) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{RelatorioVendasOutputPort.class}, (proxy, metodo, args) -> List.of()));
+
+    @Test
+    void desempenhoPorVeiculoLimitaOPeriodo() {
+        LocalDate ultimoDia = INICIO.plusDays(RelatorioVendasService.PERIODO_MAXIMO_DESEMPENHO_DIAS - 1);
+
+        assertThat(service.desempenhoPorVeiculo(AgrupamentoVeiculo.MODELO, INICIO, ultimoDia)).isEmpty();
+        assertThatThrownBy(() -> service.desempenhoPorVeiculo(AgrupamentoVeiculo.MODELO, INICIO, ultimoDia.plusDays(1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("92 dias");
+        assertThat(service.faturamento(AgrupamentoPeriodo.MES, INICIO, INICIO.plusYears(2))).isEmpty();
+    }
+}
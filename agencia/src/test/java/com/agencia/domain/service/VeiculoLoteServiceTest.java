@@ -0,0 +1,144 @@
+package com.agencia.domain.service;
+
+import com.agencia.config.VeiculoInputPortTransacional;
+import com.agencia.domain.model.ResultadoCadastroLote;
+import com.agencia.domain.model.Veiculo;
+import com.agencia.ports.input.VeiculoInputPort;
+import com.agencia.ports.output.DadosContrato;
+import com.agencia.ports.output.VeiculoOutputPort;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TESTE DO CADASTRO EM LOTE
+ * Uma placa cadastrada por outra transação depois da consulta de placas
+ * existentes (a consulta não a encontra, o insert viola uk_veiculos_placa)
+ * rejeita só aquele veículo; os demais são cadastrados. O lote é tentado
+ * de novo enquanto surgirem conflitos novos, até o limite de tentativas.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.engine.jdbc.spi.SqlExceptionHelper=OFF"
+})
+class VeiculoLoteServiceTest {
+
+    @Autowired
+    private VeiculoOutputPort veiculoOutputPort;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void placaCadastradaDuranteOLoteRejeitaSoAqueleVeiculo() {
+        cadastrarComCorrida(3);
+    }
+
+    /**
+     * Com mais veículos que o lote de inserts, a violação aparece num flush
+     * no meio do cadastro, e não no commit
+     */
+    @Test
+    void placaCadastradaDuranteUmLoteGrandeRejeitaSoAqueleVeiculo() {
+        cadastrarComCorrida(60);
+    }
+
+    /**
+     * A cada tentativa, outra transação cadastra mais uma placa do lote
+     * antes do insert: o lote é tentado até não haver conflito novo
+     */
+    @Test
+    void placasCadastradasEmTentativasSeguidasSaoTodasRejeitadas() {
+        Veiculo concorrente = veiculoOutputPort.salvar(DadosContrato.veiculo());
+        Veiculo segundo = DadosContrato.veiculo();
+        List<Veiculo> lote = List.of(
+                DadosContrato.veiculo("Contrato", concorrente.getPlaca(), "50000.00"),
+                DadosContrato.veiculo("Contrato", segundo.getPlaca(), "50000.00"),
+                DadosContrato.veiculo());
+        TransactionTemplate outraTransacao = new TransactionTemplate(transactionManager);
+        outraTransacao.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        AtomicInteger consultas = new AtomicInteger();
+
+        List<ResultadoCadastroLote> resultados = veiculosComCorrida(() -> {
+            int consulta = consultas.incrementAndGet();
+            if (consulta == 2) {
+                outraTransacao.executeWithoutResult(status -> veiculoOutputPort.salvar(segundo));
+            }
+            // Cada consulta só deixa de ver a placa cadastrada logo antes dela
+            return consulta <= 2;
+        }).cadastrarEmLote(lote);
+
+        assertThat(consultas).hasValue(3);
+        assertThat(resultados).extracting(ResultadoCadastroLote::isCadastrado).containsExactly(false, false, true);
+    }
+
+    @Test
+    void conflitoEmTodasAsTentativasDesisteNoLimite() {
+        Veiculo concorrente = veiculoOutputPort.salvar(DadosContrato.veiculo());
+        List<Veiculo> lote = List.of(DadosContrato.veiculo("Contrato", concorrente.getPlaca(), "50000.00"));
+        AtomicInteger consultas = new AtomicInteger();
+
+        assertThatThrownBy(() -> veiculosComCorrida(() -> {
+            consultas.incrementAndGet();
+            return true;
+        }).cadastrarEmLote(lote)).isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(consultas).hasValue(VeiculoInputPortTransacional.TENTATIVAS_LOTE);
+    }
+
+    private void cadastrarComCorrida(int quantidade) {
+        Veiculo concorrente = veiculoOutputPort.salvar(DadosContrato.veiculo());
+        List<Veiculo> lote = new ArrayList<>();
+        lote.add(DadosContrato.veiculo("Contrato", concorrente.getPlaca(), "50000.00"));
+        for (int i = 1; i < quantidade; i++) {
+            lote.add(DadosContrato.veiculo());
+        }
+
+        AtomicBoolean primeiraConsulta = new AtomicBoolean(true);
+        List<ResultadoCadastroLote> resultados = veiculosComCorrida(() -> primeiraConsulta.getAndSet(false))
+                .cadastrarEmLote(lote);
+
+        assertThat(resultados.get(0).isCadastrado()).isFalse();
+        assertThat(resultados.get(0).getErro()).isEqualTo("Já existe veículo com esta placa");
+        assertThat(resultados.subList(1, quantidade)).allMatch(ResultadoCadastroLote::isCadastrado);
+        assertThat(veiculoOutputPort.placasExistentes(lote.stream().map(Veiculo::getPlaca).toList()))
+                .hasSize(quantidade);
+    }
+
+    /**
+     * Porta de entrada em que as consultas de placas existentes escolhidas
+     * não enxergam nenhuma placa, como se as concorrentes tivessem sido
+     * cadastradas logo depois
+     */
+    private VeiculoInputPort veiculosComCorrida(BooleanSupplier ocultar) {
+        VeiculoOutputPort comCorrida = (VeiculoOutputPort) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{VeiculoOutputPort.class}, (proxy, metodo, args) -> {
+                    if (metodo.getName().equals("placasExistentes") && ocultar.getAsBoolean()) {
+                        return Set.of();
+                    }
+                    try {
+                        return metodo.invoke(veiculoOutputPort, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        return new VeiculoInputPortTransacional(new VeiculoService(comCorrida, evento -> { }),
+                new TransactionTemplate(transactionManager));
+    }
+}
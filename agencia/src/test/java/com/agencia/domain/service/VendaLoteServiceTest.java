@@ -0,0 +1,168 @@
+package com.agencia.domain.service;
+
+import com.agencia.domain.exception.VendaLoteRecusadaException;
+import com.agencia.domain.model.Cliente;
+import com.agencia.domain.model.ItemVendaLote;
+import com.agencia.domain.model.ModoVendaLote;
+import com.agencia.domain.model.ResultadoVendaLote;
+import com.agencia.domain.model.Veiculo;
+import com.agencia.domain.model.VendaLote;
+import com.agencia.ports.input.VendaInputPort;
+import com.agencia.ports.output.ClienteOutputPort;
+import com.agencia.ports.output.DadosContrato;
+import com.agencia.ports.output.VeiculoOutputPort;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TESTE DA VENDA EM LOTE
+ * Tudo-ou-nada não deixa reserva nem venda para trás quando um veículo falha;
+ * o modo parcial vende os disponíveis e informa o motivo dos demais.
+ * Lotes concorrentes com os mesmos veículos, em ordens diferentes,
+ * vendem cada veículo uma única vez e sem deadlock.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        // Todos os lotes concorrentes precisam chegar ao serviço (sem recusa por sobrecarga)
+        "agencia.limite.concorrencia.habilitado=false"
+})
+class VendaLoteServiceTest {
+
+    @Autowired
+    private VendaInputPort vendaInputPort;
+
+    @Autowired
+    private VeiculoOutputPort veiculoOutputPort;
+
+    @Autowired
+    private ClienteOutputPort clienteOutputPort;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void tudoOuNadaRecusaOLoteInteiroSemDeixarReservas() {
+        Cliente cliente = clienteOutputPort.salvar(DadosContrato.cliente());
+        List<Long> ids = cadastrar(3);
+        veiculoOutputPort.reservar(ids.get(1));
+
+        assertThatThrownBy(() -> vendaInputPort.realizarEmLote(lote(cliente, ids, ModoVendaLote.TUDO_OU_NADA)))
+                .isInstanceOfSatisfying(VendaLoteRecusadaException.class, e -> {
+                    assertThat(e.getResultados()).noneMatch(ResultadoVendaLote::isVendido);
+                    assertThat(e.getResultados().get(1).getErro()).isEqualTo("Veículo indisponível para venda");
+                    assertThat(e.getResultados().get(0).getErro()).startsWith("Lote recusado");
+                });
+
+        assertThat(disponivel(ids.get(0))).isTrue();
+        assertThat(disponivel(ids.get(2))).isTrue();
+        assertThat(vendas(ids)).isZero();
+    }
+
+    @Test
+    void parcialVendeOsDisponiveisEInformaOsRecusados() {
+        Cliente cliente = clienteOutputPort.salvar(DadosContrato.cliente());
+        List<Long> cadastrados = cadastrar(3);
+        veiculoOutputPort.reservar(cadastrados.get(2));
+        List<Long> ids = new ArrayList<>(cadastrados);
+        ids.add(Long.MAX_VALUE);
+        ids.add(cadastrados.get(0));
+
+        List<ResultadoVendaLote> resultados = vendaInputPort.realizarEmLote(
+                lote(cliente, ids, ModoVendaLote.PARCIAL));
+
+        assertThat(resultados).extracting(ResultadoVendaLote::isVendido)
+                .containsExactly(true, true, false, false, false);
+        assertThat(resultados.get(0).getVenda().getId()).isNotNull();
+        assertThat(resultados.get(0).getVenda().getCliente().getId()).isEqualTo(cliente.getId());
+        assertThat(resultados.get(3).getErro()).contains("não encontrado");
+        assertThat(resultados.get(4).getErro()).contains("repetido");
+        assertThat(vendas(cadastrados)).isEqualTo(2);
+    }
+
+    @Test
+    void lotesConcorrentesVendemCadaVeiculoUmaUnicaVez() throws Exception {
+        Cliente cliente = clienteOutputPort.salvar(DadosContrato.cliente());
+        List<Long> ids = cadastrar(40);
+        int compradores = 6;
+
+        // Mesmos veículos, cada comprador em uma ordem: sem travas em ordem de ID, daria deadlock
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(compradores);
+        List<Future<Long>> vendidos = new ArrayList<>();
+        for (int i = 0; i < compradores; i++) {
+            List<Long> ordem = new ArrayList<>(ids);
+            Collections.shuffle(ordem, new Random(i));
+            ModoVendaLote modo = i % 2 == 0 ? ModoVendaLote.PARCIAL : ModoVendaLote.TUDO_OU_NADA;
+            vendidos.add(executor.submit(() -> {
+                largada.await();
+                try {
+                    return vendaInputPort.realizarEmLote(lote(cliente, ordem, modo)).stream()
+                            .filter(ResultadoVendaLote::isVendido)
+                            .count();
+                } catch (VendaLoteRecusadaException e) {
+                    return 0L;
+                }
+            }));
+        }
+        largada.countDown();
+
+        long total = 0;
+        for (Future<Long> futuro : vendidos) {
+            total += futuro.get();
+        }
+        executor.shutdown();
+
+        assertThat(total).isEqualTo(ids.size());
+        for (Long id : ids) {
+            assertThat(vendas(List.of(id))).isEqualTo(1);
+            assertThat(disponivel(id)).isFalse();
+        }
+    }
+
+    private List<Long> cadastrar(int quantidade) {
+        List<Veiculo> novos = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            novos.add(DadosContrato.veiculo());
+        }
+        return veiculoOutputPort.salvarTodos(novos).stream().map(Veiculo::getId).toList();
+    }
+
+    private static VendaLote lote(Cliente cliente, List<Long> ids, ModoVendaLote modo) {
+        return VendaLote.builder()
+                .cliente(cliente)
+                .modo(modo)
+                .itens(ids.stream()
+                        .map(id -> ItemVendaLote.builder().veiculoId(id).valorVenda(new BigDecimal("40000.00")).build())
+                        .toList())
+                .build();
+    }
+
+    private boolean disponivel(Long id) {
+        return jdbcTemplate.queryForObject("SELECT disponivel FROM veiculos WHERE id = ?", Boolean.class, id);
+    }
+
+    private int vendas(List<Long> ids) {
+        int total = 0;
+        for (Long id : ids) {
+            total += jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM vendas WHERE veiculo_id = ?", Integer.class, id);
+        }
+        return total;
+    }
+}
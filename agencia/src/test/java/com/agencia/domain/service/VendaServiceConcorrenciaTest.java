@@ -0,0 +1,136 @@
+package com.agencia.domain.service;
+
+import com.agencia.domain.exception.VeiculoIndisponivelException;
+import com.agencia.domain.model.Cliente;
+import com.agencia.domain.model.Veiculo;
+import com.agencia.domain.model.Venda;
+import com.agencia.ports.input.VeiculoInputPort;
+import com.agencia.ports.input.VendaInputPort;
+import com.agencia.ports.output.ClienteOutputPort;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TESTE DE ESTRESSE - Venda concorrente
+ * Vários compradores tentam comprar o mesmo veículo ao mesmo tempo.
+ * Para cada veículo deve haver exatamente uma venda; os demais
+ * compradores recebem VeiculoIndisponivelException.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        // Todos os compradores precisam chegar ao serviço (sem recusa por sobrecarga)
+        "agencia.limite.concorrencia.habilitado=false"
+})
+class VendaServiceConcorrenciaTest {
+
+    private static final int VEICULOS = 50;
+    private static final int COMPRADORES_POR_VEICULO = 16;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private VendaInputPort vendaInputPort;
+
+    @Autowired
+    private VeiculoInputPort veiculoInputPort;
+
+    @Autowired
+    private ClienteOutputPort clienteOutputPort;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void exatamenteUmCompradorPorVeiculo() throws Exception {
+        Cliente cliente = clienteOutputPort.salvar(Cliente.builder()
+                .nome("Comprador Concorrente")
+                .cpf("98765432100")
+                .build());
+
+        List<Long> veiculoIds = new ArrayList<>();
+        for (int i = 0; i < VEICULOS; i++) {
+            veiculoIds.add(veiculoInputPort.cadastrar(Veiculo.builder()
+                    .marca("Honda")
+                    .modelo("Civic")
+                    .ano(2022)
+                    .placa(String.format("C%06d", i))
+                    .cor("Prata")
+                    .preco(new BigDecimal("120000"))
+                    .build()).getId());
+        }
+
+        // Todas as tentativas partem de um veículo carregado ainda disponível,
+        // como faria cada requisição antes de chamar realizar
+        List<Venda> tentativas = new ArrayList<>();
+        for (Long veiculoId : veiculoIds) {
+            for (int i = 0; i < COMPRADORES_POR_VEICULO; i++) {
+                tentativas.add(Venda.builder()
+                        .veiculo(veiculoInputPort.buscarPorId(veiculoId))
+                        .cliente(cliente)
+                        .valorVenda(new BigDecimal("115000"))
+                        .build());
+            }
+        }
+
+        Map<Long, AtomicInteger> vencedores = new ConcurrentHashMap<>();
+        AtomicInteger recusadas = new AtomicInteger();
+        List<Throwable> errosInesperados = new ArrayList<>();
+        CountDownLatch largada = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futuros = new ArrayList<>();
+        for (Venda tentativa : tentativas) {
+            futuros.add(executor.submit(() -> {
+                largada.await();
+                try {
+                    Venda venda = vendaInputPort.realizar(tentativa);
+                    vencedores.computeIfAbsent(venda.getVeiculo().getId(), id -> new AtomicInteger())
+                            .incrementAndGet();
+                } catch (VeiculoIndisponivelException e) {
+                    recusadas.incrementAndGet();
+                } catch (Throwable e) {
+                    synchronized (errosInesperados) {
+                        errosInesperados.add(e);
+                    }
+                }
+                return null;
+            }));
+        }
+
+        largada.countDown();
+        for (Future<?> futuro : futuros) {
+            futuro.get();
+        }
+        executor.shutdown();
+
+        assertThat(errosInesperados).isEmpty();
+        assertThat(vencedores).hasSize(VEICULOS);
+        assertThat(vencedores.values()).allSatisfy(v -> assertThat(v.get()).isEqualTo(1));
+        assertThat(recusadas.get()).isEqualTo(VEICULOS * (COMPRADORES_POR_VEICULO - 1));
+
+        // O banco confirma: uma venda por veículo e nenhum veículo ainda disponível
+        for (Long veiculoId : veiculoIds) {
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM vendas WHERE veiculo_id = ?", Integer.class, veiculoId))
+                    .isEqualTo(1);
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT disponivel FROM veiculos WHERE id = ?", Boolean.class, veiculoId))
+                    .isFalse();
+        }
+    }
+}
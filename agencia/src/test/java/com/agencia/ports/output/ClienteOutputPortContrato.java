@@ -0,0 +1,89 @@
+package com.agencia.ports.output;
+
+import com.agencia.domain.model.Cliente;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CONTRATO DA PORTA DE SAÍDA - ClienteOutputPort
+ * A medição de vazão é @Tag("benchmark"): roda com -Pbenchmark.
+ */
+public abstract class ClienteOutputPortContrato {
+
+    protected abstract ClienteOutputPort porta();
+
+    protected abstract String adaptador();
+
+    @Test
+    void salvarEBuscarPorIdECpf() {
+        Cliente novo = DadosContrato.cliente();
+
+        Cliente salvo = porta().salvar(novo);
+
+        assertThat(salvo.getId()).isNotNull();
+        assertThat(porta().buscarPorId(salvo.getId()).orElseThrow().getCpf()).isEqualTo(novo.getCpf());
+        assertThat(porta().buscarPorCpf(novo.getCpf()).orElseThrow().getId()).isEqualTo(salvo.getId());
+        assertThat(porta().buscarPorCpf(DadosContrato.cpf())).isEmpty();
+        assertThat(porta().buscarPorId(Long.MAX_VALUE)).isEmpty();
+    }
+
+    @Test
+    void cpfEhUnico() {
+        Cliente salvo = porta().salvar(DadosContrato.cliente());
+        Cliente mesmoCpf = Cliente.builder().nome("Outro").cpf(salvo.getCpf()).build();
+
+        assertThatThrownBy(() -> porta().salvar(mesmoCpf))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(porta().buscarPorCpf(salvo.getCpf()).orElseThrow().getId()).isEqualTo(salvo.getId());
+    }
+
+    @Test
+    void versaoMudaACadaAlteracao() {
+        Cliente salvo = porta().salvar(DadosContrato.cliente());
+        assertThat(porta().buscarVersao(salvo.getId())).contains(salvo.getVersao());
+        assertThat(porta().buscarVersao(Long.MAX_VALUE)).isEmpty();
+
+        Cliente alterado = porta().salvar(Cliente.builder()
+                .id(salvo.getId())
+                .nome("Nome alterado")
+                .cpf(salvo.getCpf())
+                .versao(salvo.getVersao())
+                .build());
+
+        assertThat(alterado.getVersao()).isNotEqualTo(salvo.getVersao());
+        assertThat(porta().buscarVersao(salvo.getId())).contains(alterado.getVersao());
+        assertThat(porta().buscarPorId(salvo.getId()).orElseThrow().getNome()).isEqualTo("Nome alterado");
+    }
+
+    /**
+     * Carga mista: cadastro, leitura por ID e leitura por CPF
+     */
+    @Test
+    @Tag("benchmark")
+    void vazaoConcorrente() throws Exception {
+        int threads = MedicaoVazao.THREADS;
+        int operacoes = MedicaoVazao.OPERACOES;
+        List<Cliente> base = new ArrayList<>();
+        for (int i = 0; i < operacoes; i++) {
+            base.add(porta().salvar(DadosContrato.cliente()));
+        }
+
+        long executadas = MedicaoVazao.medir("ClienteOutputPort", adaptador(), (thread, i) -> {
+            Cliente alvo = base.get(i);
+            switch (i % 3) {
+                case 0 -> porta().salvar(DadosContrato.cliente());
+                case 1 -> porta().buscarPorId(alvo.getId());
+                default -> porta().buscarPorCpf(alvo.getCpf());
+            }
+        });
+
+        assertThat(executadas).isEqualTo((long) threads * operacoes);
+    }
+}
@@ -0,0 +1,75 @@
+package com.agencia.ports.output;
+
+import com.agencia.domain.model.Cliente;
+import com.agencia.domain.model.Veiculo;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DADOS DOS CONTRATOS DE PORTA
+ * Os contratos rodam sobre bancos que já têm dados de outros testes:
+ * placas, CPFs e marcas levam um prefixo sorteado por execução, e as
+ * consultas dos contratos filtram por eles.
+ */
+public final class DadosContrato {
+
+    private static final String EXECUCAO = Integer.toString(
+            ThreadLocalRandom.current().nextInt(36 * 36 * 36), 36).toUpperCase();
+    private static final AtomicInteger SEQUENCIA = new AtomicInteger();
+
+    private DadosContrato() {
+    }
+
+    /**
+     * Marca exclusiva: isola as buscas por filtro do que outros testes gravaram
+     */
+    public static String marca() {
+        return "Contrato" + EXECUCAO + SEQUENCIA.incrementAndGet();
+    }
+
+    /**
+     * Placa de 10 caracteres (tamanho da coluna), única na execução
+     */
+    public static String placa() {
+        return String.format("T%3s%06d", EXECUCAO, SEQUENCIA.incrementAndGet()).replace(' ', '0');
+    }
+
+    /**
+     * CPF de 11 dígitos, único na execução
+     */
+    public static String cpf() {
+        return String.format("9%05d%05d", Integer.parseInt(EXECUCAO, 36) % 100_000,
+                SEQUENCIA.incrementAndGet() % 100_000);
+    }
+
+    public static Veiculo veiculo(String marca, String placa, String preco) {
+        return Veiculo.builder()
+                .marca(marca)
+                .modelo("Modelo")
+                .ano(2022)
+                .placa(placa)
+                .cor("Prata")
+                .preco(new BigDecimal(preco))
+                .disponivel(true)
+                // Precisão de microssegundos, como a coluna do banco
+                .dataCadastro(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS))
+                .build();
+    }
+
+    public static Veiculo veiculo() {
+        return veiculo("Contrato", placa(), "50000.00");
+    }
+
+    public static Cliente cliente() {
+        return Cliente.builder()
+                .nome("Cliente Contrato")
+                .cpf(cpf())
+                .telefone("11999990000")
+                .email("contrato@agencia.com")
+                .build();
+    }
+}
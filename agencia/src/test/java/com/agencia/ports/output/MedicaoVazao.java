@@ -0,0 +1,76 @@
+package com.agencia.ports.output;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * MEDIÇÃO DE VAZÃO DOS CONTRATOS DE PORTA
+ * Executa a mesma carga em várias threads (largada única) e mede cada
+ * operação: vazão total (ops/s) e latência p50/p99.
+ * Tamanho da carga: -Dcontrato.threads=8 -Dcontrato.operacoes=500 (por thread)
+ */
+public final class MedicaoVazao {
+
+    public static final int THREADS = Integer.getInteger("contrato.threads", 8);
+    public static final int OPERACOES = Integer.getInteger("contrato.operacoes", 500);
+
+    /**
+     * Uma operação da carga; i é o número da operação na thread
+     */
+    @FunctionalInterface
+    public interface Operacao {
+        void executar(int thread, int i);
+    }
+
+    private MedicaoVazao() {
+    }
+
+    /**
+     * Roda a carga, imprime uma linha com o resultado e devolve a quantidade de operações
+     */
+    public static long medir(String porta, String adapter, Operacao operacao) throws Exception {
+        // Aquecimento: uma fração da carga, fora da medição
+        for (int i = 0; i < Math.max(OPERACOES / 10, 1); i++) {
+            operacao.executar(THREADS, i);
+        }
+
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<long[]>> futuros = new ArrayList<>(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            futuros.add(executor.submit(() -> {
+                long[] amostras = new long[OPERACOES];
+                largada.await();
+                for (int i = 0; i < OPERACOES; i++) {
+                    long inicio = System.nanoTime();
+                    operacao.executar(thread, i);
+                    amostras[i] = System.nanoTime() - inicio;
+                }
+                return amostras;
+            }));
+        }
+
+        long inicio = System.nanoTime();
+        largada.countDown();
+        long[] todas = new long[THREADS * OPERACOES];
+        for (int t = 0; t < THREADS; t++) {
+            System.arraycopy(futuros.get(t).get(), 0, todas, t * OPERACOES, OPERACOES);
+        }
+        long duracao = System.nanoTime() - inicio;
+        executor.shutdown();
+
+        Arrays.sort(todas);
+        System.out.printf("contrato %-18s %-10s threads=%d ops=%,d ops/s=%,.0f p50=%,dus p99=%,dus%n",
+                porta, adapter, THREADS, todas.length,
+                todas.length * 1e9 / duracao,
+                todas[todas.length / 2] / 1_000,
+                todas[(int) (todas.length * 0.99)] / 1_000);
+        return todas.length;
+    }
+}
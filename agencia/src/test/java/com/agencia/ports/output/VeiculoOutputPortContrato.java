@@ -0,0 +1,332 @@
+package com.agencia.ports.output;
+
+import com.agencia.domain.model.FiltroVeiculo;
+import com.agencia.domain.model.OrdenacaoVeiculo;
+import com.agencia.domain.model.ResultadoBusca;
+import com.agencia.domain.model.Veiculo;
+import com.agencia.domain.model.VersaoRegistro;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CONTRATO DA PORTA DE SAÍDA - VeiculoOutputPort
+ * O que o domínio espera de QUALQUER adaptador de veículos. Cada adaptador
+ * tem uma subclasse que só informa qual implementação testar; uma regra nova
+ * da porta entra aqui e passa a valer para todos.
+ * A medição de vazão é @Tag("benchmark"): roda com -Pbenchmark.
+ */
+public abstract class VeiculoOutputPortContrato {
+
+    /**
+     * Implementação da porta sob teste
+     */
+    protected abstract VeiculoOutputPort porta();
+
+    /**
+     * Nome do adaptador na saída da medição de vazão
+     */
+    protected abstract String adaptador();
+
+    @Test
+    void salvarAtribuiIdERecuperaOsMesmosDados() {
+        Veiculo novo = DadosContrato.veiculo();
+
+        Veiculo salvo = porta().salvar(novo);
+
+        assertThat(salvo.getId()).isNotNull();
+        Veiculo lido = porta().buscarPorId(salvo.getId()).orElseThrow();
+        Veiculo listado = porta().listarTodos(salvo.getId() - 1, 1).get(0);
+        for (Veiculo veiculo : List.of(lido, listado)) {
+            assertThat(veiculo.getId()).isEqualTo(salvo.getId());
+            assertThat(veiculo.getPlaca()).isEqualTo(novo.getPlaca());
+            assertThat(veiculo.getMarca()).isEqualTo(novo.getMarca());
+            assertThat(veiculo.getModelo()).isEqualTo(novo.getModelo());
+            assertThat(veiculo.getAno()).isEqualTo(novo.getAno());
+            assertThat(veiculo.getCor()).isEqualTo(novo.getCor());
+            assertThat(veiculo.getPreco()).isEqualByComparingTo(novo.getPreco());
+            assertThat(veiculo.getDisponivel()).isTrue();
+            assertThat(veiculo.getDataCadastro()).isEqualTo(novo.getDataCadastro());
+            assertThat(veiculo.getVersao()).isEqualTo(salvo.getVersao());
+        }
+        assertThat(porta().buscarPorId(Long.MAX_VALUE)).isEmpty();
+    }
+
+    @Test
+    void placaEhUnica() {
+        String placa = DadosContrato.placa();
+        porta().salvar(DadosContrato.veiculo("Contrato", placa, "10000.00"));
+
+        assertThatThrownBy(() -> porta().salvar(DadosContrato.veiculo("Outra", placa, "20000.00")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThatThrownBy(() -> porta().salvarTodos(List.of(
+                DadosContrato.veiculo(), DadosContrato.veiculo("Contrato", placa, "30000.00"))))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void existePorPlacaEPlacasExistentes() {
+        Veiculo salvo = porta().salvar(DadosContrato.veiculo());
+        String livre = DadosContrato.placa();
+
+        assertThat(porta().existePorPlaca(salvo.getPlaca())).isTrue();
+        assertThat(porta().existePorPlaca(livre)).isFalse();
+        assertThat(porta().placasExistentes(List.of(salvo.getPlaca(), livre)))
+                .isEqualTo(Set.of(salvo.getPlaca()));
+        assertThat(porta().placasExistentes(List.of())).isEmpty();
+    }
+
+    @Test
+    void salvarTodosMantemAOrdemEAtribuiIds() {
+        List<Veiculo> novos = List.of(DadosContrato.veiculo(), DadosContrato.veiculo(), DadosContrato.veiculo());
+
+        List<Veiculo> salvos = porta().salvarTodos(novos);
+
+        assertThat(salvos).extracting(Veiculo::getPlaca)
+                .containsExactly(novos.get(0).getPlaca(), novos.get(1).getPlaca(), novos.get(2).getPlaca());
+        assertThat(salvos).extracting(Veiculo::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(porta().buscarPorId(salvos.get(2).getId())).isPresent();
+    }
+
+    @Test
+    void reservarTiraODisponivelDasListagens() {
+        String marca = DadosContrato.marca();
+        List<Veiculo> salvos = porta().salvarTodos(List.of(
+                DadosContrato.veiculo(marca, DadosContrato.placa(), "10000.00"),
+                DadosContrato.veiculo(marca, DadosContrato.placa(), "20000.00"),
+                DadosContrato.veiculo(marca, DadosContrato.placa(), "30000.00")));
+        Long reservado = salvos.get(1).getId();
+        Long primeiro = salvos.stream().mapToLong(Veiculo::getId).min().orElseThrow();
+
+        assertThat(porta().reservar(reservado)).isTrue();
+        assertThat(porta().reservar(reservado)).isFalse();
+
+        assertThat(porta().buscarPorId(reservado).orElseThrow().getDisponivel()).isFalse();
+        assertThat(buscarPorMarca(marca, true).getItens()).extracting(Veiculo::getId)
+                .containsExactly(salvos.get(0).getId(), salvos.get(2).getId());
+        assertThat(buscarPorMarca(marca, false).getItens()).extracting(Veiculo::getId)
+                .containsExactly(reservado);
+        assertThat(porta().listarDisponiveis(primeiro - 1, 1_000)).extracting(Veiculo::getId)
+                .contains(salvos.get(0).getId(), salvos.get(2).getId())
+                .doesNotContain(reservado)
+                .isSorted();
+        assertThat(porta().listarTodos(primeiro - 1, 1_000)).extracting(Veiculo::getId)
+                .contains(reservado);
+        assertThat(porta().reservar(Long.MAX_VALUE)).isFalse();
+    }
+
+    @Test
+    void buscarPorIdsIgnoraOsInexistentes() {
+        List<Veiculo> salvos = porta().salvarTodos(List.of(DadosContrato.veiculo(), DadosContrato.veiculo()));
+
+        List<Veiculo> lidos = porta().buscarPorIds(List.of(salvos.get(1).getId(), Long.MAX_VALUE, salvos.get(0).getId()));
+
+        assertThat(lidos).extracting(Veiculo::getPlaca)
+                .containsExactlyInAnyOrder(salvos.get(0).getPlaca(), salvos.get(1).getPlaca());
+        assertThat(porta().buscarPorIds(List.of())).isEmpty();
+    }
+
+    @Test
+    void reservarTodosDevolveSoOsQueEstavamDisponiveis() {
+        List<Veiculo> salvos = porta().salvarTodos(List.of(
+                DadosContrato.veiculo(), DadosContrato.veiculo(), DadosContrato.veiculo()));
+        Long jaReservado = salvos.get(1).getId();
+        porta().reservar(jaReservado);
+
+        Set<Long> reservados = porta().reservarTodos(List.of(
+                salvos.get(2).getId(), jaReservado, salvos.get(0).getId(), Long.MAX_VALUE));
+
+        assertThat(reservados).containsExactlyInAnyOrder(salvos.get(0).getId(), salvos.get(2).getId());
+        assertThat(porta().buscarPorId(salvos.get(0).getId()).orElseThrow().getDisponivel()).isFalse();
+        assertThat(porta().buscarPorId(salvos.get(2).getId()).orElseThrow().getDisponivel()).isFalse();
+        assertThat(porta().reservarTodos(List.of(salvos.get(0).getId()))).isEmpty();
+    }
+
+    @Test
+    void reservaConcorrenteTemUmUnicoVencedor() throws Exception {
+        Long id = porta().salvar(DadosContrato.veiculo()).getId();
+        int compradores = 8;
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(compradores);
+        List<Future<Boolean>> resultados = new ArrayList<>();
+        for (int i = 0; i < compradores; i++) {
+            resultados.add(executor.submit(() -> {
+                largada.await();
+                return porta().reservar(id);
+            }));
+        }
+        largada.countDown();
+
+        int vencedores = 0;
+        for (Future<Boolean> resultado : resultados) {
+            vencedores += resultado.get() ? 1 : 0;
+        }
+        executor.shutdown();
+
+        assertThat(vencedores).isEqualTo(1);
+    }
+
+    @Test
+    void atualizarAPlacaLiberaAAntiga() {
+        Veiculo salvo = porta().salvar(DadosContrato.veiculo());
+        String nova = DadosContrato.placa();
+
+        porta().salvar(Veiculo.builder()
+                .id(salvo.getId())
+                .marca(salvo.getMarca())
+                .modelo(salvo.getModelo())
+                .ano(salvo.getAno())
+                .placa(nova)
+                .cor("Azul")
+                .preco(new BigDecimal("45000.00"))
+                .disponivel(salvo.getDisponivel())
+                .dataCadastro(salvo.getDataCadastro())
+                .versao(salvo.getVersao())
+                .build());
+
+        Veiculo lido = porta().buscarPorId(salvo.getId()).orElseThrow();
+        assertThat(lido.getPlaca()).isEqualTo(nova);
+        assertThat(lido.getCor()).isEqualTo("Azul");
+        assertThat(porta().existePorPlaca(nova)).isTrue();
+        assertThat(porta().existePorPlaca(salvo.getPlaca())).isFalse();
+        // A placa antiga pode ser usada por outro veículo
+        porta().salvar(DadosContrato.veiculo("Contrato", salvo.getPlaca(), "10000.00"));
+    }
+
+    @Test
+    void versaoMudaACadaAlteracaoERejeitaGravacaoSobreVersaoAntiga() {
+        Veiculo salvo = porta().salvar(DadosContrato.veiculo());
+        assertThat(salvo.getVersao()).isNotNull();
+        assertThat(porta().buscarVersao(salvo.getId())).contains(salvo.getVersao());
+        assertThat(porta().buscarVersao(Long.MAX_VALUE)).isEmpty();
+
+        Veiculo alterado = porta().salvar(comPreco(salvo, "41000.00"));
+        assertThat(alterado.getVersao()).isNotEqualTo(salvo.getVersao());
+        assertThat(porta().buscarVersao(salvo.getId())).contains(alterado.getVersao());
+        assertThat(porta().buscarPorId(salvo.getId()).orElseThrow().getVersao()).isEqualTo(alterado.getVersao());
+
+        // Gravação a partir da leitura antiga
+        assertThatThrownBy(() -> porta().salvar(comPreco(salvo, "42000.00")))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(porta().buscarPorId(salvo.getId()).orElseThrow().getPreco()).isEqualByComparingTo("41000.00");
+
+        assertThat(porta().reservar(salvo.getId())).isTrue();
+        assertThat(porta().buscarVersao(salvo.getId())).isPresent().get().isNotEqualTo(alterado.getVersao());
+    }
+
+    @Test
+    void versoesDisponiveisAcompanhamAListagemDeDisponiveis() {
+        List<Veiculo> salvos = porta().salvarTodos(List.of(
+                DadosContrato.veiculo(), DadosContrato.veiculo(), DadosContrato.veiculo()));
+        Long primeiro = salvos.get(0).getId();
+        porta().reservar(salvos.get(1).getId());
+
+        List<Veiculo> disponiveis = porta().listarDisponiveis(primeiro - 1, 2);
+        List<VersaoRegistro> versoes = porta().listarVersoesDisponiveis(primeiro - 1, 2);
+
+        assertThat(versoes).extracting(VersaoRegistro::getId)
+                .containsExactlyElementsOf(disponiveis.stream().map(Veiculo::getId).toList());
+        assertThat(versoes).extracting(VersaoRegistro::getVersao)
+                .containsExactlyElementsOf(disponiveis.stream().map(Veiculo::getVersao).toList());
+        assertThat(versoes).extracting(VersaoRegistro::getId).doesNotContain(salvos.get(1).getId());
+    }
+
+    @Test
+    void deletarRemoveVeiculoEPlaca() {
+        Veiculo salvo = porta().salvar(DadosContrato.veiculo());
+
+        porta().deletar(salvo.getId());
+
+        assertThat(porta().buscarPorId(salvo.getId())).isEmpty();
+        assertThat(porta().existePorPlaca(salvo.getPlaca())).isFalse();
+    }
+
+    @Test
+    void buscarOrdenaEPagina() {
+        String marca = DadosContrato.marca();
+        porta().salvarTodos(List.of(
+                DadosContrato.veiculo(marca, DadosContrato.placa(), "30000.00"),
+                DadosContrato.veiculo(marca, DadosContrato.placa(), "10000.00"),
+                DadosContrato.veiculo(marca, DadosContrato.placa(), "20000.00")));
+
+        ResultadoBusca<Veiculo> primeira = porta().buscar(filtro(marca, null, 0));
+        ResultadoBusca<Veiculo> segunda = porta().buscar(filtro(marca, null, 1));
+
+        assertThat(primeira.getItens()).extracting(v -> v.getPreco().intValue()).containsExactly(10000, 20000);
+        assertThat(primeira.isTemProxima()).isTrue();
+        assertThat(segunda.getItens()).extracting(v -> v.getPreco().intValue()).containsExactly(30000);
+        assertThat(segunda.isTemProxima()).isFalse();
+    }
+
+    private static Veiculo comPreco(Veiculo veiculo, String preco) {
+        return Veiculo.builder()
+                .id(veiculo.getId())
+                .marca(veiculo.getMarca())
+                .modelo(veiculo.getModelo())
+                .ano(veiculo.getAno())
+                .placa(veiculo.getPlaca())
+                .cor(veiculo.getCor())
+                .preco(new BigDecimal(preco))
+                .disponivel(veiculo.getDisponivel())
+                .dataCadastro(veiculo.getDataCadastro())
+                .versao(veiculo.getVersao())
+                .build();
+    }
+
+    /**
+     * Carga mista de leitura e escrita: cadastro, reserva, verificação de
+     * placa, listagem disponível (keyset) e leitura por ID
+     */
+    @Test
+    @Tag("benchmark")
+    void vazaoConcorrente() throws Exception {
+        int threads = MedicaoVazao.THREADS;
+        int operacoes = MedicaoVazao.OPERACOES;
+        List<Veiculo> novos = new ArrayList<>();
+        for (int i = 0; i < (threads + 1) * operacoes; i++) {
+            novos.add(DadosContrato.veiculo());
+        }
+        List<Veiculo> base = porta().salvarTodos(novos);
+        long primeiro = base.get(0).getId();
+
+        long executadas = MedicaoVazao.medir("VeiculoOutputPort", adaptador(), (thread, i) -> {
+            Veiculo alvo = base.get(thread * operacoes + i);
+            switch (i % 5) {
+                case 0 -> porta().salvar(DadosContrato.veiculo());
+                case 1 -> porta().reservar(alvo.getId());
+                case 2 -> porta().existePorPlaca(alvo.getPlaca());
+                case 3 -> porta().listarDisponiveis(primeiro + i, 20);
+                default -> porta().buscarPorId(alvo.getId());
+            }
+        });
+
+        assertThat(executadas).isEqualTo((long) threads * operacoes);
+    }
+
+    private ResultadoBusca<Veiculo> buscarPorMarca(String marca, boolean disponivel) {
+        return porta().buscar(filtro(marca, disponivel, 0));
+    }
+
+    private static FiltroVeiculo filtro(String marca, Boolean disponivel, int pagina) {
+        return FiltroVeiculo.builder()
+                .marca(marca)
+                .disponivel(disponivel)
+                .ordenacao(OrdenacaoVeiculo.PRECO_ASC)
+                .pagina(pagina)
+                .tamanho(2)
+                .build();
+    }
+}
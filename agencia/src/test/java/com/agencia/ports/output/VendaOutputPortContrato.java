@@ -0,0 +1,157 @@
+package com.agencia.ports.output;
+
+import com.agencia.domain.model.Cliente;
+import com.agencia.domain.model.ResumoVenda;
+import com.agencia.domain.model.Veiculo;
+import com.agencia.domain.model.Venda;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CONTRATO DA PORTA DE SAÍDA - VendaOutputPort
+ * Veículo e cliente da venda são gravados pelas portas do mesmo adaptador
+ * (as vendas referenciam os dois, como as chaves estrangeiras no banco).
+ * A medição de vazão é @Tag("benchmark"): roda com -Pbenchmark.
+ */
+public abstract class VendaOutputPortContrato {
+
+    protected abstract VendaOutputPort porta();
+
+    protected abstract VeiculoOutputPort veiculos();
+
+    protected abstract ClienteOutputPort clientes();
+
+    protected abstract String adaptador();
+
+    @Test
+    void salvarPersisteAVendaComVeiculoECliente() {
+        Veiculo veiculo = veiculos().salvar(DadosContrato.veiculo());
+        Cliente cliente = clientes().salvar(DadosContrato.cliente());
+
+        Venda salva = porta().salvar(venda(veiculo, cliente, "48000.00"));
+
+        assertThat(salva.getId()).isNotNull();
+        Venda lida = porta().buscarPorVeiculo(veiculo.getId()).orElseThrow();
+        assertThat(lida.getId()).isEqualTo(salva.getId());
+        assertThat(lida.getValorVenda()).isEqualByComparingTo("48000.00");
+        assertThat(lida.getVeiculo().getPlaca()).isEqualTo(veiculo.getPlaca());
+        assertThat(lida.getCliente().getCpf()).isEqualTo(cliente.getCpf());
+        assertThat(porta().buscarPorVeiculo(Long.MAX_VALUE)).isEmpty();
+    }
+
+    @Test
+    void listagensTrazemAVendaEmOrdemDeId() {
+        Cliente cliente = clientes().salvar(DadosContrato.cliente());
+        List<Venda> salvas = new ArrayList<>();
+        for (Veiculo veiculo : veiculos().salvarTodos(List.of(DadosContrato.veiculo(), DadosContrato.veiculo()))) {
+            salvas.add(porta().salvar(venda(veiculo, cliente, "30000.00")));
+        }
+        Long cursor = salvas.get(0).getId() - 1;
+
+        assertThat(porta().listarTodas(cursor, 1_000)).extracting(Venda::getId)
+                .startsWith(salvas.get(0).getId(), salvas.get(1).getId())
+                .isSorted();
+        Venda listada = porta().listarTodas(cursor, 1).get(0);
+        Veiculo veiculo = salvas.get(0).getVeiculo();
+        assertThat(listada.getValorVenda()).isEqualByComparingTo("30000.00");
+        assertThat(listada.getVeiculo().getId()).isEqualTo(veiculo.getId());
+        assertThat(listada.getVeiculo().getPlaca()).isEqualTo(veiculo.getPlaca());
+        assertThat(listada.getVeiculo().getModelo()).isEqualTo(veiculo.getModelo());
+        assertThat(listada.getVeiculo().getCor()).isEqualTo(veiculo.getCor());
+        assertThat(listada.getCliente().getId()).isEqualTo(cliente.getId());
+        assertThat(listada.getCliente().getCpf()).isEqualTo(cliente.getCpf());
+        assertThat(listada.getCliente().getEmail()).isEqualTo(cliente.getEmail());
+        List<ResumoVenda> resumos = porta().listarResumos(cursor, 2);
+        assertThat(resumos).extracting(ResumoVenda::getId)
+                .containsExactly(salvas.get(0).getId(), salvas.get(1).getId());
+        assertThat(resumos.get(0).getPlaca()).isEqualTo(salvas.get(0).getVeiculo().getPlaca());
+        assertThat(resumos.get(0).getNomeCliente()).isEqualTo(cliente.getNome());
+        assertThat(porta().listarTodas()).extracting(Venda::getId)
+                .contains(salvas.get(0).getId(), salvas.get(1).getId());
+    }
+
+    @Test
+    void salvarTodasMantemAOrdemEAtribuiIds() {
+        Cliente cliente = clientes().salvar(DadosContrato.cliente());
+        List<Veiculo> veiculos = veiculos().salvarTodos(List.of(
+                DadosContrato.veiculo(), DadosContrato.veiculo(), DadosContrato.veiculo()));
+
+        List<Venda> salvas = porta().salvarTodas(veiculos.stream()
+                .map(veiculo -> venda(veiculo, cliente, "25000.00"))
+                .toList());
+
+        assertThat(salvas).extracting(venda -> venda.getVeiculo().getId())
+                .containsExactly(veiculos.get(0).getId(), veiculos.get(1).getId(), veiculos.get(2).getId());
+        assertThat(salvas).extracting(Venda::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(porta().buscarPorVeiculo(veiculos.get(2).getId()).orElseThrow().getId())
+                .isEqualTo(salvas.get(2).getId());
+    }
+
+    @Test
+    void vendaExigeVeiculoEClienteGravados() {
+        Veiculo veiculo = veiculos().salvar(DadosContrato.veiculo());
+        Cliente inexistente = Cliente.builder().id(Long.MAX_VALUE).nome("Ninguém").cpf(DadosContrato.cpf()).versao(0L).build();
+
+        assertThatThrownBy(() -> porta().salvar(venda(veiculo, inexistente, "10000.00")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(porta().buscarPorVeiculo(veiculo.getId())).isEmpty();
+    }
+
+    @Test
+    void veiculoSoPodeSerVendidoUmaVez() {
+        Veiculo veiculo = veiculos().salvar(DadosContrato.veiculo());
+        Cliente cliente = clientes().salvar(DadosContrato.cliente());
+        Venda primeira = porta().salvar(venda(veiculo, cliente, "40000.00"));
+
+        assertThatThrownBy(() -> porta().salvar(venda(veiculo, cliente, "39000.00")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(porta().buscarPorVeiculo(veiculo.getId()).orElseThrow().getId()).isEqualTo(primeira.getId());
+    }
+
+    /**
+     * Carga mista: registro de venda, busca da venda do veículo e listagem de resumos
+     */
+    @Test
+    @Tag("benchmark")
+    void vazaoConcorrente() throws Exception {
+        int threads = MedicaoVazao.THREADS;
+        int operacoes = MedicaoVazao.OPERACOES;
+        Cliente cliente = clientes().salvar(DadosContrato.cliente());
+        List<Veiculo> novos = new ArrayList<>();
+        for (int i = 0; i < (threads + 1) * operacoes; i++) {
+            novos.add(DadosContrato.veiculo());
+        }
+        List<Veiculo> base = veiculos().salvarTodos(novos);
+        long primeiro = base.get(0).getId();
+
+        long executadas = MedicaoVazao.medir("VendaOutputPort", adaptador(), (thread, i) -> {
+            Veiculo veiculo = base.get(thread * operacoes + i);
+            switch (i % 3) {
+                case 0 -> porta().salvar(venda(veiculo, cliente, "40000.00"));
+                case 1 -> porta().buscarPorVeiculo(base.get(thread * operacoes + i - 1).getId());
+                default -> porta().listarResumos(primeiro + i, 20);
+            }
+        });
+
+        assertThat(executadas).isEqualTo((long) threads * operacoes);
+    }
+
+    private static Venda venda(Veiculo veiculo, Cliente cliente, String valor) {
+        return Venda.builder()
+                .veiculo(veiculo)
+                .cliente(cliente)
+                .valorVenda(new BigDecimal(valor))
+                .dataVenda(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS))
+                .build();
+    }
+}